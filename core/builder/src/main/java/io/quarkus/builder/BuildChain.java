@@ -1,7 +1,10 @@
 package io.quarkus.builder;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
@@ -22,6 +25,7 @@ public final class BuildChain {
     private final int endStepCount;
     private final ClassLoader classLoader;
     private final Map<ItemId, int[]> producingOrdinals;
+    private volatile Map<StepInfo, BitSet> dependencyOrdinals;
 
     BuildChain(final Set<StepInfo> startSteps, BuildChainBuilder builder, final int endStepCount,
             Map<ItemId, int[]> producingOrdinals) {
@@ -118,4 +122,50 @@ int getEndStepCount() {
     Map<ItemId, int[]> getProducingOrdinals() {
         return producingOrdinals;
     }
+
+    /**
+     * Returns the ordinals of all the {@link BuildStep}s the given step transitively depends on. The map is computed
+     * lazily on first use.
+     *
+     * @param stepInfo the step
+     * @return the ordinals of the steps the given step depends on (must not be modified)
+     */
+    BitSet getDependencyOrdinals(StepInfo stepInfo) {
+        Map<StepInfo, BitSet> map = dependencyOrdinals;
+        if (map == null) {
+            synchronized (this) {
+                map = dependencyOrdinals;
+                if (map == null) {
+                    dependencyOrdinals = map = computeDependencyOrdinals();
+                }
+            }
+        }
+        BitSet result = map.get(stepInfo);
+        return result != null ? result : new BitSet();
+    }
+
+    private Map<StepInfo, BitSet> computeDependencyOrdinals() {
+        // Collect all steps reachable from the start steps
+        List<StepInfo> steps = new ArrayList<>();
+        Map<StepInfo, BitSet> result = new HashMap<>();
+        List<StepInfo> toVisit = new ArrayList<>(startSteps);
+        while (!toVisit.isEmpty()) {
+            StepInfo step = toVisit.remove(toVisit.size() - 1);
+            if (result.putIfAbsent(step, new BitSet()) == null) {
+                steps.add(step);
+                toVisit.addAll(step.getDependents());
+            }
+        }
+        // The ordinals are a topological ordering, i.e. all the dependencies of a step are processed before the step
+        steps.sort(Comparator.comparingInt(StepInfo::getOrdinal));
+        for (StepInfo step : steps) {
+            BitSet ancestors = result.get(step);
+            for (StepInfo dependent : step.getDependents()) {
+                BitSet dependentAncestors = result.get(dependent);
+                dependentAncestors.or(ancestors);
+                dependentAncestors.set(step.getOrdinal());
+            }
+        }
+        return result;
+    }
 }
@@ -3,6 +3,7 @@
 import static io.quarkus.builder.Execution.log;
 
 import java.time.LocalTime;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -10,6 +11,7 @@
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import io.quarkus.builder.diag.Diagnostic;
 import io.quarkus.builder.item.BuildItem;
@@ -29,6 +31,7 @@ public final class BuildContext {
     private final Execution execution;
     private final AtomicInteger dependencies;
     private volatile boolean running;
+    private volatile Consumer<? super BuildItem> produceListener;
 
     BuildContext(ClassLoader classLoader, final StepInfo stepInfo, final Execution execution) {
         this.classLoader = classLoader;
@@ -88,6 +91,15 @@ public <T extends BuildItem> void produce(Class<T> type, T item) {
         doProduce(new ItemId(type), type.cast(item));
     }
 
+    /**
+     * Set a listener that is notified of every item produced by this step, e.g. to store the produced items.
+     *
+     * @param listener the listener, or {@code null} to remove the current listener
+     */
+    public void setProduceListener(Consumer<? super BuildItem> listener) {
+        this.produceListener = listener;
+    }
+
     /**
      * Consume the value produced for the named item.
      *
@@ -198,8 +210,32 @@ public ExecutorService getExecutor() {
         return execution.getExecutor();
     }
 
+    /**
+     * Get the index of this build step in the topological ordering of the build steps of this build.
+     *
+     * @return the ordinal of this build step
+     */
+    public int getStepOrdinal() {
+        return stepInfo.getOrdinal();
+    }
+
+    /**
+     * Get the ordinals of all the build steps this build step transitively depends on, i.e. the build steps that are
+     * guaranteed to have finished before this build step runs.
+     *
+     * @return the ordinals of the dependencies of this build step (not {@code null})
+     * @see #getStepOrdinal()
+     */
+    public BitSet getDependencyOrdinals() {
+        return (BitSet) execution.getBuildChain().getDependencyOrdinals(stepInfo).clone();
+    }
+
     // -- //
 
+    StepInfo getStepInfo() {
+        return stepInfo;
+    }
+
     private void doProduce(ItemId id, BuildItem value) {
         if (!running) {
             throw Messages.msg.buildStepNotRunning();
@@ -207,6 +243,10 @@ private void doProduce(ItemId id, BuildItem value) {
         if (!stepInfo.getProduces().contains(id)) {
             throw Messages.msg.undeclaredItem(id);
         }
+        Consumer<? super BuildItem> listener = produceListener;
+        if (listener != null && value != null) {
+            listener.accept(value);
+        }
         if (id.isMulti()) {
             execution.getMultis().put(stepInfo.getOrdinal(), id, (MultiBuildItem) value);
         } else {
@@ -221,7 +261,7 @@ void depFinished() {
         final int remaining = dependencies.decrementAndGet();
         log.tracef("Dependency of \"%2$s\" finished; %1$d remaining", remaining, stepInfo.getBuildStep());
         if (remaining == 0) {
-            execution.getExecutor().execute(this::run);
+            execution.schedule(this);
         }
     }
 
@@ -252,6 +292,7 @@ void run() {
         } finally {
             long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
             execution.getMetrics().buildStepFinished(stepInfo, currentThread.getName(), started, duration);
+            execution.stepFinished(stepInfo, duration);
             log.tracef("Finished step \"%s\" in %s ms", buildStep, duration);
             execution.removeBuildContext(stepInfo, this);
         }
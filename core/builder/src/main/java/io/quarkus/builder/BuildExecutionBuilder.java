@@ -1,5 +1,6 @@
 package io.quarkus.builder;
 
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -17,6 +18,7 @@ public final class BuildExecutionBuilder {
     private final String buildTargetName;
     private final Map<ItemId, BuildItem> initialSingle;
     private final MultiBuildItems multis;
+    private Path schedulingHistory;
 
     BuildExecutionBuilder(final BuildChain buildChain, final String buildTargetName) {
         this.buildChain = buildChain;
@@ -66,6 +68,20 @@ public <T extends BuildItem> BuildExecutionBuilder produce(Class<T> type, T item
         return this;
     }
 
+    /**
+     * Run the build steps on the critical path first. The critical path is computed from the durations of the build steps
+     * recorded in the given file by the previous builds. The durations of this build are stored in the file once the build
+     * is finished.
+     *
+     * @param historyFile the file that contains the durations of the build steps (must not be {@code null})
+     * @return this builder
+     */
+    public BuildExecutionBuilder setSchedulingHistory(Path historyFile) {
+        Assert.checkNotNullParam("historyFile", historyFile);
+        this.schedulingHistory = historyFile;
+        return this;
+    }
+
     /**
      * Run the build. The chain may run in one or many threads.
      *
@@ -78,6 +94,10 @@ public BuildResult execute() throws BuildException {
 
     // -- //
 
+    Path getSchedulingHistory() {
+        return schedulingHistory;
+    }
+
     private void produce(final ItemId id, final BuildItem value) {
         if (!buildChain.hasInitial(id)) {
             throw Messages.msg.undeclaredItem(id);
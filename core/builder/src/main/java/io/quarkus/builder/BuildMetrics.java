@@ -15,6 +15,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -44,6 +45,12 @@ public class BuildMetrics {
     private final ConcurrentMap<String, Long> buildItems;
     // build step id -> produced build items
     private final ConcurrentMap<String, List<String>> buildItemsExtended;
+    // counter name -> value
+    private final ConcurrentMap<String, Long> counters;
+    // build step id -> cache hit
+    private final ConcurrentMap<String, Boolean> stepCacheResults;
+    private volatile List<String> criticalPath = List.of();
+    private volatile long criticalPathDuration;
     private final AtomicInteger idGenerator;
 
     public BuildMetrics(String buildTargetName) {
@@ -54,6 +61,8 @@ public BuildMetrics(String buildTargetName) {
         if (enabled) {
             this.idGenerator = new AtomicInteger();
             this.records = new ConcurrentHashMap<>();
+            this.counters = new ConcurrentHashMap<>();
+            this.stepCacheResults = new ConcurrentHashMap<>();
             if (Boolean.getBoolean(BUILDER_METRICS_EXTENDED_CAPTURE)) {
                 this.buildItemsExtended = new ConcurrentHashMap<>();
                 this.buildItems = null;
@@ -64,6 +73,8 @@ public BuildMetrics(String buildTargetName) {
         } else {
             this.idGenerator = null;
             this.records = null;
+            this.counters = null;
+            this.stepCacheResults = null;
             this.buildItemsExtended = null;
             this.buildItems = null;
         }
@@ -105,6 +116,29 @@ public void buildItemProduced(StepInfo stepInfo, BuildItem buildItem) {
         }
     }
 
+    /**
+     * Adds the given value to a named counter, e.g. the number of cache hits of a build step.
+     */
+    public void addToCounter(String name, long delta) {
+        if (enabled()) {
+            counters.merge(name, delta, Long::sum);
+        }
+    }
+
+    /**
+     * Records whether the output of a build step was found in the build step cache.
+     */
+    public void buildStepCacheResult(String stepId, boolean hit) {
+        if (enabled()) {
+            stepCacheResults.put(stepId, hit);
+        }
+    }
+
+    void criticalPath(List<String> stepIds, long duration) {
+        this.criticalPath = stepIds;
+        this.criticalPathDuration = duration;
+    }
+
     private Long itemProduced(String key, Long val) {
         return val == null ? 1 : val + 1;
     }
@@ -145,6 +179,10 @@ public int compare(BuildStepRecord o1, BuildStepRecord o2) {
                     }
                 }
                 recObject.put("dependents", dependentsArray);
+                Boolean cacheHit = stepCacheResults.get(rec.stepInfo.getBuildStep().getId());
+                if (cacheHit != null) {
+                    recObject.put("cache", cacheHit ? "hit" : "miss");
+                }
                 if (buildItemsExtended != null) {
                     List<String> items = buildItemsExtended.get(rec.stepInfo.getBuildStep().getId());
                     if (items != null) {
@@ -191,6 +229,20 @@ public int compare(BuildStepRecord o1, BuildStepRecord o2) {
             }
             json.put("itemsCount", itemsCount);
 
+            JsonArrayBuilder criticalPathArray = Json.array();
+            for (String stepId : criticalPath) {
+                criticalPathArray.add(stepId);
+            }
+            json.put("criticalPath", Json.object()
+                    .put("duration", criticalPathDuration)
+                    .put("steps", criticalPathArray));
+
+            JsonObjectBuilder countersObject = Json.object();
+            json.put("counters", countersObject);
+            for (Entry<String, Long> e : new TreeMap<>(counters).entrySet()) {
+                countersObject.put(e.getKey(), e.getValue());
+            }
+
             try (BufferedWriter writer = new BufferedWriter(new FileWriter(file.toFile(), StandardCharsets.UTF_8))) {
                 json.appendTo(writer);
             }
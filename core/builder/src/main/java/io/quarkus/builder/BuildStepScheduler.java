@@ -0,0 +1,155 @@
+package io.quarkus.builder;
+
+import static io.quarkus.builder.Execution.log;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.function.ToLongFunction;
+
+/**
+ * Runs the ready build steps in the order of their longest path to the end of the build, i.e. the steps on the critical
+ * path first.
+ * <p>
+ * The longest paths are computed from the durations of the build steps recorded by the previous builds. The durations
+ * of the current build are stored in the same file once the build is finished. A build step without recorded duration
+ * is considered to take no time.
+ */
+final class BuildStepScheduler {
+
+    private final Path historyFile;
+    private final Map<String, Long> history;
+    private final Map<StepInfo, Long> priorities;
+    private final PriorityBlockingQueue<BuildContext> ready;
+
+    BuildStepScheduler(Path historyFile, Set<StepInfo> startSteps) {
+        this.historyFile = historyFile;
+        this.history = readHistory(historyFile);
+        this.priorities = longestPaths(startSteps, stepInfo -> history.getOrDefault(stepInfo.getBuildStep().getId(), 0L));
+        this.ready = new PriorityBlockingQueue<>(64, new Comparator<BuildContext>() {
+            @Override
+            public int compare(BuildContext c1, BuildContext c2) {
+                int result = Long.compare(priorities.getOrDefault(c2.getStepInfo(), 0L),
+                        priorities.getOrDefault(c1.getStepInfo(), 0L));
+                return result != 0 ? result : Integer.compare(c1.getStepInfo().getOrdinal(), c2.getStepInfo().getOrdinal());
+            }
+        });
+    }
+
+    /**
+     * Adds the given step to the ready steps. The caller must submit {@link #runNext()} to the executor afterwards.
+     */
+    void schedule(BuildContext buildContext) {
+        ready.add(buildContext);
+    }
+
+    /**
+     * Runs the ready step with the longest path to the end of the build.
+     */
+    void runNext() {
+        BuildContext next = ready.poll();
+        if (next != null) {
+            next.run();
+        }
+    }
+
+    /**
+     * Stores the durations of the current build, the durations of the steps that were not executed are kept.
+     */
+    void storeHistory(Map<StepInfo, Long> durations) {
+        Properties properties = new Properties();
+        for (Map.Entry<String, Long> e : history.entrySet()) {
+            properties.setProperty(e.getKey(), e.getValue().toString());
+        }
+        for (Map.Entry<StepInfo, Long> e : durations.entrySet()) {
+            properties.setProperty(e.getKey().getBuildStep().getId(), e.getValue().toString());
+        }
+        try {
+            Files.createDirectories(historyFile.toAbsolutePath().getParent());
+            try (Writer writer = Files.newBufferedWriter(historyFile, StandardCharsets.UTF_8)) {
+                properties.store(writer, "Build step durations in milliseconds");
+            }
+        } catch (IOException e) {
+            log.debugf(e, "Unable to store the build step durations in %s", historyFile);
+        }
+    }
+
+    /**
+     * @return the steps on the longest path from the given start steps to the end of the build
+     */
+    static List<StepInfo> criticalPath(Set<StepInfo> startSteps, Map<StepInfo, Long> durations) {
+        Map<StepInfo, Long> longestPaths = longestPaths(startSteps, stepInfo -> durations.getOrDefault(stepInfo, 0L));
+        List<StepInfo> path = new ArrayList<>();
+        StepInfo current = next(startSteps, longestPaths);
+        while (current != null) {
+            path.add(current);
+            current = next(current.getDependents(), longestPaths);
+        }
+        return path;
+    }
+
+    private static StepInfo next(Set<StepInfo> steps, Map<StepInfo, Long> longestPaths) {
+        StepInfo next = null;
+        for (StepInfo step : steps) {
+            if (next == null || longestPaths.get(step) > longestPaths.get(next)) {
+                next = step;
+            }
+        }
+        return next;
+    }
+
+    private static Map<StepInfo, Long> longestPaths(Set<StepInfo> startSteps, ToLongFunction<StepInfo> duration) {
+        Map<StepInfo, Long> longestPaths = new HashMap<>();
+        for (StepInfo step : startSteps) {
+            longestPath(step, duration, longestPaths);
+        }
+        return longestPaths;
+    }
+
+    private static long longestPath(StepInfo step, ToLongFunction<StepInfo> duration, Map<StepInfo, Long> longestPaths) {
+        Long result = longestPaths.get(step);
+        if (result != null) {
+            return result;
+        }
+        long max = 0;
+        for (StepInfo dependent : step.getDependents()) {
+            max = Math.max(max, longestPath(dependent, duration, longestPaths));
+        }
+        long value = duration.applyAsLong(step) + max;
+        longestPaths.put(step, value);
+        return value;
+    }
+
+    private static Map<String, Long> readHistory(Path historyFile) {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(historyFile, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (NoSuchFileException e) {
+            return Collections.emptyMap();
+        } catch (IOException | IllegalArgumentException e) {
+            log.debugf(e, "Unable to read the build step durations from %s", historyFile);
+            return Collections.emptyMap();
+        }
+        Map<String, Long> history = new HashMap<>();
+        for (String stepId : properties.stringPropertyNames()) {
+            try {
+                history.put(stepId, Long.parseLong(properties.getProperty(stepId)));
+            } catch (NumberFormatException ignored) {
+            }
+        }
+        return history;
+    }
+}
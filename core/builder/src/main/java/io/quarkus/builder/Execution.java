@@ -40,6 +40,8 @@ final class Execution {
     private volatile boolean done;
 
     private final BuildMetrics metrics;
+    private final BuildStepScheduler scheduler;
+    private final ConcurrentHashMap<StepInfo, Long> stepDurations = new ConcurrentHashMap<>();
 
     static {
         try {
@@ -71,6 +73,9 @@ final class Execution {
             done = true;
 
         metrics = new BuildMetrics(buildTargetName);
+        scheduler = builder.getSchedulingHistory() != null
+                ? new BuildStepScheduler(builder.getSchedulingHistory(), chain.getStartSteps())
+                : null;
     }
 
     private static int defineMaxPoolSize(final int availableProcessors, final int corePoolSize) {
@@ -105,7 +110,7 @@ BuildResult run() throws BuildException {
         // run the build
         final Set<StepInfo> startSteps = chain.getStartSteps();
         for (StepInfo startStep : startSteps) {
-            executor.execute(getBuildContext(startStep)::run);
+            schedule(getBuildContext(startStep));
         }
         // wait for the wrap-up
         boolean intr = false;
@@ -150,10 +155,49 @@ BuildResult run() throws BuildException {
 
         long duration = max(0, System.nanoTime() - start);
         metrics.buildFinished(TimeUnit.NANOSECONDS.toMillis(duration));
+        reportCriticalPath(startSteps);
+        if (scheduler != null) {
+            scheduler.storeHistory(stepDurations);
+        }
         return new BuildResult(singles, multis, finalIds, Collections.unmodifiableList(diagnostics),
                 duration, metrics, chain.getClassLoader());
     }
 
+    private void reportCriticalPath(Set<StepInfo> startSteps) {
+        List<StepInfo> criticalPath = BuildStepScheduler.criticalPath(startSteps, stepDurations);
+        List<String> stepIds = new ArrayList<>(criticalPath.size());
+        long total = 0;
+        for (StepInfo stepInfo : criticalPath) {
+            stepIds.add(stepInfo.getBuildStep().getId());
+            total += stepDurations.getOrDefault(stepInfo, 0L);
+        }
+        metrics.criticalPath(stepIds, total);
+        if (log.isDebugEnabled()) {
+            StringBuilder message = new StringBuilder();
+            for (StepInfo stepInfo : criticalPath) {
+                message.append("\n\t").append(stepInfo.getBuildStep().getId()).append(" (")
+                        .append(stepDurations.getOrDefault(stepInfo, 0L)).append(" ms)");
+            }
+            log.debugf("Critical path of the build (%s ms):%s", total, message);
+        }
+    }
+
+    /**
+     * Runs the given step, once all its dependencies are finished.
+     */
+    void schedule(BuildContext buildContext) {
+        if (scheduler != null) {
+            scheduler.schedule(buildContext);
+            executor.execute(scheduler::runNext);
+        } else {
+            executor.execute(buildContext::run);
+        }
+    }
+
+    void stepFinished(StepInfo stepInfo, long duration) {
+        stepDurations.put(stepInfo, duration);
+    }
+
     EnhancedQueueExecutor getExecutor() {
         return executor;
     }
@@ -0,0 +1,104 @@
+package io.quarkus.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.builder.item.MultiBuildItem;
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * Tests the critical-path-aware scheduling of build steps.
+ */
+class BuildStepSchedulerTest {
+
+    private static final String CORE_POOL_SIZE = "io.quarkus.builder.execution.corePoolSize";
+    private static final String MAX_POOL_SIZE = "io.quarkus.builder.execution.maxPoolSize";
+
+    private static final class RootBuildItem extends SimpleBuildItem {
+    }
+
+    private static final class ResultBuildItem extends MultiBuildItem {
+    }
+
+    @BeforeEach
+    void singleThread() {
+        // The order of execution is only deterministic with a single thread
+        System.setProperty(CORE_POOL_SIZE, "1");
+        System.setProperty(MAX_POOL_SIZE, "1");
+    }
+
+    @AfterEach
+    void reset() {
+        System.clearProperty(CORE_POOL_SIZE);
+        System.clearProperty(MAX_POOL_SIZE);
+    }
+
+    @Test
+    void stepsOnTheCriticalPathRunFirst(@TempDir Path tempDir) throws Exception {
+        Path history = tempDir.resolve("build-step-durations.properties");
+        Properties durations = new Properties();
+        durations.setProperty("root", "1");
+        durations.setProperty("a", "10");
+        durations.setProperty("b", "50");
+        durations.setProperty("c", "100");
+        try (Writer writer = Files.newBufferedWriter(history, StandardCharsets.UTF_8)) {
+            durations.store(writer, null);
+        }
+
+        List<String> executed = new CopyOnWriteArrayList<>();
+        BuildChainBuilder builder = BuildChain.builder();
+        builder.addBuildStep(step("root", executed, context -> context.produce(new RootBuildItem())))
+                .produces(RootBuildItem.class)
+                .build();
+        for (String id : List.of("a", "b", "c")) {
+            builder.addBuildStep(step(id, executed, context -> {
+                context.consume(RootBuildItem.class);
+                context.produce(new ResultBuildItem());
+            }))
+                    .consumes(RootBuildItem.class)
+                    .produces(ResultBuildItem.class)
+                    .build();
+        }
+        builder.addFinal(ResultBuildItem.class);
+        builder.build().createExecutionBuilder("my-app.jar")
+                .setSchedulingHistory(history)
+                .execute();
+
+        assertEquals(List.of("root", "c", "b", "a"), executed);
+
+        // The durations of the build are stored
+        Properties stored = new Properties();
+        try (Reader reader = Files.newBufferedReader(history, StandardCharsets.UTF_8)) {
+            stored.load(reader);
+        }
+        assertEquals(4, stored.size());
+    }
+
+    private static BuildStep step(String id, List<String> executed, BuildStep action) {
+        return new BuildStep() {
+            @Override
+            public void execute(BuildContext context) {
+                executed.add(id);
+                action.execute(context);
+            }
+
+            @Override
+            public String getId() {
+                return id;
+            }
+        };
+    }
+}
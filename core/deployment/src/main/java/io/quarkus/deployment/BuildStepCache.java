@@ -0,0 +1,303 @@
+package io.quarkus.deployment;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.builder.Version;
+import io.quarkus.builder.item.BuildItem;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.CacheableBuildStep;
+import io.quarkus.deployment.builditem.FingerprintedBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigValue;
+
+/**
+ * Stores the output of the {@link CacheableBuildStep}s on disk.
+ * <p>
+ * There is a single entry per build step, i.e. an entry is replaced when the inputs of the build step change. An entry
+ * consists of the fingerprint of the inputs and the produced items.
+ */
+final class BuildStepCache {
+
+    private static final Logger log = Logger.getLogger(BuildStepCache.class);
+
+    static final String ENABLED = "quarkus.builder.step-cache.enabled";
+
+    private static final int FORMAT_VERSION = 1;
+    private static final byte GENERATED_CLASS = 0;
+    private static final byte GENERATED_RESOURCE = 1;
+
+    // file:size:last modified -> hash of the artifact
+    private static final Map<String, String> ARTIFACT_HASHES = new ConcurrentHashMap<>();
+
+    private final Path directory;
+
+    BuildStepCache(Path directory) {
+        this.directory = directory;
+    }
+
+    static boolean isEnabled() {
+        return Boolean.getBoolean(ENABLED);
+    }
+
+    /**
+     * @param stepClass the class that declares the build step, the content of its artifact is part of the fingerprint
+     * @param parameterTypes the parameter types of the build step method
+     * @param args the arguments of the build step method
+     * @param buildTimeConfig the build time configuration
+     * @return the fingerprint of the inputs of the build step, or {@code null} if an input cannot be fingerprinted
+     */
+    static String fingerprint(Class<?> stepClass, Class<?>[] parameterTypes, Object[] args,
+            Map<String, ConfigValue> buildTimeConfig) throws IOException {
+        MessageDigest digest = newDigest();
+        update(digest, Version.getVersion());
+        // The build step might delegate to any class of the deployment artifact
+        String artifactHash = artifactHash(stepClass);
+        if (artifactHash == null) {
+            return null;
+        }
+        update(digest, artifactHash);
+        for (ConfigValue value : buildTimeConfig.values()) {
+            update(digest, value.getName());
+            update(digest, value.getValue());
+        }
+        for (int i = 0; i < args.length; i++) {
+            Class<?> type = parameterTypes[i];
+            if (BuildProducer.class.isAssignableFrom(type) || Consumer.class.isAssignableFrom(type)
+                    || type.isAnnotationPresent(ConfigRoot.class)) {
+                // Produced items are not inputs, config objects are covered by the build time configuration
+                continue;
+            }
+            Object arg = args[i];
+            if (arg instanceof Optional<?> optional) {
+                arg = optional.orElse(null);
+            }
+            if (arg instanceof List<?> list) {
+                update(digest, Integer.toString(list.size()));
+                for (Object element : list) {
+                    if (!update(digest, element)) {
+                        return null;
+                    }
+                }
+            } else if (!update(digest, arg)) {
+                return null;
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * The hash of a jar is computed once per file, size and modification time. A directory, such as the output directory of
+     * an extension built in the same workspace, is hashed every time.
+     *
+     * @return the hash of the content of the artifact that contains the given class, or {@code null} if not known
+     */
+    static String artifactHash(Class<?> clazz) throws IOException {
+        CodeSource codeSource = clazz.getProtectionDomain().getCodeSource();
+        if (codeSource == null || codeSource.getLocation() == null) {
+            return null;
+        }
+        Path path;
+        try {
+            path = Path.of(codeSource.getLocation().toURI());
+        } catch (URISyntaxException | IllegalArgumentException | FileSystemNotFoundException e) {
+            return null;
+        }
+        if (Files.isDirectory(path)) {
+            return hashDirectory(path);
+        }
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        String key = path + ":" + Files.size(path) + ":" + Files.getLastModifiedTime(path).toMillis();
+        String hash = ARTIFACT_HASHES.get(key);
+        if (hash == null) {
+            MessageDigest digest = newDigest();
+            try (InputStream in = Files.newInputStream(path)) {
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+            hash = HexFormat.of().formatHex(digest.digest());
+            ARTIFACT_HASHES.put(key, hash);
+        }
+        return hash;
+    }
+
+    private static String hashDirectory(Path directory) throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.walk(directory)) {
+            files = stream.filter(Files::isRegularFile).sorted().toList();
+        }
+        MessageDigest digest = newDigest();
+        for (Path file : files) {
+            update(digest, directory.relativize(file).toString());
+            digest.update(Files.readAllBytes(file));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return the cached items, or {@code null} if there is no entry for the given fingerprint
+     */
+    List<BuildItem> read(String stepId, String fingerprint) {
+        Path file = entryFile(stepId);
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            if (in.readInt() != FORMAT_VERSION || !fingerprint.equals(in.readUTF())) {
+                return null;
+            }
+            int count = in.readInt();
+            List<BuildItem> items = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                byte kind = in.readByte();
+                if (kind == GENERATED_CLASS) {
+                    boolean applicationClass = in.readBoolean();
+                    String name = readString(in);
+                    byte[] classData = readBytes(in);
+                    String source = in.readBoolean() ? readString(in) : null;
+                    items.add(new GeneratedClassBuildItem(applicationClass, name, classData, source));
+                } else if (kind == GENERATED_RESOURCE) {
+                    String name = readString(in);
+                    byte[] data = readBytes(in);
+                    items.add(new GeneratedResourceBuildItem(name, data, in.readBoolean()));
+                } else {
+                    return null;
+                }
+            }
+            return items;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            log.debugf(e, "Unable to read the cached output of %s", stepId);
+            return null;
+        }
+    }
+
+    /**
+     * Stores the produced items. Nothing is stored if an item cannot be cached.
+     */
+    void write(String stepId, String fingerprint, List<BuildItem> items) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(FORMAT_VERSION);
+            out.writeUTF(fingerprint);
+            out.writeInt(items.size());
+            for (BuildItem item : items) {
+                if (item instanceof GeneratedClassBuildItem generatedClass) {
+                    out.writeByte(GENERATED_CLASS);
+                    out.writeBoolean(generatedClass.isApplicationClass());
+                    writeString(out, generatedClass.getName());
+                    writeBytes(out, generatedClass.getClassData());
+                    out.writeBoolean(generatedClass.getSource() != null);
+                    if (generatedClass.getSource() != null) {
+                        writeString(out, generatedClass.getSource());
+                    }
+                } else if (item instanceof GeneratedResourceBuildItem generatedResource) {
+                    out.writeByte(GENERATED_RESOURCE);
+                    writeString(out, generatedResource.getName());
+                    writeBytes(out, generatedResource.getData());
+                    out.writeBoolean(generatedResource.isExcludeFromDevCL());
+                } else {
+                    log.debugf("The output of %s is not cached, %s cannot be stored", stepId, item.getClass().getName());
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        Path file = entryFile(stepId);
+        Path tmp = null;
+        try {
+            Files.createDirectories(directory);
+            tmp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            Files.write(tmp, bytes.toByteArray());
+            Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.debugf(e, "Unable to store the output of %s", stepId);
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    private Path entryFile(String stepId) {
+        return directory.resolve(stepId.replaceAll("[^A-Za-z0-9._-]", "_") + ".bin");
+    }
+
+    private static boolean update(MessageDigest digest, Object input) {
+        if (input == null) {
+            update(digest, "null");
+            return true;
+        }
+        if (input instanceof FingerprintedBuildItem fingerprinted) {
+            update(digest, input.getClass().getName());
+            update(digest, fingerprinted.fingerprint());
+            return true;
+        }
+        return false;
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value != null) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update((byte) 0);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] value) throws IOException {
+        out.writeInt(value.length);
+        out.write(value);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] value = new byte[in.readInt()];
+        in.readFully(value);
+        return value;
+    }
+}
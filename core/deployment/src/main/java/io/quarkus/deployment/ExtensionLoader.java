@@ -69,6 +69,7 @@
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.BuildSteps;
+import io.quarkus.deployment.annotations.CacheableBuildStep;
 import io.quarkus.deployment.annotations.Consume;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Overridable;
@@ -76,6 +77,7 @@
 import io.quarkus.deployment.annotations.ProduceWeak;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.annotations.Weak;
+import io.quarkus.deployment.builditem.BuildMetricsBuildItem;
 import io.quarkus.deployment.builditem.BytecodeRecorderObjectLoaderBuildItem;
 import io.quarkus.deployment.builditem.ConfigurationBuildItem;
 import io.quarkus.deployment.builditem.MainBytecodeRecorderBuildItem;
@@ -84,6 +86,7 @@
 import io.quarkus.deployment.builditem.StaticBytecodeRecorderBuildItem;
 import io.quarkus.deployment.configuration.BuildTimeConfigurationReader;
 import io.quarkus.deployment.configuration.ConfigMappingUtils;
+import io.quarkus.deployment.pkg.builditem.BuildSystemTargetBuildItem;
 import io.quarkus.deployment.recording.BytecodeRecorderImpl;
 import io.quarkus.deployment.recording.ObjectLoader;
 import io.quarkus.deployment.recording.RecorderContext;
@@ -255,7 +258,7 @@ public String getId() {
      * @return a consumer which adds the steps to the given chain builder
      */
     @SuppressWarnings("unchecked")
-    private static Consumer<BuildChainBuilder> loadStepsFromClass(Class<?> clazz,
+    static Consumer<BuildChainBuilder> loadStepsFromClass(Class<?> clazz,
             Map<Class<?>, Object> runTimeProxies,
             BooleanSupplierFactoryBuildItem supplierFactory) {
         final Constructor<?>[] constructors = clazz.getDeclaredConstructors();
@@ -268,6 +271,8 @@ private static Consumer<BuildChainBuilder> loadStepsFromClass(Class<?> clazz,
         Consumer<BuildStepBuilder> stepConfig = Functions.discardingConsumer();
         // this is the build step instance setup that applies to all steps on this class
         BiConsumer<BuildContext, Object> stepInstanceSetup = Functions.discardingBiConsumer();
+        // build items injected in the constructor or fields are not covered by the build step cache
+        boolean injectsBuildItems = false;
 
         if (constructors.length != 1) {
             throw reportError(clazz, "Build step classes must have exactly one constructor");
@@ -293,6 +298,7 @@ private static Consumer<BuildChainBuilder> loadStepsFromClass(Class<?> clazz,
                     final Class<? extends SimpleBuildItem> buildItemClass = rawTypeOf(parameterType)
                             .asSubclass(SimpleBuildItem.class);
                     stepConfig = stepConfig.andThen(bsb -> bsb.consumes(buildItemClass));
+                    injectsBuildItems = true;
                     ctorParamFns.add(bc -> bc.consume(buildItemClass));
                 } else if (isAnEmptyBuildItemConsumer(parameterType)) {
                     throw reportError(parameter,
@@ -304,6 +310,7 @@ private static Consumer<BuildChainBuilder> loadStepsFromClass(Class<?> clazz,
                     final Class<? extends MultiBuildItem> buildItemClass = rawTypeOfParameter(parameterType, 0)
                             .asSubclass(MultiBuildItem.class);
                     stepConfig = stepConfig.andThen(bsb -> bsb.consumes(buildItemClass));
+                    injectsBuildItems = true;
                     ctorParamFns.add(bc -> bc.consumeMulti(buildItemClass));
                 } else if (isConsumerOf(parameterType, BuildItem.class)
                         || isBuildProducerOf(parameterType, BuildItem.class)) {
@@ -312,16 +319,19 @@ private static Consumer<BuildChainBuilder> loadStepsFromClass(Class<?> clazz,
                     final Class<? extends SimpleBuildItem> buildItemClass = rawTypeOfParameter(parameterType, 0)
                             .asSubclass(SimpleBuildItem.class);
                     stepConfig = stepConfig.andThen(bsb -> bsb.consumes(buildItemClass, ConsumeFlags.of(ConsumeFlag.OPTIONAL)));
+                    injectsBuildItems = true;
                     ctorParamFns.add(bc -> Optional.ofNullable(bc.consume(buildItemClass)));
                 } else if (isSupplierOf(parameterType, SimpleBuildItem.class)) {
                     final Class<? extends SimpleBuildItem> buildItemClass = rawTypeOfParameter(parameterType, 0)
                             .asSubclass(SimpleBuildItem.class);
                     stepConfig = stepConfig.andThen(bsb -> bsb.consumes(buildItemClass));
+                    injectsBuildItems = true;
                     ctorParamFns.add(bc -> (Supplier<? extends SimpleBuildItem>) () -> bc.consume(buildItemClass));
                 } else if (isSupplierOfOptionalOf(parameterType, SimpleBuildItem.class)) {
                     final Class<? extends SimpleBuildItem> buildItemClass = rawTypeOfParameter(
                             rawTypeOfParameter(parameterType, 0), 0).asSubclass(SimpleBuildItem.class);
                     stepConfig = stepConfig.andThen(bsb -> bsb.consumes(buildItemClass, ConsumeFlags.of(ConsumeFlag.OPTIONAL)));
+                    injectsBuildItems = true;
                     ctorParamFns.add(bc -> (Supplier<Optional<? extends SimpleBuildItem>>) () -> Optional
                             .ofNullable(bc.consume(buildItemClass)));
                 } else if (rawTypeOf(parameterType) == Executor.class) {
@@ -370,6 +380,7 @@ private static Consumer<BuildChainBuilder> loadStepsFromClass(Class<?> clazz,
             if (rawTypeExtends(fieldType, SimpleBuildItem.class)) {
                 final Class<? extends SimpleBuildItem> buildItemClass = rawTypeOf(fieldType).asSubclass(SimpleBuildItem.class);
                 stepConfig = stepConfig.andThen(bsb -> bsb.consumes(buildItemClass));
+                injectsBuildItems = true;
                 stepInstanceSetup = stepInstanceSetup
                         .andThen((bc, o) -> ReflectUtil.setFieldVal(field, o, bc.consume(buildItemClass)));
             } else if (isAnEmptyBuildItemConsumer(fieldType)) {
@@ -380,6 +391,7 @@ private static Consumer<BuildChainBuilder> loadStepsFromClass(Class<?> clazz,
                 final Class<? extends MultiBuildItem> buildItemClass = rawTypeOfParameter(fieldType, 0)
                         .asSubclass(MultiBuildItem.class);
                 stepConfig = stepConfig.andThen(bsb -> bsb.consumes(buildItemClass));
+                injectsBuildItems = true;
                 stepInstanceSetup = stepInstanceSetup
                         .andThen((bc, o) -> ReflectUtil.setFieldVal(field, o, bc.consumeMulti(buildItemClass)));
             } else if (isConsumerOf(fieldType, BuildItem.class)
@@ -389,18 +401,21 @@ private static Consumer<BuildChainBuilder> loadStepsFromClass(Class<?> clazz,
                 final Class<? extends SimpleBuildItem> buildItemClass = rawTypeOfParameter(fieldType, 0)
                         .asSubclass(SimpleBuildItem.class);
                 stepConfig = stepConfig.andThen(bsb -> bsb.consumes(buildItemClass, ConsumeFlags.of(ConsumeFlag.OPTIONAL)));
+                injectsBuildItems = true;
                 stepInstanceSetup = stepInstanceSetup
                         .andThen((bc, o) -> ReflectUtil.setFieldVal(field, o, Optional.ofNullable(bc.consume(buildItemClass))));
             } else if (isSupplierOf(fieldType, SimpleBuildItem.class)) {
                 final Class<? extends SimpleBuildItem> buildItemClass = rawTypeOfParameter(fieldType, 0)
                         .asSubclass(SimpleBuildItem.class);
                 stepConfig = stepConfig.andThen(bsb -> bsb.consumes(buildItemClass));
+                injectsBuildItems = true;
                 stepInstanceSetup = stepInstanceSetup.andThen((bc, o) -> ReflectUtil.setFieldVal(field, o,
                         (Supplier<? extends SimpleBuildItem>) () -> bc.consume(buildItemClass)));
             } else if (isSupplierOfOptionalOf(fieldType, SimpleBuildItem.class)) {
                 final Class<? extends SimpleBuildItem> buildItemClass = rawTypeOfParameter(rawTypeOfParameter(fieldType, 0), 0)
                         .asSubclass(SimpleBuildItem.class);
                 stepConfig = stepConfig.andThen(bsb -> bsb.consumes(buildItemClass, ConsumeFlags.of(ConsumeFlag.OPTIONAL)));
+                injectsBuildItems = true;
                 stepInstanceSetup = stepInstanceSetup.andThen((bc, o) -> ReflectUtil.setFieldVal(field, o,
                         (Supplier<Optional<? extends SimpleBuildItem>>) () -> Optional.ofNullable(bc.consume(buildItemClass))));
             } else if (fieldClass == Executor.class) {
@@ -467,6 +482,16 @@ private static Consumer<BuildChainBuilder> loadStepsFromClass(Class<?> clazz,
                     throw new RuntimeException(method + " is marked @Record but does not inject an @Recorder object");
                 }
             }
+            final boolean cacheable = method.isAnnotationPresent(CacheableBuildStep.class);
+            if (cacheable && isRecorder) {
+                throw reportError(method, "A @CacheableBuildStep cannot be annotated with @Record");
+            }
+            if (cacheable && injectsBuildItems) {
+                throw reportError(method,
+                        "A @CacheableBuildStep must consume build items as method parameters, " + clazz
+                                + " injects build items in the constructor or fields");
+            }
+            final boolean useStepCache = cacheable && BuildStepCache.isEnabled();
             final List<BiFunction<BuildContext, BytecodeRecorderImpl, Object>> methodParamFns;
             Consumer<BuildStepBuilder> methodStepConfig = Functions.discardingConsumer();
             BooleanSupplier addStep = () -> true;
@@ -476,6 +501,11 @@ private static Consumer<BuildChainBuilder> loadStepsFromClass(Class<?> clazz,
             addStep = and(addStep, supplierFactory, onlyIfNot, true);
             final BooleanSupplier finalAddStep = addStep;
 
+            if (useStepCache) {
+                methodStepConfig = methodStepConfig.andThen(bsb -> bsb.consumes(ConfigurationBuildItem.class)
+                        .consumes(BuildSystemTargetBuildItem.class)
+                        .consumes(BuildMetricsBuildItem.class));
+            }
             if (isRecorder) {
                 final ExecutionTime executionTime = recordAnnotation.value();
                 final boolean optional = recordAnnotation.optional();
@@ -806,6 +836,32 @@ public void execute(final BuildContext bc) {
                                 for (int i = 0; i < methodArgs.length; i++) {
                                     methodArgs[i] = methodParamFns.get(i).apply(bc, bri);
                                 }
+                                BuildStepCache stepCache = null;
+                                String fingerprint = null;
+                                List<BuildItem> producedItems = null;
+                                if (useStepCache) {
+                                    stepCache = new BuildStepCache(bc.consume(BuildSystemTargetBuildItem.class)
+                                            .getOutputDirectory().resolve("build-step-cache"));
+                                    try {
+                                        fingerprint = BuildStepCache.fingerprint(clazz, method.getParameterTypes(), methodArgs,
+                                                bc.consume(ConfigurationBuildItem.class).getReadResult()
+                                                        .getAllBuildTimeValues());
+                                    } catch (IOException e) {
+                                        loadLog.debugf(e, "Unable to fingerprint the inputs of %s", stepId);
+                                    }
+                                    if (fingerprint != null) {
+                                        List<BuildItem> cachedItems = stepCache.read(stepId, fingerprint);
+                                        bc.consume(BuildMetricsBuildItem.class).stepCacheResult(stepId, cachedItems != null);
+                                        if (cachedItems != null) {
+                                            for (BuildItem item : cachedItems) {
+                                                bc.produce(item);
+                                            }
+                                            return;
+                                        }
+                                        producedItems = Collections.synchronizedList(new ArrayList<>());
+                                        bc.setProduceListener(producedItems::add);
+                                    }
+                                }
                                 Object result;
                                 try {
                                     result = methodHandle.bindTo(instance).invokeWithArguments(methodArgs);
@@ -817,12 +873,17 @@ public void execute(final BuildContext bc) {
                                     throw new UndeclaredThrowableException(t);
                                 }
                                 resultConsumer.accept(bc, result);
+                                if (producedItems != null) {
+                                    bc.setProduceListener(null);
+                                    stepCache.write(stepId, fingerprint, producedItems);
+                                }
                                 if (isRecorder) {
                                     // commit recorded data
                                     if (recordAnnotation.value() == ExecutionTime.STATIC_INIT) {
                                         bc.produce(new StaticBytecodeRecorderBuildItem(bri));
                                     } else {
-                                        bc.produce(new MainBytecodeRecorderBuildItem(bri));
+                                        bc.produce(new MainBytecodeRecorderBuildItem(bri, bc.getStepOrdinal(),
+                                                bc.getDependencyOrdinals()));
                                     }
 
                                 }
@@ -27,6 +27,7 @@
 import io.quarkus.deployment.builditem.AdditionalApplicationArchiveBuildItem;
 import io.quarkus.deployment.builditem.AppModelProviderBuildItem;
 import io.quarkus.deployment.builditem.ArchiveRootBuildItem;
+import io.quarkus.deployment.builditem.BuildMetricsBuildItem;
 import io.quarkus.deployment.builditem.CuratedApplicationShutdownBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.LiveReloadBuildItem;
@@ -47,6 +48,11 @@ public class QuarkusAugmentor {
 
     private static final Logger log = Logger.getLogger(QuarkusAugmentor.class);
 
+    /**
+     * If set to {@code true} then the build steps on the critical path of the previous builds are executed first.
+     */
+    private static final String CRITICAL_PATH_SCHEDULING_ENABLED = "quarkus.builder.critical-path-scheduling.enabled";
+
     private final ClassLoader classLoader;
     private final ClassLoader deploymentClassLoader;
     private final PathCollection root;
@@ -104,6 +110,7 @@ public BuildResult run() throws Exception {
         runtimeInitializeForAugmentation();
         ClassLoader originalClassLoader = Thread.currentThread().getContextClassLoader();
         QuarkusBuildCloseablesBuildItem buildCloseables = new QuarkusBuildCloseablesBuildItem();
+        BuildMetricsBuildItem buildMetrics = new BuildMetricsBuildItem();
         try {
             Thread.currentThread().setContextClassLoader(deploymentClassLoader);
 
@@ -124,6 +131,7 @@ public BuildResult run() throws Exception {
 
             chainBuilder
                     .addInitial(QuarkusBuildCloseablesBuildItem.class)
+                    .addInitial(BuildMetricsBuildItem.class)
                     .addInitial(ArchiveRootBuildItem.class)
                     .addInitial(ShutdownContextBuildItem.class)
                     .addInitial(RawCommandLineArgumentsBuildItem.class)
@@ -160,6 +168,7 @@ public BuildResult run() throws Exception {
             BuildChain chain = chainBuilder.build();
             BuildExecutionBuilder execBuilder = chain.createExecutionBuilder(baseName)
                     .produce(buildCloseables)
+                    .produce(buildMetrics)
                     .produce(liveReloadBuildItem)
                     .produce(rootBuilder.build(buildCloseables))
                     .produce(new ShutdownContextBuildItem())
@@ -175,6 +184,9 @@ public BuildResult run() throws Exception {
             for (PathCollection i : additionalApplicationArchives) {
                 execBuilder.produce(new AdditionalApplicationArchiveBuildItem(i));
             }
+            if (targetDir != null && Boolean.getBoolean(CRITICAL_PATH_SCHEDULING_ENABLED)) {
+                execBuilder.setSchedulingHistory(targetDir.resolve("build-step-durations.properties"));
+            }
             for (Consumer<BuildExecutionBuilder> customizer : buildExecutionCustomizers) {
                 customizer.accept(execBuilder);
             }
@@ -191,6 +203,8 @@ public BuildResult run() throws Exception {
 
             // If enabled then dump build metrics to a JSON file in the build directory
             if (targetDir != null) {
+                buildMetrics.getCounters().forEach(buildResult.getMetrics()::addToCounter);
+                buildMetrics.getStepCacheResults().forEach(buildResult.getMetrics()::buildStepCacheResult);
                 buildResult.getMetrics().dumpTo(targetDir.resolve("build-metrics.json"));
             }
 
@@ -0,0 +1,33 @@
+package io.quarkus.deployment;
+
+import java.util.OptionalInt;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Runtime initialization
+ */
+@ConfigMapping(prefix = "quarkus.runtime-init")
+@ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+public interface RuntimeInitConfig {
+
+    /**
+     * If set to true, the startup tasks recorded with {@code @Record(ExecutionTime.RUNTIME_INIT)} are executed
+     * concurrently when the build steps that recorded them do not depend on each other.
+     * <p>
+     * The dependencies between the startup tasks are derived from the build items consumed and produced by the build steps.
+     * A recorder that relies on a side effect of another recorder which is not expressed by a build item may fail when
+     * this is enabled.
+     */
+    @WithDefault("false")
+    boolean parallel();
+
+    /**
+     * The maximum number of threads used to execute the startup tasks concurrently. Defaults to the number of available
+     * processors.
+     */
+    OptionalInt maxThreads();
+}
@@ -0,0 +1,30 @@
+package io.quarkus.deployment.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import io.quarkus.deployment.builditem.FingerprintedBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
+
+/**
+ * Indicates that the output of a {@link BuildStep} only depends on its inputs, so that it can be reused by subsequent
+ * builds if the inputs did not change.
+ * <p>
+ * The build step cache is disabled by default and can be enabled with the {@code quarkus.builder.step-cache.enabled}
+ * system property. If enabled, the inputs of the build step are fingerprinted before the method is invoked. The inputs
+ * consist of the build time configuration, the content of the deployment artifact that declares the build step and the
+ * build items consumed as method parameters, which must implement {@link FingerprintedBuildItem}. If an input cannot be
+ * fingerprinted then the build step is executed as usual. The class that declares the build step must not inject build
+ * items in its constructor or fields.
+ * <p>
+ * Only the {@link GeneratedClassBuildItem} and {@link GeneratedResourceBuildItem} produced by the build step are
+ * cached. A build step that produces other items, or that has other side effects, must not be annotated with this
+ * annotation. It cannot be used together with {@link Record}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface CacheableBuildStep {
+}
@@ -0,0 +1,44 @@
+package io.quarkus.deployment.builditem;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * Allows build steps to report additional counters, such as cache hits, in the build metrics.
+ * <p>
+ * The counters are included in the {@code build-metrics.json} file if the build metrics are enabled.
+ */
+public final class BuildMetricsBuildItem extends SimpleBuildItem {
+
+    private final ConcurrentMap<String, Long> counters = new ConcurrentHashMap<>();
+    // build step id -> cache hit
+    private final ConcurrentMap<String, Boolean> stepCacheResults = new ConcurrentHashMap<>();
+
+    public void increment(String counter) {
+        add(counter, 1);
+    }
+
+    public void add(String counter, long delta) {
+        counters.merge(counter, delta, Long::sum);
+    }
+
+    public Map<String, Long> getCounters() {
+        return Collections.unmodifiableMap(counters);
+    }
+
+    /**
+     * Records whether the output of a cacheable build step was found in the build step cache.
+     */
+    public void stepCacheResult(String stepId, boolean hit) {
+        stepCacheResults.put(stepId, hit);
+        increment(hit ? "build-step-cache.hits" : "build-step-cache.misses");
+    }
+
+    public Map<String, Boolean> getStepCacheResults() {
+        return Collections.unmodifiableMap(stepCacheResults);
+    }
+}
@@ -0,0 +1,17 @@
+package io.quarkus.deployment.builditem;
+
+import io.quarkus.deployment.annotations.CacheableBuildStep;
+
+/**
+ * A build item that can be consumed by a {@link CacheableBuildStep}.
+ */
+public interface FingerprintedBuildItem {
+
+    /**
+     * The fingerprint must change whenever the content of the build item that is relevant to the consumers changes.
+     *
+     * @return the fingerprint of this build item
+     */
+    String fingerprint();
+
+}
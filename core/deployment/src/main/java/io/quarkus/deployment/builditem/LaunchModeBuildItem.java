@@ -9,7 +9,7 @@
 /**
  * Indicates the type of launch.
  */
-public final class LaunchModeBuildItem extends SimpleBuildItem {
+public final class LaunchModeBuildItem extends SimpleBuildItem implements FingerprintedBuildItem {
 
     private final LaunchMode launchMode;
 
@@ -76,4 +76,10 @@ public Optional<DevModeType> getAuxiliaryDevModeType() {
     public boolean isTest() {
         return test;
     }
+
+    @Override
+    public String fingerprint() {
+        return launchMode + ":" + devModeType.map(Enum::name).orElse("") + ":" + auxiliaryApplication + ":"
+                + auxiliaryDevModeType.map(Enum::name).orElse("") + ":" + test;
+    }
 }
@@ -1,5 +1,7 @@
 package io.quarkus.deployment.builditem;
 
+import java.util.BitSet;
+
 import io.quarkus.builder.item.MultiBuildItem;
 import io.quarkus.deployment.recording.BytecodeRecorderImpl;
 
@@ -11,20 +13,40 @@
  * <li>A direct {@link io.quarkus.deployment.recording.BytecodeRecorderImpl} instance via {@link #bytecodeRecorder}.</li>
  * <li>The name of a generated startup context class via {@link #generatedStartupContextClassName}.</li>
  * </ul>
+ * <p>
+ * An item may also hold the ordinal of the build step that recorded the bytecode and the ordinals of the build steps it
+ * depends on. This information is used to run the independent recorders concurrently. An item without this information
+ * is ordered after all the previous items and before all the following items.
  */
 public final class MainBytecodeRecorderBuildItem extends MultiBuildItem {
 
     private final BytecodeRecorderImpl bytecodeRecorder;
     private final String generatedStartupContextClassName;
+    private final int stepOrdinal;
+    private final BitSet dependencyOrdinals;
 
     public MainBytecodeRecorderBuildItem(BytecodeRecorderImpl bytecodeRecorder) {
+        this(bytecodeRecorder, -1, null);
+    }
+
+    /**
+     * @param bytecodeRecorder the recorder
+     * @param stepOrdinal the ordinal of the build step that recorded the bytecode
+     * @param dependencyOrdinals the ordinals of the build steps the recording build step depends on
+     * @see io.quarkus.builder.BuildContext#getDependencyOrdinals()
+     */
+    public MainBytecodeRecorderBuildItem(BytecodeRecorderImpl bytecodeRecorder, int stepOrdinal, BitSet dependencyOrdinals) {
         this.bytecodeRecorder = bytecodeRecorder;
         this.generatedStartupContextClassName = null;
+        this.stepOrdinal = stepOrdinal;
+        this.dependencyOrdinals = dependencyOrdinals;
     }
 
     public MainBytecodeRecorderBuildItem(String generatedStartupContextClassName) {
         this.generatedStartupContextClassName = generatedStartupContextClassName;
         this.bytecodeRecorder = null;
+        this.stepOrdinal = -1;
+        this.dependencyOrdinals = null;
     }
 
     public BytecodeRecorderImpl getBytecodeRecorder() {
@@ -34,4 +56,18 @@ public BytecodeRecorderImpl getBytecodeRecorder() {
     public String getGeneratedStartupContextClassName() {
         return generatedStartupContextClassName;
     }
+
+    /**
+     * @return the ordinal of the build step that recorded the bytecode, or {@code -1} if unknown
+     */
+    public int getStepOrdinal() {
+        return stepOrdinal;
+    }
+
+    /**
+     * @return the ordinals of the build steps the recording build step depends on, or {@code null} if unknown
+     */
+    public BitSet getDependencyOrdinals() {
+        return dependencyOrdinals;
+    }
 }
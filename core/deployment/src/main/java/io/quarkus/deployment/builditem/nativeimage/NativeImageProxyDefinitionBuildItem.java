@@ -5,13 +5,14 @@
 import java.util.List;
 
 import io.quarkus.builder.item.MultiBuildItem;
+import io.quarkus.deployment.builditem.FingerprintedBuildItem;
 
 /**
  * A build item that represents a {@link java.lang.reflect.Proxy} definition
  * that will be required in native mode. This definition takes the form of an ordered
  * list of interfaces that this proxy will implement.
  */
-public final class NativeImageProxyDefinitionBuildItem extends MultiBuildItem {
+public final class NativeImageProxyDefinitionBuildItem extends MultiBuildItem implements FingerprintedBuildItem {
 
     private final List<String> classes;
 
@@ -27,4 +28,9 @@ public List<String> getClasses() {
         return classes;
     }
 
+    @Override
+    public String fingerprint() {
+        return String.join(",", classes);
+    }
+
 }
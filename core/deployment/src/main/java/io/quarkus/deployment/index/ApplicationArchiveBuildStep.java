@@ -30,6 +30,7 @@
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
 import io.quarkus.deployment.builditem.ApplicationIndexBuildItem;
 import io.quarkus.deployment.builditem.ArchiveRootBuildItem;
+import io.quarkus.deployment.builditem.BuildMetricsBuildItem;
 import io.quarkus.deployment.builditem.IndexDependencyBuildItem;
 import io.quarkus.deployment.builditem.LiveReloadBuildItem;
 import io.quarkus.deployment.builditem.QuarkusBuildCloseablesBuildItem;
@@ -50,6 +51,7 @@
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
 import io.smallrye.config.WithParentName;
 
 public class ApplicationArchiveBuildStep {
@@ -90,6 +92,28 @@ interface IndexDependencyConfig {
         }
     }
 
+    /**
+     * Dependency index cache
+     */
+    @ConfigMapping(prefix = "quarkus.index-cache")
+    @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+    interface IndexCacheConfiguration {
+        /**
+         * Whether the indexes computed for the dependencies that do not contain a {@code META-INF/jandex.idx} file are
+         * stored on disk and reused by subsequent builds.
+         * <p>
+         * The indexes are keyed by the content of the dependency and the Jandex version, so the cache can be shared by
+         * several projects.
+         */
+        @WithDefault("true")
+        boolean enabled();
+
+        /**
+         * The directory where the indexes are stored. Defaults to {@code ~/.quarkus/index-cache}.
+         */
+        Optional<Path> directory();
+    }
+
     @BuildStep
     void addConfiguredIndexedDependencies(IndexDependencyConfiguration config,
             BuildProducer<IndexDependencyBuildItem> indexDependencyBuildItemBuildProducer) {
@@ -108,13 +132,21 @@ ApplicationArchivesBuildItem build(
             List<IndexDependencyBuildItem> indexDependencyBuildItems,
             LiveReloadBuildItem liveReloadContext,
             CurateOutcomeBuildItem curateOutcomeBuildItem,
-            ClassLoadingConfig classLoadingConfig) throws IOException {
+            ClassLoadingConfig classLoadingConfig,
+            IndexCacheConfiguration indexCacheConfig,
+            BuildMetricsBuildItem buildMetrics) throws IOException {
 
         IndexCache indexCache = liveReloadContext.getContextObject(IndexCache.class);
         if (indexCache == null) {
             indexCache = new IndexCache();
             liveReloadContext.setContextObject(IndexCache.class, indexCache);
         }
+        PersistentIndexCache persistentCache = null;
+        if (indexCacheConfig.enabled()) {
+            persistentCache = new PersistentIndexCache(indexCacheConfig.directory()
+                    .orElseGet(() -> Path.of(System.getProperty("user.home"), ".quarkus", "index-cache")));
+        }
+        indexCache.persistentCache = persistentCache;
 
         Map<ArtifactKey, Set<String>> removedResources = new HashMap<>();
         for (Map.Entry<String, Set<String>> entry : classLoadingConfig.removedResources().entrySet()) {
@@ -140,6 +172,12 @@ ApplicationArchivesBuildItem build(
             tree = new MultiRootPathTree(trees);
         }
 
+        if (persistentCache != null) {
+            LOGGER.debugf("Dependency index cache: %s hits, %s misses", persistentCache.hits(), persistentCache.misses());
+            buildMetrics.add("index-cache.hits", persistentCache.hits());
+            buildMetrics.add("index-cache.misses", persistentCache.misses());
+        }
+
         return new ApplicationArchivesBuildItem(
                 new ApplicationArchiveImpl(appindex.getIndex(), tree,
                         curateOutcomeBuildItem.getApplicationModel().getAppArtifact()),
@@ -269,8 +307,10 @@ private static void addMarkerFilePaths(Set<String> applicationArchiveMarkers,
                         }
                         Index index = indexCache.cache.get(rootPath);
                         if (index == null) {
+                            final Set<String> removedResources = removed.get(dependencyKey);
                             try {
-                                index = IndexingUtil.indexTree(tree, removed.get(dependencyKey));
+                                index = indexCache.index(rootPath, removedResources,
+                                        () -> IndexingUtil.indexTree(tree, removedResources));
                             } catch (IOException ioe) {
                                 throw new UncheckedIOException(ioe);
                             }
@@ -329,7 +369,7 @@ private static Index handleJarPath(Path path, IndexCache indexCache, Set<String>
             @Override
             public Index apply(Path path) {
                 try {
-                    return IndexingUtil.indexJar(path, removed);
+                    return indexCache.index(path, removed, () -> IndexingUtil.indexJar(path, removed));
                 } catch (IOException e) {
                     throw new RuntimeException("Failed to process " + path, e);
                 }
@@ -343,5 +383,11 @@ public Index apply(Path path) {
      */
     private static final class IndexCache {
         final Map<Path, Index> cache = new HashMap<>();
+        // Set for each build, null if the persistent cache is disabled
+        PersistentIndexCache persistentCache;
+
+        Index index(Path jar, Set<String> removed, PersistentIndexCache.JarIndexer indexer) throws IOException {
+            return persistentCache != null ? persistentCache.index(jar, removed, indexer) : indexer.index();
+        }
     }
 }
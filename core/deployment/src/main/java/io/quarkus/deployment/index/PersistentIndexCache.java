@@ -0,0 +1,161 @@
+package io.quarkus.deployment.index;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.jar.JarFile;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+import org.jboss.logging.Logger;
+
+/**
+ * Stores the indexes computed for dependency jars on disk so that they can be reused by subsequent builds, possibly of
+ * other modules.
+ * <p>
+ * An index is keyed by the SHA-256 hash of the jar content and of the removed resources. The indexes are grouped in a
+ * directory specific to the Jandex version and the Java version (multi-release jars are indexed for the current Java
+ * version). Jars that contain a {@code META-INF/jandex.idx} are not cached since reading the bundled index is cheap.
+ * <p>
+ * Any failure to read or write the cache is logged and the jar is indexed as usual.
+ */
+final class PersistentIndexCache {
+
+    private static final Logger log = Logger.getLogger(PersistentIndexCache.class);
+
+    private static final String SUFFIX = ".idx";
+
+    private final Path directory;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    PersistentIndexCache(Path baseDirectory) {
+        this.directory = baseDirectory.resolve("jandex-" + jandexVersion() + "-java" + Runtime.version().feature());
+    }
+
+    /**
+     * @param jar the jar file
+     * @param removed the resources removed from the jar, may be {@code null}
+     * @param indexer computes the index if not found in the cache
+     * @return the index of the jar
+     */
+    Index index(Path jar, Set<String> removed, JarIndexer indexer) throws IOException {
+        if (removed == null && hasJandexIndex(jar)) {
+            return indexer.index();
+        }
+        String hash;
+        try {
+            hash = hash(jar, removed);
+        } catch (IOException e) {
+            log.debugf(e, "Unable to compute the hash of %s", jar);
+            return indexer.index();
+        }
+        Path file = directory.resolve(hash + SUFFIX);
+        if (Files.isRegularFile(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                Index index = new IndexReader(in).read();
+                hits.incrementAndGet();
+                log.tracef("Index of %s read from %s", jar, file);
+                return index;
+            } catch (IOException | RuntimeException e) {
+                log.debugf(e, "Unable to read the cached index %s, %s is indexed again", file, jar);
+            }
+        }
+        misses.incrementAndGet();
+        Index index = indexer.index();
+        store(file, index);
+        return index;
+    }
+
+    long hits() {
+        return hits.get();
+    }
+
+    long misses() {
+        return misses.get();
+    }
+
+    private void store(Path file, Index index) {
+        Path tmp = null;
+        try {
+            Files.createDirectories(directory);
+            tmp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                new IndexWriter(out).write(index);
+            }
+            // Another build may store the same index concurrently
+            Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            log.debugf(e, "Unable to store the index in %s", file);
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    private static boolean hasJandexIndex(Path jar) throws IOException {
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            return jarFile.getEntry(IndexingUtil.JANDEX_INDEX) != null;
+        }
+    }
+
+    private static String hash(Path jar, Set<String> removed) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(jar)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        if (removed != null) {
+            // The set is sorted so that the hash does not depend on the iteration order
+            for (String resource : new TreeSet<>(removed)) {
+                digest.update((byte) 0);
+                digest.update(resource.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String jandexVersion() {
+        String version = Indexer.class.getPackage().getImplementationVersion();
+        if (version != null) {
+            return version;
+        }
+        // Fall back to the name of the jar that contains Jandex, e.g. jandex-3.2.0.jar
+        try {
+            Path location = Path.of(Indexer.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            String name = location.getFileName().toString();
+            return name.endsWith(".jar") ? name.substring(0, name.length() - 4) : name;
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+
+    interface JarIndexer {
+
+        Index index() throws IOException;
+
+    }
+}
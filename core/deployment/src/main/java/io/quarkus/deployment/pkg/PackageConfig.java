@@ -136,6 +136,19 @@ interface JarConfig {
         @WithDefault("true")
         boolean compress();
 
+        /**
+         * Whether the jars of the application are read from a memory mapping at runtime instead of using
+         * {@link java.util.jar.JarFile}.
+         * <p>
+         * When enabled, the class files of the jars created by Quarkus are stored uncompressed so that classes can be defined
+         * directly from the mapped memory. Dependency jars are mapped as they are, and their compressed entries are
+         * inflated from the mapped memory.
+         * <p>
+         * This setting only applies to the {@code fast-jar} packaging and is not used when building a native image.
+         */
+        @WithDefault("false")
+        boolean memoryMapped();
+
         /**
          * Files that should not be copied to the output artifact.
          */
@@ -315,6 +328,41 @@ enum AotPhase {
             }
         }
 
+        /**
+         * Class loading profile related configuration
+         */
+        ClassLoadingProfileConfig classLoadingProfile();
+
+        /**
+         * Configuration for the class loading profile recorded by a running application.
+         */
+        @ConfigGroup
+        interface ClassLoadingProfileConfig {
+            /**
+             * The path of a class loading profile, i.e. the list of the classes loaded by a running application.
+             * <p>
+             * A profile is recorded by running the application with the
+             * {@code -Dquarkus.class-loading.profile.output=<path>} system property. The classes loaded during the
+             * startup and the first {@code quarkus.class-loading.profile.duration} seconds (60 by default) are recorded.
+             * <p>
+             * The classes of the profile are loaded when the JVM startup archive is created, so that the archive
+             * contains them, and are preloaded at startup if {@code preload} is enabled.
+             */
+            Optional<Path> path();
+
+            /**
+             * Whether the classes of the profile are preloaded in the background when the application starts.
+             */
+            @WithDefault("true")
+            boolean preload();
+
+            /**
+             * The number of threads used to preload the classes of the profile.
+             */
+            @WithDefault("2")
+            int preloadThreads();
+        }
+
         /**
          * Whether CRaC checkpointing feature is enabled.
          * <p>
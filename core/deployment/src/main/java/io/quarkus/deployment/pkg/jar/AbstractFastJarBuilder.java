@@ -164,7 +164,8 @@ public JarBuildItem build() throws IOException {
             Path transformedZip = quarkus.resolve(FastJarFormat.TRANSFORMED_BYTECODE_JAR);
             fastJarJarsBuilder.setTransformedJar(transformedZip);
             try (ArchiveCreator archiveCreator = new ParallelCommonsCompressArchiveCreator(transformedZip,
-                    packageConfig.jar().compress(), packageConfig.outputTimestamp().orElse(null),
+                    packageConfig.jar().compress(), packageConfig.jar().memoryMapped(),
+                    packageConfig.outputTimestamp().orElse(null),
                     executorService)) {
                 // we make sure the entries are added in a reproducible order
                 // we use Path#toString() to get a reproducible order on both Unix-based OSes and Windows
@@ -187,7 +188,8 @@ public JarBuildItem build() throws IOException {
         Path generatedZip = quarkus.resolve(FastJarFormat.GENERATED_BYTECODE_JAR);
         fastJarJarsBuilder.setGeneratedJar(generatedZip);
         try (ArchiveCreator archiveCreator = new ParallelCommonsCompressArchiveCreator(generatedZip,
-                packageConfig.jar().compress(), packageConfig.outputTimestamp().orElse(null),
+                packageConfig.jar().compress(), packageConfig.jar().memoryMapped(),
+                packageConfig.outputTimestamp().orElse(null),
                 executorService)) {
             // make sure we write the elements in order
             for (GeneratedClassBuildItem i : generatedClasses.stream()
@@ -221,7 +223,8 @@ public JarBuildItem build() throws IOException {
                     .setPath(runnerJar));
             Predicate<String> ignoredEntriesPredicate = getThinJarIgnoredEntriesPredicate(packageConfig);
             try (ArchiveCreator archiveCreator = new ParallelCommonsCompressArchiveCreator(runnerJar,
-                    packageConfig.jar().compress(), packageConfig.outputTimestamp().orElse(null),
+                    packageConfig.jar().compress(), packageConfig.jar().memoryMapped(),
+                    packageConfig.outputTimestamp().orElse(null),
                     executorService)) {
                 copyFiles(applicationArchives.getRootArchive(), archiveCreator, null, ignoredEntriesPredicate);
 
@@ -513,7 +516,8 @@ private static void copyDependency(Set<ArtifactKey> parentFirstArtifacts, Output
     private static void packageClasses(Path resolvedDep, final Path targetPath, PackageConfig packageConfig,
             OutputTargetBuildItem outputTargetBuildItem, ExecutorService executorService) throws IOException {
         try (ArchiveCreator archiveCreator = new ParallelCommonsCompressArchiveCreator(targetPath,
-                packageConfig.jar().compress(), packageConfig.outputTimestamp().orElse(null),
+                packageConfig.jar().compress(), packageConfig.jar().memoryMapped(),
+                packageConfig.outputTimestamp().orElse(null),
                 executorService)) {
             Files.walkFileTree(resolvedDep, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE,
                     new SimpleFileVisitor<Path>() {
@@ -52,7 +52,8 @@ public FastJarBuilder(CurateOutcomeBuildItem curateOutcome,
     @Override
     protected void writeSerializedApplication(OutputStream out, Path buildDir, List<Path> allJars, List<Path> sortedParentFirst)
             throws IOException {
-        SerializedApplication.write(out, mainClass.getClassName(), buildDir, allJars, sortedParentFirst);
+        SerializedApplication.write(out, mainClass.getClassName(), buildDir, allJars, sortedParentFirst,
+                packageConfig.jar().memoryMapped());
     }
 
     @Override
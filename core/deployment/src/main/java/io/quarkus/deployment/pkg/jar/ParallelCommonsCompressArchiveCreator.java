@@ -62,6 +62,7 @@ public class ParallelCommonsCompressArchiveCreator implements ArchiveCreator {
     private final ParallelScatterZipCreator scatterZipCreator;
     private final ScatterZipOutputStream directories;
     private final int compressionMethod;
+    private final boolean storeClasses;
     private final Path tempDirectory;
 
     private Manifest manifest;
@@ -69,6 +70,16 @@ public class ParallelCommonsCompressArchiveCreator implements ArchiveCreator {
 
     ParallelCommonsCompressArchiveCreator(Path archivePath, boolean compressed, Instant entryTimestamp,
             ExecutorService executorService) throws IOException {
+        this(archivePath, compressed, false, entryTimestamp, executorService);
+    }
+
+    /**
+     * @param storeClasses whether the class files should be stored uncompressed even if the archive is compressed, so that
+     *        they can be read directly from a memory mapping of the archive
+     */
+    ParallelCommonsCompressArchiveCreator(Path archivePath, boolean compressed, boolean storeClasses, Instant entryTimestamp,
+            ExecutorService executorService) throws IOException {
+        this.storeClasses = storeClasses;
         int compressionLevel;
         if (compressed) {
             compressionLevel = Deflater.DEFAULT_COMPRESSION;
@@ -224,7 +235,11 @@ private void addDirectoryEntry(final ZipArchiveEntry zipArchiveEntry) throws IOE
 
     private void addEntry(final ZipArchiveEntry zipArchiveEntry, final InputStreamSupplier streamSupplier) throws IOException {
         normalizeTimestampsAndPermissions(zipArchiveEntry);
-        zipArchiveEntry.setMethod(compressionMethod);
+        if (storeClasses && zipArchiveEntry.getName().endsWith(".class")) {
+            zipArchiveEntry.setMethod(ZipArchiveOutputStream.STORED);
+        } else {
+            zipArchiveEntry.setMethod(compressionMethod);
+        }
         if (zipArchiveEntry.isDirectory() && !zipArchiveEntry.isUnixSymlink()) {
             directories.addArchiveEntry(ZipArchiveEntryRequest.createZipArchiveEntryRequest(zipArchiveEntry, streamSupplier));
         } else {
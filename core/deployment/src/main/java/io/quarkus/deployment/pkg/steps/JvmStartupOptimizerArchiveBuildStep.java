@@ -174,6 +174,11 @@ public void build(Optional<JvmStartupOptimizerArchiveRequestedBuildItem> request
         Path archivePath;
         JvmStartupOptimizerArchiveType archiveType = requested.get().getType();
         log.infof("Launching %s creation process.", archiveType);
+        if (packageConfig.jar().classLoadingProfile().path().isPresent()) {
+            // the classes of the profile are loaded during static init when the archive is created
+            log.infof("The %s archive will contain the classes of the class loading profile %s", archiveType,
+                    packageConfig.jar().classLoadingProfile().path().get());
+        }
         boolean isFastJar = packageConfig.jar().type().usesFastJarLayout();
         if (archiveType == JvmStartupOptimizerArchiveType.AppCDS) {
             archivePath = createAppCDSFromExit(jarResult, outputTarget, javaBinPath, containerImage,
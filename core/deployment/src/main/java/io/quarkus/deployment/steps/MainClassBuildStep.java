@@ -7,6 +7,7 @@
 import java.io.File;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -35,6 +36,7 @@
 import io.quarkus.bootstrap.runner.Timing;
 import io.quarkus.builder.Version;
 import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
+import io.quarkus.deployment.RuntimeInitConfig;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.AllowJNDIBuildItem;
@@ -82,6 +84,7 @@
 import io.quarkus.runtime.JVMUnsafeWarningsControl;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.NativeImageRuntimePropertiesRecorder;
+import io.quarkus.runtime.ParallelStartupTasks;
 import io.quarkus.runtime.PreventFurtherStepsException;
 import io.quarkus.runtime.Quarkus;
 import io.quarkus.runtime.QuarkusApplication;
@@ -148,7 +151,8 @@ void build(
             ApplicationInfoBuildItem applicationInfo,
             List<AllowJNDIBuildItem> allowJNDIBuildItems,
             Optional<PreInitBuildItem> preInitBuildItem,
-            NamingConfig namingConfig) {
+            NamingConfig namingConfig,
+            RuntimeInitConfig runtimeInitConfig) {
 
         appClassNameProducer.produce(new ApplicationClassNameBuildItem(Application.APP_CLASS_NAME));
 
@@ -321,10 +325,16 @@ void build(
                     tryBlock.invokeStaticMethod(ofMethod(ConfigRuntimeSource.class, "runtimeSource", RuntimeSource.class)));
         }
 
-        for (MainBytecodeRecorderBuildItem holder : mainMethod) {
-            writeRecordedBytecode(holder.getBytecodeRecorder(), holder.getGeneratedStartupContextClassName(), substitutions,
-                    recordableConstructorBuildItems,
-                    loaders, constants, gizmoOutput, startupContext, tryBlock);
+        if (runtimeInitConfig.parallel()) {
+            writeParallelRecordedBytecode(mainMethod, runtimeInitConfig.maxThreads().orElse(0), substitutions,
+                    recordableConstructorBuildItems, loaders, constants, gizmoOutput, startupContext, tryBlock);
+        } else {
+            for (MainBytecodeRecorderBuildItem holder : mainMethod) {
+                writeRecordedBytecode(holder.getBytecodeRecorder(), holder.getGeneratedStartupContextClassName(),
+                        substitutions,
+                        recordableConstructorBuildItems,
+                        loaders, constants, gizmoOutput, startupContext, tryBlock);
+            }
         }
 
         tryBlock.invokeStaticMethod(RUNTIME_EXECUTION_RUNNING);
@@ -529,10 +539,114 @@ private void writeRecordedBytecode(BytecodeRecorderImpl recorder, String fallbac
             GeneratedClassGizmoAdaptor gizmoOutput,
             ResultHandle startupContext, BytecodeCreator bytecodeCreator) {
 
-        if ((recorder == null || recorder.isEmpty()) && fallbackGeneratedStartupTaskClassName == null) {
+        String startupTaskClassName = writeStartupTask(recorder, fallbackGeneratedStartupTaskClassName, substitutions,
+                recordableConstructorBuildItems, loaders, constants, gizmoOutput);
+        if (startupTaskClassName == null) {
+            return;
+        }
+        deployStartupTask(startupTaskClassName, startupContext, bytecodeCreator);
+    }
+
+    private static void deployStartupTask(String startupTaskClassName, ResultHandle startupContext,
+            BytecodeCreator bytecodeCreator) {
+        ResultHandle dup = bytecodeCreator.newInstance(ofConstructor(startupTaskClassName));
+        bytecodeCreator.invokeInterfaceMethod(ofMethod(StartupTask.class, "deploy", void.class, StartupContext.class), dup,
+                startupContext);
+        bytecodeCreator.invokeStaticMethod(PRINT_STEP_TIME_METHOD, startupContext);
+    }
+
+    /**
+     * Writes the startup tasks so that the tasks recorded by independent build steps are executed concurrently.
+     * <p>
+     * A task depends on the tasks recorded by the build steps its build step depends on. A task recorded without
+     * dependency information depends on all the previous tasks and all the following tasks depend on it.
+     */
+    private void writeParallelRecordedBytecode(List<MainBytecodeRecorderBuildItem> mainMethod, int maxThreads,
+            List<ObjectSubstitutionBuildItem> substitutions,
+            List<RecordableConstructorBuildItem> recordableConstructorBuildItems,
+            List<BytecodeRecorderObjectLoaderBuildItem> loaders,
+            List<BytecodeRecorderConstantDefinitionBuildItem> constants,
+            GeneratedClassGizmoAdaptor gizmoOutput,
+            ResultHandle startupContext, BytecodeCreator bytecodeCreator) {
+
+        List<MainBytecodeRecorderBuildItem> tasks = new ArrayList<>();
+        List<String> taskClassNames = new ArrayList<>();
+        for (MainBytecodeRecorderBuildItem holder : mainMethod) {
+            String startupTaskClassName = writeStartupTask(holder.getBytecodeRecorder(),
+                    holder.getGeneratedStartupContextClassName(), substitutions, recordableConstructorBuildItems, loaders,
+                    constants, gizmoOutput);
+            if (startupTaskClassName != null) {
+                tasks.add(holder);
+                taskClassNames.add(startupTaskClassName);
+            }
+        }
+        if (tasks.size() < 2) {
+            for (String startupTaskClassName : taskClassNames) {
+                deployStartupTask(startupTaskClassName, startupContext, bytecodeCreator);
+            }
             return;
         }
 
+        ResultHandle tasksArray = bytecodeCreator.newArray(StartupTask.class, taskClassNames.size());
+        for (int i = 0; i < taskClassNames.size(); i++) {
+            bytecodeCreator.writeArrayValue(tasksArray, i,
+                    bytecodeCreator.newInstance(ofConstructor(taskClassNames.get(i))));
+        }
+        bytecodeCreator.invokeStaticMethod(
+                ofMethod(ParallelStartupTasks.class, "run", void.class, StartupContext.class, StartupTask[].class,
+                        String.class, int.class),
+                startupContext, tasksArray, bytecodeCreator.load(startupTaskDependencies(tasks)),
+                bytecodeCreator.load(maxThreads));
+        bytecodeCreator.invokeStaticMethod(CONFIGURE_STEP_TIME_START);
+    }
+
+    /**
+     * @return the direct dependencies of the tasks in the format expected by {@link ParallelStartupTasks}
+     */
+    static String startupTaskDependencies(List<MainBytecodeRecorderBuildItem> tasks) {
+        int size = tasks.size();
+        // The transitive dependencies of each task, only the direct ones are passed to the runtime
+        BitSet[] transitive = new BitSet[size];
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            MainBytecodeRecorderBuildItem task = tasks.get(i);
+            BitSet dependencies = new BitSet();
+            for (int j = 0; j < i; j++) {
+                MainBytecodeRecorderBuildItem previous = tasks.get(j);
+                if (task.getDependencyOrdinals() == null || previous.getDependencyOrdinals() == null
+                        || task.getDependencyOrdinals().get(previous.getStepOrdinal())) {
+                    dependencies.set(j);
+                }
+            }
+            BitSet indirect = new BitSet();
+            for (int j = dependencies.nextSetBit(0); j >= 0; j = dependencies.nextSetBit(j + 1)) {
+                indirect.or(transitive[j]);
+            }
+            transitive[i] = (BitSet) dependencies.clone();
+            transitive[i].or(indirect);
+            dependencies.andNot(indirect);
+            if (i > 0) {
+                result.append(';');
+            }
+            result.append(dependencies.stream().mapToObj(Integer::toString).collect(Collectors.joining(",")));
+        }
+        return result.toString();
+    }
+
+    /**
+     * @return the name of the startup task class, or {@code null} if there is nothing to execute
+     */
+    private String writeStartupTask(BytecodeRecorderImpl recorder, String fallbackGeneratedStartupTaskClassName,
+            List<ObjectSubstitutionBuildItem> substitutions,
+            List<RecordableConstructorBuildItem> recordableConstructorBuildItems,
+            List<BytecodeRecorderObjectLoaderBuildItem> loaders,
+            List<BytecodeRecorderConstantDefinitionBuildItem> constants,
+            GeneratedClassGizmoAdaptor gizmoOutput) {
+
+        if ((recorder == null || recorder.isEmpty()) && fallbackGeneratedStartupTaskClassName == null) {
+            return null;
+        }
+
         if ((recorder != null) && !recorder.isEmpty()) {
             for (ObjectSubstitutionBuildItem sub : substitutions) {
                 sub.holder.registerTo(recorder);
@@ -550,12 +664,7 @@ private void writeRecordedBytecode(BytecodeRecorderImpl recorder, String fallbac
             }
             recorder.writeBytecode(gizmoOutput);
         }
-
-        ResultHandle dup = bytecodeCreator
-                .newInstance(ofConstructor(recorder != null ? recorder.getClassName() : fallbackGeneratedStartupTaskClassName));
-        bytecodeCreator.invokeInterfaceMethod(ofMethod(StartupTask.class, "deploy", void.class, StartupContext.class), dup,
-                startupContext);
-        bytecodeCreator.invokeStaticMethod(PRINT_STEP_TIME_METHOD, startupContext);
+        return recorder != null ? recorder.getClassName() : fallbackGeneratedStartupTaskClassName;
     }
 
     /**
@@ -10,6 +10,7 @@
 import io.quarkus.bootstrap.json.Json.JsonObjectBuilder;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.CacheableBuildStep;
 import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageProxyDefinitionBuildItem;
 import io.quarkus.deployment.pkg.steps.NativeOrNativeSourcesBuild;
@@ -17,6 +18,7 @@
 public class NativeImageProxyConfigStep {
 
     @BuildStep(onlyIf = NativeOrNativeSourcesBuild.class)
+    @CacheableBuildStep
     void generateProxyConfig(BuildProducer<GeneratedResourceBuildItem> proxyConfig,
             List<NativeImageProxyDefinitionBuildItem> proxies) {
         JsonArrayBuilder root = Json.array();
@@ -1,21 +1,34 @@
 package io.quarkus.deployment.steps;
 
+import static io.quarkus.runtime.PreloadClassesRecorder.QUARKUS_CLASS_LOADING_PROFILE_FILE;
 import static io.quarkus.runtime.PreloadClassesRecorder.QUARKUS_GENERATED_PRELOAD_CLASSES_FILE;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.jboss.logging.Logger;
+
+import io.quarkus.deployment.IsProduction;
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.PreloadClassBuildItem;
 import io.quarkus.deployment.builditem.PreloadClassesEnabledBuildItem;
+import io.quarkus.deployment.pkg.PackageConfig;
+import io.quarkus.deployment.pkg.steps.NativeBuild;
 import io.quarkus.runtime.PreloadClassesRecorder;
 
 public class PreloadClassesBuildStep {
+
+    private static final Logger log = Logger.getLogger(PreloadClassesBuildStep.class);
+
     @BuildStep
     @Record(ExecutionTime.STATIC_INIT)
     public void preInit(Optional<PreloadClassesEnabledBuildItem> preload, PreloadClassesRecorder recorder) {
@@ -34,4 +47,23 @@ public GeneratedResourceBuildItem registerPreInitClasses(List<PreloadClassBuildI
         return new GeneratedResourceBuildItem("META-INF/" + QUARKUS_GENERATED_PRELOAD_CLASSES_FILE,
                 names.getBytes(StandardCharsets.UTF_8));
     }
+
+    @BuildStep(onlyIf = IsProduction.class, onlyIfNot = NativeBuild.class)
+    @Record(ExecutionTime.STATIC_INIT)
+    public void preloadProfiledClasses(PackageConfig packageConfig, PreloadClassesRecorder recorder,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources) throws IOException {
+        PackageConfig.JarConfig.ClassLoadingProfileConfig config = packageConfig.jar().classLoadingProfile();
+        if (config.path().isEmpty()) {
+            return;
+        }
+        Path profile = config.path().get();
+        if (!Files.isRegularFile(profile)) {
+            log.warnf("The class loading profile %s does not exist, the classes are not preloaded", profile.toAbsolutePath());
+            return;
+        }
+        // the order of the classes is kept, the classes loaded first are preloaded first
+        generatedResources.produce(new GeneratedResourceBuildItem("META-INF/" + QUARKUS_CLASS_LOADING_PROFILE_FILE,
+                Files.readAllBytes(profile)));
+        recorder.invokePreloadProfiledClasses(config.preload(), config.preloadThreads());
+    }
 }
@@ -0,0 +1,83 @@
+package io.quarkus.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.builder.item.BuildItem;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
+import io.quarkus.deployment.builditem.ServiceStartBuildItem;
+import io.quarkus.runtime.LaunchMode;
+import io.smallrye.config.ConfigValue;
+
+class BuildStepCacheTest {
+
+    private static final Class<?>[] PARAMETER_TYPES = { LaunchModeBuildItem.class, BuildProducer.class };
+
+    @Test
+    void fingerprintDependsOnInputs() throws Exception {
+        Map<String, ConfigValue> config = Map.of("quarkus.foo", configValue("quarkus.foo", "bar"));
+        BuildProducer<GeneratedResourceBuildItem> producer = item -> {
+        };
+        String fingerprint = BuildStepCache.fingerprint(BuildStepCacheTest.class, PARAMETER_TYPES,
+                new Object[] { launchMode(LaunchMode.NORMAL), producer }, config);
+        assertThat(fingerprint).isNotNull()
+                .isEqualTo(BuildStepCache.fingerprint(BuildStepCacheTest.class, PARAMETER_TYPES,
+                        new Object[] { launchMode(LaunchMode.NORMAL), producer }, config));
+        assertThat(BuildStepCache.fingerprint(BuildStepCacheTest.class, PARAMETER_TYPES,
+                new Object[] { launchMode(LaunchMode.TEST), producer }, config)).isNotEqualTo(fingerprint);
+        assertThat(BuildStepCache.fingerprint(BuildStepCacheTest.class, PARAMETER_TYPES,
+                new Object[] { launchMode(LaunchMode.NORMAL), producer },
+                Map.of("quarkus.foo", configValue("quarkus.foo", "baz")))).isNotEqualTo(fingerprint);
+
+        // Items that do not implement FingerprintedBuildItem cannot be fingerprinted
+        assertThat(BuildStepCache.fingerprint(BuildStepCacheTest.class,
+                new Class<?>[] { List.class }, new Object[] { List.of(new ServiceStartBuildItem("foo")) }, config))
+                .isNull();
+    }
+
+    @Test
+    void readAndWrite(@TempDir Path tempDir) {
+        BuildStepCache cache = new BuildStepCache(tempDir);
+        String stepId = "org.acme.Processor#generate";
+        assertThat(cache.read(stepId, "1")).isNull();
+
+        cache.write(stepId, "1", List.of(new GeneratedClassBuildItem(true, "org.acme.Foo", new byte[] { 1, 2 }),
+                new GeneratedResourceBuildItem("META-INF/foo.txt", new byte[] { 3 }, true)));
+        List<BuildItem> items = cache.read(stepId, "1");
+        assertThat(items).hasSize(2);
+        GeneratedClassBuildItem generatedClass = (GeneratedClassBuildItem) items.get(0);
+        assertThat(generatedClass.getName()).isEqualTo("org.acme.Foo");
+        assertThat(generatedClass.isApplicationClass()).isTrue();
+        assertThat(generatedClass.getClassData()).containsExactly(1, 2);
+        GeneratedResourceBuildItem generatedResource = (GeneratedResourceBuildItem) items.get(1);
+        assertThat(generatedResource.getName()).isEqualTo("META-INF/foo.txt");
+        assertThat(generatedResource.getData()).containsExactly(3);
+        assertThat(generatedResource.isExcludeFromDevCL()).isTrue();
+
+        // The entry is only used for the same fingerprint
+        assertThat(cache.read(stepId, "2")).isNull();
+
+        // Nothing is stored if an item cannot be cached
+        cache.write(stepId, "3", List.of(new ServiceStartBuildItem("foo")));
+        assertThat(cache.read(stepId, "3")).isNull();
+        assertThat(cache.read(stepId, "1")).hasSize(2);
+    }
+
+    private static LaunchModeBuildItem launchMode(LaunchMode launchMode) {
+        return new LaunchModeBuildItem(launchMode, Optional.empty(), false, Optional.empty(), false);
+    }
+
+    private static ConfigValue configValue(String name, String value) {
+        return ConfigValue.builder().withName(name).withValue(value).build();
+    }
+}
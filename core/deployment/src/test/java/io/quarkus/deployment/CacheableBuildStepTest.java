@@ -0,0 +1,127 @@
+package io.quarkus.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.builder.BuildChain;
+import io.quarkus.builder.BuildChainBuilder;
+import io.quarkus.builder.BuildExecutionBuilder;
+import io.quarkus.builder.BuildResult;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.CacheableBuildStep;
+import io.quarkus.deployment.builditem.BuildMetricsBuildItem;
+import io.quarkus.deployment.builditem.ConfigurationBuildItem;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.NativeImageProxyDefinitionBuildItem;
+import io.quarkus.deployment.configuration.BuildTimeConfigurationReader;
+import io.quarkus.deployment.pkg.NativeConfig;
+import io.quarkus.deployment.pkg.builditem.BuildSystemTargetBuildItem;
+import io.quarkus.deployment.steps.NativeImageProxyConfigStep;
+import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.configuration.QuarkusConfigFactory;
+import io.smallrye.config.SmallRyeConfig;
+
+class CacheableBuildStepTest {
+
+    private static final String STEP_ID = NativeImageProxyConfigStep.class.getName() + "#generateProxyConfig";
+
+    @TempDir
+    Path outputDirectory;
+
+    BuildTimeConfigurationReader.ReadResult readResult;
+
+    @BeforeEach
+    void setUp() {
+        BuildTimeConfigurationReader reader = new BuildTimeConfigurationReader(
+                List.of(ExtensionLoaderConfig.class, NativeConfig.class));
+        Properties buildSystemProps = new Properties();
+        buildSystemProps.setProperty("quarkus.native.enabled", "true");
+        SmallRyeConfig config = reader.initConfiguration(buildSystemProps, new Properties(), Map.of());
+        QuarkusConfigFactory.setConfig(config);
+        readResult = reader.readConfiguration(config);
+        System.setProperty(BuildStepCache.ENABLED, "true");
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(BuildStepCache.ENABLED);
+        QuarkusConfigFactory.setConfig(null);
+    }
+
+    @Test
+    void outputIsReusedUntilInputsChange() throws Exception {
+        BuildResult first = build(new NativeImageProxyDefinitionBuildItem("org.acme.Foo"));
+        assertThat(first.consume(BuildMetricsBuildItem.class).getStepCacheResults()).containsEntry(STEP_ID, false);
+        String proxyConfig = proxyConfig(first);
+        assertThat(proxyConfig).contains("org.acme.Foo");
+
+        BuildResult second = build(new NativeImageProxyDefinitionBuildItem("org.acme.Foo"));
+        assertThat(second.consume(BuildMetricsBuildItem.class).getStepCacheResults()).containsEntry(STEP_ID, true);
+        assertThat(proxyConfig(second)).isEqualTo(proxyConfig);
+
+        BuildResult third = build(new NativeImageProxyDefinitionBuildItem("org.acme.Foo"),
+                new NativeImageProxyDefinitionBuildItem("org.acme.Bar"));
+        assertThat(third.consume(BuildMetricsBuildItem.class).getStepCacheResults()).containsEntry(STEP_ID, false);
+        assertThat(proxyConfig(third)).contains("org.acme.Foo", "org.acme.Bar");
+    }
+
+    @Test
+    void injectedBuildItemsAreRejected() {
+        assertThatThrownBy(() -> ExtensionLoader.loadStepsFromClass(InjectingSteps.class, new HashMap<>(),
+                new BooleanSupplierFactoryBuildItem(LaunchMode.NORMAL, null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("@CacheableBuildStep");
+    }
+
+    private BuildResult build(NativeImageProxyDefinitionBuildItem... proxies) throws Exception {
+        BuildChainBuilder chainBuilder = BuildChain.builder()
+                .addInitial(ConfigurationBuildItem.class)
+                .addInitial(BuildSystemTargetBuildItem.class)
+                .addInitial(BuildMetricsBuildItem.class)
+                .addInitial(NativeImageProxyDefinitionBuildItem.class)
+                .addFinal(GeneratedResourceBuildItem.class)
+                .addFinal(BuildMetricsBuildItem.class);
+        ExtensionLoader.loadStepsFromClass(NativeImageProxyConfigStep.class, new HashMap<>(),
+                new BooleanSupplierFactoryBuildItem(LaunchMode.NORMAL, null)).accept(chainBuilder);
+        BuildExecutionBuilder execution = chainBuilder.build().createExecutionBuilder("test")
+                .produce(new ConfigurationBuildItem(readResult))
+                .produce(new BuildSystemTargetBuildItem(outputDirectory, "test", false, new Properties()))
+                .produce(new BuildMetricsBuildItem());
+        for (NativeImageProxyDefinitionBuildItem proxy : proxies) {
+            execution.produce(proxy);
+        }
+        return execution.execute();
+    }
+
+    private static String proxyConfig(BuildResult result) {
+        return result.consumeMulti(GeneratedResourceBuildItem.class).stream()
+                .filter(r -> r.getName().equals("META-INF/native-image/proxy-config.json"))
+                .map(r -> new String(r.getData(), StandardCharsets.UTF_8))
+                .findFirst().orElseThrow();
+    }
+
+    public static class InjectingSteps {
+
+        LaunchModeBuildItem launchMode;
+
+        @BuildStep
+        @CacheableBuildStep
+        void generate(BuildProducer<GeneratedResourceBuildItem> resources) {
+            resources.produce(new GeneratedResourceBuildItem("foo.txt", launchMode.getLaunchMode().name().getBytes()));
+        }
+    }
+}
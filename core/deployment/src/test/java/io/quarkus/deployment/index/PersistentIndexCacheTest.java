@@ -0,0 +1,63 @@
+package io.quarkus.deployment.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PersistentIndexCacheTest {
+
+    @Test
+    void indexIsReusedAcrossInstances(@TempDir Path tempDir) throws Exception {
+        Path jar = tempDir.resolve("dep.jar");
+        ShrinkWrap.create(JavaArchive.class).addClasses(Foo.class, Bar.class)
+                .as(ZipExporter.class).exportTo(new File(jar.toUri()), true);
+        Path cacheDir = tempDir.resolve("cache");
+        AtomicInteger computed = new AtomicInteger();
+
+        PersistentIndexCache first = new PersistentIndexCache(cacheDir);
+        Index index = first.index(jar, null, () -> {
+            computed.incrementAndGet();
+            return IndexingUtil.indexJar(jar);
+        });
+        assertThat(index.getClassByName(DotName.createSimple(Foo.class))).isNotNull();
+        assertThat(first.misses()).isEqualTo(1);
+
+        // A new instance, e.g. a subsequent build, reads the stored index
+        PersistentIndexCache second = new PersistentIndexCache(cacheDir);
+        index = second.index(jar, null, () -> {
+            computed.incrementAndGet();
+            return IndexingUtil.indexJar(jar);
+        });
+        assertThat(index.getClassByName(DotName.createSimple(Foo.class))).isNotNull();
+        assertThat(index.getClassByName(DotName.createSimple(Bar.class))).isNotNull();
+        assertThat(second.hits()).isEqualTo(1);
+        assertThat(computed).hasValue(1);
+
+        // Removed resources are part of the key
+        Set<String> removed = Set.of(Bar.class.getName().replace('.', '/') + ".class");
+        index = second.index(jar, removed, () -> {
+            computed.incrementAndGet();
+            return IndexingUtil.indexJar(jar, removed);
+        });
+        assertThat(index.getClassByName(DotName.createSimple(Bar.class))).isNull();
+        assertThat(second.misses()).isEqualTo(1);
+        assertThat(computed).hasValue(2);
+    }
+
+    public static class Foo {
+    }
+
+    public static class Bar {
+    }
+}
@@ -0,0 +1,42 @@
+package io.quarkus.deployment.steps;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.deployment.builditem.MainBytecodeRecorderBuildItem;
+
+class StartupTaskDependenciesTest {
+
+    @Test
+    public void onlyDirectDependenciesAreKept() {
+        // 1 -> 3, 2 -> 3, 1 -> 4 -> 5 and 3 -> 5
+        MainBytecodeRecorderBuildItem a = task(1);
+        MainBytecodeRecorderBuildItem b = task(2);
+        MainBytecodeRecorderBuildItem c = task(3, 1, 2);
+        MainBytecodeRecorderBuildItem d = task(4, 1);
+        MainBytecodeRecorderBuildItem e = task(5, 1, 2, 3, 4);
+        assertThat(MainClassBuildStep.startupTaskDependencies(List.of(a, b, c, d, e))).isEqualTo(";;0,1;0;2,3");
+    }
+
+    @Test
+    public void taskWithoutDependencyInformationIsABarrier() {
+        MainBytecodeRecorderBuildItem a = task(1);
+        MainBytecodeRecorderBuildItem b = task(2);
+        MainBytecodeRecorderBuildItem barrier = new MainBytecodeRecorderBuildItem("io.quarkus.runner.GeneratedTask");
+        MainBytecodeRecorderBuildItem c = task(3);
+        MainBytecodeRecorderBuildItem d = task(4);
+        assertThat(MainClassBuildStep.startupTaskDependencies(List.of(a, b, barrier, c, d))).isEqualTo(";;0,1;2;2");
+    }
+
+    private static MainBytecodeRecorderBuildItem task(int ordinal, int... dependencies) {
+        BitSet dependencyOrdinals = new BitSet();
+        for (int dependency : dependencies) {
+            dependencyOrdinals.set(dependency);
+        }
+        return new MainBytecodeRecorderBuildItem(null, ordinal, dependencyOrdinals);
+    }
+}
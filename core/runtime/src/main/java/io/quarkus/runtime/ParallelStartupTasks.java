@@ -0,0 +1,145 @@
+package io.quarkus.runtime;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.quarkus.runtime.util.StepTiming;
+
+/**
+ * Executes the startup tasks concurrently, a task is started once all its dependencies are finished. Once a task fails,
+ * no other task is started and the failure is rethrown when the running tasks are finished.
+ * <p>
+ * This class is used by the generated application class when {@code quarkus.runtime-init.parallel} is enabled.
+ */
+public final class ParallelStartupTasks {
+
+    private ParallelStartupTasks() {
+    }
+
+    /**
+     * @param startupContext the startup context
+     * @param tasks the startup tasks
+     * @param dependencies the indexes of the dependencies of each task, e.g. {@code ";0;0,1"} means that the second task
+     *        depends on the first one and the third task depends on the first and the second one
+     * @param maxThreads the maximum number of threads, or a non-positive value for the number of available processors
+     */
+    public static void run(StartupContext startupContext, StartupTask[] tasks, String dependencies, int maxThreads)
+            throws InterruptedException {
+        String[] taskDependencies = dependencies.split(";", -1);
+        if (taskDependencies.length != tasks.length) {
+            throw new IllegalArgumentException("Invalid dependencies: " + dependencies);
+        }
+        int threads = maxThreads > 0 ? maxThreads : Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, tasks.length), threadFactory());
+        ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+        AtomicBoolean failed = new AtomicBoolean();
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[tasks.length];
+        try {
+            for (int i = 0; i < tasks.length; i++) {
+                StartupTask task = tasks[i];
+                CompletableFuture<?>[] required = required(futures, taskDependencies[i]);
+                Runnable action = new Runnable() {
+                    @Override
+                    public void run() {
+                        if (failed.get()) {
+                            throw new CancellationException();
+                        }
+                        try {
+                            deploy(startupContext, task, tccl);
+                        } catch (Throwable t) {
+                            failed.set(true);
+                            throw t;
+                        }
+                    }
+                };
+                futures[i] = required.length == 0 ? CompletableFuture.runAsync(action, executor)
+                        : CompletableFuture.allOf(required).thenRunAsync(action, executor);
+            }
+            CompletableFuture.allOf(futures).get();
+        } catch (ExecutionException e) {
+            throw rethrow(futures);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void deploy(StartupContext startupContext, StartupTask task, ClassLoader tccl) {
+        Thread thread = Thread.currentThread();
+        ClassLoader old = thread.getContextClassLoader();
+        thread.setContextClassLoader(tccl);
+        long start = System.nanoTime();
+        try {
+            task.deploy(startupContext);
+            StepTiming.printStepTime(startupContext.getCurrentBuildStepName(), start);
+        } finally {
+            thread.setContextClassLoader(old);
+        }
+    }
+
+    private static CompletableFuture<?>[] required(CompletableFuture<?>[] futures, String dependencies) {
+        if (dependencies.isEmpty()) {
+            return new CompletableFuture<?>[0];
+        }
+        String[] indexes = dependencies.split(",");
+        CompletableFuture<?>[] required = new CompletableFuture<?>[indexes.length];
+        for (int i = 0; i < indexes.length; i++) {
+            required[i] = futures[Integer.parseInt(indexes[i])];
+        }
+        return required;
+    }
+
+    private static RuntimeException rethrow(CompletableFuture<?>[] futures) {
+        // Rethrow the original failure, i.e. not the cancellation of the tasks that were not started
+        Throwable failure = null;
+        for (CompletableFuture<?> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException | CancellationException e) {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                if (!(cause instanceof CancellationException)) {
+                    failure = cause;
+                    break;
+                }
+                if (failure == null) {
+                    failure = cause;
+                }
+            }
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        if (failure instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException(failure);
+    }
+
+    private static ThreadFactory threadFactory() {
+        try {
+            // Use virtual threads if available
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Method name = builderClass.getMethod("name", String.class, long.class);
+            Method factory = builderClass.getMethod("factory");
+            Object builder = name.invoke(Thread.class.getMethod("ofVirtual").invoke(null), "quarkus-startup-", 0L);
+            return (ThreadFactory) factory.invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            AtomicInteger count = new AtomicInteger();
+            return new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "quarkus-startup-" + count.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            };
+        }
+    }
+}
@@ -6,13 +6,20 @@
 import java.io.InputStreamReader;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
 public class PreloadClassesRecorder {
     public static final String QUARKUS_GENERATED_PRELOAD_CLASSES_FILE = "quarkus-generated-preload-classes.txt";
+    public static final String QUARKUS_CLASS_LOADING_PROFILE_FILE = "quarkus-class-loading-profile.txt";
+    // Set when a new class loading profile is being recorded, see io.quarkus.bootstrap.runner.ClassLoadingProfile
+    private static final String CLASS_LOADING_PROFILE_OUTPUT = "quarkus.class-loading.profile.output";
 
     public static void preloadClass(String classname, boolean initialize) {
         try {
@@ -41,6 +48,59 @@ public static void preloadClasses(boolean initialize) {
             preloadClassesFromStream(is, initialize);
     }
 
+    /**
+     * Loads the classes of the class loading profile.
+     * <p>
+     * When the JVM startup archive is created, the classes are loaded before the startup continues so that the archive
+     * contains them. Otherwise, the classes are loaded by background threads, in the order in which they were loaded by
+     * the profiled application, unless a new profile is being recorded.
+     *
+     * @param preload whether the classes are preloaded at startup
+     * @param threads the number of threads used to preload the classes
+     */
+    public static void preloadProfiledClasses(boolean preload, int threads) {
+        boolean archiveGeneration = ApplicationLifecycleManager.isAppCDSGeneration();
+        if (!archiveGeneration && (!preload || System.getProperty(CLASS_LOADING_PROFILE_OUTPUT) != null)) {
+            return;
+        }
+        InputStream is = PreloadClassesRecorder.class.getResourceAsStream("/META-INF/" + QUARKUS_CLASS_LOADING_PROFILE_FILE);
+        if (is == null) {
+            return;
+        }
+        if (archiveGeneration) {
+            preloadClassesFromStream(is, false);
+            return;
+        }
+        List<String> classNames = new ArrayList<>();
+        try (is;
+                InputStreamReader isr = new InputStreamReader(is, StandardCharsets.UTF_8);
+                BufferedReader reader = new BufferedReader(isr)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank() && !line.startsWith("#")) {
+                    classNames.add(line.strip());
+                }
+            }
+        } catch (IOException ignored) {
+            return;
+        }
+        AtomicInteger next = new AtomicInteger();
+        Runnable preloader = new Runnable() {
+            @Override
+            public void run() {
+                int i;
+                while ((i = next.getAndIncrement()) < classNames.size()) {
+                    preloadClass(classNames.get(i), false);
+                }
+            }
+        };
+        for (int i = 0; i < Math.max(1, threads); i++) {
+            Thread thread = new Thread(preloader, "quarkus-class-preload-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
     public static void preloadClassesFromStream(InputStream is, boolean initialize) {
         try (is;
                 InputStreamReader isr = new InputStreamReader(is);
@@ -64,4 +124,8 @@ public static void preloadClassesFromStream(InputStream is, boolean initialize)
     public void invokePreloadClasses(boolean initialize) {
         preloadClasses(initialize);
     }
+
+    public void invokePreloadProfiledClasses(boolean preload, int threads) {
+        preloadProfiledClasses(preload, threads);
+    }
 }
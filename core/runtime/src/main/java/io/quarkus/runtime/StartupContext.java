@@ -1,6 +1,7 @@
 package io.quarkus.runtime;
 
 import java.io.Closeable;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.Map;
@@ -18,12 +19,13 @@ public class StartupContext implements Closeable {
     // Holds values for returned proxies
     // These values are usually returned from recorder methods but can be also set explicitly
     // For example, the raw command line args and ShutdownContext are set when the StartupContext is created
-    private final Map<String, Object> values = new HashMap<>();
+    // The startup tasks may be executed concurrently, see ParallelStartupTasks
+    private final Map<String, Object> values = Collections.synchronizedMap(new HashMap<>());
 
     private final Deque<Runnable> shutdownTasks = new ConcurrentLinkedDeque<>();
     private final Deque<Runnable> lastShutdownTasks = new ConcurrentLinkedDeque<>();
     private String[] commandLineArgs;
-    private String currentBuildStepName;
+    private final ThreadLocal<String> currentBuildStepName = new ThreadLocal<>();
 
     public StartupContext() {
         ShutdownContext shutdownContext = new ShutdownContext() {
@@ -90,11 +92,11 @@ public void setCommandLineArguments(String[] commandLineArguments) {
 
     @SuppressWarnings("unused")
     public String getCurrentBuildStepName() {
-        return currentBuildStepName;
+        return currentBuildStepName.get();
     }
 
     @SuppressWarnings("unused")
     public void setCurrentBuildStepName(String currentBuildStepName) {
-        this.currentBuildStepName = currentBuildStepName;
+        this.currentBuildStepName.set(currentBuildStepName);
     }
 }
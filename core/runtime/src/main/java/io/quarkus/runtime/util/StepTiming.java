@@ -34,6 +34,23 @@ public static void printStepTime(StartupContext startupContext) {
         stepTimingStart = System.nanoTime();
     }
 
+    /**
+     * Prints the time of a step that started at the given time, used when the steps are executed concurrently.
+     *
+     * @param stepName the name of the step
+     * @param start the start of the step as returned by {@link System#nanoTime()}
+     */
+    public static void printStepTime(String stepName, long start) {
+        if (!stepTimingEnabled) {
+            return;
+        }
+        System.out.printf("%1$tF %1$tT,%1$tL Build step %2$s completed in: %3$sms on thread %4$s%n",
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(System.currentTimeMillis()), ZoneId.systemDefault()),
+                stepName,
+                duration(System.nanoTime(), start),
+                Thread.currentThread().getName());
+    }
+
     private static long duration(long ended, long started) {
         return TimeUnit.MILLISECONDS.convert(ended - started, TimeUnit.NANOSECONDS);
     }
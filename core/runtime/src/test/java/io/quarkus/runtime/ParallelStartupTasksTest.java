@@ -0,0 +1,64 @@
+package io.quarkus.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class ParallelStartupTasksTest {
+
+    @Test
+    public void dependenciesAreRespected() throws Exception {
+        List<String> executed = new CopyOnWriteArrayList<>();
+        // b and c can only finish if they run concurrently
+        CountDownLatch latch = new CountDownLatch(2);
+        StartupTask a = context -> executed.add("a");
+        StartupTask b = context -> {
+            await(latch);
+            executed.add("b");
+        };
+        StartupTask c = context -> {
+            await(latch);
+            executed.add("c");
+        };
+        StartupTask d = context -> executed.add("d");
+        try (StartupContext context = new StartupContext()) {
+            ParallelStartupTasks.run(context, new StartupTask[] { a, b, c, d }, ";0;0;1,2", 2);
+        }
+        assertThat(executed).hasSize(4);
+        assertThat(executed.get(0)).isEqualTo("a");
+        assertThat(executed.subList(1, 3)).containsExactlyInAnyOrder("b", "c");
+        assertThat(executed.get(3)).isEqualTo("d");
+    }
+
+    @Test
+    public void failureIsRethrown() {
+        List<String> executed = new CopyOnWriteArrayList<>();
+        StartupTask a = context -> {
+            throw new PreventFurtherStepsException(2);
+        };
+        StartupTask b = context -> executed.add("b");
+        try (StartupContext context = new StartupContext()) {
+            assertThatThrownBy(() -> ParallelStartupTasks.run(context, new StartupTask[] { a, b }, ";0", 0))
+                    .isInstanceOf(PreventFurtherStepsException.class);
+        }
+        assertThat(executed).isEmpty();
+    }
+
+    private static void await(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Tasks not executed concurrently");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -7,12 +7,17 @@
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_KEY;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME_PARAM;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.BULK_KEYS_TYPES;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT_BULK_PARAM;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.COMPLETION_STAGE;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTORS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDINGS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDING_CONTAINERS;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.MAP;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.MULTI;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.REGISTER_REST_CLIENT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.UNI;
 import static io.quarkus.cache.runtime.CacheBuildConfig.CAFFEINE_CACHE_TYPE;
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import static io.quarkus.runtime.metrics.MetricsFactory.MICROMETER;
@@ -48,6 +53,7 @@
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildItem;
 import io.quarkus.arc.processor.BeanInfo;
 import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.deployment.exception.BulkCacheResultTargetException;
 import io.quarkus.cache.deployment.exception.ClassTargetException;
 import io.quarkus.cache.deployment.exception.KeyGeneratorConstructorException;
 import io.quarkus.cache.deployment.exception.PrivateMethodTargetException;
@@ -202,6 +208,10 @@ private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance bind
                         LOGGER.warnf("@CacheResult is not currently supported on a method returning %s [class=%s, method=%s]",
                                 MULTI, methodInfo.declaringClass().name(), methodInfo.name());
                     }
+                    AnnotationValue bulk = binding.value(CACHE_RESULT_BULK_PARAM);
+                    if (bulk != null && bulk.asBoolean()) {
+                        validateBulkTarget(binding, methodInfo).ifPresent(throwables::add);
+                    }
                 }
                 break;
             default:
@@ -211,6 +221,38 @@ private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance bind
         return throwables;
     }
 
+    private Optional<Throwable> validateBulkTarget(AnnotationInstance binding, MethodInfo methodInfo) {
+        if (binding.value("keyGenerator") != null) {
+            return Optional.of(new BulkCacheResultTargetException(methodInfo, "a key generator cannot be used"));
+        }
+        List<AnnotationInstance> cacheKeys = methodInfo.annotations(CACHE_KEY).stream()
+                .filter(a -> a.target().kind() == Kind.METHOD_PARAMETER)
+                .collect(toList());
+        Type keysType;
+        if (cacheKeys.size() == 1) {
+            keysType = methodInfo.parameterType(cacheKeys.get(0).target().asMethodParameter().position());
+        } else if (cacheKeys.isEmpty() && methodInfo.parametersCount() == 1) {
+            keysType = methodInfo.parameterType(0);
+        } else {
+            return Optional.of(new BulkCacheResultTargetException(methodInfo,
+                    "the cache key must be a single parameter"));
+        }
+        if (!BULK_KEYS_TYPES.contains(keysType.name())) {
+            return Optional.of(new BulkCacheResultTargetException(methodInfo,
+                    "the cache key parameter must be a Collection, List or Set"));
+        }
+        Type returnType = methodInfo.returnType();
+        if ((UNI.equals(returnType.name()) || COMPLETION_STAGE.equals(returnType.name()))
+                && returnType.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+            returnType = returnType.asParameterizedType().arguments().get(0);
+        }
+        if (!MAP.equals(returnType.name())) {
+            return Optional.of(new BulkCacheResultTargetException(methodInfo,
+                    "the method must return a Map, a Uni<Map> or a CompletionStage<Map>"));
+        }
+        return Optional.empty();
+    }
+
     private Optional<DotName> findCacheKeyGenerator(AnnotationInstance binding, AnnotationTarget target) {
         if (target.kind() == METHOD && (CACHE_RESULT.equals(binding.name()) || CACHE_INVALIDATE.equals(binding.name()))) {
             AnnotationValue keyGenerator = binding.value("keyGenerator");
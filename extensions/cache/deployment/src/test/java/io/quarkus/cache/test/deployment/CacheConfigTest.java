@@ -70,6 +70,7 @@ void testCache2Config() {
         CaffeineCacheImpl cache = (CaffeineCacheImpl) testCache2;
         assertEquals(80, cache.getCacheInfo().initialCapacity);
         assertNull(cache.getCacheInfo().maximumSize);
+        assertEquals(500L, cache.getCacheInfo().maximumWeight);
         assertEquals(Duration.ofDays(4L), cache.getCacheInfo().expireAfterWrite);
         assertEquals(Duration.ofSeconds(90L), cache.getCacheInfo().expireAfterAccess);
         assertFalse(cache.getCacheInfo().metricsEnabled);
@@ -80,6 +81,7 @@ void testCache3Config() {
         CaffeineCacheImpl cache = (CaffeineCacheImpl) testCache3;
         assertEquals(123, cache.getCacheInfo().initialCapacity);
         assertNull(cache.getCacheInfo().maximumSize);
+        assertNull(cache.getCacheInfo().maximumWeight);
         assertNull(cache.getCacheInfo().expireAfterWrite);
         assertNull(cache.getCacheInfo().expireAfterAccess);
         assertTrue(cache.getCacheInfo().metricsEnabled);
@@ -92,6 +94,13 @@ void setMaximumSizeShouldThrowWhenNoInitialConfigValue() {
         });
     }
 
+    @Test
+    void setMaximumSizeShouldThrowWhenMaximumWeightConfigured() {
+        assertThrows(IllegalStateException.class, () -> {
+            testCache2.as(CaffeineCache.class).setMaximumSize(123L);
+        });
+    }
+
     @Test
     void setExpireAfterWriteShouldThrowWhenNoInitialConfigValue() {
         assertThrows(IllegalStateException.class, () -> {
@@ -22,6 +22,7 @@
 import io.quarkus.cache.CacheKeyGenerator;
 import io.quarkus.cache.CacheName;
 import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.deployment.exception.BulkCacheResultTargetException;
 import io.quarkus.cache.deployment.exception.ClassTargetException;
 import io.quarkus.cache.deployment.exception.KeyGeneratorConstructorException;
 import io.quarkus.cache.deployment.exception.VoidReturnTypeTargetException;
@@ -43,7 +44,7 @@ public class DeploymentExceptionsTest {
             .withApplicationRoot((jar) -> jar.addClasses(TestResource.class, TestBean.class))
             .assertException(t -> {
                 assertEquals(DeploymentException.class, t.getClass());
-                assertEquals(8, t.getSuppressed().length);
+                assertEquals(9, t.getSuppressed().length);
                 assertVoidReturnTypeTargetException(t, "showThrowVoidReturnTypeTargetException");
                 assertClassTargetException(t, TestResource.class, 1);
                 assertClassTargetException(t, TestBean.class, 2);
@@ -51,6 +52,8 @@ public class DeploymentExceptionsTest {
                 assertKeyGeneratorConstructorException(t, KeyGen2.class);
                 assertKeyGeneratorConstructorException(t, KeyGen3.class);
                 assertKeyGeneratorConstructorException(t, KeyGen4.class);
+                assertEquals(1, filterSuppressed(t, BulkCacheResultTargetException.class)
+                        .filter(s -> "shouldThrowBulkCacheResultTargetException".equals(s.getMethodInfo().name())).count());
             });
 
     private static void assertVoidReturnTypeTargetException(Throwable t, String expectedMethodName) {
@@ -108,6 +111,11 @@ public String shouldThrowKeyGeneratorConstructorException() {
             return new String();
         }
 
+        @CacheResult(cacheName = "should-throw-bulk-cache-result-target-exception", bulk = true)
+        public String shouldThrowBulkCacheResultTargetException(String key) {
+            return new String();
+        }
+
         @CacheInvalidate(cacheName = "should-throw-key-generator-constructor-exception", keyGenerator = KeyGen2.class)
         public void shouldAlsoThrowKeyGeneratorConstructorException() {
         }
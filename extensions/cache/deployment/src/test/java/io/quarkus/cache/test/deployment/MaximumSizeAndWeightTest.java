@@ -0,0 +1,46 @@
+package io.quarkus.cache.test.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class MaximumSizeAndWeightTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest TEST = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar.addClass(CachedService.class))
+            .overrideConfigKey("quarkus.cache.caffeine.\"test-cache\".maximum-size", "10")
+            .overrideConfigKey("quarkus.cache.caffeine.\"test-cache\".maximum-weight", "100")
+            .assertException(e -> {
+                Throwable rootCause = e;
+                while (rootCause.getCause() != null) {
+                    rootCause = rootCause.getCause();
+                }
+                // The class cannot be compared because of the class loading in tests
+                assertEquals(ConfigurationException.class.getName(), rootCause.getClass().getName());
+                assertTrue(rootCause.getMessage().contains("test-cache"), rootCause.getMessage());
+            });
+
+    @Test
+    public void shouldNotBeInvoked() {
+        fail("This method should not be invoked");
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        @CacheResult(cacheName = "test-cache")
+        public Object cachedMethod(String key) {
+            return new Object();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheKey;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the {@link CacheResult#bulk()} mode.
+ */
+public class BulkCacheResultTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest TEST = new QuarkusExtensionTest()
+            .withApplicationRoot(jar -> jar.addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testBulk() {
+        assertEquals(Map.of(1L, "1", 2L, "2"), cachedService.prices(List.of(1L, 2L)));
+        assertEquals(List.of(List.of(1L, 2L)), cachedService.invocations);
+
+        // Only the missing element is passed to the method, the result follows the order of the keys
+        Map<Long, String> prices = cachedService.prices(List.of(3L, 2L, 1L));
+        assertEquals(List.of(3L, 2L, 1L), new ArrayList<>(prices.keySet()));
+        assertEquals(List.of(List.of(1L, 2L), List.of(3L)), cachedService.invocations);
+
+        // All the elements are cached
+        assertEquals(Map.of(1L, "1", 3L, "3"), cachedService.prices(List.of(1L, 3L)));
+        assertEquals(2, cachedService.invocations.size());
+
+        // The elements that are not returned are not cached
+        assertEquals(Map.of(1L, "1"), cachedService.prices(List.of(1L, -1L)));
+        assertEquals(Map.of(1L, "1"), cachedService.prices(List.of(1L, -1L)));
+        assertEquals(List.of(List.of(-1L), List.of(-1L)), cachedService.invocations.subList(2, 4));
+
+        // The elements are cached separately
+        cachedService.invalidate(2L);
+        assertEquals(Map.of(1L, "1", 2L, "2"), cachedService.prices(List.of(1L, 2L)));
+        assertEquals(List.of(2L), cachedService.invocations.get(4));
+    }
+
+    @Test
+    public void testBulkUni() {
+        assertEquals(Map.of("a", "A", "b", "B"), cachedService.upperCase(Set.of("a", "b"), 1).await().indefinitely());
+        assertEquals(Map.of("b", "B", "c", "C"), cachedService.upperCase(Set.of("b", "c"), 2).await().indefinitely());
+        assertEquals(Set.of("c"), cachedService.uniInvocations.get(1));
+        assertEquals(2, cachedService.uniInvocations.size());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        final List<List<Long>> invocations = new ArrayList<>();
+        final List<Set<String>> uniInvocations = new ArrayList<>();
+
+        @CacheResult(cacheName = "prices", bulk = true)
+        public Map<Long, String> prices(List<Long> ids) {
+            invocations.add(ids);
+            Map<Long, String> result = new LinkedHashMap<>();
+            for (Long id : ids) {
+                if (id > 0) {
+                    result.put(id, id.toString());
+                }
+            }
+            return result;
+        }
+
+        @CacheInvalidate(cacheName = "prices")
+        public void invalidate(Long id) {
+        }
+
+        @CacheResult(cacheName = "upper-case", bulk = true)
+        public Uni<Map<String, String>> upperCase(@CacheKey Set<String> values, int attempt) {
+            uniInvocations.add(values);
+            Map<String, String> result = new LinkedHashMap<>();
+            for (String value : values) {
+                result.put(value, value.toUpperCase());
+            }
+            return Uni.createFrom().item(result);
+        }
+    }
+}
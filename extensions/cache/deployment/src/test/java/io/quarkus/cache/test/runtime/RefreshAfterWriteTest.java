@@ -0,0 +1,101 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CaffeineCache;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the {@code refresh-after-write} and {@code stale-if-error} configuration of Caffeine caches.
+ */
+public class RefreshAfterWriteTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest TEST = new QuarkusExtensionTest()
+            .overrideConfigKey("quarkus.cache.caffeine.refreshed.refresh-after-write", "100ms")
+            .overrideConfigKey("quarkus.cache.caffeine.stale.expire-after-write", "100ms")
+            .overrideConfigKey("quarkus.cache.caffeine.stale.stale-if-error", "1h");
+
+    @CacheName("refreshed")
+    Cache refreshed;
+
+    @CacheName("stale")
+    Cache stale;
+
+    @Test
+    public void testRefreshAfterWrite() throws InterruptedException {
+        AtomicInteger loads = new AtomicInteger();
+        assertEquals(1, refreshed.get("foo", k -> loads.incrementAndGet()).await().indefinitely());
+        Thread.sleep(200L);
+
+        // The current value is returned while the entry is reloaded in the background
+        assertEquals(1, refreshed.get("foo", k -> loads.incrementAndGet()).await().indefinitely());
+        awaitValue(refreshed, "foo", 2);
+
+        // A failed reload keeps the current value
+        Thread.sleep(200L);
+        assertEquals(2, refreshed.get("foo", k -> {
+            throw new IllegalStateException();
+        }).await().indefinitely());
+        Thread.sleep(100L);
+        assertEquals(2, refreshed.get("foo", k -> loads.incrementAndGet()).await().indefinitely());
+    }
+
+    @Test
+    public void testRefreshAfterWriteAsync() throws InterruptedException {
+        assertEquals("a", refreshed.getAsync("bar", k -> Uni.createFrom().item("a")).await().indefinitely());
+        Thread.sleep(200L);
+        assertEquals("a", refreshed.getAsync("bar", k -> Uni.createFrom().item("b")).await().indefinitely());
+        awaitValue(refreshed, "bar", "b");
+    }
+
+    @Test
+    public void testRequestContextOfReload() throws InterruptedException {
+        assertEquals("initial", refreshed.get("baz", k -> "initial").await().indefinitely());
+        Thread.sleep(200L);
+
+        // The reload outlives the invocation, so the value loader needs its own request context
+        assertEquals("initial", refreshed.get("baz", k -> Arc.container().requestContext().isActive() ? "active" : "inactive")
+                .await().indefinitely());
+        awaitValue(refreshed, "baz", "active");
+    }
+
+    @Test
+    public void testStaleIfError() throws InterruptedException {
+        assertEquals("a", stale.get("foo", k -> "a").await().indefinitely());
+        Thread.sleep(200L);
+
+        // The expired value is returned if the reload fails
+        assertEquals("a", stale.get("foo", k -> {
+            throw new IllegalStateException();
+        }).await().indefinitely());
+
+        // Otherwise the reloaded value is returned
+        assertEquals("b", stale.get("foo", k -> "b").await().indefinitely());
+        assertEquals("b", stale.get("foo", k -> "c").await().indefinitely());
+
+        // A failure is propagated if there is no expired value
+        assertThrows(IllegalStateException.class, () -> stale.get("bar", k -> {
+            throw new IllegalStateException();
+        }).await().indefinitely());
+    }
+
+    private static void awaitValue(Cache cache, String key, Object expected) throws InterruptedException {
+        CaffeineCache caffeineCache = cache.as(CaffeineCache.class);
+        for (int i = 0; i < 50 && !expected.equals(caffeineCache.getIfPresent(key).join()); i++) {
+            Thread.sleep(20L);
+        }
+        assertEquals(expected, caffeineCache.getIfPresent(key).join());
+    }
+
+}
@@ -38,6 +38,10 @@
  * a given delay. The lock timeout is disabled by default, meaning the lock is never interrupted. See the parameter Javadoc for
  * more details.
  * <p>
+ * If {@link #bulk()} is set to {@code true}, then each element of the collection passed as the cache key is a separate cache
+ * key. The values of all the elements are retrieved from the cache at once, and the method is only invoked with the elements
+ * that were not found in the cache.
+ * <p>
  * This annotation cannot be used on a method returning {@code void}. It can be combined with multiple other caching
  * annotations on a single method. Caching operations will always be executed in the same order: {@link CacheInvalidateAll}
  * first, then {@link CacheInvalidate} and finally {@link CacheResult}.
@@ -68,4 +72,18 @@
      */
     @Nonbinding
     Class<? extends CacheKeyGenerator> keyGenerator() default UndefinedCacheKeyGenerator.class;
+
+    /**
+     * If set to {@code true}, then the cache key must be a {@link java.util.Collection}, {@link java.util.List} or
+     * {@link java.util.Set} parameter and the method must return a {@link java.util.Map} (possibly wrapped in a
+     * {@link io.smallrye.mutiny.Uni} or a {@link java.util.concurrent.CompletionStage}) of the elements of the collection to
+     * their values.
+     * <p>
+     * Each element of the collection is cached separately. The method is only invoked with the elements that were not found in
+     * the cache, and its result is merged with the cached values. The Caffeine and Redis caches invoke the method at most once
+     * per invocation with all the missing elements; other cache implementations may invoke it once per missing element. An
+     * element that is absent from the returned map is not cached. A {@link CacheKeyGenerator} cannot be used with this mode.
+     */
+    @Nonbinding
+    boolean bulk() default false;
 }
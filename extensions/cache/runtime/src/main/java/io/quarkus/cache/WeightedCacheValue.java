@@ -0,0 +1,18 @@
+package io.quarkus.cache;
+
+/**
+ * A cache value that provides its own weight.
+ * <p>
+ * If a Caffeine cache is configured with the {@code maximum-weight} value then the weight of each entry is the value
+ * returned from {@link #getWeight()}, or {@code 1} if the cached value does not implement this interface.
+ */
+public interface WeightedCacheValue {
+
+    /**
+     * The weight must not change while the value is cached.
+     *
+     * @return the weight of the value, must not be negative
+     */
+    int getWeight();
+
+}
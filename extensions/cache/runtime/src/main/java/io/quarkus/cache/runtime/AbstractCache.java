@@ -1,7 +1,16 @@
 package io.quarkus.cache.runtime;
 
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.DefaultCacheKey;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
 
 public abstract class AbstractCache implements Cache {
 
@@ -27,4 +36,50 @@ public <T extends Cache> T as(Class<T> type) {
         }
     }
 
+    /**
+     * Returns a lazy asynchronous action that will emit the values associated with the given keys, in the iteration order of
+     * the keys. The keys that are not associated with a value are loaded with {@code valuesLoader}; the values it returns are
+     * stored in the cache. A key that is absent from the map returned by {@code valuesLoader} is also absent from the emitted
+     * map.
+     * <p>
+     * This default implementation looks up the keys one by one and invokes {@code valuesLoader} once per missing key, i.e.
+     * with a single key each time. Implementations backed by a cache that supports bulk operations override it so that
+     * {@code valuesLoader} is invoked at most once, with all the missing keys.
+     *
+     * @param keys cache keys
+     * @param valuesLoader function used to compute the values of the missing keys
+     * @return a lazy asynchronous action that will emit the values associated with the keys
+     */
+    public Uni<Map<Object, Object>> getAll(Collection<?> keys,
+            Function<Set<Object>, Uni<Map<Object, Object>>> valuesLoader) {
+        // The keys are processed sequentially so that the loader is never invoked concurrently
+        return Multi.createFrom().iterable(keys)
+                .onItem().transformToUniAndConcatenate(new Function<Object, Uni<Map.Entry<Object, Object>>>() {
+                    @Override
+                    public Uni<Map.Entry<Object, Object>> apply(Object key) {
+                        return AbstractCache.this.<Object, Object> getAsync(key, new Function<Object, Uni<Object>>() {
+                            @Override
+                            public Uni<Object> apply(Object k) {
+                                return valuesLoader.apply(Set.of(k)).map(new Function<Map<Object, Object>, Object>() {
+                                    @Override
+                                    public Object apply(Map<Object, Object> values) {
+                                        return values.get(k);
+                                    }
+                                });
+                            }
+                        }).map(new Function<Object, Map.Entry<Object, Object>>() {
+                            @Override
+                            public Map.Entry<Object, Object> apply(Object value) {
+                                return new AbstractMap.SimpleImmutableEntry<>(key, value);
+                            }
+                        });
+                    }
+                })
+                .collect().in(LinkedHashMap::new, (map, entry) -> {
+                    if (entry.getValue() != null) {
+                        map.put(entry.getKey(), entry.getValue());
+                    }
+                });
+    }
+
 }
@@ -63,6 +63,15 @@ interface CaffeineCacheConfig {
              */
             OptionalLong maximumSize();
 
+            /**
+             * Maximum total weight of the entries the cache may contain. The weight of an entry is determined by the cached
+             * value if it implements {@link io.quarkus.cache.WeightedCacheValue}, otherwise the weight is {@code 1}.
+             * <p>
+             * This value cannot be combined with {@code maximum-size}; the application fails to start if both are set. If
+             * either of them is set for a specific cache then both values of the default configuration are ignored.
+             */
+            OptionalLong maximumWeight();
+
             /**
              * Specifies that each entry should be automatically removed from the cache once a fixed duration has elapsed after
              * the entry's creation, or the most recent replacement of its value.
@@ -75,6 +84,28 @@ interface CaffeineCacheConfig {
              */
             Optional<Duration> expireAfterAccess();
 
+            /**
+             * Specifies that an entry is reloaded in the background once a fixed duration has elapsed after the entry's creation,
+             * or the most recent replacement of its value. The current value is returned until the reload completes. If the
+             * reload fails then the current value is kept.
+             * <p>
+             * The reload is triggered by the first lookup of the entry after the duration has elapsed and uses the value loader
+             * of that lookup. A synchronous value loader is executed on a worker thread.
+             * <p>
+             * This value cannot be combined with {@code expire-after-access}; if both are set then {@code expire-after-access} is
+             * ignored.
+             */
+            Optional<Duration> refreshAfterWrite();
+
+            /**
+             * Specifies how long an entry is kept after it expired according to {@code expire-after-write}. The first lookup of
+             * an expired entry reloads the value; if the reload fails then the expired value is returned instead of the failure.
+             * <p>
+             * This value cannot be combined with {@code expire-after-access}; if both are set then {@code expire-after-access} is
+             * ignored.
+             */
+            Optional<Duration> staleIfError();
+
             /**
              * Whether or not metrics are recorded if the application depends on the Micrometer extension. Setting this
              * value to {@code true} will enable the accumulation of cache stats inside Caffeine.
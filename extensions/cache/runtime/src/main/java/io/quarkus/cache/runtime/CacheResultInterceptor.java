@@ -1,6 +1,10 @@
 package io.quarkus.cache.runtime;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -46,6 +50,9 @@ public Object intercept(InvocationContext invocationContext) throws Throwable {
 
         CacheResult binding = interceptionContext.getInterceptorBindings().get(0);
         AbstractCache cache = (AbstractCache) cacheManager.getCache(binding.cacheName()).get();
+        if (binding.bulk()) {
+            return interceptBulk(invocationContext, interceptionContext, binding, cache);
+        }
         Object key = getCacheKey(cache, binding.keyGenerator(), interceptionContext.getCacheKeyParameterPositions(),
                 invocationContext.getMethod(), invocationContext.getParameters());
         LOGGER.debugf("Loading entry with key [%s] from cache [%s]", key, binding.cacheName());
@@ -128,4 +135,93 @@ public Object apply(Object k) {
         }
     }
 
+    private Object interceptBulk(InvocationContext invocationContext,
+            CacheInterceptionContext<CacheResult> interceptionContext, CacheResult binding, AbstractCache cache)
+            throws Throwable {
+        Object[] parameters = invocationContext.getParameters();
+        // The position is validated at build time
+        int position = interceptionContext.getCacheKeyParameterPositions().isEmpty() ? 0
+                : interceptionContext.getCacheKeyParameterPositions().get(0);
+        Collection<?> keys = (Collection<?>) parameters[position];
+        boolean setParameter = Set.class.isAssignableFrom(invocationContext.getMethod().getParameterTypes()[position]);
+        ReturnType returnType = determineReturnType(invocationContext.getMethod().getReturnType());
+        LOGGER.debugf("Loading %s entries from cache [%s]", keys.size(), binding.cacheName());
+
+        Uni<Map<Object, Object>> values = cache.getAll(keys, new Function<Set<Object>, Uni<Map<Object, Object>>>() {
+            @Override
+            public Uni<Map<Object, Object>> apply(Set<Object> missingKeys) {
+                LOGGER.debugf("Adding %s entries into cache [%s]", missingKeys.size(), binding.cacheName());
+                Object[] missingParameters = parameters.clone();
+                missingParameters[position] = setParameter ? missingKeys : new ArrayList<>(missingKeys);
+                return invokeBulk(invocationContext, missingParameters, returnType);
+            }
+        });
+        return awaitBulk(invocationContext, binding, values, parameters.clone(), returnType);
+    }
+
+    private Object awaitBulk(InvocationContext invocationContext, CacheResult binding, Uni<Map<Object, Object>> values,
+            Object[] parameters, ReturnType returnType) throws Throwable {
+        try {
+            if (returnType != ReturnType.NonAsync) {
+                Uni<Object> result = values.onItem().castTo(Object.class);
+                if (binding.lockTimeout() > 0) {
+                    // IMPORTANT: The item/failure are emitted on the captured context.
+                    result = result.ifNoItem().after(Duration.ofMillis(binding.lockTimeout()))
+                            .recoverWithUni(new Supplier<Uni<?>>() {
+                                @Override
+                                public Uni<?> get() {
+                                    return invokeBulk(invocationContext, parameters, returnType);
+                                }
+                            });
+                }
+                return createAsyncResult(result, returnType);
+            } else if (binding.lockTimeout() <= 0) {
+                return values.await().indefinitely();
+            } else {
+                try {
+                    return values.await().atMost(Duration.ofMillis(binding.lockTimeout()));
+                } catch (TimeoutException e) {
+                    invocationContext.setParameters(parameters);
+                    return invocationContext.proceed();
+                }
+            }
+        } catch (CacheException e) {
+            if (e.getCause() != null) {
+                throw e.getCause();
+            } else {
+                throw e;
+            }
+        }
+    }
+
+    /*
+     * The intercepted method is invoked with the given parameters. The returned Uni is lazy, the invocation happens at
+     * subscription time.
+     */
+    private Uni<Map<Object, Object>> invokeBulk(InvocationContext invocationContext, Object[] parameters,
+            ReturnType returnType) {
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends Map<Object, Object>>>() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public Uni<? extends Map<Object, Object>> get() {
+                try {
+                    invocationContext.setParameters(parameters);
+                    Object result = invocationContext.proceed();
+                    Uni<?> uni = returnType == ReturnType.NonAsync ? Uni.createFrom().item(result)
+                            : asyncInvocationResultToUni(result, returnType);
+                    return uni.map(new Function<Object, Map<Object, Object>>() {
+                        @Override
+                        public Map<Object, Object> apply(Object values) {
+                            return values == null ? Map.of() : (Map<Object, Object>) values;
+                        }
+                    });
+                } catch (CacheException e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new CacheException(e);
+                }
+            }
+        });
+    }
+
 }
@@ -1,12 +1,24 @@
 package io.quarkus.cache.runtime.caffeine;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -15,16 +27,23 @@
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.github.benmanes.caffeine.cache.Policy;
 import com.github.benmanes.caffeine.cache.Policy.FixedExpiration;
+import com.github.benmanes.caffeine.cache.Weigher;
 import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
 import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ManagedContext;
 import io.quarkus.cache.CacheException;
 import io.quarkus.cache.CaffeineCache;
+import io.quarkus.cache.WeightedCacheValue;
 import io.quarkus.cache.runtime.AbstractCache;
 import io.quarkus.cache.runtime.NullValueConverter;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
@@ -39,26 +58,85 @@ public class CaffeineCacheImpl extends AbstractCache implements CaffeineCache {
 
     private static final Logger LOGGER = Logger.getLogger(CaffeineCacheImpl.class);
 
+    // Used as the retention time of the entries that never expire if the age of the entries is tracked
+    private static final long UNLIMITED_RETENTION_NANOS = Duration.ofDays(365L * 100L).toNanos();
+
     final AsyncCache<Object, Object> cache;
 
     private final CaffeineCacheInfo cacheInfo;
     private final StatsCounter statsCounter;
     private final boolean recordStats;
 
+    // The following fields are only used if refresh-after-write or stale-if-error is set, -1 stands for not set
+    private final Policy.VarExpiration<Object, Object> varExpiration;
+    private final long refreshNanos;
+    private final long lifetimeNanos;
+    private final long retentionNanos;
+    private final ConcurrentMap<Object, CompletableFuture<Object>> reloads;
+
     public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         this.cacheInfo = cacheInfo;
         Caffeine<Object, Object> builder = Caffeine.newBuilder();
         if (cacheInfo.initialCapacity != null) {
             builder.initialCapacity(cacheInfo.initialCapacity);
         }
-        if (cacheInfo.maximumSize != null) {
+        if (cacheInfo.maximumWeight != null) {
+            builder.maximumWeight(cacheInfo.maximumWeight).weigher(new Weigher<Object, Object>() {
+                @Override
+                public int weigh(Object key, Object value) {
+                    return value instanceof WeightedCacheValue weighted ? weighted.getWeight() : 1;
+                }
+            });
+        } else if (cacheInfo.maximumSize != null) {
             builder.maximumSize(cacheInfo.maximumSize);
         }
-        if (cacheInfo.expireAfterWrite != null) {
-            builder.expireAfterWrite(cacheInfo.expireAfterWrite);
-        }
-        if (cacheInfo.expireAfterAccess != null) {
-            builder.expireAfterAccess(cacheInfo.expireAfterAccess);
+        boolean trackAge = cacheInfo.refreshAfterWrite != null || cacheInfo.staleIfError != null;
+        if (trackAge) {
+            if (cacheInfo.expireAfterAccess != null) {
+                LOGGER.warnf("The expire-after-access value of cache [%s] is ignored because it cannot be combined " +
+                        "with refresh-after-write or stale-if-error", cacheInfo.name);
+            }
+            refreshNanos = cacheInfo.refreshAfterWrite != null ? cacheInfo.refreshAfterWrite.toNanos() : -1;
+            lifetimeNanos = cacheInfo.expireAfterWrite != null ? cacheInfo.expireAfterWrite.toNanos() : -1;
+            if (lifetimeNanos < 0) {
+                retentionNanos = UNLIMITED_RETENTION_NANOS;
+            } else if (cacheInfo.staleIfError != null) {
+                retentionNanos = lifetimeNanos + cacheInfo.staleIfError.toNanos();
+            } else {
+                retentionNanos = lifetimeNanos;
+            }
+            /*
+             * An expired entry is kept during the stale-if-error window. The age of an entry is derived from the remaining
+             * retention time, therefore the retention time is only set on create and update.
+             */
+            builder.expireAfter(new Expiry<Object, Object>() {
+                @Override
+                public long expireAfterCreate(Object key, Object value, long currentTime) {
+                    return retentionNanos;
+                }
+
+                @Override
+                public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+                    return retentionNanos;
+                }
+
+                @Override
+                public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            });
+            reloads = new ConcurrentHashMap<>();
+        } else {
+            if (cacheInfo.expireAfterWrite != null) {
+                builder.expireAfterWrite(cacheInfo.expireAfterWrite);
+            }
+            if (cacheInfo.expireAfterAccess != null) {
+                builder.expireAfterAccess(cacheInfo.expireAfterAccess);
+            }
+            refreshNanos = -1;
+            lifetimeNanos = -1;
+            retentionNanos = -1;
+            reloads = null;
         }
         this.recordStats = recordStats;
         if (recordStats) {
@@ -75,6 +153,7 @@ public StatsCounter get() {
             statsCounter = StatsCounter.disabledStatsCounter();
         }
         cache = builder.buildAsync();
+        varExpiration = trackAge ? cache.synchronous().policy().expireVariably().orElseThrow() : null;
     }
 
     @Override
@@ -108,8 +187,7 @@ public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
             public Uni<? extends V> apply(io.smallrye.mutiny.Context mutinyContext) {
                 // When stats are enabled we need to call statsCounter.recordHits(1)/statsCounter.recordMisses(1) accordingly
                 StatsRecorder recorder = recordStats ? new OperationalStatsRecorder() : NoopStatsRecorder.INSTANCE;
-                @SuppressWarnings("unchecked")
-                CompletionStage<V> result = (CompletionStage<V>) cache.asMap().computeIfAbsent(key,
+                CompletableFuture<Object> result = cache.asMap().computeIfAbsent(key,
                         new Function<Object, CompletableFuture<Object>>() {
                             @Override
                             @SuppressWarnings("unchecked")
@@ -121,53 +199,95 @@ public CompletableFuture<Object> apply(Object key) {
                             }
                         });
                 recorder.doRecord(key);
-                return Uni.createFrom().completionStage(result);
+                if (varExpiration != null) {
+                    result = refreshIfNeeded(key, result, new Function<Object, CompletableFuture<Object>>() {
+                        @Override
+                        @SuppressWarnings("unchecked")
+                        public CompletableFuture<Object> apply(Object key) {
+                            return valueLoader.apply((K) key)
+                                    .map(TO_CACHE_VALUE)
+                                    .subscribeAsCompletionStage(mutinyContext);
+                        }
+                    });
+                }
+                return Uni.createFrom().completionStage(cast(result));
             }
         })
                 .map(fromCacheValue())
-                .emitOn(new Executor() {
-                    // We need make sure we go back to the original context when the cache value is computed.
-                    // Otherwise, we would always emit on the context having computed the value, which could
-                    // break the duplicated context isolation.
-                    @Override
-                    public void execute(Runnable command) {
-                        Context ctx = Vertx.currentContext();
-                        if (context == null) {
-                            // We didn't capture a context
-                            if (ctx == null) {
-                                // We are not on a context => we can execute immediately.
-                                command.run();
-                            } else {
-                                // We are on a context.
-                                // We cannot continue on the current context as we may share a duplicated context.
-                                // We need a new one. Note that duplicate() does not duplicate the duplicated context,
-                                // but the root context.
-                                ((ContextInternal) ctx).duplicate()
-                                        .runOnContext(new Handler<Void>() {
-                                            @Override
-                                            public void handle(Void ignored) {
-                                                command.run();
-                                            }
-                                        });
+                .emitOn(originalContextExecutor(context));
+    }
+
+    @Override
+    public Uni<Map<Object, Object>> getAll(Collection<?> keys,
+            Function<Set<Object>, Uni<Map<Object, Object>>> valuesLoader) {
+        for (Object key : keys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        Context context = Vertx.currentContext();
+        return Uni.createFrom().context(new Function<io.smallrye.mutiny.Context, Uni<? extends Map<Object, Object>>>() {
+            @Override
+            public Uni<? extends Map<Object, Object>> apply(io.smallrye.mutiny.Context mutinyContext) {
+                // The missing keys are locked until the values are loaded, concurrent lookups of these keys wait for the result
+                CompletableFuture<Map<Object, Object>> result = cache.getAll(keys,
+                        new BiFunction<Set<?>, Executor, CompletableFuture<Map<Object, Object>>>() {
+                            @Override
+                            public CompletableFuture<Map<Object, Object>> apply(Set<?> missingKeys, Executor executor) {
+                                return valuesLoader.apply(new LinkedHashSet<>(missingKeys))
+                                        .map(TO_CACHE_VALUES)
+                                        .subscribeAsCompletionStage(mutinyContext);
                             }
-                        } else {
-                            // We captured a context.
-                            if (ctx == context) {
-                                // We are on the same context => we can execute immediately
-                                command.run();
-                            } else {
-                                // 1) We are not on a context (ctx == null) => we need to switch to the captured context.
-                                // 2) We are on a different context (ctx != null) => we need to switch to the captured context.
-                                context.runOnContext(new Handler<Void>() {
+                        });
+                return Uni.createFrom().completionStage(result);
+            }
+        })
+                .map(FROM_CACHE_VALUES)
+                .emitOn(originalContextExecutor(context));
+    }
+
+    private static Executor originalContextExecutor(Context context) {
+        return new Executor() {
+            // We need make sure we go back to the original context when the cache value is computed.
+            // Otherwise, we would always emit on the context having computed the value, which could
+            // break the duplicated context isolation.
+            @Override
+            public void execute(Runnable command) {
+                Context ctx = Vertx.currentContext();
+                if (context == null) {
+                    // We didn't capture a context
+                    if (ctx == null) {
+                        // We are not on a context => we can execute immediately.
+                        command.run();
+                    } else {
+                        // We are on a context.
+                        // We cannot continue on the current context as we may share a duplicated context.
+                        // We need a new one. Note that duplicate() does not duplicate the duplicated context,
+                        // but the root context.
+                        ((ContextInternal) ctx).duplicate()
+                                .runOnContext(new Handler<Void>() {
                                     @Override
                                     public void handle(Void ignored) {
                                         command.run();
                                     }
                                 });
+                    }
+                } else {
+                    // We captured a context.
+                    if (ctx == context) {
+                        // We are on the same context => we can execute immediately
+                        command.run();
+                    } else {
+                        // 1) We are not on a context (ctx == null) => we need to switch to the captured context.
+                        // 2) We are on a different context (ctx != null) => we need to switch to the captured context.
+                        context.runOnContext(new Handler<Void>() {
+                            @Override
+                            public void handle(Void ignored) {
+                                command.run();
                             }
-                        }
+                        });
                     }
-                });
+                }
+            }
+        };
     }
 
     @Override
@@ -223,10 +343,143 @@ private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> v
         } else {
             LOGGER.tracef("Key [%s] found in cache [%s]", key, cacheInfo.name);
             statsCounter.recordHits(1);
+            if (varExpiration != null) {
+                Context context = Vertx.currentContext();
+                Function<Object, CompletableFuture<Object>> reloader = new Function<>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public CompletableFuture<Object> apply(Object key) {
+                        return reloadInBackground((K) key, valueLoader, context);
+                    }
+                };
+                existingCacheValue = refreshIfNeeded(key, existingCacheValue, reloader);
+            }
             return unwrapCacheValueOrThrowable(existingCacheValue);
         }
     }
 
+    /**
+     * The value loader may block, so it is not executed on the thread that triggered the reload. It runs on a worker
+     * thread, on the Vert.x context captured when the reload was triggered if any. Since the reload outlives the
+     * invocation that triggered it, the value loader runs with a new request context unless one is already active.
+     *
+     * @param key cache key
+     * @param valueLoader function used to compute the cache value
+     * @param context the Vert.x context captured when the reload was triggered, may be {@code null}
+     * @return a {@link CompletableFuture} holding the reloaded cache value
+     */
+    private <K, V> CompletableFuture<Object> reloadInBackground(K key, Function<K, V> valueLoader, Context context) {
+        Callable<Object> load = new Callable<Object>() {
+            @Override
+            public Object call() {
+                ArcContainer container = Arc.container();
+                ManagedContext requestContext = container != null ? container.requestContext() : null;
+                boolean activated = requestContext != null && !requestContext.isActive();
+                if (activated) {
+                    requestContext.activate();
+                }
+                try {
+                    return NullValueConverter.toCacheValue(valueLoader.apply(key));
+                } finally {
+                    if (activated) {
+                        requestContext.terminate();
+                    }
+                }
+            }
+        };
+        if (context != null) {
+            return context.executeBlocking(load, false).toCompletionStage().toCompletableFuture();
+        }
+        return CompletableFuture.supplyAsync(new Supplier<Object>() {
+            @Override
+            public Object get() {
+                try {
+                    return load.call();
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new CacheException(e);
+                }
+            }
+        }, Infrastructure.getDefaultWorkerPool());
+    }
+
+    /**
+     * Returns the cache value that should be used for an entry found in the cache.
+     * <p>
+     * If the entry is due for a refresh then a reload is started and the current cache value is returned. If the entry expired
+     * and is only retained because of the stale-if-error window then the reloaded cache value is returned, or the current one
+     * if the reload fails.
+     *
+     * @param key cache key
+     * @param cacheValue the current cache value
+     * @param reloader function used to start the reload
+     * @return the cache value to use
+     */
+    private CompletableFuture<Object> refreshIfNeeded(Object key, CompletableFuture<Object> cacheValue,
+            Function<Object, CompletableFuture<Object>> reloader) {
+        if (!cacheValue.isDone() || cacheValue.isCompletedExceptionally()) {
+            return cacheValue;
+        }
+        OptionalLong remaining = varExpiration.getExpiresAfter(key, TimeUnit.NANOSECONDS);
+        if (remaining.isEmpty()) {
+            return cacheValue;
+        }
+        long age = retentionNanos - remaining.getAsLong();
+        boolean expired = lifetimeNanos >= 0 && age >= lifetimeNanos;
+        if (!expired && (refreshNanos < 0 || age < refreshNanos)) {
+            return cacheValue;
+        }
+        CompletableFuture<Object> reload = reload(key, cacheValue, reloader);
+        if (!expired) {
+            return cacheValue;
+        }
+        return reload.handle(new BiFunction<Object, Throwable, Object>() {
+            @Override
+            public Object apply(Object value, Throwable failure) {
+                if (failure == null) {
+                    return value;
+                }
+                LOGGER.debugf("Returning the expired value of key [%s] in cache [%s]", key, cacheInfo.name);
+                return cacheValue.join();
+            }
+        });
+    }
+
+    private CompletableFuture<Object> reload(Object key, CompletableFuture<Object> cacheValue,
+            Function<Object, CompletableFuture<Object>> reloader) {
+        CompletableFuture<Object> reload = new CompletableFuture<>();
+        CompletableFuture<Object> pendingReload = reloads.putIfAbsent(key, reload);
+        if (pendingReload != null) {
+            return pendingReload;
+        }
+        LOGGER.tracef("Reloading key [%s] in cache [%s]", key, cacheInfo.name);
+        CompletableFuture<Object> loaded;
+        try {
+            loaded = reloader.apply(key);
+        } catch (Throwable t) {
+            loaded = CompletableFuture.failedFuture(t);
+        }
+        loaded.whenComplete(new BiConsumer<Object, Throwable>() {
+            @Override
+            public void accept(Object value, Throwable failure) {
+                if (failure == null) {
+                    // The value is not stored if the entry was invalidated or replaced in the meantime
+                    cache.asMap().replace(key, cacheValue, CompletableFuture.completedFuture(value));
+                } else {
+                    LOGGER.warnf(failure, "Unable to reload key [%s] in cache [%s]", key, cacheInfo.name);
+                }
+                reloads.remove(key, reload);
+                if (failure == null) {
+                    reload.complete(value);
+                } else {
+                    reload.completeExceptionally(failure);
+                }
+            }
+        });
+        return reload;
+    }
+
     private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue) {
         return cacheValue.thenApply(new Function<>() {
             @Override
@@ -318,7 +571,7 @@ public void setExpireAfterAccess(Duration duration) {
     @Override
     public void setMaximumSize(long maximumSize) {
         Optional<Policy.Eviction<Object, Object>> eviction = cache.synchronous().policy().eviction();
-        if (eviction.isPresent()) {
+        if (eviction.isPresent() && !eviction.get().isWeighted()) {
             eviction.get().setMaximum(maximumSize);
             cacheInfo.maximumSize = maximumSize;
         } else {
@@ -404,6 +657,40 @@ public Object apply(Object value) {
         }
     };
 
+    private static final Function<Map<Object, Object>, Map<Object, Object>> FROM_CACHE_VALUES = new Function<>() {
+
+        @Override
+        public Map<Object, Object> apply(Map<Object, Object> values) {
+            Map<Object, Object> result = new LinkedHashMap<>(values.size());
+            for (Map.Entry<Object, Object> entry : values.entrySet()) {
+                Object value = entry.getValue();
+                // A value computed by a concurrent synchronous lookup may have failed
+                if (value instanceof CaffeineComputationThrowable) {
+                    Throwable cause = ((CaffeineComputationThrowable) value).getCause();
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    } else {
+                        throw new CacheException(cause);
+                    }
+                }
+                result.put(entry.getKey(), NullValueConverter.fromCacheValue(value));
+            }
+            return result;
+        }
+    };
+
+    private static final Function<Map<Object, Object>, Map<Object, Object>> TO_CACHE_VALUES = new Function<>() {
+
+        @Override
+        public Map<Object, Object> apply(Map<Object, Object> values) {
+            Map<Object, Object> result = new HashMap<>(values.size());
+            for (Map.Entry<Object, Object> entry : values.entrySet()) {
+                result.put(entry.getKey(), NullValueConverter.toCacheValue(entry.getValue()));
+            }
+            return result;
+        }
+    };
+
     private static final Function<Object, Object> TO_CACHE_VALUE = new Function<Object, Object>() {
 
         @Override
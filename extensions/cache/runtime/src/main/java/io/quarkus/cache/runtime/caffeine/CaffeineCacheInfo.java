@@ -11,10 +11,16 @@ public class CaffeineCacheInfo {
 
     public Long maximumSize;
 
+    public Long maximumWeight;
+
     public Duration expireAfterWrite;
 
     public Duration expireAfterAccess;
 
+    public Duration refreshAfterWrite;
+
+    public Duration staleIfError;
+
     public boolean metricsEnabled;
 
     @Override
@@ -6,6 +6,7 @@
 import java.util.Set;
 
 import io.quarkus.cache.runtime.CacheConfig;
+import io.quarkus.runtime.configuration.ConfigurationException;
 import io.quarkus.runtime.configuration.HashSetFactory;
 
 public class CaffeineCacheInfoBuilder {
@@ -30,10 +31,20 @@ public static Set<CaffeineCacheInfo> build(Set<String> cacheNames, CacheConfig c
                     cacheInfo.initialCapacity = defaultConfig.initialCapacity().getAsInt();
                 }
 
-                if (namedCacheConfig != null && namedCacheConfig.maximumSize().isPresent()) {
-                    cacheInfo.maximumSize = namedCacheConfig.maximumSize().getAsLong();
-                } else if (defaultConfig.maximumSize().isPresent()) {
-                    cacheInfo.maximumSize = defaultConfig.maximumSize().getAsLong();
+                // The bounds of a specific cache replace both bounds of the default configuration
+                CaffeineCacheConfig boundsConfig = namedCacheConfig != null
+                        && (namedCacheConfig.maximumSize().isPresent() || namedCacheConfig.maximumWeight().isPresent())
+                                ? namedCacheConfig
+                                : defaultConfig;
+                if (boundsConfig.maximumSize().isPresent() && boundsConfig.maximumWeight().isPresent()) {
+                    throw new ConfigurationException("The maximum-size and maximum-weight of the Caffeine cache ["
+                            + cacheName + "] cannot be combined, only one of them can be set");
+                }
+                if (boundsConfig.maximumSize().isPresent()) {
+                    cacheInfo.maximumSize = boundsConfig.maximumSize().getAsLong();
+                }
+                if (boundsConfig.maximumWeight().isPresent()) {
+                    cacheInfo.maximumWeight = boundsConfig.maximumWeight().getAsLong();
                 }
 
                 if (namedCacheConfig != null && namedCacheConfig.expireAfterWrite().isPresent()) {
@@ -48,6 +59,18 @@ public static Set<CaffeineCacheInfo> build(Set<String> cacheNames, CacheConfig c
                     cacheInfo.expireAfterAccess = defaultConfig.expireAfterAccess().get();
                 }
 
+                if (namedCacheConfig != null && namedCacheConfig.refreshAfterWrite().isPresent()) {
+                    cacheInfo.refreshAfterWrite = namedCacheConfig.refreshAfterWrite().get();
+                } else if (defaultConfig.refreshAfterWrite().isPresent()) {
+                    cacheInfo.refreshAfterWrite = defaultConfig.refreshAfterWrite().get();
+                }
+
+                if (namedCacheConfig != null && namedCacheConfig.staleIfError().isPresent()) {
+                    cacheInfo.staleIfError = namedCacheConfig.staleIfError().get();
+                } else if (defaultConfig.staleIfError().isPresent()) {
+                    cacheInfo.staleIfError = defaultConfig.staleIfError().get();
+                }
+
                 if (namedCacheConfig != null && namedCacheConfig.metricsEnabled().isPresent()) {
                     cacheInfo.metricsEnabled = namedCacheConfig.metricsEnabled().get();
                 } else if (defaultConfig.metricsEnabled().isPresent()) {
@@ -0,0 +1,87 @@
+package io.quarkus.load.shedding;
+
+import static io.restassured.RestAssured.when;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.load.shedding.runtime.OverloadDetector;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class CustomLimitAlgorithmTest {
+    private static final int NUM_THREADS = 10;
+    private static final int NUM_REQUESTS = 10;
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot(jar -> jar.addClasses(MyResource.class, FixedLimit.class))
+            .overrideConfigKey("quarkus.load-shedding.algorithm", "aimd")
+            .overrideConfigKey("quarkus.load-shedding.priority.enabled", "false");
+
+    @Inject
+    OverloadDetector detector;
+
+    @Test
+    public void test() throws InterruptedException {
+        assertThat(detector.getCurrentLimit()).isEqualTo(2);
+
+        AtomicInteger numErrors = new AtomicInteger();
+        CountDownLatch begin = new CountDownLatch(1);
+        CountDownLatch end = new CountDownLatch(NUM_THREADS);
+        for (int i = 0; i < NUM_THREADS; i++) {
+            new Thread(() -> {
+                try {
+                    begin.await();
+                    for (int j = 0; j < NUM_REQUESTS; j++) {
+                        int statusCode = when().get("/").then().extract().statusCode();
+                        if (statusCode == 503) {
+                            numErrors.incrementAndGet();
+                        }
+                    }
+                    end.countDown();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }).start();
+        }
+
+        begin.countDown();
+        end.await();
+
+        // the custom algorithm takes precedence over the configured one and never changes the limit
+        assertThat(numErrors).hasValueGreaterThanOrEqualTo(50);
+        assertThat(detector.getCurrentLimit()).isEqualTo(2);
+        assertThat(detector.getCurrentRequests()).isZero();
+    }
+
+    @Singleton
+    public static class FixedLimit implements LimitAlgorithm {
+        @Override
+        public long initialLimit() {
+            return 2;
+        }
+
+        @Override
+        public long update(int samples, long lowestRequestTime, long requestTime, int currentRequests) {
+            return 2;
+        }
+    }
+
+    @Path("/")
+    public static class MyResource {
+        @GET
+        public String hello() throws InterruptedException {
+            Thread.sleep(100);
+            return "Hello, world!";
+        }
+    }
+}
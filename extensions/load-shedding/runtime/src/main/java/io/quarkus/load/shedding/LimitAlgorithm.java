@@ -0,0 +1,34 @@
+package io.quarkus.load.shedding;
+
+/**
+ * An adaptive concurrency limit algorithm. The overload detector signals an overload situation when the number
+ * of concurrent in-flight requests reaches the limit computed by this algorithm.
+ * <p>
+ * The built-in algorithms (TCP Vegas, Gradient2 and AIMD) are selected using the {@code quarkus.load-shedding.algorithm}
+ * configuration property. A custom implementation must be a CDI bean, otherwise it is ignored. If present, a custom
+ * implementation takes precedence over the built-in algorithms. CDI typesafe resolution rules must be followed. That is,
+ * if multiple implementations are provided with different {@link jakarta.annotation.Priority} values, only
+ * the implementation with the highest priority is retained.
+ * <p>
+ * The overload detector never calls {@link #update(int, long, long, int)} concurrently, so implementations
+ * do not need to be thread-safe.
+ */
+public interface LimitAlgorithm {
+    /**
+     * Returns the initial limit of concurrent requests.
+     *
+     * @return the initial limit of concurrent requests
+     */
+    long initialLimit();
+
+    /**
+     * Computes a new limit of concurrent requests based on one or more request samples.
+     *
+     * @param samples the number of samples, always positive
+     * @param lowestRequestTime the lowest request time of all samples, in microseconds
+     * @param requestTime the request time of all samples (the average if {@code samples > 1}), in microseconds
+     * @param currentRequests the (highest) number of concurrent requests observed when the requests ended
+     * @return the new limit of concurrent requests
+     */
+    long update(int samples, long lowestRequestTime, long requestTime, int currentRequests);
+}
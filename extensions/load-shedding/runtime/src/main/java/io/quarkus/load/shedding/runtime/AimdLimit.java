@@ -0,0 +1,52 @@
+package io.quarkus.load.shedding.runtime;
+
+import io.quarkus.load.shedding.LimitAlgorithm;
+
+/**
+ * The additive increase/multiplicative decrease concurrency limit algorithm, as implemented by
+ * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * <p>
+ * The limit is increased by one if the request time is below the configured timeout and the limit is being used,
+ * and multiplied by the backoff ratio otherwise.
+ * <p>
+ * This class is not thread-safe, the caller is responsible for serializing the calls of {@link #update(int, long, long, int)}.
+ */
+final class AimdLimit implements LimitAlgorithm {
+    private final int maxLimit;
+    private final int initialLimit;
+    private final double backoffRatio;
+    private final long timeout;
+
+    private long currentLimit;
+
+    AimdLimit(LoadSheddingRuntimeConfig config) {
+        LoadSheddingRuntimeConfig.Aimd aimd = config.aimd();
+        maxLimit = config.maxLimit();
+        initialLimit = config.initialLimit();
+        backoffRatio = aimd.backoffRatio();
+        timeout = aimd.timeout().toNanos() / 1_000;
+        currentLimit = initialLimit;
+    }
+
+    @Override
+    public long initialLimit() {
+        return initialLimit;
+    }
+
+    @Override
+    public long update(int samples, long lowestRequestTime, long requestTime, int currentRequests) {
+        long currentLimit = this.currentLimit;
+        long newLimit;
+        if (requestTime > timeout) {
+            newLimit = (long) (currentLimit * backoffRatio);
+        } else if (2L * currentRequests >= currentLimit) {
+            newLimit = currentLimit + 1;
+        } else {
+            return currentLimit;
+        }
+
+        newLimit = Math.max(1, Math.min(maxLimit, newLimit));
+        this.currentLimit = newLimit;
+        return newLimit;
+    }
+}
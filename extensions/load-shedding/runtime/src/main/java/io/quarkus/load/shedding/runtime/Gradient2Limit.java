@@ -0,0 +1,79 @@
+package io.quarkus.load.shedding.runtime;
+
+import io.quarkus.load.shedding.LimitAlgorithm;
+
+/**
+ * The Gradient2 concurrency limit algorithm, as implemented by
+ * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * <p>
+ * The limit is adjusted based on the gradient between a long-term exponentially smoothed average request time
+ * and the current request time. Compared to TCP Vegas, this algorithm is more tolerant to bursty latencies.
+ * <p>
+ * This class is not thread-safe, the caller is responsible for serializing the calls of {@link #update(int, long, long, int)}.
+ */
+final class Gradient2Limit implements LimitAlgorithm {
+    private static final int WARMUP_WINDOW = 10;
+
+    private final int maxLimit;
+    private final int initialLimit;
+    private final double smoothing;
+    private final double rttTolerance;
+    private final int queueSize;
+    private final double longRttFactor;
+
+    private double estimatedLimit;
+
+    // exponential moving average of the request time
+    private double longRtt;
+    private int longRttCount;
+
+    Gradient2Limit(LoadSheddingRuntimeConfig config) {
+        LoadSheddingRuntimeConfig.Gradient2 gradient2 = config.gradient2();
+        maxLimit = config.maxLimit();
+        initialLimit = config.initialLimit();
+        smoothing = gradient2.smoothing();
+        rttTolerance = gradient2.rttTolerance();
+        queueSize = gradient2.queueSize();
+        longRttFactor = 2.0 / (gradient2.longWindow() + 1);
+        estimatedLimit = initialLimit;
+    }
+
+    @Override
+    public long initialLimit() {
+        return initialLimit;
+    }
+
+    @Override
+    public long update(int samples, long lowestRequestTime, long requestTime, int currentRequests) {
+        double shortRtt = Math.max(1, requestTime);
+        updateLongRtt(shortRtt);
+
+        // if the long request time is substantially larger than the short one then reduce it,
+        // so that the limit can recover faster after a period of high latency
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        // don't grow the limit if the application is not using it
+        if (currentRequests < estimatedLimit / 2) {
+            return (long) estimatedLimit;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRtt / shortRtt));
+        double newLimit = estimatedLimit * gradient + queueSize;
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        newLimit = Math.max(1, Math.min(maxLimit, newLimit));
+        estimatedLimit = newLimit;
+        return (long) newLimit;
+    }
+
+    private void updateLongRtt(double rtt) {
+        if (longRttCount < WARMUP_WINDOW) {
+            // simple average during warmup
+            longRttCount++;
+            longRtt = longRtt + (rtt - longRtt) / longRttCount;
+        } else {
+            longRtt = longRtt * (1 - longRttFactor) + rtt * longRttFactor;
+        }
+    }
+}
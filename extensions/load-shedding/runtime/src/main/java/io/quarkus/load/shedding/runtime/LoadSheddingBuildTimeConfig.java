@@ -0,0 +1,19 @@
+package io.quarkus.load.shedding.runtime;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import io.smallrye.config.WithName;
+
+@ConfigMapping(prefix = "quarkus.load-shedding")
+@ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+public interface LoadSheddingBuildTimeConfig {
+    /**
+     * Whether the current limit of concurrent requests and the current number of in-flight requests
+     * are published as metrics, if a metrics extension is present.
+     */
+    @WithName("metrics.enabled")
+    @WithDefault("false")
+    boolean metricsEnabled();
+}
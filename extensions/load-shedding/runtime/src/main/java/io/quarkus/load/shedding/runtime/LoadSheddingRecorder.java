@@ -0,0 +1,25 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.function.Consumer;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+@Recorder
+public class LoadSheddingRecorder {
+    public Consumer<MetricsFactory> registerMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                OverloadDetector detector = Arc.container().instance(OverloadDetector.class).get();
+                metricsFactory.builder("load.shedding.limit")
+                        .description("Current limit of concurrent requests.")
+                        .buildGauge(detector::getCurrentLimit);
+                metricsFactory.builder("load.shedding.inflight")
+                        .description("Current number of concurrent in-flight requests.")
+                        .buildGauge(detector::getCurrentRequests);
+            }
+        };
+    }
+}
@@ -1,5 +1,8 @@
 package io.quarkus.load.shedding.runtime;
 
+import java.time.Duration;
+import java.util.Optional;
+
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -16,6 +19,14 @@ public interface LoadSheddingRuntimeConfig {
     @WithDefault("true")
     boolean enabled();
 
+    /**
+     * The algorithm used to compute the limit of concurrent requests.
+     * <p>
+     * This value is ignored if a custom {@link io.quarkus.load.shedding.LimitAlgorithm} bean is present.
+     */
+    @WithDefault("vegas")
+    Algorithm algorithm();
+
     /**
      * The maximum number of concurrent requests allowed.
      */
@@ -46,6 +57,26 @@ public interface LoadSheddingRuntimeConfig {
     @WithDefault("100")
     int initialLimit();
 
+    /**
+     * The duration of the sampling window of the overload detector.
+     * <p>
+     * By default, the limit of concurrent requests is updated after each request, which requires synchronization
+     * of all request threads. If set, the request samples are recorded in per-thread stripes, each guarded by its own
+     * lock, and the limit is updated once per window, based on the lowest and average request time observed in the
+     * window. This reduces contention on machines with many cores and high request rates.
+     */
+    Optional<Duration> samplingWindow();
+
+    /**
+     * Configuration of the Gradient2 overload detection algorithm.
+     */
+    Gradient2 gradient2();
+
+    /**
+     * Configuration of the AIMD overload detection algorithm.
+     */
+    Aimd aimd();
+
     /**
      * Configuration of priority load shedding.
      */
@@ -59,4 +90,63 @@ interface PriorityLoadShedding {
         @WithDefault("true")
         boolean enabled();
     }
+
+    enum Algorithm {
+        /**
+         * TCP Vegas, configured using the {@code alpha-factor}, {@code beta-factor} and {@code probe-factor} properties.
+         */
+        VEGAS,
+        /**
+         * Gradient2, configured using the {@code gradient2.*} properties.
+         */
+        GRADIENT2,
+        /**
+         * Additive increase/multiplicative decrease, configured using the {@code aimd.*} properties.
+         */
+        AIMD,
+    }
+
+    @ConfigGroup
+    interface Gradient2 {
+        /**
+         * The smoothing factor applied when the limit is updated, between 0 and 1.
+         * Lower values make the limit change more slowly.
+         */
+        @WithDefault("0.2")
+        double smoothing();
+
+        /**
+         * How much the current request time may exceed the long-term average request time
+         * before the limit is decreased.
+         */
+        @WithDefault("1.5")
+        double rttTolerance();
+
+        /**
+         * The number of samples over which the long-term average request time is computed.
+         */
+        @WithDefault("600")
+        int longWindow();
+
+        /**
+         * The number of queued requests allowed on top of the limit when the limit is updated.
+         */
+        @WithDefault("4")
+        int queueSize();
+    }
+
+    @ConfigGroup
+    interface Aimd {
+        /**
+         * The ratio by which the limit is multiplied when the request time exceeds the timeout, between 0 and 1.
+         */
+        @WithDefault("0.9")
+        double backoffRatio();
+
+        /**
+         * The request time above which the limit is decreased.
+         */
+        @WithDefault("5s")
+        Duration timeout();
+    }
 }
@@ -1,46 +1,70 @@
 package io.quarkus.load.shedding.runtime;
 
-import java.util.concurrent.ThreadLocalRandom;
+import java.time.Duration;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
+import io.quarkus.load.shedding.LimitAlgorithm;
+
 /**
- * An overload detector based on TCP Vegas, as implemented by
+ * An overload detector based on an adaptive concurrency {@linkplain LimitAlgorithm limit algorithm}.
+ * By default, TCP Vegas is used, as implemented by
  * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * <p>
+ * By default, the limit is updated after each request. If a sampling window is configured, request samples
+ * are recorded in per-thread stripes, each guarded by its own lock, and the limit is updated once per window.
  */
 @Singleton
 public class OverloadDetector {
-    private static final int[] LOG10_PLUS_1_TABLE = new int[1_000];
-
-    static {
-        LOG10_PLUS_1_TABLE[0] = 1;
-        for (int i = 1; i < 1_000; i++) {
-            LOG10_PLUS_1_TABLE[i] = 1 + (int) Math.log10(i);
-        }
-    }
-
-    private final int maxLimit;
-    private final int alphaFactor;
-    private final int betaFactor;
-    private final double probeFactor;
-
     private final AtomicInteger currentRequests = new AtomicInteger();
     private volatile long currentLimit;
 
-    private long lowestRequestTime = Long.MAX_VALUE;
-    private double probeCount = 0.0;
-    private double probeJitter;
+    private final LimitAlgorithm limit;
+    private final StripedSampler sampler;
 
     @Inject
+    public OverloadDetector(LoadSheddingRuntimeConfig config, Instance<LimitAlgorithm> customLimit) {
+        this(config, customLimit.isResolvable() ? customLimit.get() : null);
+    }
+
     public OverloadDetector(LoadSheddingRuntimeConfig config) {
-        maxLimit = config.maxLimit();
-        alphaFactor = config.alphaFactor();
-        betaFactor = config.betaFactor();
-        probeFactor = config.probeFactor();
-        currentLimit = config.initialLimit();
-        resetProbeJitter();
+        this(config, (LimitAlgorithm) null);
+    }
+
+    OverloadDetector(LoadSheddingRuntimeConfig config, LimitAlgorithm customLimit) {
+        if (customLimit != null) {
+            limit = customLimit;
+        } else {
+            limit = switch (config.algorithm()) {
+                case VEGAS -> new VegasLimit(config);
+                case GRADIENT2 -> new Gradient2Limit(config);
+                case AIMD -> new AimdLimit(config);
+            };
+        }
+        currentLimit = limit.initialLimit();
+        if (config.samplingWindow().isPresent()) {
+            Duration window = config.samplingWindow().get();
+            sampler = new StripedSampler(window.toNanos(), this::updateWindow);
+        } else {
+            sampler = null;
+        }
+    }
+
+    /**
+     * @return the current limit of concurrent requests
+     */
+    public long getCurrentLimit() {
+        return currentLimit;
+    }
+
+    /**
+     * @return the current number of concurrent in-flight requests
+     */
+    public int getCurrentRequests() {
+        return currentRequests.get();
     }
 
     public boolean isOverloaded() {
@@ -54,56 +78,19 @@ public void requestBegin() {
     public void requestEnd(long timeInMicros) {
         int current = currentRequests.getAndDecrement();
 
-        update(timeInMicros, current);
-    }
-
-    private synchronized void update(long requestTime, int currentRequests) {
-        probeCount++;
-        if (probeFactor * probeJitter * currentLimit <= probeCount) {
-            resetProbeJitter();
-            probeCount = 0.0;
-            lowestRequestTime = requestTime;
-            return;
-        }
-
-        if (requestTime < lowestRequestTime) {
-            lowestRequestTime = requestTime;
-            return;
-        }
-
-        long currentLimit = this.currentLimit;
-
-        if (2L * currentRequests < currentLimit) {
-            return;
-        }
-
-        int queueSize = (int) Math.ceil(currentLimit * (1.0 - (double) lowestRequestTime / (double) requestTime));
-
-        int currentLimitLog10Plus1;
-        if (currentLimit >= 0 && currentLimit < 1_000) {
-            currentLimitLog10Plus1 = LOG10_PLUS_1_TABLE[(int) currentLimit];
+        if (sampler != null) {
+            sampler.record(timeInMicros, current);
         } else {
-            currentLimitLog10Plus1 = 1 + (int) Math.log10(currentLimit);
-        }
-        int alpha = alphaFactor * currentLimitLog10Plus1;
-        int beta = betaFactor * currentLimitLog10Plus1;
-
-        long newLimit;
-        if (queueSize <= currentLimitLog10Plus1) {
-            newLimit = currentLimit + beta;
-        } else if (queueSize < alpha) {
-            newLimit = currentLimit + currentLimitLog10Plus1;
-        } else if (queueSize > beta) {
-            newLimit = currentLimit - currentLimitLog10Plus1;
-        } else {
-            return;
+            update(timeInMicros, current);
         }
+    }
 
-        newLimit = Math.max(1, Math.min(maxLimit, newLimit));
-        this.currentLimit = newLimit;
+    private synchronized void update(long requestTime, int currentRequests) {
+        currentLimit = limit.update(1, requestTime, requestTime, currentRequests);
     }
 
-    private void resetProbeJitter() {
-        probeJitter = ThreadLocalRandom.current().nextDouble(0.5, 1);
+    // never called concurrently
+    private void updateWindow(int samples, long lowestRequestTime, long averageRequestTime, int maxRequests) {
+        currentLimit = limit.update(samples, lowestRequestTime, averageRequestTime, maxRequests);
     }
 }
@@ -0,0 +1,101 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Records request samples in per-thread stripes. Each stripe is guarded by its own monitor, which is uncontended unless
+ * several threads map to the same stripe or the stripe is being aggregated. Once the sampling window elapses, the thread
+ * that records a sample aggregates all stripes and passes the result to the {@link WindowConsumer}.
+ * <p>
+ * The {@link WindowConsumer} is never invoked concurrently.
+ */
+final class StripedSampler {
+
+    private final Stripe[] stripes;
+    private final int mask;
+    private final long windowNanos;
+    private final WindowConsumer consumer;
+
+    private final AtomicBoolean aggregating = new AtomicBoolean();
+    private volatile long windowEnd;
+
+    StripedSampler(long windowNanos, WindowConsumer consumer) {
+        int size = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)) << 1;
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.mask = size - 1;
+        this.windowNanos = windowNanos;
+        this.consumer = consumer;
+        this.windowEnd = System.nanoTime() + windowNanos;
+    }
+
+    void record(long requestTime, int currentRequests) {
+        // event loop threads are long-lived and their ids are sequential
+        stripes[(int) Thread.currentThread().getId() & mask].add(requestTime, currentRequests);
+
+        long now = System.nanoTime();
+        if (now - windowEnd >= 0 && aggregating.compareAndSet(false, true)) {
+            try {
+                windowEnd = now + windowNanos;
+                aggregate();
+            } finally {
+                aggregating.set(false);
+            }
+        }
+    }
+
+    private void aggregate() {
+        int samples = 0;
+        long totalRequestTime = 0;
+        long lowestRequestTime = Long.MAX_VALUE;
+        int maxRequests = 0;
+        for (Stripe stripe : stripes) {
+            // the counters of a stripe are read and reset atomically so that a sample is never split across windows
+            synchronized (stripe) {
+                if (stripe.count == 0) {
+                    continue;
+                }
+                samples += stripe.count;
+                totalRequestTime += stripe.totalRequestTime;
+                lowestRequestTime = Math.min(lowestRequestTime, stripe.lowestRequestTime);
+                maxRequests = Math.max(maxRequests, stripe.maxRequests);
+                stripe.reset();
+            }
+        }
+        if (samples > 0) {
+            consumer.accept(samples, lowestRequestTime, totalRequestTime / samples, maxRequests);
+        }
+    }
+
+    interface WindowConsumer {
+
+        void accept(int samples, long lowestRequestTime, long averageRequestTime, int maxRequests);
+
+    }
+
+    // the counters are guarded by the monitor of the stripe
+    static final class Stripe {
+
+        int count;
+        long totalRequestTime;
+        long lowestRequestTime = Long.MAX_VALUE;
+        int maxRequests;
+
+        synchronized void add(long requestTime, int currentRequests) {
+            count++;
+            totalRequestTime += requestTime;
+            lowestRequestTime = Math.min(lowestRequestTime, requestTime);
+            maxRequests = Math.max(maxRequests, currentRequests);
+        }
+
+        void reset() {
+            count = 0;
+            totalRequestTime = 0;
+            lowestRequestTime = Long.MAX_VALUE;
+            maxRequests = 0;
+        }
+
+    }
+}
@@ -0,0 +1,101 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import io.quarkus.load.shedding.LimitAlgorithm;
+
+/**
+ * The TCP Vegas concurrency limit algorithm, as implemented by
+ * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * <p>
+ * This class is not thread-safe, the caller is responsible for serializing the calls of {@link #update(int, long, long, int)}.
+ */
+final class VegasLimit implements LimitAlgorithm {
+    private static final int[] LOG10_PLUS_1_TABLE = new int[1_000];
+
+    static {
+        LOG10_PLUS_1_TABLE[0] = 1;
+        for (int i = 1; i < 1_000; i++) {
+            LOG10_PLUS_1_TABLE[i] = 1 + (int) Math.log10(i);
+        }
+    }
+
+    private final int maxLimit;
+    private final int alphaFactor;
+    private final int betaFactor;
+    private final double probeFactor;
+    private final int initialLimit;
+
+    private long currentLimit;
+
+    private long lowestRequestTime = Long.MAX_VALUE;
+    private double probeCount = 0.0;
+    private double probeJitter;
+
+    VegasLimit(LoadSheddingRuntimeConfig config) {
+        maxLimit = config.maxLimit();
+        alphaFactor = config.alphaFactor();
+        betaFactor = config.betaFactor();
+        probeFactor = config.probeFactor();
+        initialLimit = config.initialLimit();
+        currentLimit = initialLimit;
+        resetProbeJitter();
+    }
+
+    @Override
+    public long initialLimit() {
+        return initialLimit;
+    }
+
+    @Override
+    public long update(int samples, long lowestRequestTime, long requestTime, int currentRequests) {
+        probeCount += samples;
+        if (probeFactor * probeJitter * currentLimit <= probeCount) {
+            resetProbeJitter();
+            probeCount = 0.0;
+            this.lowestRequestTime = lowestRequestTime;
+            return currentLimit;
+        }
+
+        if (lowestRequestTime < this.lowestRequestTime) {
+            this.lowestRequestTime = lowestRequestTime;
+            return currentLimit;
+        }
+
+        long currentLimit = this.currentLimit;
+
+        if (2L * currentRequests < currentLimit) {
+            return currentLimit;
+        }
+
+        int queueSize = (int) Math.ceil(currentLimit * (1.0 - (double) this.lowestRequestTime / (double) requestTime));
+
+        int currentLimitLog10Plus1;
+        if (currentLimit >= 0 && currentLimit < 1_000) {
+            currentLimitLog10Plus1 = LOG10_PLUS_1_TABLE[(int) currentLimit];
+        } else {
+            currentLimitLog10Plus1 = 1 + (int) Math.log10(currentLimit);
+        }
+        int alpha = alphaFactor * currentLimitLog10Plus1;
+        int beta = betaFactor * currentLimitLog10Plus1;
+
+        long newLimit;
+        if (queueSize <= currentLimitLog10Plus1) {
+            newLimit = currentLimit + beta;
+        } else if (queueSize < alpha) {
+            newLimit = currentLimit + currentLimitLog10Plus1;
+        } else if (queueSize > beta) {
+            newLimit = currentLimit - currentLimitLog10Plus1;
+        } else {
+            return currentLimit;
+        }
+
+        newLimit = Math.max(1, Math.min(maxLimit, newLimit));
+        this.currentLimit = newLimit;
+        return newLimit;
+    }
+
+    private void resetProbeJitter() {
+        probeJitter = ThreadLocalRandom.current().nextDouble(0.5, 1);
+    }
+}
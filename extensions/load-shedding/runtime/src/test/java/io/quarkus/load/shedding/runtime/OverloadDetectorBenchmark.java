@@ -0,0 +1,128 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the contention of the overload detector when the limit is updated after each request and when
+ * a sampling window is used. Each operation simulates a request as seen by {@link HttpLoadShedding}.
+ * <p>
+ * Run the {@link #main(String[])} method from the IDE. By default, as many threads as available processors are used.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@Threads(Threads.MAX)
+public class OverloadDetectorBenchmark {
+
+    @Param({ "", "100ms" })
+    public String samplingWindow;
+
+    private OverloadDetector detector;
+
+    @Setup
+    public void setup() {
+        Optional<Duration> window = samplingWindow.isEmpty() ? Optional.empty()
+                : Optional.of(Duration.ofMillis(Long.parseLong(samplingWindow.replace("ms", ""))));
+        detector = new OverloadDetector(new BenchmarkConfig(window));
+    }
+
+    @Benchmark
+    public boolean request() {
+        boolean overloaded = detector.isOverloaded();
+        detector.requestBegin();
+        detector.requestEnd(ThreadLocalRandom.current().nextLong(500, 1_500));
+        return overloaded;
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] { OverloadDetectorBenchmark.class.getSimpleName(), "-prof", "gc" });
+    }
+
+    static class BenchmarkConfig implements LoadSheddingRuntimeConfig {
+
+        private final Optional<Duration> samplingWindow;
+
+        BenchmarkConfig(Optional<Duration> samplingWindow) {
+            this.samplingWindow = samplingWindow;
+        }
+
+        @Override
+        public boolean enabled() {
+            return true;
+        }
+
+        @Override
+        public Algorithm algorithm() {
+            return Algorithm.VEGAS;
+        }
+
+        @Override
+        public int maxLimit() {
+            return 1000;
+        }
+
+        @Override
+        public int alphaFactor() {
+            return 3;
+        }
+
+        @Override
+        public int betaFactor() {
+            return 6;
+        }
+
+        @Override
+        public double probeFactor() {
+            return 30.0;
+        }
+
+        @Override
+        public int initialLimit() {
+            return 100;
+        }
+
+        @Override
+        public Optional<Duration> samplingWindow() {
+            return samplingWindow;
+        }
+
+        @Override
+        public Gradient2 gradient2() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Aimd aimd() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public LoadSheddingRuntimeConfig.PriorityLoadShedding priority() {
+            return new LoadSheddingRuntimeConfig.PriorityLoadShedding() {
+                @Override
+                public boolean enabled() {
+                    return false;
+                }
+            };
+        }
+    }
+}
@@ -71,6 +71,8 @@
 import io.quarkus.deployment.builditem.RunTimeConfigBuilderBuildItem;
 import io.quarkus.deployment.builditem.RunTimeConfigurationDefaultBuildItem;
 import io.quarkus.deployment.builditem.SystemPropertyBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.oidc.AuthenticationContext;
 import io.quarkus.oidc.AuthorizationCodeFlow;
 import io.quarkus.oidc.BearerTokenAuthentication;
@@ -240,6 +242,16 @@ public SyntheticBeanBuildItem addDefaultCacheBean(
                 .done();
     }
 
+    @BuildStep(onlyIf = IsCacheEnabled.class)
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void registerDefaultCacheMetrics(OidcBuildTimeConfig config, OidcRecorder recorder,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (config.tokenCacheMetricsEnabled() && metricsCapability.isPresent()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerTokenCacheMetrics()));
+        }
+    }
+
     @BuildStep
     ExtensionSslNativeSupportBuildItem enableSslInNative() {
         return new ExtensionSslNativeSupportBuildItem(Feature.OIDC);
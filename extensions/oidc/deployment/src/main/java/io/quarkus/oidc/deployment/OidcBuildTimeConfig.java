@@ -33,6 +33,14 @@ public interface OidcBuildTimeConfig {
     @WithDefault("true")
     boolean defaultTokenCacheEnabled();
 
+    /**
+     * Whether the hit, miss and eviction counts of the Default TokenIntrospection and UserInfo Cache are published
+     * as metrics, if a metrics extension is present.
+     */
+    @WithName("token-cache.metrics.enabled")
+    @WithDefault("false")
+    boolean tokenCacheMetricsEnabled();
+
     /**
      * Whether the OIDC extension should automatically register a health check for OIDC tenants
      * when a Health Check capability is present.
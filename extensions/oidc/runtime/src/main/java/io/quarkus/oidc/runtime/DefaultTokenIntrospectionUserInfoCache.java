@@ -1,5 +1,10 @@
 package io.quarkus.oidc.runtime;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
 import jakarta.enterprise.event.Observes;
 
 import org.jboss.logging.Logger;
@@ -24,6 +29,9 @@
  * <p>
  * In either case, if a remote request to fetch UserInfo is required then it will be the same access token
  * which has been introspected which will be used to request UserInfo.
+ * <p>
+ * Concurrent requests which need to introspect the same token or request UserInfo with the same token
+ * share a single remote call, see {@link #introspectOnce(String, Supplier)} and {@link #getUserInfoOnce(String, Supplier)}.
  */
 public class DefaultTokenIntrospectionUserInfoCache implements TokenIntrospectionCache, UserInfoCache {
     private static final Logger LOG = Logger.getLogger(DefaultTokenIntrospectionUserInfoCache.class);
@@ -31,6 +39,8 @@ public class DefaultTokenIntrospectionUserInfoCache implements TokenIntrospectio
     private static final Uni<UserInfo> NULL_USERINFO_UNI = Uni.createFrom().nullItem();
 
     final MemoryCache<CacheEntry> cache;
+    private final ConcurrentMap<String, Uni<TokenIntrospection>> pendingIntrospections = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Uni<UserInfo>> pendingUserInfos = new ConcurrentHashMap<>();
 
     public DefaultTokenIntrospectionUserInfoCache(OidcConfig oidcConfig, Vertx vertx) {
         cache = new MemoryCache<CacheEntry>(vertx, oidcConfig.tokenCache().cleanUpTimerInterval(),
@@ -92,6 +102,47 @@ public Uni<UserInfo> getUserInfo(String token, OidcTenantConfig oidcConfig,
         return entry == null ? NULL_USERINFO_UNI : Uni.createFrom().item(entry.userInfo);
     }
 
+    /**
+     * Returns a {@link Uni} which introspects the token using the given {@code introspection}, unless the same token
+     * is already being introspected, in which case the result of the pending introspection is used.
+     */
+    Uni<TokenIntrospection> introspectOnce(String token, Supplier<Uni<TokenIntrospection>> introspection) {
+        return loadOnce(pendingIntrospections, token, introspection);
+    }
+
+    /**
+     * Returns a {@link Uni} which requests UserInfo using the given {@code userInfo}, unless UserInfo is already being
+     * requested with the same token, in which case the result of the pending request is used.
+     */
+    Uni<UserInfo> getUserInfoOnce(String token, Supplier<Uni<UserInfo>> userInfo) {
+        return loadOnce(pendingUserInfos, token, userInfo);
+    }
+
+    private static <T> Uni<T> loadOnce(ConcurrentMap<String, Uni<T>> pending, String token, Supplier<Uni<T>> loader) {
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends T>>() {
+            @Override
+            public Uni<? extends T> get() {
+                Uni<T> existing = pending.get(token);
+                if (existing != null) {
+                    return existing;
+                }
+                AtomicReference<Uni<T>> self = new AtomicReference<>();
+                Uni<T> load = loader.get()
+                        .onTermination().invoke(new Runnable() {
+                            @Override
+                            public void run() {
+                                // The result is in the cache now, or the load failed and the next request should retry
+                                pending.remove(token, self.get());
+                            }
+                        })
+                        .memoize().indefinitely();
+                self.set(load);
+                existing = pending.putIfAbsent(token, load);
+                return existing != null ? existing : load;
+            }
+        });
+    }
+
     private static class CacheEntry {
         volatile TokenIntrospection introspection;
         volatile UserInfo userInfo;
@@ -113,6 +164,18 @@ public int getCacheSize() {
         return cache.getCacheSize();
     }
 
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
     void shutdown(@Observes ShutdownEvent event, Vertx vertx) {
         cache.stopTimer(vertx);
     }
@@ -1,27 +1,36 @@
 package io.quarkus.oidc.runtime;
 
 import java.time.Duration;
-import java.util.Iterator;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 
+/**
+ * A bounded in-memory cache.
+ * <p>
+ * Entries expire after the configured time to live. If the maximum size is reached, the entries which are least likely
+ * to be used again are evicted, based on their access frequency and recency.
+ */
 public class MemoryCache<T> {
     private volatile Long timerId = null;
 
-    private final Map<String, CacheEntry<T>> cacheMap = new ConcurrentHashMap<>();
-    private final AtomicInteger size = new AtomicInteger();
-    private final Duration cacheTimeToLive;
+    private final Cache<String, T> cache;
     private final int cacheSize;
 
     public MemoryCache(Vertx vertx, Optional<Duration> cleanUpTimerInterval,
             Duration cacheTimeToLive, int cacheSize) {
-        this.cacheTimeToLive = cacheTimeToLive;
         this.cacheSize = cacheSize;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(Math.max(cacheSize, 0))
+                .expireAfterWrite(cacheTimeToLive)
+                // Perform the maintenance, e.g. the eviction, in the calling thread
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
         init(vertx, cleanUpTimerInterval);
     }
 
@@ -31,7 +40,7 @@ private void init(Vertx vertx, Optional<Duration> cleanUpTimerInterval) {
                 @Override
                 public void handle(Long event) {
                     // Remove all the entries which have expired
-                    removeInvalidEntries();
+                    cache.cleanUp();
                 }
             });
         }
@@ -39,87 +48,49 @@ public void handle(Long event) {
 
     public void add(String key, T result) {
         if (cacheSize > 0) {
-            if (!prepareSpaceForNewCacheEntry()) {
-                clearCache();
-            }
-            cacheMap.put(key, new CacheEntry<T>(result));
+            cache.put(key, result);
         }
     }
 
     public T remove(String key) {
-        CacheEntry<T> entry = removeCacheEntry(key);
-        return entry == null ? null : entry.result;
+        return cache.asMap().remove(key);
     }
 
     public T get(String key) {
-        CacheEntry<T> entry = cacheMap.get(key);
-        return entry == null ? null : entry.result;
+        return cache.getIfPresent(key);
     }
 
     public boolean containsKey(String key) {
-        return cacheMap.containsKey(key);
-    }
-
-    private void removeInvalidEntries() {
-        long now = now();
-        for (Iterator<Map.Entry<String, CacheEntry<T>>> it = cacheMap.entrySet().iterator(); it.hasNext();) {
-            Map.Entry<String, CacheEntry<T>> next = it.next();
-            if (next != null) {
-                if (isEntryExpired(next.getValue(), now)) {
-                    try {
-                        it.remove();
-                        size.decrementAndGet();
-                    } catch (IllegalStateException ex) {
-                        // continue
-                    }
-                }
-            }
-        }
-    }
-
-    private boolean prepareSpaceForNewCacheEntry() {
-        int currentSize;
-        do {
-            currentSize = size.get();
-            if (currentSize == cacheSize) {
-                return false;
-            }
-        } while (!size.compareAndSet(currentSize, currentSize + 1));
-        return true;
-    }
-
-    private CacheEntry<T> removeCacheEntry(String token) {
-        CacheEntry<T> entry = cacheMap.remove(token);
-        if (entry != null) {
-            size.decrementAndGet();
-        }
-        return entry;
+        return cache.asMap().containsKey(key);
     }
 
-    private boolean isEntryExpired(CacheEntry<T> entry, long now) {
-        return entry.createdTime + cacheTimeToLive.toMillis() < now;
+    public int getCacheSize() {
+        return (int) cache.estimatedSize();
     }
 
-    private static long now() {
-        return System.currentTimeMillis();
+    public void clearCache() {
+        cache.invalidateAll();
     }
 
-    private static class CacheEntry<T> {
-        volatile T result;
-        long createdTime = System.currentTimeMillis();
-
-        public CacheEntry(T result) {
-            this.result = result;
-        }
+    /**
+     * @return the number of times a lookup returned a cached value
+     */
+    public long getHitCount() {
+        return cache.stats().hitCount();
     }
 
-    public int getCacheSize() {
-        return cacheMap.size();
+    /**
+     * @return the number of times a lookup did not return a cached value
+     */
+    public long getMissCount() {
+        return cache.stats().missCount();
     }
 
-    public void clearCache() {
-        cacheMap.clear();
-        size.set(0);
+    /**
+     * @return the number of entries evicted because the maximum size was reached or because they expired
+     */
+    public long getEvictionCount() {
+        return cache.stats().evictionCount();
     }
 
     public void stopTimer(Vertx vertx) {
@@ -751,7 +751,19 @@ private Uni<TokenVerificationResult> introspectTokenUni(TenantConfigContext reso
                     .switchTo(new Supplier<Uni<? extends TokenIntrospection>>() {
                         @Override
                         public Uni<TokenIntrospection> get() {
-                            return newTokenIntrospectionUni(resolvedContext, token, idToken, expiresIn, fallbackFromJwkMatch);
+                            Supplier<Uni<TokenIntrospection>> introspection = new Supplier<Uni<TokenIntrospection>>() {
+                                @Override
+                                public Uni<TokenIntrospection> get() {
+                                    return newTokenIntrospectionUni(resolvedContext, token, idToken, expiresIn,
+                                            fallbackFromJwkMatch);
+                                }
+                            };
+                            if (tokenIntrospectionCache instanceof DefaultTokenIntrospectionUserInfoCache defaultCache
+                                    && resolvedContext.oidcConfig().allowTokenIntrospectionCache()) {
+                                // Concurrent requests with the same token share a single introspection
+                                return defaultCache.introspectOnce(token, introspection);
+                            }
+                            return introspection.get();
                         }
                     });
         }
@@ -824,7 +836,19 @@ private Uni<UserInfo> getUserInfoUni(Map<String, Object> requestData, TokenAuthe
                     .switchTo(new Supplier<Uni<? extends UserInfo>>() {
                         @Override
                         public Uni<UserInfo> get() {
-                            return newUserInfoUni(resolvedContext, accessToken);
+                            Supplier<Uni<UserInfo>> userInfo = new Supplier<Uni<UserInfo>>() {
+                                @Override
+                                public Uni<UserInfo> get() {
+                                    return newUserInfoUni(resolvedContext, accessToken);
+                                }
+                            };
+                            if (userInfoCache instanceof DefaultTokenIntrospectionUserInfoCache defaultCache
+                                    && resolvedContext.oidcConfig().allowUserInfoCache()
+                                    && !OidcUtils.cacheUserInfoInIdToken(tenantResolver, resolvedContext.oidcConfig())) {
+                                // Concurrent requests with the same token share a single UserInfo request
+                                return defaultCache.getUserInfoOnce(accessToken, userInfo);
+                            }
+                            return userInfo.get();
                         }
                     });
         }
@@ -24,6 +24,7 @@
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.annotations.RuntimeInit;
 import io.quarkus.runtime.annotations.StaticInit;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.security.AuthenticationFailedException;
 import io.quarkus.security.runtime.SecurityConfig;
 import io.quarkus.tls.TlsConfigurationRegistry;
@@ -54,6 +55,28 @@ public DefaultTokenIntrospectionUserInfoCache get() {
         };
     }
 
+    public Consumer<MetricsFactory> registerTokenCacheMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                DefaultTokenIntrospectionUserInfoCache cache = Arc.container()
+                        .instance(DefaultTokenIntrospectionUserInfoCache.class).get();
+                metricsFactory.builder("oidc.token.cache.hits")
+                        .description("Number of times a token introspection or UserInfo was found in the cache.")
+                        .buildCounter(cache::getHitCount);
+                metricsFactory.builder("oidc.token.cache.misses")
+                        .description("Number of times a token introspection or UserInfo was not found in the cache.")
+                        .buildCounter(cache::getMissCount);
+                metricsFactory.builder("oidc.token.cache.evictions")
+                        .description("Number of cache entries evicted because the cache was full or the entries expired.")
+                        .buildCounter(cache::getEvictionCount);
+                metricsFactory.builder("oidc.token.cache.size")
+                        .description("Approximate number of cache entries.")
+                        .buildGauge(cache::getCacheSize);
+            }
+        };
+    }
+
     @StaticInit
     public void setUserInfoInjectionPointDetected(boolean userInfoInjectionPointDetected) {
         TenantContextFactory.userInfoInjectionPointDetected = userInfoInjectionPointDetected;
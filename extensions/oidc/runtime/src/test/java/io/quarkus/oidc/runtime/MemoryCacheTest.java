@@ -80,15 +80,43 @@ public void testAddWhenMaxCacheSizeIsReached() throws Exception {
         cache.add("2", new Bean("2"));
         assertEquals(2, cache.getCacheSize());
 
-        // Currently, if the cache is full and a new entry has to be added, then the whole cache is cleared
-        // It can be optimized to remove the oldest entry only in the future
+        // Frequently used entries are retained
+        for (int i = 0; i < 5; i++) {
+            assertEquals("1", cache.get("1").name);
+        }
 
+        // If the cache is full and a new entry has to be added, then only one entry is evicted
         cache.add("3", new Bean("3"));
-        assertEquals(1, cache.getCacheSize());
+        assertEquals(2, cache.getCacheSize());
+        assertEquals("1", cache.get("1").name);
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(6, cache.getHitCount());
+    }
 
-        assertNull(cache.get("1"));
-        assertNull(cache.get("2"));
-        assertEquals("3", cache.get("3").name);
+    @Test
+    public void testExpiredEntryIsNotReturned() throws Exception {
+
+        MemoryCache<Bean> cache = new MemoryCache<Bean>(vertx,
+                // timer interval
+                Optional.empty(),
+                // entry is valid for 1 second
+                Duration.ofSeconds(1),
+                // max cache size
+                2);
+
+        cache.add("1", new Bean("1"));
+        assertEquals("1", cache.get("1").name);
+
+        await().atMost(Duration.ofSeconds(5)).until(new Callable<Boolean>() {
+
+            @Override
+            public Boolean call() throws Exception {
+                return cache.get("1") == null;
+            }
+
+        });
+        assertFalse(cache.containsKey("1"));
+        assertEquals(1, cache.getHitCount());
     }
 
     static class Bean {
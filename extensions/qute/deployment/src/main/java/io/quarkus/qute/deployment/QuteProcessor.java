@@ -58,6 +58,7 @@
 import org.jboss.jandex.ParameterizedType;
 import org.jboss.jandex.PrimitiveType;
 import org.jboss.jandex.PrimitiveType.Primitive;
+import org.jboss.jandex.RecordComponentInfo;
 import org.jboss.jandex.Type;
 import org.jboss.jandex.TypeVariable;
 import org.jboss.logging.Logger;
@@ -148,6 +149,7 @@
 import io.quarkus.qute.deployment.TypeInfos.Info;
 import io.quarkus.qute.deployment.TypeInfos.TypeInfo;
 import io.quarkus.qute.deployment.Types.AssignabilityCheck;
+import io.quarkus.qute.generator.CompiledTemplateGenerator;
 import io.quarkus.qute.generator.ExtensionMethodGenerator;
 import io.quarkus.qute.generator.ExtensionMethodGenerator.NamespaceExtensionMethodInfo;
 import io.quarkus.qute.generator.ExtensionMethodGenerator.Param;
@@ -1971,6 +1973,62 @@ static String findTemplatePath(TemplatesAnalysisBuildItem analysis, String id) {
         return null;
     }
 
+    @BuildStep
+    void compileTemplates(QuteConfig config,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BeanArchiveIndexBuildItem beanArchiveIndex,
+            TemplatesAnalysisBuildItem templatesAnalysis,
+            List<CheckedTemplateBuildItem> checkedTemplates,
+            List<TemplateExtensionMethodBuildItem> templateExtensionMethods,
+            List<IncorrectExpressionBuildItem> incorrectExpressions,
+            LaunchModeBuildItem launchMode,
+            BuildProducer<CompiledTemplateBuildItem> compiledTemplates) {
+
+        if (!config.compileTemplates() || launchMode.getLaunchMode().isDev() || !incorrectExpressions.isEmpty()) {
+            // Templates may change at any time in the dev mode
+            return;
+        }
+
+        ClassOutput classOutput = new GeneratedClassGizmo2Adaptor(generatedClasses, generatedResources, true);
+        CompiledTemplateGenerator generator = new CompiledTemplateGenerator(beanArchiveIndex.getIndex(), classOutput,
+                new Predicate<String>() {
+                    @Override
+                    public boolean test(String name) {
+                        for (TemplateExtensionMethodBuildItem extensionMethod : templateExtensionMethods) {
+                            if (!extensionMethod.hasNamespace() && extensionMethod.matchesName(name)) {
+                                return true;
+                            }
+                        }
+                        return false;
+                    }
+                });
+
+        for (TemplateAnalysis analysis : templatesAnalysis.getAnalysis()) {
+            CheckedTemplateBuildItem checkedTemplate = findCheckedTemplate(config, analysis, checkedTemplates);
+            if (checkedTemplate == null) {
+                continue;
+            }
+            Map<String, Type> parameters = new HashMap<>();
+            if (checkedTemplate.isRecord()) {
+                for (RecordComponentInfo component : checkedTemplate.recordClass.recordComponents()) {
+                    parameters.put(component.name(), component.type());
+                }
+            } else {
+                for (int i = 0; i < checkedTemplate.method.parametersCount(); i++) {
+                    parameters.put(checkedTemplate.method.parameterName(i), checkedTemplate.method.parameterType(i));
+                }
+            }
+            String className = generator.generate(analysis.path, analysis.getNodes(), parameters);
+            if (className != null) {
+                LOGGER.debugf("Template %s compiled into %s", analysis.path, className);
+                compiledTemplates.produce(new CompiledTemplateBuildItem(analysis.path, className));
+            } else {
+                LOGGER.debugf("Template %s cannot be compiled", analysis.path);
+            }
+        }
+    }
+
     @BuildStep
     void generateValueResolvers(QuteConfig config,
             BuildProducer<GeneratedClassBuildItem> generatedClasses,
@@ -2779,12 +2837,18 @@ private String findDefaultVariant(QuteConfig config, List<String> variants) {
     @Record(value = STATIC_INIT)
     void initializeGeneratedClasses(BeanContainerBuildItem beanContainer, QuteRecorder recorder,
             List<GeneratedValueResolverBuildItem> generatedValueResolvers,
-            List<TemplateGlobalProviderBuildItem> templateInitializers) {
+            List<TemplateGlobalProviderBuildItem> templateInitializers,
+            List<CompiledTemplateBuildItem> compiledTemplates) {
         // The generated classes must be initialized after the template expressions are validated in order to break the cycle in the build chain
+        Map<String, String> compiledTemplateClasses = new HashMap<>();
+        for (CompiledTemplateBuildItem compiledTemplate : compiledTemplates) {
+            compiledTemplateClasses.put(compiledTemplate.getTemplatePath(), compiledTemplate.getClassName());
+        }
         recorder.initializeGeneratedClasses(generatedValueResolvers.stream()
                 .map(GeneratedValueResolverBuildItem::getClassName).collect(Collectors.toList()),
                 templateInitializers.stream()
-                        .map(TemplateGlobalProviderBuildItem::getClassName).collect(Collectors.toList()));
+                        .map(TemplateGlobalProviderBuildItem::getClassName).collect(Collectors.toList()),
+                compiledTemplateClasses);
     }
 
     @BuildStep
@@ -0,0 +1,62 @@
+package io.quarkus.qute.deployment.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CaffeineCache;
+import io.quarkus.cache.WeightedCacheValue;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.cache.QuteCache;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class CacheDirectBytesStorageTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource(new StringAsset("{#cached}<p>Héllo {counter.val}</p>{/cached}::{counter.val}"),
+                            "templates/foo.html")
+                    .addAsResource(new StringAsset("quarkus.qute.cache-storage=direct-bytes\n"
+                            + "quarkus.cache.caffeine.\"qute-cache\".maximum-weight=1024"), "application.properties"));
+
+    @Inject
+    Template foo;
+
+    @CacheName(QuteCache.NAME)
+    Cache cache;
+
+    @Test
+    public void testCachedParts() throws Exception {
+        Counter counter = new Counter();
+        assertEquals("<p>Héllo 1</p>::2", foo.data("counter", counter).render());
+        assertEquals("<p>Héllo 1</p>::3", foo.data("counter", counter).render());
+
+        CaffeineCache caffeineCache = cache.as(CaffeineCache.class);
+        assertEquals(1, caffeineCache.keySet().size());
+        Object value = caffeineCache.getIfPresent(caffeineCache.keySet().iterator().next()).get();
+        assertTrue(value instanceof WeightedCacheValue);
+        assertEquals("<p>Héllo 1</p>".getBytes(StandardCharsets.UTF_8).length, ((WeightedCacheValue) value).getWeight());
+    }
+
+    public static class Counter {
+
+        private final AtomicInteger val = new AtomicInteger();
+
+        public int getVal() {
+            return val.incrementAndGet();
+        }
+
+    }
+
+}
@@ -0,0 +1,76 @@
+package io.quarkus.qute.deployment.compiled;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.CheckedTemplate;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class CompiledTemplateTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Templates.class, Item.class)
+                    .addAsResource(new StringAsset("quarkus.qute.compile-templates=true"), "application.properties")
+                    .addAsResource(new StringAsset(
+                            "{#for item in items}{item.name}:{item.price}{#if item.active} active{/if}\n{/for}{title}"),
+                            "templates/CompiledTemplateTest/items.txt")
+                    .addAsResource(new StringAsset(
+                            "{#for item in items}{item_count}. {item.name.toUpperCase}\n{/for}"),
+                            "templates/CompiledTemplateTest/interpreted.txt"));
+
+    @Test
+    public void testCompiled() {
+        List<Item> items = List.of(new Item("Apple", 10, true), new Item("Pear", 5, false));
+        assertEquals("Apple:10 active\nPear:5\nFruit", Templates.items(items, "Fruit").render());
+        // Falls back to the interpreter
+        assertEquals("Apple:10 active\nPear:5\nFruit",
+                Templates.items(items, "Fruit").data("title", CompletableFuture.completedFuture("Fruit")).render());
+    }
+
+    @Test
+    public void testInterpreted() {
+        assertEquals("1. APPLE\n", Templates.interpreted(List.of(new Item("Apple", 10, true))).render());
+    }
+
+    @CheckedTemplate
+    public static class Templates {
+
+        static native TemplateInstance items(List<Item> items, String title);
+
+        static native TemplateInstance interpreted(List<Item> items);
+
+    }
+
+    public static class Item {
+
+        public final int price;
+
+        private final String name;
+        private final boolean active;
+
+        public Item(String name, int price, boolean active) {
+            this.name = name;
+            this.price = price;
+            this.active = active;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+    }
+
+}
@@ -6,6 +6,7 @@
 import java.util.Optional;
 import java.util.regex.Pattern;
 
+import io.quarkus.qute.CacheSectionHelper;
 import io.quarkus.qute.runtime.debug.QuteDebugConfig;
 import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigPhase;
@@ -109,6 +110,36 @@ public interface QuteConfig {
     @WithDefault("false")
     boolean altExprSyntax();
 
+    /**
+     * If set to `true` then type-safe templates are compiled into Java classes at build time. A compiled template is used
+     * instead of the interpreter if the template is not modified and all the data can be rendered synchronously.
+     *
+     * Only a subset of the syntax is supported: text, output expressions that consist of a parameter declaration or a
+     * loop alias followed by non-virtual properties, `{#for}` loops without the `{#else}` block and iteration metadata,
+     * and `{#if}` sections with a single operand. If a template uses other features then it's not compiled at all.
+     *
+     * Templates are never compiled in the development mode.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("false")
+    boolean compileTemplates();
+
+    /**
+     * The way the fragments rendered by the `{#cache}` section are stored in the `qute-cache` cache.
+     *
+     * If set to `bytes` or `direct-bytes` then a fragment is stored as UTF-8 bytes that are written directly to the output
+     * if possible, e.g. when a `TemplateInstance` is rendered into a Vert.x buffer. The `direct-bytes` storage keeps the
+     * bytes outside the Java heap; the amount of off-heap memory is then limited by `-XX:MaxDirectMemorySize`.
+     *
+     * The size of a cached fragment in bytes is used as the weight of the cache entry, i.e. the total size of the cached
+     * fragments can be limited with `quarkus.cache.caffeine."qute-cache".maximum-weight`.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("string")
+    CacheSectionHelper.Storage cacheStorage();
+
     /**
      * Development mode configuration.
      */
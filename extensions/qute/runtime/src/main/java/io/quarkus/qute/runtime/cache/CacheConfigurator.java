@@ -1,16 +1,20 @@
 package io.quarkus.qute.runtime.cache;
 
 import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import jakarta.enterprise.event.Observes;
 
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.CacheName;
+import io.quarkus.cache.WeightedCacheValue;
 import io.quarkus.qute.CacheSectionHelper;
+import io.quarkus.qute.CacheSectionHelper.Fragment;
 import io.quarkus.qute.EngineBuilder;
 import io.quarkus.qute.ResultNode;
 import io.quarkus.qute.cache.QuteCache;
+import io.quarkus.qute.runtime.QuteConfig;
 import io.smallrye.mutiny.Uni;
 
 public class CacheConfigurator {
@@ -18,15 +22,41 @@ public class CacheConfigurator {
     @CacheName(QuteCache.NAME)
     Cache cache;
 
-    void configureEngine(@Observes EngineBuilder builder) {
+    void configureEngine(@Observes EngineBuilder builder, QuteConfig config) {
         builder.addSectionHelper(new CacheSectionHelper.Factory(new CacheSectionHelper.Cache() {
 
             @Override
             public CompletionStage<ResultNode> getValue(String key, Function<String, CompletionStage<ResultNode>> loader) {
-                return cache.<String, ResultNode> getAsync(key, k -> Uni.createFrom().completionStage(loader.apply(k)))
+                return cache.<String, ResultNode> getAsync(key,
+                        k -> Uni.createFrom().completionStage(loader.apply(k)).map(WeightedFragment::of))
                         .subscribeAsCompletionStage();
             }
-        }));
+        }, config.cacheStorage()));
+    }
+
+    // The weight of a cached fragment is its size in bytes
+    static final class WeightedFragment extends ResultNode implements WeightedCacheValue {
+
+        static ResultNode of(ResultNode node) {
+            return node instanceof Fragment fragment ? new WeightedFragment(fragment) : node;
+        }
+
+        private final Fragment fragment;
+
+        private WeightedFragment(Fragment fragment) {
+            this.fragment = fragment;
+        }
+
+        @Override
+        public int getWeight() {
+            return fragment.getWeight();
+        }
+
+        @Override
+        public void process(Consumer<String> resultConsumer) {
+            fragment.process(resultConsumer);
+        }
+
     }
 
 }
@@ -34,6 +34,7 @@
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.types.TypeParser;
 import io.quarkus.redis.deployment.client.RequestedRedisClientBuildItem;
@@ -48,8 +49,8 @@ public class RedisCacheProcessor {
 
     @BuildStep
     @Record(RUNTIME_INIT)
-    CacheManagerInfoBuildItem cacheManagerInfo(RedisCacheBuildRecorder recorder) {
-        return new CacheManagerInfoBuildItem(recorder.getCacheManagerSupplier());
+    CacheManagerInfoBuildItem cacheManagerInfo(RedisCacheBuildRecorder recorder, ShutdownContextBuildItem shutdown) {
+        return new CacheManagerInfoBuildItem(recorder.getCacheManagerSupplier(shutdown));
     }
 
     @BuildStep
@@ -138,6 +139,14 @@ private static Map<String, Type> valueTypesFromCacheResultAnnotation(CombinedInd
                 continue;
             }
             String cacheName = cacheNameValue.asString();
+            AnnotationValue bulkValue = instance.value(CacheDeploymentConstants.CACHE_RESULT_BULK_PARAM);
+            if (bulkValue != null && bulkValue.asBoolean()) {
+                // Each entry of the returned map is cached separately
+                methodReturnType = bulkValueType(methodReturnType);
+                if (methodReturnType == null) {
+                    continue;
+                }
+            }
             Set<Type> types = valueTypesFromAnnotations.get(cacheName);
             if (types == null) {
                 types = new HashSet<>(1);
@@ -186,6 +195,17 @@ private static Map<String, Type> valueTypesFromCacheResultAnnotation(CombinedInd
         return result;
     }
 
+    private static Type bulkValueType(Type returnType) {
+        if (returnType.kind() == Type.Kind.PARAMETERIZED_TYPE && (UNI.equals(returnType.name())
+                || CacheDeploymentConstants.COMPLETION_STAGE.equals(returnType.name()))) {
+            returnType = returnType.asParameterizedType().arguments().get(0);
+        }
+        if (returnType.kind() == Type.Kind.PARAMETERIZED_TYPE && returnType.asParameterizedType().arguments().size() == 2) {
+            return returnType.asParameterizedType().arguments().get(1);
+        }
+        return null;
+    }
+
     private static String typeToString(Type type) {
         StringBuilder result = new StringBuilder();
         typeToString(type, result);
@@ -11,6 +11,7 @@
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Supplier;
@@ -25,6 +26,7 @@
 
 import io.quarkus.cache.redis.runtime.RedisCacheImpl;
 import io.quarkus.cache.redis.runtime.RedisCacheInfo;
+import io.quarkus.cache.redis.runtime.RedisCacheRuntimeConfig.InvalidationStrategy;
 import io.quarkus.test.QuarkusExtensionTest;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
@@ -621,6 +623,131 @@ void testInvalidation() {
         assertThat(getAllKeys()).hasSize(1);
     }
 
+    @Test
+    void testInvalidationWithIndex() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "test-invalidation-index";
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        info.invalidationStrategy = InvalidationStrategy.INDEX;
+        info.invalidationScanSize = OptionalInt.of(2);
+
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        // The prefix is a hash tag so that the keys and the index are in the same hash slot
+        String indexKey = "{cache:test-invalidation-index}#keys";
+        assertThat(cache.computeActualKey("key1")).isEqualTo("{cache:test-invalidation-index}:key1");
+
+        redis.send(Request.cmd(Command.SET).arg("{cache:test-invalidation-index}:key6").arg("not-indexed")).await()
+                .indefinitely();
+
+        for (int i = 1; i <= 5; i++) {
+            cache.put("key" + i, "val" + i).await().indefinitely();
+        }
+        cache.put("clé-1", "valeur-1").await().indefinitely();
+        cache.put("special", "special").await().indefinitely();
+        assertThat(getIndexedKeys(indexKey)).hasSize(7);
+
+        cache.invalidate("special").await().indefinitely();
+        assertThatTheKeyDoesNotExist("{cache:test-invalidation-index}:special");
+        assertThat(getIndexedKeys(indexKey)).hasSize(6);
+
+        cache.invalidateIf(o -> o instanceof String s && s.startsWith("key")).await().indefinitely();
+        assertThatTheKeyDoesNotExist("{cache:test-invalidation-index}:key1");
+        assertThatTheKeyDoesNotExist("{cache:test-invalidation-index}:key5");
+        // Only the keys from the index are invalidated
+        assertThatTheKeyDoesExist("{cache:test-invalidation-index}:key6");
+        assertThat(getIndexedKeys(indexKey))
+                .containsExactly("{cache:test-invalidation-index}:clé-1");
+
+        cache.invalidateAll().await().indefinitely();
+        assertThatTheKeyDoesNotExist("{cache:test-invalidation-index}:clé-1");
+        assertThat(getIndexedKeys(indexKey)).isEmpty();
+        assertThat(getAllKeys()).containsExactly("{cache:test-invalidation-index}:key6");
+    }
+
+    @Test
+    void testIndexDropsExpiredKeys() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "test-index-expiry";
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(1));
+        info.invalidationStrategy = InvalidationStrategy.INDEX;
+
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        String indexKey = "{cache:test-index-expiry}#keys";
+
+        long before = System.currentTimeMillis();
+        cache.put("foo", "bar").await().indefinitely();
+        // The member is scored by the expiry time of the key
+        double score = redis.send(Request.cmd(Command.ZSCORE).arg(indexKey).arg(cache.computeActualKey("foo")))
+                .await().indefinitely().toDouble();
+        assertThat(score).isBetween(before + 1000d, System.currentTimeMillis() + 1000d);
+
+        await().untilAsserted(() -> assertThatTheKeyDoesNotExist(cache.computeActualKey("foo")));
+        await().untilAsserted(() -> assertThat(System.currentTimeMillis()).isGreaterThan((long) score));
+        // The members of the expired keys are removed on write
+        cache.put("baz", "qux").await().indefinitely();
+        assertThat(getIndexedKeys(indexKey)).containsExactly(cache.computeActualKey("baz"));
+    }
+
+    @Test
+    void testSubSecondExpiration() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "test-sub-second";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofMillis(1500));
+        info.refreshAfterWrite = Optional.of(Duration.ofMillis(500));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        String key = "cache:test-sub-second:foo";
+
+        assertThat(cache.get("foo", k -> "v1").await().indefinitely()).isEqualTo("v1");
+        long pttl = redis.send(Request.cmd(Command.PTTL).arg(key)).await().indefinitely().toLong();
+        assertThat(pttl).isGreaterThan(1000L).isLessThanOrEqualTo(1500L);
+        // The entry is not due for a refresh yet
+        assertThat(cache.get("foo", k -> "v2").await().indefinitely()).isEqualTo("v1");
+        assertThat(cache.getOrNull("foo", String.class).await().indefinitely()).isEqualTo("v1");
+    }
+
+    @Test
+    void testRefreshAfterWriteAndStaleIfError() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "test-refresh";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        info.refreshAfterWrite = Optional.of(Duration.ofSeconds(2));
+        info.staleIfError = Optional.of(Duration.ofSeconds(10));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        String key = "cache:test-refresh:foo";
+
+        assertThat(cache.get("foo", k -> "v1").await().indefinitely()).isEqualTo("v1");
+        // The retention time includes the stale-if-error window
+        assertThat(redis.send(Request.cmd(Command.TTL).arg(key)).await().indefinitely().toLong()).isGreaterThan(10L);
+        assertThat(cache.get("foo", k -> "v2").await().indefinitely()).isEqualTo("v1");
+
+        // The entry is 5 seconds old, the current value is returned and the entry is reloaded in the background
+        redis.send(Request.cmd(Command.PEXPIRE).arg(key).arg(15_000)).await().indefinitely();
+        assertThat(cache.get("foo", k -> "v2").await().indefinitely()).isEqualTo("v1");
+        await().untilAsserted(() -> assertThat(cache.getOrNull("foo", String.class).await().indefinitely()).isEqualTo("v2"));
+
+        // The entry is 15 seconds old, i.e. expired, the expired value is returned if the reload fails
+        redis.send(Request.cmd(Command.PEXPIRE).arg(key).arg(5_000)).await().indefinitely();
+        assertThat(cache.get("foo", k -> {
+            throw new IllegalStateException();
+        }).await().indefinitely()).isEqualTo("v2");
+        assertThat(cache.get("foo", k -> "v3").await().indefinitely()).isEqualTo("v3");
+        assertThat(cache.get("foo", k -> "v4").await().indefinitely()).isEqualTo("v3");
+    }
+
+    private Set<String> getIndexedKeys(String indexKey) {
+        return redis.send(Request.cmd(Command.ZRANGE).arg(indexKey).arg(0).arg(-1))
+                .map(r -> {
+                    Set<String> keys = new HashSet<>();
+                    for (Response response : r) {
+                        keys.add(response.toString());
+                    }
+                    return keys;
+                })
+                .await().indefinitely();
+    }
+
     private Set<String> getAllKeys() {
         return redis.send(Request.cmd(Command.KEYS).arg("*"))
                 .map(r -> {
@@ -0,0 +1,137 @@
+package io.quarkus.cache.redis.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.redis.runtime.RedisCacheImpl;
+import io.quarkus.cache.redis.runtime.RedisCacheInfo;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.Request;
+
+class RedisNearCacheTest {
+
+    private static final Supplier<Boolean> BLOCKING_ALLOWED = () -> false;
+
+    @RegisterExtension
+    static final QuarkusExtensionTest TEST = new QuarkusExtensionTest();
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    Redis redis;
+
+    @AfterEach
+    void clear() {
+        try {
+            redis.send(Request.cmd(Command.FLUSHALL).arg("SYNC")).await()
+                    .atMost(Duration.ofSeconds(10));
+        } catch (Exception ignored) {
+            // ignored.
+        }
+    }
+
+    @Test
+    void testLocalHit() {
+        RedisCacheImpl cache = new RedisCacheImpl(info("near-local"), vertx, redis, BLOCKING_ALLOWED);
+        awaitSubscription(cache);
+
+        cache.put("foo", "bar").await().indefinitely();
+        // Remove the value behind the back of the cache - the local copy is still used
+        redis.send(Request.cmd(Command.DEL).arg("cache:near-local:foo")).await().indefinitely();
+        assertThat(cache.getOrNull("foo", String.class).await().indefinitely()).isEqualTo("bar");
+
+        cache.invalidate("foo").await().indefinitely();
+        assertThat(cache.getOrNull("foo", String.class).await().indefinitely()).isNull();
+    }
+
+    @Test
+    void testInvalidationAcrossInstances() {
+        RedisCacheImpl node1 = new RedisCacheImpl(info("near-shared"), vertx, redis, BLOCKING_ALLOWED);
+        RedisCacheImpl node2 = new RedisCacheImpl(info("near-shared"), vertx, redis, BLOCKING_ALLOWED);
+        awaitSubscription(node1);
+        awaitSubscription(node2);
+
+        node1.put("foo", "v1").await().indefinitely();
+        assertThat(node2.get("foo", String.class, k -> "computed").await().indefinitely()).isEqualTo("v1");
+
+        node1.put("foo", "v2").await().indefinitely();
+        await().untilAsserted(
+                () -> assertThat(node2.getOrNull("foo", String.class).await().indefinitely())
+                        .isEqualTo("v2"));
+
+        node1.invalidate("foo").await().indefinitely();
+        await().untilAsserted(
+                () -> assertThat(node2.getOrNull("foo", String.class).await().indefinitely()).isNull());
+
+        node2.put("foo", "v3").await().indefinitely();
+        node2.put("bar", "v4").await().indefinitely();
+        assertThat(node1.getOrNull("bar", String.class).await().indefinitely()).isEqualTo("v4");
+        node2.invalidateAll().await().indefinitely();
+        await().untilAsserted(() -> {
+            assertThat(node1.getOrNull("foo", String.class).await().indefinitely()).isNull();
+            assertThat(node1.getOrNull("bar", String.class).await().indefinitely()).isNull();
+        });
+    }
+
+    @Test
+    void testRecomputedValueInvalidatesOtherInstances() {
+        RedisCacheImpl node1 = new RedisCacheImpl(info("near-miss"), vertx, redis, BLOCKING_ALLOWED);
+        RedisCacheImpl node2 = new RedisCacheImpl(info("near-miss"), vertx, redis, BLOCKING_ALLOWED);
+        awaitSubscription(node1);
+        awaitSubscription(node2);
+
+        node2.put("foo", "v1").await().indefinitely();
+        // The key expires or is evicted in Redis, node2 still holds v1 locally
+        redis.send(Request.cmd(Command.DEL).arg(node1.computeActualKey("foo"))).await().indefinitely();
+        assertThat(node1.get("foo", String.class, k -> "v2").await().indefinitely()).isEqualTo("v2");
+        await().untilAsserted(
+                () -> assertThat(node2.getOrNull("foo", String.class).await().indefinitely())
+                        .isEqualTo("v2"));
+    }
+
+    @Test
+    void testClose() {
+        RedisCacheImpl cache = new RedisCacheImpl(info("near-close"), vertx, redis, BLOCKING_ALLOWED);
+        awaitSubscription(cache);
+        cache.close();
+
+        cache.put("foo", "bar").await().indefinitely();
+        redis.send(Request.cmd(Command.DEL).arg(cache.computeActualKey("foo"))).await().indefinitely();
+        // The local tier is not used anymore
+        assertThat(cache.getOrNull("foo", String.class).await().indefinitely()).isNull();
+        await().untilAsserted(() -> assertThat(redis.send(Request.cmd(Command.PUBSUB).arg("NUMSUB")
+                .arg("cache:near-close:invalidations")).await().indefinitely().get(1).toInteger())
+                .isZero());
+    }
+
+    private static RedisCacheInfo info(String name) {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = name;
+        info.nearCache = true;
+        return info;
+    }
+
+    private void awaitSubscription(RedisCacheImpl cache) {
+        // Values are only kept locally once the invalidation channel is subscribed
+        await().untilAsserted(() -> {
+            cache.put("probe", "probe").await().indefinitely();
+            redis.send(Request.cmd(Command.DEL).arg(cache.computeActualKey("probe"))).await().indefinitely();
+            assertThat(cache.getOrNull("probe", String.class).await().indefinitely()).isEqualTo("probe");
+        });
+        cache.invalidate("probe").await().indefinitely();
+    }
+
+}
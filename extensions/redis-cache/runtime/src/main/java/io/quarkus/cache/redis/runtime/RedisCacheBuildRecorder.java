@@ -11,6 +11,7 @@
 import io.quarkus.cache.CacheManagerInfo;
 import io.quarkus.cache.runtime.CacheManagerImpl;
 import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
@@ -30,7 +31,7 @@ public RedisCacheBuildRecorder(RedisCachesBuildTimeConfig buildConfig,
         this.redisCacheConfigRV = redisCacheConfigRV;
     }
 
-    public CacheManagerInfo getCacheManagerSupplier() {
+    public CacheManagerInfo getCacheManagerSupplier(ShutdownContext shutdownContext) {
         return new CacheManagerInfo() {
             @Override
             public boolean supports(Context context) {
@@ -58,6 +59,8 @@ public CacheManager get() {
                                 }
 
                                 RedisCacheImpl cache = new RedisCacheImpl(cacheInfo, buildConfig.clientName());
+                                // Closes the near cache subscription, if any
+                                shutdownContext.addShutdownTask(cache::close);
                                 caches.put(cacheInfo.name, cache);
                             }
                             return new CacheManagerImpl(caches);
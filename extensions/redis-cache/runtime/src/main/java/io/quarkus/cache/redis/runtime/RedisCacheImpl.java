@@ -4,10 +4,19 @@
 import java.net.ConnectException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -21,6 +30,7 @@
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.cache.CacheException;
 import io.quarkus.cache.CompositeCacheKey;
+import io.quarkus.cache.redis.runtime.RedisCacheRuntimeConfig.InvalidationStrategy;
 import io.quarkus.cache.runtime.AbstractCache;
 import io.quarkus.redis.client.RedisClientName;
 import io.quarkus.redis.runtime.datasource.Marshaller;
@@ -57,6 +67,19 @@ public class RedisCacheImpl extends AbstractCache implements RedisCache {
 
     private final Supplier<Boolean> blockingAllowedSupplier;
 
+    private final RedisNearCache nearCache;
+
+    private final String keyPrefix;
+    // The name of the sorted set holding all the keys of the cache scored by expiry time, or null if the keys are not indexed
+    private final String indexKey;
+
+    // The following fields are only used if refresh-after-write or stale-if-error is set, -1 stands for not set
+    private final long refreshMillis;
+    private final long lifetimeMillis;
+    private final long retentionMillis;
+    // The keys that are being reloaded, or null if the age of the entries is not tracked
+    private final ConcurrentMap<String, Boolean> reloads;
+
     public RedisCacheImpl(RedisCacheInfo cacheInfo, Optional<String> redisClientName) {
 
         this(cacheInfo, Arc.container().select(Vertx.class).get(), determineRedisClient(redisClientName),
@@ -88,6 +111,30 @@ public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Suppli
         }
         this.marshaller.add(CompositeCacheKey.class);
         this.redis = redis;
+        this.keyPrefix = keyPrefix(cacheInfo, getName());
+        this.indexKey = cacheInfo.invalidationStrategy == InvalidationStrategy.INDEX ? keyPrefix + "#keys" : null;
+        this.nearCache = cacheInfo.nearCache ? new RedisNearCache(redis, getKeyPrefix() + ":invalidations", cacheInfo)
+                : null;
+        if ((cacheInfo.refreshAfterWrite.isPresent() || cacheInfo.staleIfError.isPresent())
+                && (cacheInfo.expireAfterWrite.isEmpty() || cacheInfo.expireAfterAccess.isPresent())) {
+            log.warnf("The refresh-after-write and stale-if-error values of cache [%s] are ignored because they require "
+                    + "expire-after-write and cannot be combined with expire-after-access", getName());
+            this.reloads = null;
+        } else if (cacheInfo.refreshAfterWrite.isPresent() || cacheInfo.staleIfError.isPresent()) {
+            this.reloads = new ConcurrentHashMap<>();
+        } else {
+            this.reloads = null;
+        }
+        if (reloads != null) {
+            // The time to live of the keys is set in milliseconds
+            this.refreshMillis = cacheInfo.refreshAfterWrite.isPresent() ? cacheInfo.refreshAfterWrite.get().toMillis() : -1;
+            this.lifetimeMillis = cacheInfo.expireAfterWrite.get().toMillis();
+            this.retentionMillis = retention().toMillis();
+        } else {
+            this.refreshMillis = -1;
+            this.lifetimeMillis = -1;
+            this.retentionMillis = -1;
+        }
     }
 
     private static boolean isRecomputableError(Throwable error) {
@@ -144,6 +191,15 @@ public <K, V> Uni<V> get(K key, TypeLiteral<V> type, Function<K, V> valueLoader)
     }
 
     private <K, V> Uni<V> get(K key, Type type, Function<K, V> valueLoader) {
+        if (reloads != null) {
+            boolean isWorkerThread = blockingAllowedSupplier.get();
+            return getWithRefresh(key, type, new Function<K, Uni<V>>() {
+                @Override
+                public Uni<V> apply(K k) {
+                    return computeValue(k, valueLoader, isWorkerThread);
+                }
+            });
+        }
         // With optimistic locking:
         // WATCH K
         // val = deserialize(GET K)
@@ -158,7 +214,13 @@ private <K, V> Uni<V> get(K key, Type type, Function<K, V> valueLoader) {
         // val = deserialize(GET K)
         // if (val == null) => SET K computation.apply(K)
         // else => return val
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        V local = getFromNearCache(actualKey);
+        if (local != null) {
+            return Uni.createFrom().item(local);
+        }
+        long generation = nearCacheGeneration();
+        byte[] encodedKey = marshaller.encode(actualKey);
         boolean isWorkerThread = blockingAllowedSupplier.get();
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
@@ -199,6 +261,8 @@ public Uni<?> apply(V value) {
                                             } else {
                                                 result = set(connection, encodedKey, encodedValue).replaceWith(value);
                                             }
+                                            // The other instances might hold a value stored before the miss
+                                            result = result.call(() -> replaceInNearCache(actualKey, value));
                                             if (isWorkerThread) {
                                                 return result.runSubscriptionOn(
                                                         MutinyHelper.blockingExecutor(vertx.getDelegate(), false));
@@ -211,7 +275,12 @@ public Uni<?> apply(V value) {
                         }));
             }
         })
-
+                .onItem().invoke(new Consumer<V>() {
+                    @Override
+                    public void accept(V value) {
+                        putInNearCache(actualKey, value, generation);
+                    }
+                })
                 .onFailure(RedisCacheImpl::isRecomputableError).recoverWithUni(new Function<Throwable, Uni<? extends V>>() {
                     @Override
                     public Uni<? extends V> apply(Throwable e) {
@@ -238,7 +307,16 @@ public <K, V> Uni<V> getAsync(K key, TypeLiteral<V> type, Function<K, Uni<V>> va
     }
 
     private <K, V> Uni<V> getAsync(K key, Type type, Function<K, Uni<V>> valueLoader) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        if (reloads != null) {
+            return getWithRefresh(key, type, valueLoader);
+        }
+        String actualKey = computeActualKey(encodeKey(key));
+        V local = getFromNearCache(actualKey);
+        if (local != null) {
+            return Uni.createFrom().item(local);
+        }
+        long generation = nearCacheGeneration();
+        byte[] encodedKey = marshaller.encode(actualKey);
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
@@ -264,24 +342,301 @@ public Uni<V> apply(RedisConnection connection) {
                                 return getter
                                         .chain(value -> {
                                             byte[] encodedValue = marshaller.encode(value);
+                                            Uni<V> result;
                                             if (cacheInfo.useOptimisticLocking) {
-                                                return multi(connection, set(connection, encodedKey, encodedValue))
+                                                result = multi(connection, set(connection, encodedKey, encodedValue))
                                                         .replaceWith(value);
                                             } else {
-                                                return set(connection, encodedKey, encodedValue)
+                                                result = set(connection, encodedKey, encodedValue)
                                                         .replaceWith(value);
                                             }
+                                            return result.call(() -> replaceInNearCache(actualKey, value));
                                         });
                             }
                         });
             }
         })
+                .onItem().invoke(value -> putInNearCache(actualKey, value, generation))
                 .onFailure(RedisCacheImpl::isRecomputableError).recoverWithUni(e -> {
                     log.warn("Unable to connect to Redis, recomputing cached value", e);
                     return valueLoader.apply(key);
                 });
     }
 
+    /**
+     * The value and the remaining time to live of the key are read with a single batch. The age of the entry is derived from
+     * the remaining time to live. Optimistic locking is not used.
+     */
+    private <K, V> Uni<V> getWithRefresh(K key, Type type, Function<K, Uni<V>> valueLoader) {
+        String actualKey = computeActualKey(encodeKey(key));
+        V local = getFromNearCache(actualKey);
+        if (local != null) {
+            return Uni.createFrom().item(local);
+        }
+        long generation = nearCacheGeneration();
+        byte[] encodedKey = marshaller.encode(actualKey);
+        return redis.batch(List.of(Request.cmd(Command.GET).arg(encodedKey), Request.cmd(Command.PTTL).arg(encodedKey)))
+                .chain(new Function<List<Response>, Uni<? extends V>>() {
+                    @Override
+                    public Uni<? extends V> apply(List<Response> responses) {
+                        V cached = marshaller.decode(type, responses.get(0));
+                        if (cached == null) {
+                            return valueLoader.apply(key).call(new Function<V, Uni<?>>() {
+                                @Override
+                                public Uni<?> apply(V value) {
+                                    return replace(actualKey, encodedKey, value);
+                                }
+                            });
+                        }
+                        long remaining = responses.get(1).toLong();
+                        long age = remaining < 0 ? -1 : retentionMillis - remaining;
+                        if (age >= lifetimeMillis) {
+                            // The entry is only retained because of the stale-if-error window
+                            return valueLoader.apply(key)
+                                    .call(new Function<V, Uni<?>>() {
+                                        @Override
+                                        public Uni<?> apply(V value) {
+                                            return replace(actualKey, encodedKey, value);
+                                        }
+                                    })
+                                    .onFailure().recoverWithItem(new Function<Throwable, V>() {
+                                        @Override
+                                        public V apply(Throwable t) {
+                                            log.debugf(t, "Returning the expired value of key [%s]", actualKey);
+                                            return cached;
+                                        }
+                                    });
+                        }
+                        if (refreshMillis >= 0 && age >= refreshMillis) {
+                            reload(key, actualKey, encodedKey, valueLoader);
+                        }
+                        return Uni.createFrom().item(cached);
+                    }
+                })
+                .onItem().invoke(new Consumer<V>() {
+                    @Override
+                    public void accept(V value) {
+                        putInNearCache(actualKey, value, generation);
+                    }
+                })
+                .onFailure(RedisCacheImpl::isRecomputableError).recoverWithUni(new Function<Throwable, Uni<? extends V>>() {
+                    @Override
+                    public Uni<? extends V> apply(Throwable e) {
+                        log.warn("Unable to connect to Redis, recomputing cached value", e);
+                        return valueLoader.apply(key);
+                    }
+                });
+    }
+
+    private <K, V> void reload(K key, String actualKey, byte[] encodedKey, Function<K, Uni<V>> valueLoader) {
+        if (reloads.putIfAbsent(actualKey, Boolean.TRUE) != null) {
+            // Only one reload per key is performed by this application instance
+            return;
+        }
+        log.tracef("Reloading key [%s]", actualKey);
+        Uni.createFrom().deferred(new Supplier<Uni<? extends V>>() {
+            @Override
+            public Uni<? extends V> get() {
+                return valueLoader.apply(key);
+            }
+        })
+                .call(new Function<V, Uni<?>>() {
+                    @Override
+                    public Uni<?> apply(V value) {
+                        return replace(actualKey, encodedKey, value);
+                    }
+                })
+                .onTermination().invoke(new Runnable() {
+                    @Override
+                    public void run() {
+                        reloads.remove(actualKey);
+                    }
+                })
+                .subscribe().with(new Consumer<V>() {
+                    @Override
+                    public void accept(V value) {
+                        // The new value is stored
+                    }
+                }, new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable t) {
+                        log.debugf(t, "Unable to reload key [%s], the current value is kept", actualKey);
+                    }
+                });
+    }
+
+    private Uni<Void> store(byte[] encodedKey, Object value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Cannot cache `null` value");
+        }
+        Request request = setRequest(encodedKey, marshaller.encode(value));
+        if (indexKey != null) {
+            long now = System.currentTimeMillis();
+            return redis.batch(List.of(request, indexRequest(encodedKey, now), pruneIndexRequest(now)))
+                    .replaceWithVoid();
+        }
+        return redis.send(request).replaceWithVoid();
+    }
+
+    private Uni<Void> replace(String actualKey, byte[] encodedKey, Object value) {
+        return store(encodedKey, value).call(() -> replaceInNearCache(actualKey, value));
+    }
+
+    /**
+     * The values are read with a single {@code MGET} command and the loaded values are stored with a batch of {@code SET}
+     * commands. Optimistic locking is not used and {@code expire-after-access} is not applied to the values that were found.
+     */
+    @Override
+    public Uni<Map<Object, Object>> getAll(Collection<?> keys,
+            Function<Set<Object>, Uni<Map<Object, Object>>> valuesLoader) {
+        enforceDefaultType("getAll");
+        Set<Object> distinctKeys = new LinkedHashSet<>(keys);
+        Map<Object, Object> found = new HashMap<>();
+        List<Object> remoteKeys = new ArrayList<>();
+        List<String> remoteActualKeys = new ArrayList<>();
+        Request mget = Request.cmd(Command.MGET);
+        for (Object key : distinctKeys) {
+            String actualKey = computeActualKey(encodeKey(key));
+            Object local = getFromNearCache(actualKey);
+            if (local != null) {
+                found.put(key, local);
+            } else {
+                remoteKeys.add(key);
+                remoteActualKeys.add(actualKey);
+                mget.arg(marshaller.encode(actualKey));
+            }
+        }
+        if (remoteKeys.isEmpty()) {
+            return Uni.createFrom().item(merge(distinctKeys, found, Map.of()));
+        }
+        long generation = nearCacheGeneration();
+        boolean isWorkerThread = blockingAllowedSupplier.get();
+        return redis.send(mget)
+                .chain(new Function<Response, Uni<? extends Map<Object, Object>>>() {
+                    @Override
+                    public Uni<? extends Map<Object, Object>> apply(Response response) {
+                        Set<Object> missingKeys = new LinkedHashSet<>();
+                        for (int i = 0; i < remoteKeys.size(); i++) {
+                            Object value = marshaller.decode(classOfValue, response.get(i));
+                            if (value == null) {
+                                missingKeys.add(remoteKeys.get(i));
+                            } else {
+                                found.put(remoteKeys.get(i), value);
+                                putInNearCache(remoteActualKeys.get(i), value, generation);
+                            }
+                        }
+                        if (missingKeys.isEmpty()) {
+                            return Uni.createFrom().item(merge(distinctKeys, found, Map.of()));
+                        }
+                        return loadValues(missingKeys, valuesLoader, isWorkerThread)
+                                .call(new Function<Map<Object, Object>, Uni<?>>() {
+                                    @Override
+                                    public Uni<?> apply(Map<Object, Object> loaded) {
+                                        return setAll(loaded);
+                                    }
+                                })
+                                .map(new Function<Map<Object, Object>, Map<Object, Object>>() {
+                                    @Override
+                                    public Map<Object, Object> apply(Map<Object, Object> loaded) {
+                                        return merge(distinctKeys, found, loaded);
+                                    }
+                                });
+                    }
+                })
+                .onFailure(RedisCacheImpl::isRecomputableError)
+                .recoverWithUni(new Function<Throwable, Uni<? extends Map<Object, Object>>>() {
+                    @Override
+                    public Uni<? extends Map<Object, Object>> apply(Throwable e) {
+                        log.warn("Unable to connect to Redis, recomputing cached values", e);
+                        return loadValues(distinctKeys, valuesLoader, isWorkerThread)
+                                .map(new Function<Map<Object, Object>, Map<Object, Object>>() {
+                                    @Override
+                                    public Map<Object, Object> apply(Map<Object, Object> loaded) {
+                                        // Same contract as the regular path: key order, no extra keys and no null values
+                                        return merge(distinctKeys, Map.of(), loaded);
+                                    }
+                                });
+                    }
+                });
+    }
+
+    private Uni<Map<Object, Object>> loadValues(Set<Object> keys,
+            Function<Set<Object>, Uni<Map<Object, Object>>> valuesLoader, boolean isWorkerThread) {
+        Uni<Map<Object, Object>> loaded = Uni.createFrom().deferred(new Supplier<Uni<? extends Map<Object, Object>>>() {
+            @Override
+            public Uni<? extends Map<Object, Object>> get() {
+                return valuesLoader.apply(keys);
+            }
+        });
+        if (isWorkerThread) {
+            return loaded.runSubscriptionOn(MutinyHelper.blockingExecutor(vertx.getDelegate(), false));
+        }
+        return loaded;
+    }
+
+    private Uni<Void> setAll(Map<Object, Object> values) {
+        long now = System.currentTimeMillis();
+        List<Request> requests = new ArrayList<>();
+        Map<String, Object> stored = new LinkedHashMap<>();
+        for (Map.Entry<Object, Object> entry : values.entrySet()) {
+            if (entry.getValue() == null) {
+                // Null values cannot be cached
+                continue;
+            }
+            String actualKey = computeActualKey(encodeKey(entry.getKey()));
+            byte[] encodedKey = marshaller.encode(actualKey);
+            requests.add(setRequest(encodedKey, marshaller.encode(entry.getValue())));
+            if (indexKey != null) {
+                requests.add(indexRequest(encodedKey, now));
+            }
+            stored.put(actualKey, entry.getValue());
+        }
+        if (requests.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        Uni<?> written;
+        if (indexKey != null) {
+            // The keys and the index share the hash tag of the prefix, i.e. they belong to the same slot
+            requests.add(pruneIndexRequest(now));
+            written = redis.batch(requests);
+        } else {
+            // The keys may belong to different slots of a Redis cluster, and a batch must target a single slot
+            List<Uni<Response>> sets = new ArrayList<>(requests.size());
+            for (Request request : requests) {
+                sets.add(redis.send(request));
+            }
+            written = Uni.join().all(sets).andFailFast();
+        }
+        return written.call(new Supplier<Uni<?>>() {
+            @Override
+            public Uni<?> get() {
+                if (nearCache == null) {
+                    return Uni.createFrom().voidItem();
+                }
+                // The other instances might hold values stored before the misses
+                List<Uni<Void>> replaced = new ArrayList<>(stored.size());
+                for (Map.Entry<String, Object> entry : stored.entrySet()) {
+                    replaced.add(nearCache.replace(entry.getKey(), entry.getValue()));
+                }
+                return Uni.join().all(replaced).andFailFast();
+            }
+        }).replaceWithVoid();
+    }
+
+    private static Map<Object, Object> merge(Set<Object> keys, Map<Object, Object> found, Map<Object, Object> loaded) {
+        Map<Object, Object> result = new LinkedHashMap<>();
+        for (Object key : keys) {
+            Object value = found.get(key);
+            if (value == null) {
+                value = loaded.get(key);
+            }
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
     @Override
     public <K, V> Uni<Void> put(K key, V value) {
         return put(key, new StaticSupplier<>(value));
@@ -289,14 +644,17 @@ public <K, V> Uni<Void> put(K key, V value) {
 
     @Override
     public <K, V> Uni<Void> put(K key, Supplier<V> supplier) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        byte[] encodedValue = marshaller.encode(supplier.get());
-        return withConnection(new Function<RedisConnection, Uni<Void>>() {
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
+        V value = supplier.get();
+        byte[] encodedValue = marshaller.encode(value);
+        Uni<Void> result = withConnection(new Function<RedisConnection, Uni<Void>>() {
             @Override
             public Uni<Void> apply(RedisConnection connection) {
                 return set(connection, encodedKey, encodedValue);
             }
         });
+        return result.call(() -> replaceInNearCache(actualKey, value));
     }
 
     private void enforceDefaultType(String methodName) {
@@ -325,13 +683,20 @@ public <K, V> Uni<V> getOrDefault(K key, TypeLiteral<V> type, V defaultValue) {
     }
 
     private <K, V> Uni<V> getOrDefault(K key, Type type, V defaultValue) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        V local = getFromNearCache(actualKey);
+        if (local != null) {
+            return Uni.createFrom().item(local);
+        }
+        long generation = nearCacheGeneration();
+        byte[] encodedKey = marshaller.encode(actualKey);
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection redisConnection) {
                 return doGet(redisConnection, encodedKey, type, marshaller);
             }
-        }).onItem().ifNull().continueWith(new StaticSupplier<>(defaultValue));
+        }).onItem().invoke(value -> putInNearCache(actualKey, value, generation))
+                .onItem().ifNull().continueWith(new StaticSupplier<>(defaultValue));
     }
 
     @Override
@@ -351,20 +716,38 @@ public <K, V> Uni<V> getOrNull(K key, TypeLiteral<V> type) {
     }
 
     private <K, V> Uni<V> getOrNull(K key, Type type) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        V local = getFromNearCache(actualKey);
+        if (local != null) {
+            return Uni.createFrom().item(local);
+        }
+        long generation = nearCacheGeneration();
+        byte[] encodedKey = marshaller.encode(actualKey);
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection redisConnection) {
                 return doGet(redisConnection, encodedKey, type, marshaller);
             }
-        });
+        }).onItem().invoke(value -> putInNearCache(actualKey, value, generation));
     }
 
     @Override
     public Uni<Void> invalidate(Object key) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return redis.send(Request.cmd(Command.DEL).arg(encodedKey))
-                .replaceWithVoid();
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
+        Uni<Void> result;
+        if (indexKey != null) {
+            result = redis.batch(List.of(Request.cmd(Command.DEL).arg(encodedKey),
+                    Request.cmd(Command.ZREM).arg(indexKey).arg(encodedKey)))
+                    .replaceWithVoid();
+        } else {
+            result = redis.send(Request.cmd(Command.DEL).arg(encodedKey))
+                    .replaceWithVoid();
+        }
+        if (nearCache != null) {
+            result = result.call(() -> nearCache.invalidate(actualKey));
+        }
+        return result;
     }
 
     @Override
@@ -374,6 +757,12 @@ public Uni<Void> invalidateAll() {
 
     @Override
     public Uni<Void> invalidateIf(Predicate<Object> predicate) {
+        Uni<Void> result = indexKey != null ? invalidateIndexed(predicate) : invalidateScanned(predicate);
+        // The near cache entries are not matched against the predicate, all of them are evicted
+        return result.call(() -> nearCache != null ? nearCache.invalidateAll() : Uni.createFrom().voidItem());
+    }
+
+    private Uni<Void> invalidateScanned(Predicate<Object> predicate) {
         return Uni.createFrom().emitter(new Consumer<UniEmitter<? super Set<String>>>() {
             @Override
             public void accept(UniEmitter<? super Set<String>> uniEmitter) {
@@ -402,6 +791,66 @@ public Uni<?> apply(Set<String> setOfKeys) {
                 .replaceWithVoid();
     }
 
+    private Uni<Void> invalidateIndexed(Predicate<Object> predicate) {
+        return Uni.createFrom().emitter(new Consumer<UniEmitter<? super Void>>() {
+            @Override
+            public void accept(UniEmitter<? super Void> uniEmitter) {
+                scanIndex("0", predicate, uniEmitter);
+            }
+        });
+    }
+
+    private void scanIndex(String cursor, Predicate<Object> predicate, UniEmitter<? super Void> em) {
+        Request cmd = Request.cmd(Command.ZSCAN).arg(indexKey).arg(cursor);
+        if (cacheInfo.invalidationScanSize.isPresent()) {
+            cmd.arg("COUNT").arg(cacheInfo.invalidationScanSize.getAsInt());
+        }
+        redis.send(cmd)
+                .chain(new Function<Response, Uni<String>>() {
+                    @Override
+                    public Uni<String> apply(Response response) {
+                        String newCursor = response.get(0).toString();
+                        Response partResponse = response.get(1);
+                        // The matching keys are deleted page by page, removing members does not affect the iteration
+                        var unlink = Request.cmd(Command.UNLINK);
+                        var zrem = Request.cmd(Command.ZREM).arg(indexKey);
+                        boolean hasAtLeastOneMatch = false;
+                        if (partResponse != null) {
+                            // The members alternate with their scores
+                            for (int i = 0; i < partResponse.size(); i += 2) {
+                                String key = marshaller.decode(String.class, partResponse.get(i));
+                                if (predicate == AlwaysTruePredicate.INSTANCE || predicate.test(computeUserKey(key))) {
+                                    hasAtLeastOneMatch = true;
+                                    byte[] encodedKey = marshaller.encode(key);
+                                    unlink.arg(encodedKey);
+                                    zrem.arg(encodedKey);
+                                }
+                            }
+                        }
+                        if (hasAtLeastOneMatch) {
+                            return redis.batch(List.of(unlink, zrem)).replaceWith(newCursor);
+                        } else {
+                            return Uni.createFrom().item(newCursor);
+                        }
+                    }
+                })
+                .subscribe().with(new Consumer<String>() {
+                    @Override
+                    public void accept(String newCursor) {
+                        if ("0".equals(newCursor)) {
+                            em.complete(null);
+                        } else {
+                            scanIndex(newCursor, predicate, em);
+                        }
+                    }
+                }, new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable throwable) {
+                        em.fail(throwable);
+                    }
+                });
+    }
+
     private void scanForKeys(String cursor, Set<String> result, UniEmitter<? super Set<String>> em) {
         Request cmd = Request.cmd(Command.SCAN).arg(cursor)
                 .arg("MATCH").arg(getKeyPattern());
@@ -431,6 +880,34 @@ public void accept(Throwable throwable) {
                 });
     }
 
+    private <V> V getFromNearCache(String actualKey) {
+        return nearCache != null ? nearCache.get(actualKey) : null;
+    }
+
+    private long nearCacheGeneration() {
+        return nearCache != null ? nearCache.generation() : 0;
+    }
+
+    private void putInNearCache(String actualKey, Object value, long generation) {
+        if (nearCache != null) {
+            nearCache.put(actualKey, value, generation);
+        }
+    }
+
+    private Uni<Void> replaceInNearCache(String actualKey, Object value) {
+        // The other instances must drop the previous value
+        return nearCache != null ? nearCache.replace(actualKey, value) : Uni.createFrom().voidItem();
+    }
+
+    /**
+     * Releases the resources held by the near cache, if enabled.
+     */
+    public void close() {
+        if (nearCache != null) {
+            nearCache.close();
+        }
+    }
+
     // visible only for tests
     public String computeActualKey(String key) {
         return getKeyPrefix() + ":" + key;
@@ -450,11 +927,21 @@ private String getKeyPattern() {
     }
 
     private String getKeyPrefix() {
-        if (cacheInfo.prefix != null) {
-            return cacheInfo.prefix.replace("{cache-name}", getName());
-        } else {
-            return "cache:" + getName();
+        return keyPrefix;
+    }
+
+    private static String keyPrefix(RedisCacheInfo cacheInfo, String name) {
+        String prefix = cacheInfo.prefix != null ? cacheInfo.prefix.replace("{cache-name}", name) : "cache:" + name;
+        if (cacheInfo.invalidationStrategy == InvalidationStrategy.INDEX && !hasHashTag(prefix)) {
+            // The keys of the cache and the index are updated together and must be in the same hash slot in cluster mode
+            return "{" + prefix + "}";
         }
+        return prefix;
+    }
+
+    private static boolean hasHashTag(String key) {
+        int start = key.indexOf('{');
+        return start >= 0 && key.indexOf('}', start) > start + 1;
     }
 
     private <X> Uni<X> withConnection(Function<RedisConnection, Uni<X>> function) {
@@ -483,7 +970,20 @@ private <X> Uni<X> doGet(RedisConnection connection, byte[] encoded, Type clazz,
             Marshaller marshaller) {
         if (cacheInfo.expireAfterAccess.isPresent()) {
             Duration duration = cacheInfo.expireAfterAccess.get();
-            return connection.send(Request.cmd(Command.GETEX).arg(encoded).arg("EX").arg(duration.toSeconds()))
+            Request getex = Request.cmd(Command.GETEX).arg(encoded).arg("PX").arg(duration.toMillis());
+            if (indexKey != null) {
+                // The expiry time of the member is moved together with the time to live of the key
+                Request zadd = Request.cmd(Command.ZADD).arg(indexKey).arg("XX")
+                        .arg(System.currentTimeMillis() + duration.toMillis()).arg(encoded);
+                return connection.batch(List.of(getex, zadd))
+                        .map(new Function<List<Response>, X>() {
+                            @Override
+                            public X apply(List<Response> responses) {
+                                return marshaller.decode(clazz, responses.get(0));
+                            }
+                        });
+            }
+            return connection.send(getex)
                     .map(new Function<Response, X>() {
                         @Override
                         public X apply(Response r) {
@@ -502,11 +1002,49 @@ public X apply(Response r) {
     }
 
     private Uni<Void> set(RedisConnection connection, byte[] key, byte[] value) {
+        Request request = setRequest(key, value);
+        if (indexKey != null) {
+            // All the commands are queued if a transaction is in progress
+            long now = System.currentTimeMillis();
+            return connection.batch(List.of(request, indexRequest(key, now), pruneIndexRequest(now)))
+                    .replaceWithVoid();
+        }
+        return connection.send(request).replaceWithVoid();
+    }
+
+    private Request setRequest(byte[] key, byte[] value) {
         Request request = Request.cmd(Command.SET).arg(key).arg(value);
         if (cacheInfo.expireAfterWrite.isPresent()) {
-            request = request.arg("EX").arg(cacheInfo.expireAfterWrite.get().toSeconds());
+            request = request.arg("PX").arg(reloads != null ? retention().toMillis()
+                    : cacheInfo.expireAfterWrite.get().toMillis());
         }
-        return connection.send(request).replaceWithVoid();
+        return request;
+    }
+
+    /**
+     * The score of the member is the expiry time of the key in milliseconds, or {@code +inf} if the key does not expire.
+     */
+    private Request indexRequest(byte[] key, long now) {
+        String score;
+        if (cacheInfo.expireAfterWrite.isPresent()) {
+            long ttl = reloads != null ? retention().toMillis() : cacheInfo.expireAfterWrite.get().toMillis();
+            score = Long.toString(now + ttl);
+        } else {
+            score = "+inf";
+        }
+        return Request.cmd(Command.ZADD).arg(indexKey).arg(score).arg(key);
+    }
+
+    /**
+     * Removes the members of the keys that expired so that the index does not grow without bound.
+     */
+    private Request pruneIndexRequest(long now) {
+        return Request.cmd(Command.ZREMRANGEBYSCORE).arg(indexKey).arg("-inf").arg(now);
+    }
+
+    private Duration retention() {
+        Duration expireAfterWrite = cacheInfo.expireAfterWrite.get();
+        return cacheInfo.staleIfError.isPresent() ? expireAfterWrite.plus(cacheInfo.staleIfError.get()) : expireAfterWrite;
     }
 
     private Uni<Void> multi(RedisConnection connection, Uni<Void> operation) {
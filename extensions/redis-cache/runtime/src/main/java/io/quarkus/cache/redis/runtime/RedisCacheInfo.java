@@ -5,6 +5,8 @@
 import java.util.Optional;
 import java.util.OptionalInt;
 
+import io.quarkus.cache.redis.runtime.RedisCacheRuntimeConfig.InvalidationStrategy;
+
 public class RedisCacheInfo {
 
     /**
@@ -22,6 +24,16 @@ public class RedisCacheInfo {
      */
     public Optional<Duration> expireAfterWrite = Optional.empty();
 
+    /**
+     * The age after which an item is reloaded in the background
+     */
+    public Optional<Duration> refreshAfterWrite = Optional.empty();
+
+    /**
+     * How long an expired item is kept and used if the reload fails
+     */
+    public Optional<Duration> staleIfError = Optional.empty();
+
     /**
      * the key prefix allowing to identify the keys belonging to the cache.
      * If not set, use "cache:$cache-name"
@@ -51,4 +63,24 @@ public class RedisCacheInfo {
      * no {@code COUNT} argument is present.
      */
     public OptionalInt invalidationScanSize = OptionalInt.empty();
+
+    /**
+     * The way the keys of the cache are found when the cache is invalidated.
+     */
+    public InvalidationStrategy invalidationStrategy = InvalidationStrategy.SCAN;
+
+    /**
+     * Whether the values read from Redis should also be kept in a local in-memory cache.
+     */
+    public boolean nearCache = false;
+
+    /**
+     * The maximum number of entries the near cache may contain.
+     */
+    public long nearCacheMaximumSize = 10_000;
+
+    /**
+     * The time to live of the near cache entries. If not set, {@link #expireAfterWrite} is used.
+     */
+    public Optional<Duration> nearCacheExpireAfterWrite = Optional.empty();
 }
@@ -43,6 +43,18 @@ public static Set<RedisCacheInfo> build(Set<String> cacheNames, RedisCachesRunti
                     cacheInfo.expireAfterWrite = defaultRuntimeConfig.ttl();
                 }
 
+                if (namedRuntimeConfig != null && namedRuntimeConfig.refreshAfterWrite().isPresent()) {
+                    cacheInfo.refreshAfterWrite = namedRuntimeConfig.refreshAfterWrite();
+                } else if (defaultRuntimeConfig.refreshAfterWrite().isPresent()) {
+                    cacheInfo.refreshAfterWrite = defaultRuntimeConfig.refreshAfterWrite();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.staleIfError().isPresent()) {
+                    cacheInfo.staleIfError = namedRuntimeConfig.staleIfError();
+                } else if (defaultRuntimeConfig.staleIfError().isPresent()) {
+                    cacheInfo.staleIfError = defaultRuntimeConfig.staleIfError();
+                }
+
                 if (namedRuntimeConfig != null && namedRuntimeConfig.prefix().isPresent()) {
                     cacheInfo.prefix = namedRuntimeConfig.prefix().get();
                 } else if (defaultRuntimeConfig.prefix().isPresent()) {
@@ -67,6 +79,30 @@ public static Set<RedisCacheInfo> build(Set<String> cacheNames, RedisCachesRunti
                     cacheInfo.invalidationScanSize = defaultRuntimeConfig.invalidationScanSize();
                 }
 
+                if (namedRuntimeConfig != null && namedRuntimeConfig.invalidationStrategy().isPresent()) {
+                    cacheInfo.invalidationStrategy = namedRuntimeConfig.invalidationStrategy().get();
+                } else if (defaultRuntimeConfig.invalidationStrategy().isPresent()) {
+                    cacheInfo.invalidationStrategy = defaultRuntimeConfig.invalidationStrategy().get();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCache().isPresent()) {
+                    cacheInfo.nearCache = namedRuntimeConfig.nearCache().get();
+                } else if (defaultRuntimeConfig.nearCache().isPresent()) {
+                    cacheInfo.nearCache = defaultRuntimeConfig.nearCache().get();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCacheMaximumSize().isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = namedRuntimeConfig.nearCacheMaximumSize().getAsLong();
+                } else if (defaultRuntimeConfig.nearCacheMaximumSize().isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = defaultRuntimeConfig.nearCacheMaximumSize().getAsLong();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCacheExpireAfterWrite().isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = namedRuntimeConfig.nearCacheExpireAfterWrite();
+                } else if (defaultRuntimeConfig.nearCacheExpireAfterWrite().isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = defaultRuntimeConfig.nearCacheExpireAfterWrite();
+                }
+
                 result.add(cacheInfo);
             }
             return result;
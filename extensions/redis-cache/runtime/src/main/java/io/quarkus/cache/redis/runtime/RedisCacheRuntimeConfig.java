@@ -3,6 +3,7 @@
 import java.time.Duration;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
 
@@ -28,6 +29,24 @@ public interface RedisCacheRuntimeConfig {
      */
     Optional<Duration> expireAfterAccess();
 
+    /**
+     * Specifies that an entry is reloaded in the background once a fixed duration has elapsed after the entry's creation,
+     * or the most recent replacement of its value. The current value is returned until the reload completes. If the reload
+     * fails then the current value is kept.
+     * <p>
+     * The age of an entry is derived from its remaining time to live, therefore this value is only used if
+     * {@code expire-after-write} is set and {@code expire-after-access} is not set.
+     */
+    Optional<Duration> refreshAfterWrite();
+
+    /**
+     * Specifies how long an entry is kept in Redis after it expired according to {@code expire-after-write}. The first lookup
+     * of an expired entry reloads the value; if the reload fails then the expired value is returned instead of the failure.
+     * <p>
+     * This value is only used if {@code expire-after-write} is set and {@code expire-after-access} is not set.
+     */
+    Optional<Duration> staleIfError();
+
     /**
      * The key prefix allowing to identify the keys belonging to the cache.
      * If not set, the value "{@code cache:{cache-name}}" will be used. The variable
@@ -49,4 +68,55 @@ public interface RedisCacheRuntimeConfig {
      * no {@code COUNT} argument is present.
      */
     OptionalInt invalidationScanSize();
+
+    /**
+     * The way the keys of the cache are found when the cache is invalidated with {@code @CacheInvalidateAll} or
+     * {@code invalidateIf}.
+     * Default is {@code scan}.
+     */
+    Optional<InvalidationStrategy> invalidationStrategy();
+
+    /**
+     * Whether the values read from Redis should also be kept in a local in-memory cache (near cache).
+     * A near cache hit does not require a round trip to Redis.
+     * <p>
+     * The entries of the near cache are invalidated on all application instances using Redis Pub/Sub when the cached value
+     * is replaced or invalidated.
+     * Default is {@code false}.
+     */
+    Optional<Boolean> nearCache();
+
+    /**
+     * The maximum number of entries the near cache may contain. If not set, {@code 10000} entries are kept at most.
+     */
+    OptionalLong nearCacheMaximumSize();
+
+    /**
+     * Specifies that each near cache entry should be automatically removed once a fixed duration has elapsed after the
+     * entry's creation. If not set, the value of {@code expire-after-write} is used.
+     */
+    Optional<Duration> nearCacheExpireAfterWrite();
+
+    enum InvalidationStrategy {
+
+        /**
+         * The whole Redis keyspace is iterated with the {@code SCAN} command and the keys matching the prefix of the cache are
+         * deleted.
+         */
+        SCAN,
+
+        /**
+         * The keys of the cache are also added to a Redis sorted set named {@code {prefix}#keys} and scored by their expiry
+         * time. Only the members of this set are iterated with the {@code ZSCAN} command, i.e. the cost of an invalidation
+         * depends on the size of the cache instead of the size of the keyspace.
+         * <p>
+         * The members of the keys that expired are removed from the set whenever a key is stored. The keys that were stored
+         * before this strategy was enabled are not invalidated.
+         * <p>
+         * Unless the prefix already contains a hash tag, it is wrapped in curly braces, e.g. {@code {cache:my-cache}:key}, so
+         * that all the keys of the cache and the index are in the same hash slot of a Redis cluster.
+         */
+        INDEX,
+
+    }
 }
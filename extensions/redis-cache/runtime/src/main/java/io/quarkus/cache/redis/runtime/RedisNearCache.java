@@ -0,0 +1,260 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.logging.Logger;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+
+/**
+ * The local in-memory tier of a Redis cache.
+ * <p>
+ * The entries are keyed by the actual Redis key. Every instance subscribes to a Redis Pub/Sub channel specific to the cache
+ * and evicts the local entries when another instance replaces or invalidates the value. A message is composed of the id of
+ * the publishing instance and the Redis key; an empty key stands for all the keys of the cache.
+ * <p>
+ * The near cache is only used while the subscription is active. If the subscription is lost then all the local entries
+ * are dropped because some invalidation messages might have been missed.
+ * <p>
+ * Every mutation of the local entries increments the generation and records it for the mutated key, so that a value read
+ * from Redis before the mutation of the same key is never stored afterwards. The mutations of other keys do not prevent the
+ * value from being stored.
+ */
+class RedisNearCache {
+
+    private static final Logger log = Logger.getLogger(RedisNearCache.class);
+
+    private final Redis redis;
+    private final String channel;
+    private final String instanceId;
+    private final Cache<String, Object> entries;
+    private final long maxTrackedMutations;
+
+    // Guards the generation check of put() against the concurrent mutations
+    private final Object lock = new Object();
+    // Incremented whenever the local entries are mutated
+    private final AtomicLong generation = new AtomicLong();
+    // The generation of the last mutation of a key, guarded by the lock
+    private final Map<String, Long> keyGenerations = new HashMap<>();
+    // Values read before this generation are not stored, guarded by the lock
+    private long minGeneration;
+    private final AtomicBoolean subscribing = new AtomicBoolean();
+    private volatile RedisConnection subscription;
+    private volatile boolean closed;
+
+    RedisNearCache(Redis redis, String channel, RedisCacheInfo cacheInfo) {
+        this.redis = redis;
+        this.channel = channel;
+        this.instanceId = UUID.randomUUID().toString();
+        this.maxTrackedMutations = cacheInfo.nearCacheMaximumSize;
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(cacheInfo.nearCacheMaximumSize);
+        Optional<Duration> expireAfterWrite = cacheInfo.nearCacheExpireAfterWrite.or(() -> cacheInfo.expireAfterWrite);
+        if (expireAfterWrite.isPresent()) {
+            builder.expireAfterWrite(expireAfterWrite.get());
+        }
+        this.entries = builder.build();
+        subscribe();
+    }
+
+    /**
+     * @return the value for the given Redis key, or {@code null} if not present or the near cache is not active
+     */
+    @SuppressWarnings("unchecked")
+    <V> V get(String key) {
+        if (!isActive()) {
+            return null;
+        }
+        return (V) entries.getIfPresent(key);
+    }
+
+    /**
+     * The returned value must be obtained before Redis is queried and passed to {@link #put(String, Object, long)} so that a
+     * value read before a concurrent remote invalidation is not stored.
+     */
+    long generation() {
+        return generation.get();
+    }
+
+    void put(String key, Object value, long expectedGeneration) {
+        if (value != null && isActive()) {
+            synchronized (lock) {
+                if (minGeneration <= expectedGeneration
+                        && keyGenerations.getOrDefault(key, 0L) <= expectedGeneration) {
+                    entries.put(key, value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Stores the new value locally and evicts the key on the other instances.
+     */
+    Uni<Void> replace(String key, Object value) {
+        boolean active = isActive();
+        synchronized (lock) {
+            mutated(key);
+            if (active) {
+                entries.put(key, value);
+            } else {
+                entries.invalidate(key);
+            }
+        }
+        return publish(key);
+    }
+
+    /**
+     * Evicts the key locally and on the other instances.
+     */
+    Uni<Void> invalidate(String key) {
+        evict(key);
+        return publish(key);
+    }
+
+    /**
+     * Evicts all the keys locally and on the other instances.
+     */
+    Uni<Void> invalidateAll() {
+        evictAll();
+        return publish("");
+    }
+
+    /**
+     * Unsubscribes from the channel and closes the dedicated connection. The near cache is not used afterwards.
+     */
+    void close() {
+        closed = true;
+        RedisConnection connection = subscription;
+        subscription = null;
+        evictAll();
+        if (connection != null) {
+            unsubscribe(connection);
+        }
+    }
+
+    private Uni<Void> publish(String key) {
+        return redis.send(Request.cmd(Command.PUBLISH).arg(channel).arg(instanceId + " " + key))
+                .replaceWithVoid();
+    }
+
+    private boolean isActive() {
+        if (closed) {
+            return false;
+        }
+        if (subscription != null) {
+            return true;
+        }
+        subscribe();
+        return false;
+    }
+
+    private void subscribe() {
+        if (closed || !subscribing.compareAndSet(false, true)) {
+            return;
+        }
+        redis.connect()
+                .call(connection -> {
+                    connection.handler(response -> handle(connection, response));
+                    connection.endHandler(() -> deactivate(connection));
+                    connection.exceptionHandler(t -> {
+                        log.debugf(t, "Near cache subscription to %s failed", channel);
+                        deactivate(connection);
+                    });
+                    return connection.send(Request.cmd(Command.SUBSCRIBE).arg(channel))
+                            .onFailure().call(connection::close);
+                })
+                .subscribe().with(connection -> {
+                    // The subscription becomes active when the confirmation is received
+                }, t -> {
+                    log.debugf(t, "Unable to subscribe to %s, the near cache is not used", channel);
+                    subscribing.set(false);
+                });
+    }
+
+    private void handle(RedisConnection connection, Response response) {
+        if (response == null || response.size() == 0) {
+            return;
+        }
+        String type = response.get(0).toString();
+        if ("subscribe".equalsIgnoreCase(type)) {
+            if (closed) {
+                // The near cache was closed while subscribing
+                unsubscribe(connection);
+                return;
+            }
+            // Entries stored before the subscription might be stale
+            evictAll();
+            subscription = connection;
+        } else if ("message".equalsIgnoreCase(type)) {
+            String message = response.get(2).toString();
+            int separator = message.indexOf(' ');
+            if (separator < 0 || (separator == instanceId.length() && message.startsWith(instanceId))) {
+                // Changes made by this instance are already reflected locally
+                return;
+            }
+            String key = message.substring(separator + 1);
+            if (key.isEmpty()) {
+                evictAll();
+            } else {
+                evict(key);
+            }
+        }
+    }
+
+    private void unsubscribe(RedisConnection connection) {
+        connection.send(Request.cmd(Command.UNSUBSCRIBE).arg(channel))
+                .onTermination().call(connection::close)
+                .subscribe().with(response -> {
+                    // Nothing to do
+                }, t -> log.debugf(t, "Unable to unsubscribe from %s", channel));
+    }
+
+    private void deactivate(RedisConnection connection) {
+        if (subscription == connection || subscription == null) {
+            subscription = null;
+            evictAll();
+            subscribing.set(false);
+        }
+    }
+
+    private void evict(String key) {
+        synchronized (lock) {
+            mutated(key);
+            entries.invalidate(key);
+        }
+    }
+
+    private void evictAll() {
+        synchronized (lock) {
+            minGeneration = generation.incrementAndGet();
+            keyGenerations.clear();
+            entries.invalidateAll();
+        }
+    }
+
+    // Must be called while holding the lock
+    private void mutated(String key) {
+        long current = generation.incrementAndGet();
+        if (keyGenerations.size() >= maxTrackedMutations) {
+            // The tracked keys are bounded, the pending values of all the keys are discarded instead
+            minGeneration = current;
+            keyGenerations.clear();
+        } else {
+            keyGenerations.put(key, current);
+        }
+    }
+
+}
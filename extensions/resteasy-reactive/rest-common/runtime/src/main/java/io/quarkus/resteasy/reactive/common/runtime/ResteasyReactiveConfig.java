@@ -44,6 +44,21 @@ public interface ResteasyReactiveConfig {
     @WithDefault("8191")
     int outputBufferSize();
 
+    /**
+     * The number of bytes of serialized elements that are buffered before they are written to the response when a
+     * {@code Multi} is streamed as a JSON array, i.e. when the produced media type is {@code application/json}.
+     * <p>
+     * Buffering the elements reduces the number of writes and HTTP chunks, while the memory used by a response is still
+     * limited to a single chunk. The elements are requested from the {@code Multi} only after the previous chunk was written,
+     * so a slow client slows down the producer. Note that the buffered elements are written only when the chunk is full or
+     * when the {@code Multi} completes, so this should only be used for streams that emit elements quickly, e.g. an export of
+     * a database table.
+     * <p>
+     * If set to {@code 0}, each element is written as soon as it's emitted.
+     */
+    @WithDefault("0")
+    int streamingJsonArrayChunkSize();
+
     /**
      * By default, we assume a default produced media type of "text/plain"
      * for String endpoint return types. If this is disabled, the default
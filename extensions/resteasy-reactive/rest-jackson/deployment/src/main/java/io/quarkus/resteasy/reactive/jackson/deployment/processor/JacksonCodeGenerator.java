@@ -32,6 +32,7 @@
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
@@ -63,6 +64,7 @@ public abstract class JacksonCodeGenerator {
             JsonCreator.class.getName(),
             JsonIgnore.class.getName(),
             JsonIgnoreProperties.class.getName(),
+            JsonInclude.class.getName(),
             JsonNaming.class.getName(),
             JsonProperty.class.getName(),
             JsonSubTypes.class.getName(),
@@ -196,11 +198,20 @@ private static boolean vetoedClassName(String className) {
 
     private static Optional<String> findUnknownAnnotation(ClassInfo classInfo) {
         return classInfo.annotations().stream()
+                .filter(a -> FieldSpecs.isUnknownAnnotation(a.name().toString()) || FieldSpecs.isUnsupportedJsonInclude(a))
                 .map(a -> a.name().toString())
-                .filter(FieldSpecs::isUnknownAnnotation)
                 .findFirst();
     }
 
+    /**
+     * @return the value inclusion declared by the {@code @JsonInclude} annotation of the given class or one of its superclasses,
+     *         or {@code null} if the default inclusion of the {@code ObjectMapper} should be used
+     */
+    protected String classInclude(ClassInfo classInfo) {
+        String include = FieldSpecs.include(classInfo.declaredAnnotation(JsonInclude.class));
+        return include != null ? include : onSuperClass(classInfo, this::classInclude);
+    }
+
     protected enum FieldKind {
         OBJECT(false),
         ARRAY(false),
@@ -509,6 +520,39 @@ boolean isUnwrapped() {
             return annotations.get(JsonUnwrapped.class.getName()) != null;
         }
 
+        /**
+         * Only the value inclusions that can be decided by looking at the property value are supported.
+         */
+        static boolean isUnsupportedJsonInclude(AnnotationInstance ann) {
+            if (!ann.name().toString().equals(JsonInclude.class.getName())) {
+                return false;
+            }
+            if (ann.value("content") != null || ann.value("valueFilter") != null || ann.value("contentFilter") != null) {
+                return true;
+            }
+            AnnotationValue value = ann.value();
+            if (value == null) {
+                return false;
+            }
+            return switch (JsonInclude.Include.valueOf(value.asEnum())) {
+                case ALWAYS, NON_NULL, NON_ABSENT, NON_EMPTY, USE_DEFAULTS -> false;
+                default -> true;
+            };
+        }
+
+        static String include(AnnotationInstance jsonInclude) {
+            if (jsonInclude == null) {
+                return null;
+            }
+            AnnotationValue value = jsonInclude.value();
+            String include = value != null ? value.asEnum() : JsonInclude.Include.ALWAYS.name();
+            return include.equals(JsonInclude.Include.USE_DEFAULTS.name()) ? null : include;
+        }
+
+        String include() {
+            return include(annotations.get(JsonInclude.class.getName()));
+        }
+
         static boolean isUnknownAnnotation(String ann) {
             if (ann.startsWith("com.fasterxml.jackson.")) {
                 return !SUPPORTED_JACKSON_ANNOTATIONS.contains(ann);
@@ -1,14 +1,17 @@
 package io.quarkus.resteasy.reactive.jackson.deployment.processor;
 
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PROTECTED;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
 
 import java.io.IOException;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -17,8 +20,10 @@
 import org.jboss.jandex.FieldInfo;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
 import org.jboss.jandex.VoidType;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.SerializableString;
@@ -154,6 +159,12 @@
  * }
  * }</pre>
  *
+ * A property whose declared type can't be subclassed, like an enum, a record or a {@code java.time} type, is written with
+ * {@code serializeProperty(index, value, jsonGenerator, serializerProvider)}. The serializers of these types are looked up
+ * once when Jackson resolves the generated serializer, so that the serializer lookup is not repeated for each serialized
+ * object. The {@code @JsonInclude} annotation declared on a class or on a property overrides the default inclusion of the
+ * {@code ObjectMapper}.
+ *
  * Here, for performance reasons, the names of the fields to be serialized is stored as Jackson's {@code SerializedString}s
  * in an external class, and reused for each serialization, thus avoiding executing the UTF-8 encoding of the same strings
  * at each serialization.
@@ -170,6 +181,13 @@ public class JacksonSerializerFactory extends JacksonCodeGenerator {
     private static final String SUPER_CLASS_NAME = GeneratedSerializer.class.getName();
     private static final String SER_STRINGS_CLASS_NAME = "SerializedStrings$quarkusjacksonserializer";
 
+    // Final JDK types that are usually serialized by a registered module, e.g. jackson-datatype-jsr310
+    private static final Set<String> FINAL_JDK_VALUE_TYPES = Set.of(
+            "java.time.Instant", "java.time.LocalDate", "java.time.LocalDateTime", "java.time.LocalTime",
+            "java.time.OffsetDateTime", "java.time.OffsetTime", "java.time.ZonedDateTime", "java.time.Duration",
+            "java.time.Period", "java.time.Year", "java.time.YearMonth", "java.time.MonthDay", "java.time.ZoneOffset",
+            "java.time.DayOfWeek", "java.time.Month", "java.util.UUID", "java.util.Locale", "java.net.URI", "java.net.URL");
+
     private final Map<String, Set<String>> generatedFields = new HashMap<>();
 
     public JacksonSerializerFactory(BuildProducer<GeneratedClassBuildItem> generatedClassBuildItemBuildProducer,
@@ -236,12 +254,11 @@ protected boolean createSerializationMethod(ClassInfo classInfo, ClassCreator cl
                 .setModifiers(ACC_PUBLIC)
                 .addException(IOException.class);
 
+        SerializationContext ctx = new SerializationContext(contentMethod, beanClassName, classInclude(classInfo));
         if (isJsonValue) {
-            SerializationContext ctx = new SerializationContext(contentMethod, beanClassName);
             serializeJsonValue(ctx, contentMethod, jsonValueFieldSpecs.get());
         } else {
             Set<String> serializedFields = new HashSet<>();
-            SerializationContext ctx = new SerializationContext(contentMethod, beanClassName);
             serializeObjectData(classInfo, classCreator, contentMethod, ctx, serializedFields);
             if (serializedFields.isEmpty()) {
                 throwExceptionForEmptyBean(beanClassName, contentMethod, contentMethod.getMethodParam(1));
@@ -250,6 +267,10 @@ protected boolean createSerializationMethod(ClassInfo classInfo, ClassCreator cl
         }
         contentMethod.returnVoid();
 
+        if (!ctx.propertyTypes.isEmpty()) {
+            createPropertyTypesMethods(classCreator, ctx.propertyTypes);
+        }
+
         if (isJsonValue) {
             // @JsonValue: override serialize() to skip object boundaries
             MethodCreator serialize = classCreator.getMethodCreator("serialize", void.class,
@@ -266,6 +287,21 @@ protected boolean createSerializationMethod(ClassInfo classInfo, ClassCreator cl
         return true;
     }
 
+    private static void createPropertyTypesMethods(ClassCreator classCreator, List<String> propertyTypes) {
+        MethodCreator propertyTypesMethod = classCreator.getMethodCreator("propertyTypes", Class[].class)
+                .setModifiers(ACC_PROTECTED);
+        ResultHandle typesArray = propertyTypesMethod.newArray(Class.class, propertyTypes.size());
+        for (int i = 0; i < propertyTypes.size(); i++) {
+            propertyTypesMethod.writeArrayValue(typesArray, propertyTypesMethod.load(i),
+                    propertyTypesMethod.loadClass(propertyTypes.get(i)));
+        }
+        propertyTypesMethod.returnValue(typesArray);
+
+        MethodCreator newInstance = classCreator.getMethodCreator("newInstance", GeneratedSerializer.class)
+                .setModifiers(ACC_PUBLIC);
+        newInstance.returnValue(newInstance.newInstance(MethodDescriptor.ofConstructor(classCreator.getClassName())));
+    }
+
     private Optional<FieldSpecs> jsonValueFieldSpecs(ClassInfo classInfo) {
         var jsonValueAnnotationFound = classInfo.hasAnnotation(JsonValue.class);
         if (!jsonValueAnnotationFound) {
@@ -362,7 +398,7 @@ private boolean isGetterMethod(MethodInfo methodInfo) {
 
     private void writeField(ClassInfo classInfo, FieldSpecs fieldSpecs, BytecodeCreator bytecode, SerializationContext ctx) {
         ResultHandle arg = fieldSpecs.toValueReaderHandle(bytecode, ctx.valueHandle);
-        bytecode = checkInclude(bytecode, ctx, arg);
+        bytecode = checkInclude(bytecode, ctx, arg, fieldSpecs.include());
 
         if (fieldSpecs.isUnwrapped()) {
             String typeName = fieldSpecs.fieldType.name().toString();
@@ -413,6 +449,11 @@ private void writeFieldValue(FieldSpecs fieldSpecs, BytecodeCreator bytecode, Se
                 bytecode.invokeStaticMethod(serializeCollectionMethod, arg,
                         bytecode.loadClass(collectionClassName), bytecode.loadClass(elementTypeName),
                         ctx.jsonGenerator, ctx.serializerProvider);
+            } else if (isFinalValueType(fieldSpecs.fieldType, typeName)) {
+                MethodDescriptor serializePropertyMethod = MethodDescriptor.ofMethod(SUPER_CLASS_NAME, "serializeProperty",
+                        void.class, int.class, Object.class, JsonGenerator.class, SerializerProvider.class);
+                bytecode.invokeVirtualMethod(serializePropertyMethod, bytecode.getThis(),
+                        bytecode.load(ctx.propertyIndex(typeName)), arg, ctx.jsonGenerator, ctx.serializerProvider);
             } else {
                 MethodDescriptor serializePojoMethod = MethodDescriptor.ofMethod(JacksonMapperUtil.class.getName(),
                         "serializePojo",
@@ -422,14 +463,38 @@ private void writeFieldValue(FieldSpecs fieldSpecs, BytecodeCreator bytecode, Se
         }
     }
 
-    private static BytecodeCreator checkInclude(BytecodeCreator bytecode, SerializationContext ctx, ResultHandle arg) {
+    private boolean isFinalValueType(Type fieldType, String typeName) {
+        if (fieldType.kind() != Type.Kind.CLASS) {
+            return false;
+        }
+        if (FINAL_JDK_VALUE_TYPES.contains(typeName)) {
+            return true;
+        }
+        ClassInfo classInfo = jandexIndex.getClassByName(typeName);
+        return classInfo != null && !classInfo.isInterface()
+                && (classInfo.isEnum() || classInfo.isRecord() || Modifier.isFinal(classInfo.flags()));
+    }
+
+    private static BytecodeCreator checkInclude(BytecodeCreator bytecode, SerializationContext ctx, ResultHandle arg,
+            String propertyInclude) {
+        if (JsonInclude.Include.ALWAYS.name().equals(propertyInclude)) {
+            return bytecode;
+        }
+        ResultHandle includeHandle = propertyInclude != null
+                ? bytecode.readStaticField(includeField(propertyInclude))
+                : ctx.includeHandle;
         MethodDescriptor shouldSerialize = MethodDescriptor.ofMethod(JacksonMapperUtil.SerializationInclude.class,
                 "shouldSerialize",
                 boolean.class, Object.class);
-        ResultHandle included = bytecode.invokeVirtualMethod(shouldSerialize, ctx.includeHandle, arg);
+        ResultHandle included = bytecode.invokeVirtualMethod(shouldSerialize, includeHandle, arg);
         return bytecode.ifTrue(included).trueBranch();
     }
 
+    private static FieldDescriptor includeField(String include) {
+        return FieldDescriptor.of(JacksonMapperUtil.SerializationInclude.class, include,
+                JacksonMapperUtil.SerializationInclude.class);
+    }
+
     private static void writeFieldName(FieldSpecs fieldSpecs, BytecodeCreator bytecode, SerializationContext ctx,
             String pkgName) {
         ResultHandle serStringHandle = bytecode.readStaticField(
@@ -549,17 +614,31 @@ private void throwExceptionForEmptyBean(String beanClassName, MethodCreator seri
     }
 
     private record SerializationContext(ResultHandle valueHandle, ResultHandle jsonGenerator, ResultHandle serializerProvider,
-            ResultHandle includeHandle, ResultHandle strategyHandle, ResultHandle activeViewHandle) {
-        SerializationContext(MethodCreator serialize, String beanClassName) {
+            ResultHandle includeHandle, ResultHandle strategyHandle, ResultHandle activeViewHandle,
+            List<String> propertyTypes) {
+        SerializationContext(MethodCreator serialize, String beanClassName, String classInclude) {
             this(valueHandle(serialize, beanClassName), serialize.getMethodParam(1), serialize.getMethodParam(2),
-                    includeHandle(serialize), strategyHandle(serialize), activeViewHandle(serialize));
+                    includeHandle(serialize, classInclude), strategyHandle(serialize), activeViewHandle(serialize),
+                    new ArrayList<>());
+        }
+
+        int propertyIndex(String typeName) {
+            int index = propertyTypes.indexOf(typeName);
+            if (index < 0) {
+                propertyTypes.add(typeName);
+                index = propertyTypes.size() - 1;
+            }
+            return index;
         }
 
         private static ResultHandle valueHandle(MethodCreator serialize, String beanClassName) {
             return serialize.checkCast(serialize.getMethodParam(0), beanClassName);
         }
 
-        private static ResultHandle includeHandle(MethodCreator serialize) {
+        private static ResultHandle includeHandle(MethodCreator serialize, String classInclude) {
+            if (classInclude != null) {
+                return serialize.readStaticField(includeField(classInclude));
+            }
             MethodDescriptor decodeInclude = MethodDescriptor.ofMethod(JacksonMapperUtil.SerializationInclude.class, "decode",
                     JacksonMapperUtil.SerializationInclude.class, Object.class, SerializerProvider.class);
             return serialize.invokeStaticMethod(decodeInclude, serialize.getMethodParam(0), serialize.getMethodParam(2));
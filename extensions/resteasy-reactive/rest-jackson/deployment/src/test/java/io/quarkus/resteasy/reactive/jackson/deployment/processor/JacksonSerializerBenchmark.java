@@ -0,0 +1,166 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.jandex.Index;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.GeneratedSerializersRegister;
+
+/**
+ * Compares the throughput of the serializers generated by {@link JacksonSerializerFactory} with the standard
+ * {@code BeanSerializer} of an {@code ObjectMapper} with the same configuration.
+ * <p>
+ * Run the {@link #main(String[])} method from the IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class JacksonSerializerBenchmark {
+
+    @Param({ "1", "50" })
+    public int lines;
+
+    private ObjectMapper standardMapper;
+    private ObjectMapper reflectionFreeMapper;
+    private Order order;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setup() throws Exception {
+        GeneratedClassLoader classLoader = new GeneratedClassLoader();
+        Index index = Index.of(Order.class, Line.class, Status.class);
+        JacksonSerializerFactory factory = new JacksonSerializerFactory(
+                item -> classLoader.classes.put(item.binaryName(), item.getClassData()), index);
+        for (String serializer : factory.create(List.of(index.getClassByName(Order.class)))) {
+            GeneratedSerializersRegister.addSerializer((Class<? extends StdSerializer>) classLoader.loadClass(serializer));
+        }
+
+        standardMapper = newMapper();
+        reflectionFreeMapper = newMapper();
+        new GeneratedSerializersRegister().customize(reflectionFreeMapper);
+
+        List<Line> orderLines = new ArrayList<>();
+        for (int i = 0; i < lines; i++) {
+            orderLines.add(new Line("SKU-" + i, i + 1, new BigDecimal("9.99"), i % 2 == 0 ? Status.NEW : Status.SHIPPED));
+        }
+        order = new Order(42L, "Jane Doe", LocalDate.of(2024, 5, 1), Status.NEW, null, orderLines);
+    }
+
+    @Benchmark
+    public byte[] standard() throws IOException {
+        return standardMapper.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public byte[] reflectionFree() throws IOException {
+        return reflectionFreeMapper.writeValueAsBytes(order);
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] { JacksonSerializerBenchmark.class.getSimpleName(), "-prof", "gc" });
+    }
+
+    private static ObjectMapper newMapper() {
+        // The same defaults as the ObjectMapper produced by quarkus-jackson
+        return JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    public enum Status {
+        NEW,
+        SHIPPED
+    }
+
+    public record Line(String sku, int quantity, BigDecimal price, Status status) {
+    }
+
+    public static class Order {
+
+        private final long id;
+        private final String customer;
+        private final LocalDate created;
+        private final Status status;
+        private final String note;
+        private final List<Line> lines;
+
+        public Order(long id, String customer, LocalDate created, Status status, String note, List<Line> lines) {
+            this.id = id;
+            this.customer = customer;
+            this.created = created;
+            this.status = status;
+            this.note = note;
+            this.lines = lines;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getCustomer() {
+            return customer;
+        }
+
+        public LocalDate getCreated() {
+            return created;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public String getNote() {
+            return note;
+        }
+
+        public List<Line> getLines() {
+            return lines;
+        }
+    }
+
+    static class GeneratedClassLoader extends ClassLoader {
+
+        final Map<String, byte[]> classes = new HashMap<>();
+
+        GeneratedClassLoader() {
+            super(JacksonSerializerBenchmark.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] data = classes.get(name);
+            if (data == null) {
+                throw new ClassNotFoundException(name);
+            }
+            return defineClass(name, data, 0, data.length);
+        }
+    }
+}
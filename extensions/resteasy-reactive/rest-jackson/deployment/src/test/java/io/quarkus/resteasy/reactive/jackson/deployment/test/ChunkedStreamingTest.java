@@ -0,0 +1,99 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static io.restassured.RestAssured.when;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.hamcrest.CoreMatchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.smallrye.mutiny.Multi;
+
+public class ChunkedStreamingTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(StreamingResource.class, Row.class)
+                    .addAsResource(new StringAsset("quarkus.rest.streaming-json-array-chunk-size=64\n"),
+                            "application.properties"));
+
+    @Test
+    public void testRows() {
+        when().get("/test/rows")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .body("size()", CoreMatchers.is(1000))
+                .body("[0].id", CoreMatchers.is(0))
+                .body("[999].name", CoreMatchers.is("row-999"));
+    }
+
+    @Test
+    public void testSingleChunk() {
+        when().get("/test/strings")
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.is("[\"Hello\",\"Hola\"]"));
+    }
+
+    @Test
+    public void testEmpty() {
+        when().get("/test/empty")
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.is("[]"));
+    }
+
+    @Test
+    public void testFailureBeforeFirstChunk() {
+        // Nothing was written yet so the failure is mapped to an error response
+        when().get("/test/failure")
+                .then()
+                .statusCode(500);
+    }
+
+    @Path("/test")
+    public static class StreamingResource {
+
+        @GET
+        @Path("rows")
+        @Produces(MediaType.APPLICATION_JSON)
+        public Multi<Row> rows() {
+            return Multi.createFrom().range(0, 1000).map(i -> new Row(i, "row-" + i));
+        }
+
+        @GET
+        @Path("strings")
+        @Produces(MediaType.APPLICATION_JSON)
+        public Multi<String> strings() {
+            return Multi.createFrom().items("Hello", "Hola");
+        }
+
+        @GET
+        @Path("empty")
+        @Produces(MediaType.APPLICATION_JSON)
+        public Multi<String> empty() {
+            return Multi.createFrom().empty();
+        }
+
+        @GET
+        @Path("failure")
+        @Produces(MediaType.APPLICATION_JSON)
+        public Multi<String> failure() {
+            return Multi.createBy().concatenating().streams(Multi.createFrom().items("Hello"),
+                    Multi.createFrom().failure(new IllegalStateException("boom")));
+        }
+    }
+
+    public record Row(int id, String name) {
+    }
+}
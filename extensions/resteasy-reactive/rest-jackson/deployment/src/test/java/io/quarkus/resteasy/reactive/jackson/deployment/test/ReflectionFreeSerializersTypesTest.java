@@ -0,0 +1,63 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.restassured.RestAssured;
+
+public class ReflectionFreeSerializersTypesTest {
+
+    @RegisterExtension
+    static QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(ShipmentResource.class, Shipment.class, Shipment.Status.class, Shipment.Event.class)
+                            .addAsResource(
+                                    new StringAsset(
+                                            "quarkus.rest.jackson.optimization.enable-reflection-free-serializers=true\n"),
+                                    "application.properties");
+                }
+            }).setLogRecordPredicate(record -> record.getLevel().equals(Level.INFO)
+                    && record.getLoggerName().equals(
+                            "io.quarkus.resteasy.reactive.jackson.deployment.processor.JacksonCodeGenerator"))
+            .assertLogRecords(records -> assertThat(records).isEmpty());
+
+    @Test
+    public void testShipment() {
+        RestAssured.get("/shipment")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .body("id", Matchers.equalTo("S1"))
+                .body("status", Matchers.equalTo("SHIPPED"))
+                .body("shippedOn", Matchers.equalTo("2024-05-01"))
+                .body("updatedAt", Matchers.equalTo("2024-05-01T10:15:30Z"))
+                .body("$", Matchers.not(Matchers.hasKey("note")))
+                .body("$", Matchers.hasKey("carrier"))
+                .body("events[0].status", Matchers.equalTo("PENDING"))
+                .body("events[0].at", Matchers.equalTo("2024-04-30T09:00:00"))
+                .body("events[1].status", Matchers.equalTo("SHIPPED"))
+                .body("events[1]", Matchers.hasKey("at"));
+    }
+
+    @Test
+    public void testEmptyShipment() {
+        RestAssured.get("/shipment/empty")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .body(Matchers.is("{\"carrier\":null}"));
+    }
+}
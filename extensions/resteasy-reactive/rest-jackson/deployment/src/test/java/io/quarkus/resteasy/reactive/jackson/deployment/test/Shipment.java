@@ -0,0 +1,36 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class Shipment {
+
+    public String id;
+
+    public Status status;
+
+    public LocalDate shippedOn;
+
+    public Instant updatedAt;
+
+    public String note;
+
+    @JsonInclude(JsonInclude.Include.ALWAYS)
+    public String carrier;
+
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    public List<Event> events;
+
+    public enum Status {
+        PENDING,
+        SHIPPED
+    }
+
+    public record Event(Status status, LocalDateTime at) {
+    }
+}
@@ -0,0 +1,36 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import io.smallrye.common.annotation.NonBlocking;
+
+@Path("/shipment")
+@NonBlocking
+public class ShipmentResource {
+
+    @GET
+    public Shipment get() {
+        Shipment shipment = new Shipment();
+        shipment.id = "S1";
+        shipment.status = Shipment.Status.SHIPPED;
+        shipment.shippedOn = LocalDate.of(2024, 5, 1);
+        shipment.updatedAt = Instant.parse("2024-05-01T10:15:30Z");
+        shipment.events = List.of(new Shipment.Event(Shipment.Status.PENDING, LocalDateTime.of(2024, 4, 30, 9, 0)),
+                new Shipment.Event(Shipment.Status.SHIPPED, null));
+        return shipment;
+    }
+
+    @GET
+    @Path("/empty")
+    public Shipment empty() {
+        Shipment shipment = new Shipment();
+        shipment.events = List.of();
+        return shipment;
+    }
+}
@@ -5,18 +5,74 @@
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import com.fasterxml.jackson.databind.util.NameTransformer;
 
-public abstract class GeneratedSerializer extends StdSerializer<Object> {
+public abstract class GeneratedSerializer extends StdSerializer<Object> implements ResolvableSerializer {
+
+    private static final Class<?>[] NO_PROPERTY_TYPES = new Class<?>[0];
+
+    private volatile JsonSerializer<Object>[] propertySerializers;
 
     protected GeneratedSerializer(Class<?> cls) {
         super(cls, false);
     }
 
+    /**
+     * The declared types of the properties that are written with {@link #serializeProperty(int, Object, JsonGenerator,
+     * SerializerProvider)}. These types can't be subclassed, e.g. enums, records or {@code java.time} types, and so their
+     * serializers are looked up only once when this serializer is resolved, like {@code BeanSerializer} does for its
+     * properties.
+     */
+    protected Class<?>[] propertyTypes() {
+        return NO_PROPERTY_TYPES;
+    }
+
+    /**
+     * A serializer that holds resolved property serializers must not be shared by multiple {@code ObjectMapper}s because
+     * each of them may have a different configuration and set of modules.
+     *
+     * @return a serializer instance that can be registered in a new {@code ObjectMapper}
+     */
+    public GeneratedSerializer newInstance() {
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException {
+        Class<?>[] types = propertyTypes();
+        if (types.length == 0) {
+            return;
+        }
+        JsonSerializer<Object>[] serializers = new JsonSerializer[types.length];
+        for (int i = 0; i < types.length; i++) {
+            try {
+                serializers[i] = provider.findTypedValueSerializer(types[i], true, null);
+            } catch (JsonMappingException e) {
+                // Report the problem only if a value of this type is actually serialized
+                serializers[i] = null;
+            }
+        }
+        propertySerializers = serializers;
+    }
+
+    protected void serializeProperty(int index, Object value, JsonGenerator gen,
+            SerializerProvider prov) throws IOException {
+        JsonSerializer<Object>[] serializers = propertySerializers;
+        if (value == null || serializers == null || serializers[index] == null) {
+            // Not resolved, e.g. if used directly and not via an ObjectMapper
+            JacksonMapperUtil.serializePojo(value, gen, prov);
+        } else {
+            serializers[index].serialize(value, gen, prov);
+        }
+    }
+
     public abstract void serializeContent(Object value, JsonGenerator gen,
             SerializerProvider prov) throws IOException;
 
@@ -17,6 +17,7 @@
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 import io.quarkus.jackson.ObjectMapperCustomizer;
+import io.quarkus.resteasy.reactive.jackson.runtime.mappers.GeneratedSerializer;
 
 @Singleton
 public class GeneratedSerializersRegister implements ObjectMapperCustomizer {
@@ -66,6 +67,10 @@ public <T> void addExactSerializer(Class<? extends T> type, JsonSerializer<T> se
         @Override
         public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
             JsonSerializer<?> exactSerializer = exactSerializers.get(type.getRawClass());
+            if (exactSerializer instanceof GeneratedSerializer generatedSerializer) {
+                // Every ObjectMapper resolves the property serializers of its own instance
+                return generatedSerializer.newInstance();
+            }
             return exactSerializer != null ? exactSerializer : super.findSerializer(config, type, beanDesc);
         }
     }
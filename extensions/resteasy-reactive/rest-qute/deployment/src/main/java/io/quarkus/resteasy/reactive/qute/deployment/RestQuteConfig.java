@@ -19,4 +19,18 @@ public interface RestQuteConfig {
     @WithDefault("false")
     boolean templateInstanceNonBlockingType();
 
+    /**
+     * If set to {@code true} then a {@link io.quarkus.qute.TemplateInstance} returned from a JAX-RS resource method is
+     * rendered directly into a Vert.x buffer that is written to the response, instead of being rendered into a
+     * {@link String} that is encoded afterwards. The static text of the templates is encoded in UTF-8 once, when it is first
+     * rendered into a buffer.
+     * <p>
+     * This is only used if the media type of the response is known before the template is rendered, i.e. if a template
+     * variant is selected or the resource method declares the produced media types. Note that response filters and writer
+     * interceptors see a {@code io.vertx.core.buffer.Buffer} entity instead of a {@link String}. The buffer is allocated
+     * from a pool and must not be retained once the response is written.
+     */
+    @WithDefault("false")
+    boolean renderToBuffer();
+
 }
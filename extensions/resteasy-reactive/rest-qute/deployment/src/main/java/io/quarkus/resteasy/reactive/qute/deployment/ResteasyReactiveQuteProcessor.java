@@ -7,6 +7,10 @@
 import java.util.List;
 import java.util.Map;
 
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.RuntimeType;
+import jakarta.ws.rs.core.MediaType;
+
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.MethodInfo;
@@ -23,11 +27,14 @@
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveHierarchyIgnoreWarningBuildItem;
 import io.quarkus.qute.TemplateInstance;
+import io.quarkus.resteasy.reactive.qute.runtime.PooledBuffer;
+import io.quarkus.resteasy.reactive.qute.runtime.PooledBufferMessageBodyWriter;
 import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseFilter;
 import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseUniHandler;
 import io.quarkus.resteasy.reactive.server.spi.MethodScannerBuildItem;
 import io.quarkus.resteasy.reactive.server.spi.NonBlockingReturnTypeBuildItem;
 import io.quarkus.resteasy.reactive.spi.CustomContainerResponseFilterBuildItem;
+import io.quarkus.resteasy.reactive.spi.MessageBodyWriterBuildItem;
 
 public class ResteasyReactiveQuteProcessor {
 
@@ -43,6 +50,15 @@ CustomContainerResponseFilterBuildItem registerProviders() {
         return new CustomContainerResponseFilterBuildItem(TemplateResponseFilter.class.getName());
     }
 
+    @BuildStep
+    void pooledBufferWriter(RestQuteConfig config, BuildProducer<MessageBodyWriterBuildItem> writers) {
+        if (config.renderToBuffer()) {
+            writers.produce(new MessageBodyWriterBuildItem(PooledBufferMessageBodyWriter.class.getName(),
+                    PooledBuffer.class.getName(), Collections.singletonList(MediaType.WILDCARD), RuntimeType.SERVER, true,
+                    Priorities.USER));
+        }
+    }
+
     @BuildStep
     ReflectiveHierarchyIgnoreWarningBuildItem ignoreReflectiveWarning() {
         return new ReflectiveHierarchyIgnoreWarningBuildItem(
@@ -57,7 +73,7 @@ void nonBlockingTemplateInstance(RestQuteConfig config, BuildProducer<NonBlockin
     }
 
     @BuildStep
-    public MethodScannerBuildItem configureHandler() {
+    public MethodScannerBuildItem configureHandler(RestQuteConfig config) {
         return new MethodScannerBuildItem(new MethodScanner() {
             @Override
             public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndpointClass,
@@ -66,9 +82,11 @@ public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndp
                     // TemplateResponseUniHandler creates a Uni, so we also need to introduce another Uni handler
                     // so RR actually gets the result
                     // the reason why we use AFTER_METHOD_INVOKE_SECOND_ROUND is to be able to properly support Uni<TemplateInstance>
+                    TemplateResponseUniHandler templateHandler = new TemplateResponseUniHandler();
+                    templateHandler.setRenderToBuffer(config.renderToBuffer());
                     return Collections.singletonList(
                             new FixedHandlersChainCustomizer(
-                                    List.of(new TemplateResponseUniHandler(), new UniResponseHandler()),
+                                    List.of(templateHandler, new UniResponseHandler()),
                                     HandlerChainCustomizer.Phase.AFTER_METHOD_INVOKE_SECOND_ROUND));
                 }
                 return Collections.emptyList();
@@ -0,0 +1,109 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import static io.restassured.RestAssured.when;
+
+import java.io.IOException;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.NameBinding;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class RenderToBufferTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(TestResource.class, Intercepted.class, TestWriterInterceptor.class)
+                    .addAsResource(new StringAsset("quarkus.rest.qute.render-to-buffer=true"), "application.properties")
+                    .addAsResource(new StringAsset("<p>Héllo {name}!</p>{#for i in 3}<i>{i}</i>{/for}"),
+                            "templates/item.html"));
+
+    @Test
+    public void testBuffer() {
+        when().get("/test?name=wörld").then().statusCode(200)
+                .contentType(Matchers.startsWith(MediaType.TEXT_HTML))
+                .body(Matchers.is("<p>Héllo wörld!</p><i>1</i><i>2</i><i>3</i>"));
+    }
+
+    @Test
+    public void testTemplateVariant() {
+        // the media type is selected from the template variant
+        when().get("/test/no-produces?name=wörld").then().statusCode(200)
+                .contentType(Matchers.startsWith(MediaType.TEXT_HTML))
+                .body(Matchers.is("<p>Héllo wörld!</p><i>1</i><i>2</i><i>3</i>"));
+    }
+
+    @Test
+    public void testWriterInterceptor() {
+        // the buffer is copied to the output stream and released when the request completes
+        for (int i = 0; i < 3; i++) {
+            when().get("/test/intercepted?name=wörld").then().statusCode(200)
+                    .header("X-Intercepted", "true")
+                    .body(Matchers.is("<p>Héllo wörld!</p><i>1</i><i>2</i><i>3</i>"));
+        }
+    }
+
+    @Path("test")
+    public static class TestResource {
+
+        @Inject
+        Template item;
+
+        @GET
+        @Produces(MediaType.TEXT_HTML)
+        public TemplateInstance get(@QueryParam("name") String name) {
+            return item.data("name", name);
+        }
+
+        @GET
+        @Path("no-produces")
+        public TemplateInstance noProduces(@QueryParam("name") String name) {
+            return item.data("name", name);
+        }
+
+        @Intercepted
+        @GET
+        @Path("intercepted")
+        @Produces(MediaType.TEXT_HTML)
+        public TemplateInstance intercepted(@QueryParam("name") String name) {
+            return item.data("name", name);
+        }
+    }
+
+    @NameBinding
+    @Target({ ElementType.TYPE, ElementType.METHOD })
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Intercepted {
+    }
+
+    @Intercepted
+    @Provider
+    public static class TestWriterInterceptor implements WriterInterceptor {
+
+        @Override
+        public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+            context.getHeaders().add("X-Intercepted", "true");
+            context.proceed();
+        }
+    }
+}
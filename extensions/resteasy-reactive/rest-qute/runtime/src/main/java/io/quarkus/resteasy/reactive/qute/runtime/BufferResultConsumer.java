@@ -0,0 +1,59 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletionStage;
+
+import jakarta.ws.rs.container.CompletionCallback;
+
+import io.netty.buffer.ByteBuf;
+import io.quarkus.qute.EncodedResultConsumer;
+import io.quarkus.qute.TemplateInstance;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.VertxByteBufAllocator;
+
+/**
+ * Writes the rendered template directly into a {@link PooledBuffer}. The static text of the template is already encoded
+ * in UTF-8 and only the dynamic parts are encoded during rendering.
+ * <p>
+ * The consumer must be registered as a completion callback of the request, so that the buffer is released if it is not
+ * written by the {@link PooledBufferMessageBodyWriter}.
+ */
+final class BufferResultConsumer implements EncodedResultConsumer, CompletionCallback {
+
+    private final ByteBuf byteBuf;
+    private final PooledBuffer buffer;
+
+    BufferResultConsumer(int initialCapacity) {
+        this.byteBuf = VertxByteBufAllocator.POOLED_ALLOCATOR.directBuffer(initialCapacity);
+        this.buffer = new PooledBuffer(byteBuf);
+    }
+
+    @Override
+    public void accept(String chunk) {
+        byteBuf.writeCharSequence(chunk, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void acceptEncoded(byte[] utf8) {
+        byteBuf.writeBytes(utf8);
+    }
+
+    @Override
+    public void acceptEncoded(ByteBuffer utf8) {
+        // The position of the given buffer is not modified
+        byteBuf.writeBytes(utf8.duplicate());
+    }
+
+    CompletionStage<Buffer> render(TemplateInstance instance) {
+        // The rendering holds its own reference, so that the memory is not reused while the template is still being
+        // rendered after the request completed, e.g. after a timeout
+        byteBuf.retain();
+        return instance.consume(this).whenComplete((v, t) -> byteBuf.release()).thenApply(v -> buffer);
+    }
+
+    @Override
+    public void onComplete(Throwable throwable) {
+        buffer.releaseUnlessWriting();
+    }
+}
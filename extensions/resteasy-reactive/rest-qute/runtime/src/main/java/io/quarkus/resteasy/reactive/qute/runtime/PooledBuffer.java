@@ -0,0 +1,69 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.quarkus.vertx.utils.NoBoundChecksBuffer;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * A buffer backed by pooled memory that holds a rendered template.
+ * <p>
+ * The memory is only released by this buffer: either when the write started by {@link #end(HttpServerResponse)}
+ * completes, or when the request completes if the buffer was not written that way, e.g. because it was copied by a
+ * writer interceptor.
+ */
+public final class PooledBuffer extends NoBoundChecksBuffer {
+
+    private static final int OWNED = 0;
+    private static final int WRITING = 1;
+    private static final int RELEASED = 2;
+
+    private final ByteBuf byteBuf;
+    private final AtomicInteger state = new AtomicInteger(OWNED);
+
+    PooledBuffer(ByteBuf byteBuf) {
+        super(byteBuf);
+        this.byteBuf = byteBuf;
+    }
+
+    @Override
+    public ByteBuf getByteBuf() {
+        // Netty releases the buffers it writes, and other buffers may read from the returned one; none of them owns it
+        return Unpooled.unreleasableBuffer(byteBuf.duplicate());
+    }
+
+    /**
+     * Ends the response with this buffer and releases the memory once the write completes.
+     *
+     * @param response
+     */
+    void end(HttpServerResponse response) {
+        if (!state.compareAndSet(OWNED, WRITING)) {
+            throw new IllegalStateException("The buffer was already written or released");
+        }
+        try {
+            response.end(this).onComplete(ar -> release());
+        } catch (RuntimeException e) {
+            release();
+            throw e;
+        }
+    }
+
+    /**
+     * Releases the memory unless a write is in progress, in which case the memory is released once the write completes.
+     */
+    void releaseUnlessWriting() {
+        if (state.compareAndSet(OWNED, RELEASED)) {
+            byteBuf.release();
+        }
+    }
+
+    private void release() {
+        if (state.getAndSet(RELEASED) != RELEASED) {
+            byteBuf.release();
+        }
+    }
+
+}
@@ -0,0 +1,52 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+import org.jboss.resteasy.reactive.server.vertx.VertxResteasyReactiveRequestContext;
+
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * Writes a rendered template and releases its pooled memory once the write completes.
+ */
+public class PooledBufferMessageBodyWriter implements ServerMessageBodyWriter<PooledBuffer> {
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return true;
+    }
+
+    @Override
+    public void writeTo(PooledBuffer buffer, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+            throws IOException, WebApplicationException {
+        // The memory is released when the request completes
+        entityStream.write(buffer.getBytes());
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveResourceInfo target, MediaType mediaType) {
+        return true;
+    }
+
+    @Override
+    public void writeResponse(PooledBuffer buffer, Type genericType, ServerRequestContext context)
+            throws WebApplicationException {
+        if (context.serverResponse() instanceof VertxResteasyReactiveRequestContext vertxContext) {
+            buffer.end(vertxContext.unwrap(HttpServerResponse.class));
+        } else {
+            // The memory is released when the request completes
+            context.serverResponse().end(buffer.getBytes());
+        }
+    }
+}
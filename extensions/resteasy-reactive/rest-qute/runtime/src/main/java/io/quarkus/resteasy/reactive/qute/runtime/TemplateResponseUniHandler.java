@@ -11,11 +11,31 @@
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.TemplateInstance;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.buffer.Buffer;
 
 public class TemplateResponseUniHandler implements ServerRestHandler {
 
+    // the maximum initial capacity of the buffer used to render the template
+    private static final int CAPACITY_LIMIT = 64 * 1024;
+    private static final int DEFAULT_CAPACITY = 1024;
+
     private volatile Engine engine;
 
+    // make mutable to allow for bytecode serialization
+    private boolean renderToBuffer;
+
+    // the length of the largest rendered template, used as the initial capacity of the buffer
+    // intentionally not volatile; it's not a big deal if working with an outdated value
+    private int maxLength;
+
+    public boolean isRenderToBuffer() {
+        return renderToBuffer;
+    }
+
+    public void setRenderToBuffer(boolean renderToBuffer) {
+        this.renderToBuffer = renderToBuffer;
+    }
+
     @Override
     public void handle(ResteasyReactiveRequestContext requestContext) {
         Object result = requestContext.getResult();
@@ -35,11 +55,37 @@ public void handle(ResteasyReactiveRequestContext requestContext) {
         requestContext.setResult(createUni(requestContext, (TemplateInstance) result, engine));
     }
 
-    private Uni<String> createUni(ResteasyReactiveRequestContext requestContext, TemplateInstance result, Engine engine) {
+    private Uni<?> createUni(ResteasyReactiveRequestContext requestContext, TemplateInstance result, Engine engine) {
         MediaType mediaType = setSelectedVariant(result, requestContext.getRequest(),
                 requestContext.getHttpHeaders().getAcceptableLanguages());
         requestContext.setResponseContentType(mediaType);
+        // The content type of a buffer cannot be derived from the entity type, so we only use it when it's known upfront
+        if (renderToBuffer && (mediaType != null || hasProduces(requestContext))) {
+            BufferResultConsumer consumer = new BufferResultConsumer(initialCapacity(result));
+            // Releases the pooled buffer unless it is written to the connection
+            requestContext.registerCompletionCallback(consumer);
+            return toBufferUni(result, engine, consumer).invoke(this::updateMaxLength);
+        }
         return toUni(result, engine);
     }
 
+    private static boolean hasProduces(ResteasyReactiveRequestContext requestContext) {
+        return requestContext.getTarget() != null && requestContext.getTarget().getProduces() != null;
+    }
+
+    private int initialCapacity(TemplateInstance result) {
+        Object capacity = result.getAttribute(TemplateInstance.CAPACITY);
+        if (capacity instanceof Number number) {
+            return number.intValue();
+        }
+        return Math.max(maxLength, DEFAULT_CAPACITY);
+    }
+
+    private void updateMaxLength(Buffer buffer) {
+        int length = buffer.length();
+        if (length > maxLength) {
+            maxLength = Math.min(length, CAPACITY_LIMIT);
+        }
+    }
+
 }
@@ -1725,6 +1725,7 @@ private org.jboss.resteasy.reactive.common.ResteasyReactiveConfig createRestReac
                 config.inputBufferSize().asLongValue(),
                 config.minChunkSize(),
                 config.outputBufferSize(),
+                config.streamingJsonArrayChunkSize(),
                 config.singleDefaultProduces(),
                 config.defaultProduces());
     }
@@ -72,6 +72,7 @@
 import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.gizmo2.ClassOutput;
 import io.quarkus.gizmo2.Const;
 import io.quarkus.gizmo2.Expr;
@@ -92,9 +93,11 @@
 import io.quarkus.scheduler.kotlin.runtime.AbstractCoroutineInvoker;
 import io.quarkus.scheduler.runtime.CompositeScheduler;
 import io.quarkus.scheduler.runtime.Constituent;
+import io.quarkus.scheduler.runtime.JdbcJobLeaseStore;
 import io.quarkus.scheduler.runtime.SchedulerConfig;
 import io.quarkus.scheduler.runtime.SchedulerRecorder;
 import io.quarkus.scheduler.runtime.SimpleScheduler;
+import io.quarkus.scheduler.runtime.TriggerEngineMetrics;
 import io.quarkus.security.spi.RunAsUserPredicateBuildItem;
 import io.smallrye.common.annotation.Identifier;
 
@@ -161,7 +164,8 @@ void beans(DiscoveredImplementationsBuildItem discoveredImplementations,
         if (discoveredImplementations.getImplementations().size() == 1
                 || discoveredImplementations.isCompositeSchedulerUsed()) {
             // Quartz extension is not present or composite scheduler is used
-            additionalBeans.produce(new AdditionalBeanBuildItem(SimpleScheduler.class));
+            additionalBeans.produce(new AdditionalBeanBuildItem(SimpleScheduler.class, TriggerEngineMetrics.class,
+                    JdbcJobLeaseStore.class));
         }
     }
 
@@ -464,6 +468,20 @@ public void metrics(SchedulerConfig config,
         }
     }
 
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    void triggerEngineMetrics(SchedulerConfig config, SchedulerRecorder recorder,
+            DiscoveredImplementationsBuildItem discoveredImplementations,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metricsFactoryConsumers) {
+        if (config.metricsEnabled() && metricsCapability.isPresent()
+                && (discoveredImplementations.getImplementations().size() == 1
+                        || discoveredImplementations.isCompositeSchedulerUsed())) {
+            // Register the metrics of the Simple scheduler trigger engine
+            metricsFactoryConsumers.produce(new MetricsFactoryConsumerBuildItem(recorder.registerTriggerEngineMetrics()));
+        }
+    }
+
     private String generateInvoker(ScheduledBusinessMethodItem scheduledMethod, Gizmo gizmo) {
 
         BeanInfo bean = scheduledMethod.getBean();
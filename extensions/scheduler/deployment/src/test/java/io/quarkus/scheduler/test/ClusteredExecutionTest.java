@@ -0,0 +1,77 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.spi.JobLeaseStore;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class ClusteredExecutionTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class, TestLeaseStore.class))
+            .overrideConfigKey("quarkus.scheduler.cluster.enabled", "true")
+            .overrideConfigKey("quarkus.scheduler.cluster.node-id", "node-1");
+
+    @Test
+    public void testExecution() throws InterruptedException {
+        assertTrue(Jobs.GRANTED_LATCH.await(5, TimeUnit.SECONDS));
+        assertTrue(TestLeaseStore.BATCH_LATCH.await(5, TimeUnit.SECONDS));
+        assertEquals(0, Jobs.DENIED_COUNTER.get());
+        assertEquals("node-1", TestLeaseStore.nodeId);
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch GRANTED_LATCH = new CountDownLatch(2);
+        static final AtomicInteger DENIED_COUNTER = new AtomicInteger();
+
+        @Scheduled(identity = "granted", every = "1s")
+        void granted() {
+            GRANTED_LATCH.countDown();
+        }
+
+        @Scheduled(identity = "denied", every = "1s")
+        void denied() {
+            DENIED_COUNTER.incrementAndGet();
+        }
+
+    }
+
+    @Singleton
+    public static class TestLeaseStore implements JobLeaseStore {
+
+        // Counted down when the leases for both jobs are requested in a single batch
+        static final CountDownLatch BATCH_LATCH = new CountDownLatch(1);
+        static volatile String nodeId;
+
+        @Override
+        public Set<String> acquire(String nodeId, List<LeaseRequest> requests) {
+            TestLeaseStore.nodeId = nodeId;
+            Set<String> identities = requests.stream().map(LeaseRequest::identity).collect(Collectors.toSet());
+            if (identities.containsAll(Set.of("granted", "denied"))) {
+                BATCH_LATCH.countDown();
+            }
+            for (LeaseRequest request : requests) {
+                assertTrue(request.leaseUntil().isAfter(request.fireTime()));
+            }
+            return identities.contains("granted") ? Set.of("granted") : Set.of();
+        }
+
+    }
+}
@@ -0,0 +1,123 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.spi.JobLeaseStore;
+import io.quarkus.scheduler.spi.JobLeaseStore.LeaseRequest;
+import io.quarkus.test.QuarkusExtensionTest;
+
+// The table is dropped by the last test
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ClusteredJdbcExecutionTest {
+
+    private static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS QUARKUS_SCHEDULER_LEASES "
+            + "(JOB_ID VARCHAR(255) NOT NULL PRIMARY KEY, NODE_ID VARCHAR(255), LEASE_UNTIL BIGINT NOT NULL)";
+
+    @RegisterExtension
+    static final QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class))
+            .overrideConfigKey("quarkus.scheduler.cluster.enabled", "true")
+            .overrideConfigKey("quarkus.scheduler.cluster.node-id", "node-1")
+            .overrideConfigKey("quarkus.datasource.db-kind", "h2")
+            .overrideConfigKey("quarkus.datasource.jdbc.url",
+                    "jdbc:h2:mem:scheduler-leases;DB_CLOSE_DELAY=-1;INIT=" + CREATE_TABLE);
+
+    @Inject
+    JobLeaseStore leaseStore;
+
+    @Inject
+    DataSource dataSource;
+
+    @Order(1)
+    @Test
+    public void testExecution() throws Exception {
+        assertTrue(Jobs.LATCH.await(5, TimeUnit.SECONDS));
+        assertEquals("node-1", query("SELECT NODE_ID FROM QUARKUS_SCHEDULER_LEASES WHERE JOB_ID = 'every'"));
+
+        // The lease of a fire time can only be acquired once
+        Instant fireTime = Instant.now();
+        LeaseRequest request = new LeaseRequest("manual", fireTime, fireTime.plusSeconds(60));
+        assertEquals(Set.of("manual"), leaseStore.acquire("node-1", List.of(request)));
+        assertEquals(Set.of(), leaseStore.acquire("node-2", List.of(request)));
+    }
+
+    @Order(2)
+    @Test
+    public void testRemovedRowIsInsertedAgain() throws Exception {
+        Instant fireTime = Instant.now();
+        LeaseRequest request = new LeaseRequest("removed", fireTime, fireTime.plusSeconds(60));
+        assertEquals(Set.of("removed"), leaseStore.acquire("node-1", List.of(request)));
+        execute("DELETE FROM QUARKUS_SCHEDULER_LEASES WHERE JOB_ID = 'removed'");
+
+        Instant nextFireTime = fireTime.plusSeconds(60);
+        request = new LeaseRequest("removed", nextFireTime, nextFireTime.plusSeconds(60));
+        assertEquals(Set.of("removed"), leaseStore.acquire("node-1", List.of(request)));
+        assertEquals("node-1", query("SELECT NODE_ID FROM QUARKUS_SCHEDULER_LEASES WHERE JOB_ID = 'removed'"));
+    }
+
+    @Order(3)
+    @Test
+    public void testFailedInsertIsRetried() throws Exception {
+        Instant fireTime = Instant.now();
+        LeaseRequest request = new LeaseRequest("retried", fireTime, fireTime.plusSeconds(60));
+        execute("DROP TABLE QUARKUS_SCHEDULER_LEASES");
+        try {
+            assertThrows(IllegalStateException.class, () -> leaseStore.acquire("node-1", List.of(request)));
+        } finally {
+            execute(CREATE_TABLE);
+        }
+        // The row is inserted again since the first attempt failed
+        assertEquals(Set.of("retried"), leaseStore.acquire("node-1", List.of(request)));
+    }
+
+    private String query(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(sql);
+                ResultSet resultSet = statement.executeQuery()) {
+            return resultSet.next() ? resultSet.getString(1) : null;
+        }
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch LATCH = new CountDownLatch(2);
+
+        @Scheduled(identity = "every", every = "1s")
+        void every() {
+            LATCH.countDown();
+        }
+
+    }
+}
@@ -0,0 +1,97 @@
+package io.quarkus.scheduler.test.programmatic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.scheduler.runtime.TriggerEngineMetrics;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class QueueTriggerEngineJobsTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot(root -> root
+                    .addClasses(Jobs.class)
+                    .addAsResource(new StringAsset("quarkus.scheduler.trigger-engine=queue"),
+                            "application.properties"));
+
+    @Inject
+    Scheduler scheduler;
+
+    @Inject
+    TriggerEngineMetrics metrics;
+
+    static final CountDownLatch EVERY_LATCH = new CountDownLatch(2);
+    static final CountDownLatch SUB_SECOND_LATCH = new CountDownLatch(5);
+    static final AtomicInteger UNSCHEDULED_COUNTER = new AtomicInteger();
+
+    @Test
+    public void testScheduler() throws InterruptedException {
+        assertTrue(scheduler.isRunning());
+        assertTrue(EVERY_LATCH.await(5, TimeUnit.SECONDS));
+
+        // Sub-second intervals are supported
+        scheduler.newJob("foo")
+                .setInterval("200ms")
+                .setTask(ec -> SUB_SECOND_LATCH.countDown())
+                .schedule();
+        assertTrue(SUB_SECOND_LATCH.await(2, TimeUnit.SECONDS));
+
+        scheduler.newJob("bar")
+                .setInterval("1h")
+                .setDelayed("1s")
+                .setTask(ec -> UNSCHEDULED_COUNTER.incrementAndGet())
+                .schedule();
+        assertNotNull(scheduler.unscheduleJob("bar"));
+        TimeUnit.MILLISECONDS.sleep(1500);
+        assertEquals(0, UNSCHEDULED_COUNTER.get());
+
+        assertTrue(metrics.getChecks() > 0);
+        assertTrue(metrics.getFiredTriggers() >= 7);
+    }
+
+    @Test
+    public void testSinglePendingCheck() throws InterruptedException {
+        // Each job is due before the previous one and wakes up the check thread earlier
+        for (int i = 50; i > 0; i--) {
+            scheduler.newJob("pending" + i)
+                    .setInterval(i + "s")
+                    .setTask(ec -> {
+                    })
+                    .schedule();
+        }
+        try {
+            for (int i = 0; i < 10; i++) {
+                assertTrue(metrics.getPendingChecks() <= 1, "Pending checks: " + metrics.getPendingChecks());
+                TimeUnit.MILLISECONDS.sleep(200);
+            }
+        } finally {
+            for (int i = 50; i > 0; i--) {
+                scheduler.unscheduleJob("pending" + i);
+            }
+        }
+    }
+
+    static class Jobs {
+
+        @Scheduled(every = "1s")
+        void everySecond() {
+            EVERY_LATCH.countDown();
+        }
+
+    }
+
+}
@@ -0,0 +1,136 @@
+package io.quarkus.scheduler.runtime;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Singleton;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.DefaultBean;
+import io.quarkus.scheduler.spi.JobLeaseStore;
+
+/**
+ * The default {@link JobLeaseStore} backed by a table of the default datasource.
+ * <p>
+ * Each job is represented by a single row. A lease is acquired with a conditional update of the row, so that exactly one
+ * node succeeds for a given fire time. The updates for all jobs that are due are sent in a single JDBC batch.
+ */
+@DefaultBean
+@Singleton
+public class JdbcJobLeaseStore implements JobLeaseStore {
+
+    private static final Logger LOG = Logger.getLogger(JdbcJobLeaseStore.class);
+
+    private final Instance<DataSource> dataSource;
+    private final String insertSql;
+    private final String acquireSql;
+    private final String existsSql;
+    // Identities of jobs for which the row is known to exist
+    private final Set<String> knownJobs;
+
+    public JdbcJobLeaseStore(Instance<DataSource> dataSource, SchedulerRuntimeConfig schedulerRuntimeConfig) {
+        this.dataSource = dataSource;
+        String table = schedulerRuntimeConfig.cluster().tableName();
+        this.insertSql = "INSERT INTO " + table + " (JOB_ID, NODE_ID, LEASE_UNTIL) VALUES (?, NULL, 0)";
+        this.acquireSql = "UPDATE " + table + " SET NODE_ID = ?, LEASE_UNTIL = ? WHERE JOB_ID = ? AND LEASE_UNTIL <= ?";
+        this.existsSql = "SELECT 1 FROM " + table + " WHERE JOB_ID = ?";
+        this.knownJobs = ConcurrentHashMap.newKeySet();
+    }
+
+    @Override
+    public Set<String> acquire(String nodeId, List<LeaseRequest> requests) {
+        if (!dataSource.isResolvable()) {
+            throw new IllegalStateException(
+                    "Clustered scheduler requires the default datasource or a custom JobLeaseStore bean");
+        }
+        Set<String> acquired = new HashSet<>();
+        try (Connection connection = dataSource.get().getConnection()) {
+            connection.setAutoCommit(true);
+            for (LeaseRequest request : requests) {
+                if (!knownJobs.contains(request.identity())) {
+                    insertJob(connection, request.identity());
+                }
+            }
+            try (PreparedStatement statement = connection.prepareStatement(acquireSql)) {
+                for (LeaseRequest request : requests) {
+                    statement.setString(1, nodeId);
+                    statement.setLong(2, request.leaseUntil().toEpochMilli());
+                    statement.setString(3, request.identity());
+                    statement.setLong(4, request.fireTime().toEpochMilli());
+                    statement.addBatch();
+                }
+                int[] counts = statement.executeBatch();
+                for (int i = 0; i < counts.length; i++) {
+                    // The driver must report the update counts, Statement.SUCCESS_NO_INFO is not considered an acquisition
+                    if (counts[i] > 0) {
+                        acquired.add(requests.get(i).identity());
+                    } else if (counts[i] == 0 && !jobExists(connection, requests.get(i).identity())) {
+                        // The row was removed, e.g. the table was recreated, and the lease is acquired with a new row
+                        LeaseRequest request = requests.get(i);
+                        knownJobs.remove(request.identity());
+                        insertJob(connection, request.identity());
+                        if (acquire(connection, nodeId, request)) {
+                            acquired.add(request.identity());
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to acquire the job leases", e);
+        }
+        return acquired;
+    }
+
+    private boolean acquire(Connection connection, String nodeId, LeaseRequest request) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(acquireSql)) {
+            statement.setString(1, nodeId);
+            statement.setLong(2, request.leaseUntil().toEpochMilli());
+            statement.setString(3, request.identity());
+            statement.setLong(4, request.fireTime().toEpochMilli());
+            return statement.executeUpdate() > 0;
+        }
+    }
+
+    private boolean jobExists(Connection connection, String identity) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(existsSql)) {
+            statement.setString(1, identity);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+
+    private void insertJob(Connection connection, String identity) {
+        try (PreparedStatement statement = connection.prepareStatement(insertSql)) {
+            statement.setString(1, identity);
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            if (!isIntegrityConstraintViolation(e)) {
+                // The insert is attempted again with the next lease request
+                LOG.warnf(e, "Unable to insert the lease row for %s", identity);
+                return;
+            }
+            // The row was already inserted by another node
+            LOG.debugf("The lease row for %s already exists", identity);
+        }
+        knownJobs.add(identity);
+    }
+
+    private static boolean isIntegrityConstraintViolation(SQLException e) {
+        // SQLSTATE class 23 - integrity constraint violation
+        return e instanceof SQLIntegrityConstraintViolationException
+                || (e.getSQLState() != null && e.getSQLState().startsWith("23"));
+    }
+
+}
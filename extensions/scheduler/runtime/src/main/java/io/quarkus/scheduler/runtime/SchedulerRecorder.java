@@ -2,11 +2,15 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import com.cronutils.model.CronType;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.scheduler.Scheduled;
 import io.quarkus.scheduler.common.runtime.ImmutableScheduledMethod;
 import io.quarkus.scheduler.common.runtime.MutableScheduledMethod;
@@ -74,6 +78,46 @@ public String autoImplementation() {
         };
     }
 
+    public Consumer<MetricsFactory> registerTriggerEngineMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                InstanceHandle<TriggerEngineMetrics> handle = Arc.container().instance(TriggerEngineMetrics.class);
+                if (!handle.isAvailable()) {
+                    return;
+                }
+                TriggerEngineMetrics metrics = handle.get();
+                metricsFactory.builder("scheduler.trigger.checks")
+                        .description("Number of trigger checks performed by the Simple scheduler.")
+                        .buildCounter(metrics::getChecks);
+                metricsFactory.builder("scheduler.trigger.evaluated")
+                        .description("Number of trigger evaluations performed by the Simple scheduler.")
+                        .buildCounter(metrics::getEvaluatedTriggers);
+                metricsFactory.builder("scheduler.trigger.fired")
+                        .description("Number of triggers fired by the Simple scheduler.")
+                        .buildCounter(metrics::getFiredTriggers);
+                metricsFactory.builder("scheduler.trigger.check.evaluated")
+                        .description("Number of triggers evaluated during the last check.")
+                        .buildGauge(metrics::getLastEvaluatedTriggers);
+                metricsFactory.builder("scheduler.trigger.check.duration")
+                        .description("Duration of the last trigger check.")
+                        .unit("milliseconds")
+                        .buildGauge(metrics::getLastCheckDuration);
+                metricsFactory.builder("scheduler.trigger.fire.lag")
+                        .description("Difference between the actual and the scheduled fire time of the last fired trigger.")
+                        .unit("milliseconds")
+                        .buildGauge(metrics::getLastFireLag);
+                metricsFactory.builder("scheduler.trigger.fire.lag.max")
+                        .description("Maximum difference between the actual and the scheduled fire time of a fired trigger.")
+                        .unit("milliseconds")
+                        .buildGauge(metrics::getMaxFireLag);
+                metricsFactory.builder("scheduler.trigger.check.pending")
+                        .description("Number of trigger checks currently scheduled by the Simple scheduler.")
+                        .buildGauge(metrics::getPendingChecks);
+            }
+        };
+    }
+
     private List<ScheduledMethod> immutableCopy(List<MutableScheduledMethod> scheduledMethods) {
         List<ScheduledMethod> metadata = new ArrayList<>(scheduledMethods.size());
         for (ScheduledMethod scheduledMethod : scheduledMethods) {
@@ -1,7 +1,9 @@
 package io.quarkus.scheduler.runtime;
 
 import java.time.Duration;
+import java.util.Optional;
 
+import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.quarkus.scheduler.Scheduler;
@@ -31,6 +33,19 @@ public interface SchedulerRuntimeConfig {
     @WithDefault("normal")
     StartMode startMode();
 
+    /**
+     * The engine used by the Simple scheduler to evaluate the triggers of scheduled jobs.
+     * <p>
+     * This value is ignored by other scheduler implementations.
+     */
+    @WithDefault("scan")
+    TriggerEngine triggerEngine();
+
+    /**
+     * Clustered execution of the jobs executed by the Simple scheduler.
+     */
+    Cluster cluster();
+
     enum StartMode {
 
         /**
@@ -53,4 +68,50 @@ enum StartMode {
          */
         HALTED;
     }
+
+    enum TriggerEngine {
+
+        /**
+         * All registered triggers are evaluated every second.
+         */
+        SCAN,
+
+        /**
+         * Triggers are kept in a priority queue ordered by the next fire time. Only the triggers that are due are
+         * evaluated and the check thread sleeps until the next trigger is due. {@link io.quarkus.scheduler.Scheduled#every()}
+         * values less than one second are supported.
+         * <p>
+         * This engine is recommended if a large number of jobs is scheduled.
+         */
+        QUEUE;
+    }
+
+    @ConfigGroup
+    interface Cluster {
+
+        /**
+         * If set to {@code true} then the Simple scheduler coordinates the executions of jobs with other nodes of the cluster.
+         * A job is only executed by the node that acquires the lease for the scheduled fire time. The leases for all jobs
+         * that are due are acquired in a single batch.
+         * <p>
+         * By default, the leases are stored in a table of the default datasource. An application can provide a custom
+         * {@link io.quarkus.scheduler.spi.JobLeaseStore} bean instead.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The identifier of the current node. By default, a random identifier is generated when the application starts.
+         */
+        Optional<String> nodeId();
+
+        /**
+         * The name of the table used to store the leases by the default {@link io.quarkus.scheduler.spi.JobLeaseStore}.
+         * <p>
+         * The table must exist and consist of the {@code JOB_ID} ({@code VARCHAR}, primary key), {@code NODE_ID}
+         * ({@code VARCHAR}) and {@code LEASE_UNTIL} ({@code BIGINT}, epoch millis) columns.
+         */
+        @WithDefault("QUARKUS_SCHEDULER_LEASES")
+        String tableName();
+    }
 }
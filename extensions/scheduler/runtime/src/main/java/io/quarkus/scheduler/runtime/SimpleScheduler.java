@@ -6,18 +6,24 @@
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import jakarta.annotation.PreDestroy;
@@ -59,7 +65,9 @@
 import io.quarkus.scheduler.common.runtime.SyntheticScheduled;
 import io.quarkus.scheduler.common.runtime.util.SchedulerUtils;
 import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig.StartMode;
+import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig.TriggerEngine;
 import io.quarkus.scheduler.spi.JobInstrumenter;
+import io.quarkus.scheduler.spi.JobLeaseStore;
 import io.vertx.core.Vertx;
 
 @Typed(Scheduler.class)
@@ -75,6 +83,18 @@ public class SimpleScheduler extends BaseScheduler implements Scheduler {
     private volatile boolean running;
     private final ConcurrentMap<String, ScheduledTask> scheduledTasks;
     private final SchedulerConfig schedulerConfig;
+    private final TriggerEngine triggerEngine;
+    private final TriggerEngineMetrics metrics;
+    // Only used by the TriggerEngine.QUEUE
+    private final PriorityBlockingQueue<DueTask> dueTasks;
+    // Epoch millis of the next planned check; Long.MIN_VALUE if checks were not started yet
+    private final AtomicLong nextCheck;
+    // The next check of the due triggers, there is at most one pending check
+    private final Object checkLock = new Object();
+    private ScheduledFuture<?> pendingCheck;
+    // Only used if clustered execution is enabled
+    private final JobLeaseStore leaseStore;
+    private final String nodeId;
 
     public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedulerRuntimeConfig,
             Event<SkippedExecution> skippedExecutionEvent, Event<SuccessfulExecution> successExecutionEvent,
@@ -82,7 +102,8 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
             Event<SchedulerPaused> schedulerPausedEvent, Event<SchedulerResumed> schedulerResumedEvent,
             Event<ScheduledJobPaused> scheduledJobPausedEvent,
             Event<ScheduledJobResumed> scheduledJobResumedEvent, Vertx vertx, SchedulerConfig schedulerConfig,
-            Instance<JobInstrumenter> jobInstrumenter, ScheduledExecutorService blockingExecutor) {
+            Instance<JobInstrumenter> jobInstrumenter, ScheduledExecutorService blockingExecutor,
+            TriggerEngineMetrics metrics, Instance<JobLeaseStore> leaseStore) {
         super(vertx, new CronParser(context.getCronType()), schedulerRuntimeConfig.overdueGracePeriod(),
                 new Events(skippedExecutionEvent, successExecutionEvent, failedExecutionEvent, delayedExecutionEvent,
                         schedulerPausedEvent, schedulerResumedEvent, scheduledJobPausedEvent, scheduledJobResumedEvent),
@@ -90,6 +111,17 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
         this.running = true;
         this.scheduledTasks = new ConcurrentHashMap<>();
         this.schedulerConfig = schedulerConfig;
+        this.triggerEngine = schedulerRuntimeConfig.triggerEngine();
+        this.metrics = metrics;
+        this.dueTasks = triggerEngine == TriggerEngine.QUEUE ? new PriorityBlockingQueue<>() : null;
+        this.nextCheck = new AtomicLong(Long.MIN_VALUE);
+        if (schedulerRuntimeConfig.cluster().enabled()) {
+            this.leaseStore = leaseStore.get();
+            this.nodeId = schedulerRuntimeConfig.cluster().nodeId().orElseGet(() -> UUID.randomUUID().toString());
+        } else {
+            this.leaseStore = null;
+            this.nodeId = null;
+        }
 
         if (!schedulerRuntimeConfig.enabled()) {
             this.scheduledExecutor = null;
@@ -123,13 +155,18 @@ public Thread newThread(Runnable runnable) {
                 return t;
             }
         };
-        // This executor is used to check all registered triggers every second
-        this.scheduledExecutor = new JBossScheduledThreadPoolExecutor(1, tf, new Runnable() {
+        // This executor is used to check all registered triggers every second,
+        // or to check the triggers that are due if TriggerEngine.QUEUE is used
+        JBossScheduledThreadPoolExecutor executor = new JBossScheduledThreadPoolExecutor(1, tf, new Runnable() {
             @Override
             public void run() {
                 // noop
             }
         });
+        // The check replaced by an earlier one is removed from the queue
+        executor.setRemoveOnCancelPolicy(true);
+        this.scheduledExecutor = executor;
+        metrics.pendingChecks(() -> executor.getQueue().size());
 
         if (startMode == StartMode.HALTED) {
             running = false;
@@ -157,7 +194,11 @@ public void run() {
                     ScheduledInvoker invoker = initInvoker(context.createInvoker(method.getInvokerClassName()), events,
                             scheduled.concurrentExecution(), initSkipPredicate(scheduled.skipExecutionIf()), instrumenter,
                             vertx, false, SchedulerUtils.parseExecutionMaxDelayAsMillis(scheduled), blockingExecutor);
-                    scheduledTasks.put(trigger.get().id, new ScheduledTask(trigger.get(), invoker, false));
+                    ScheduledTask task = new ScheduledTask(trigger.get(), invoker, false);
+                    scheduledTasks.put(trigger.get().id, task);
+                    if (dueTasks != null) {
+                        dueTasks.offer(new DueTask(task, task.trigger.nextCheck(System.currentTimeMillis())));
+                    }
                 }
             }
         }
@@ -208,6 +249,10 @@ void start(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEven
         if (scheduledExecutor == null) {
             return;
         }
+        if (triggerEngine == TriggerEngine.QUEUE) {
+            scheduledExecutor.execute(this::checkDueTriggers);
+            return;
+        }
         // Try to compute the initial delay to execute the checks near to the whole second
         // Note that this does not guarantee anything, it's just best effort
         LocalDateTime now = LocalDateTime.now();
@@ -232,10 +277,149 @@ void checkTriggers() {
             LOG.trace("Skip all triggers - scheduler paused");
             return;
         }
+        long start = System.nanoTime();
         ZonedDateTime now = ZonedDateTime.now();
         LOG.tracef("Check triggers at %s", now);
+        int evaluated = 0;
+        List<FiredTask> fired = leaseStore != null ? new ArrayList<>() : null;
         for (ScheduledTask task : scheduledTasks.values()) {
-            task.execute(now, vertx);
+            if (fired != null) {
+                evaluate(task, now, fired);
+            } else {
+                task.execute(now, vertx, metrics);
+            }
+            evaluated++;
+        }
+        if (fired != null) {
+            executeLeased(now, fired);
+        }
+        metrics.checkFinished(evaluated, System.nanoTime() - start);
+    }
+
+    void checkDueTriggers() {
+        synchronized (checkLock) {
+            // This check is running, the next one is scheduled when it's finished
+            pendingCheck = null;
+        }
+        try {
+            long nowMillis = System.currentTimeMillis();
+            if (running) {
+                long start = System.nanoTime();
+                ZonedDateTime now = ZonedDateTime.ofInstant(Instant.ofEpochMilli(nowMillis), ZoneId.systemDefault());
+                LOG.tracef("Check due triggers at %s", now);
+                int evaluated = 0;
+                List<FiredTask> fired = leaseStore != null ? new ArrayList<>() : null;
+                DueTask due;
+                while ((due = dueTasks.peek()) != null && due.time <= nowMillis) {
+                    dueTasks.poll();
+                    ScheduledTask task = due.task;
+                    if (scheduledTasks.get(task.trigger.id) != task) {
+                        // The job was unscheduled
+                        continue;
+                    }
+                    if (fired != null) {
+                        evaluate(task, now, fired);
+                    } else {
+                        task.execute(now, vertx, metrics);
+                    }
+                    evaluated++;
+                    long nextTime = task.trigger.nextCheck(nowMillis);
+                    if (nextTime <= nowMillis) {
+                        // The trigger did not fire, e.g. because it's paused - check again later
+                        nextTime = nowMillis + CHECK_PERIOD;
+                    }
+                    dueTasks.offer(new DueTask(task, nextTime));
+                }
+                if (fired != null) {
+                    executeLeased(now, fired);
+                }
+                metrics.checkFinished(evaluated, System.nanoTime() - start);
+            } else {
+                LOG.trace("Skip all triggers - scheduler paused");
+            }
+            // Sleep until the next trigger is due but check at least every second so that paused triggers are not missed
+            long next = nowMillis + CHECK_PERIOD;
+            DueTask head = dueTasks.peek();
+            if (head != null && head.time < next) {
+                next = head.time;
+            }
+            nextCheck.set(next);
+            scheduleCheck(next);
+        } catch (RuntimeException e) {
+            if (!scheduledExecutor.isShutdown()) {
+                LOG.error("Unable to check the due triggers", e);
+                scheduleCheck(System.currentTimeMillis() + CHECK_PERIOD);
+            }
+        }
+    }
+
+    private void evaluate(ScheduledTask task, ZonedDateTime now, List<FiredTask> fired) {
+        ZonedDateTime scheduledFireTime = task.evaluate(now);
+        if (scheduledFireTime != null) {
+            fired.add(new FiredTask(task, scheduledFireTime));
+        }
+    }
+
+    // Acquire the leases for all fired tasks at once and execute the tasks for which the lease was acquired
+    private void executeLeased(ZonedDateTime now, List<FiredTask> fired) {
+        if (fired.isEmpty()) {
+            return;
+        }
+        List<JobLeaseStore.LeaseRequest> requests = new ArrayList<>(fired.size());
+        for (FiredTask f : fired) {
+            Instant fireTime = f.scheduledFireTime.toInstant();
+            Instant next = f.task.trigger.getNextFireTime();
+            if (next == null || !next.isAfter(fireTime)) {
+                next = fireTime.plusMillis(CHECK_PERIOD);
+            }
+            requests.add(new JobLeaseStore.LeaseRequest(f.task.trigger.id, fireTime, next));
+        }
+        Set<String> acquired;
+        try {
+            acquired = leaseStore.acquire(nodeId, requests);
+        } catch (RuntimeException e) {
+            LOG.error("Unable to acquire the job leases - no job is executed", e);
+            return;
+        }
+        for (FiredTask f : fired) {
+            if (acquired.contains(f.task.trigger.id)) {
+                f.task.invoke(now, f.scheduledFireTime, metrics);
+            } else {
+                LOG.tracef("%s not executed - the lease is held by another node", f.task.trigger);
+            }
+        }
+    }
+
+    private void scheduleDueTask(ScheduledTask task) {
+        long time = task.trigger.nextCheck(System.currentTimeMillis());
+        dueTasks.offer(new DueTask(task, time));
+        // Wake up the check thread if the task is due before the next planned check
+        long current;
+        do {
+            current = nextCheck.get();
+            if (current == Long.MIN_VALUE || time >= current) {
+                // Checks not started yet or the task will be checked in time
+                return;
+            }
+        } while (!nextCheck.compareAndSet(current, time));
+        scheduleCheck(time);
+    }
+
+    private void scheduleCheck(long time) {
+        synchronized (checkLock) {
+            if (scheduledExecutor.isShutdown()) {
+                return;
+            }
+            long delay = Math.max(0, time - System.currentTimeMillis());
+            if (pendingCheck != null) {
+                if (pendingCheck.getDelay(TimeUnit.MILLISECONDS) <= delay) {
+                    // The pending check runs in time
+                    return;
+                }
+                // Replace the pending check with an earlier one
+                pendingCheck.cancel(false);
+            }
+            pendingCheck = scheduledExecutor.schedule(this::checkDueTriggers, delay, TimeUnit.MILLISECONDS);
         }
     }
 
@@ -367,7 +551,8 @@ Optional<SimpleTrigger> createTrigger(String id, String methodDescription, Sched
                 return Optional.empty();
             }
             return Optional.of(new IntervalTrigger(id, start, everyMillis.getAsLong(),
-                    SchedulerUtils.parseOverdueGracePeriod(scheduled, defaultGracePeriod), methodDescription));
+                    SchedulerUtils.parseOverdueGracePeriod(scheduled, defaultGracePeriod), methodDescription,
+                    triggerEngine == TriggerEngine.QUEUE));
         } else {
             throw new IllegalArgumentException("Either the 'cron' expression or the 'every' period must be set: " + scheduled);
         }
@@ -385,22 +570,38 @@ static class ScheduledTask {
             this.isProgrammatic = isProgrammatic;
         }
 
-        void execute(ZonedDateTime now, Vertx vertx) {
+        void execute(ZonedDateTime now, Vertx vertx, TriggerEngineMetrics metrics) {
+            ZonedDateTime scheduledFireTime = evaluate(now);
+            if (scheduledFireTime != null) {
+                invoke(now, scheduledFireTime, metrics);
+            }
+        }
+
+        /**
+         * @return the scheduled time if fired, {@code null} otherwise
+         */
+        ZonedDateTime evaluate(ZonedDateTime now) {
             if (!trigger.isRunning()) {
-                return;
+                return null;
             }
-            ZonedDateTime scheduledFireTime = trigger.evaluate(now);
-            if (scheduledFireTime != null) {
-                try {
-                    invoker.invoke(new SimpleScheduledExecution(now, scheduledFireTime, trigger));
-                } catch (Throwable t) {
-                    // already logged by the StatusEmitterInvoker
-                }
+            return trigger.evaluate(now);
+        }
+
+        void invoke(ZonedDateTime now, ZonedDateTime scheduledFireTime, TriggerEngineMetrics metrics) {
+            metrics.triggerFired(ChronoUnit.MILLIS.between(scheduledFireTime, now));
+            try {
+                invoker.invoke(new SimpleScheduledExecution(now, scheduledFireTime, trigger));
+            } catch (Throwable t) {
+                // already logged by the StatusEmitterInvoker
             }
         }
 
     }
 
+    record FiredTask(ScheduledTask task, ZonedDateTime scheduledFireTime) {
+
+    }
+
     static abstract class SimpleTrigger implements Trigger {
 
         protected final String id;
@@ -422,6 +623,17 @@ static abstract class SimpleTrigger implements Trigger {
          */
         abstract ZonedDateTime evaluate(ZonedDateTime now);
 
+        /**
+         * Used by the {@link TriggerEngine#QUEUE}.
+         *
+         * @param now The current time in epoch millis
+         * @return the time in epoch millis when the trigger should be evaluated next time
+         */
+        long nextCheck(long now) {
+            Instant next = getNextFireTime();
+            return next != null ? next.toEpochMilli() : now + CHECK_PERIOD;
+        }
+
         @Override
         public Instant getPreviousFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -451,12 +663,16 @@ static class IntervalTrigger extends SimpleTrigger {
         // milliseconds
         private final long interval;
         private final Duration gracePeriod;
+        // If true then the last fire time is not truncated to seconds
+        private final boolean precise;
 
-        IntervalTrigger(String id, ZonedDateTime start, long interval, Duration gracePeriod, String description) {
+        IntervalTrigger(String id, ZonedDateTime start, long interval, Duration gracePeriod, String description,
+                boolean precise) {
             super(id, start, description);
             this.interval = interval;
             this.gracePeriod = gracePeriod;
-            if (interval < CHECK_PERIOD) {
+            this.precise = precise;
+            if (!precise && interval < CHECK_PERIOD) {
                 LOG.warnf(
                         "An every() value less than %s ms is not supported - the scheduled job will be executed with a delay: %s",
                         CHECK_PERIOD, description);
@@ -470,13 +686,18 @@ ZonedDateTime evaluate(ZonedDateTime now) {
             }
             if (lastFireTime == null) {
                 // First execution
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                lastFireTime = precise ? now : now.truncatedTo(ChronoUnit.SECONDS);
                 return now;
             }
             long diff = ChronoUnit.MILLIS.between(lastFireTime, now);
             if (diff >= interval) {
                 ZonedDateTime scheduledFireTime = lastFireTime.plus(Duration.ofMillis(interval));
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                if (precise) {
+                    // Do not accumulate the fire lag unless we missed the whole interval
+                    lastFireTime = diff < 2 * interval ? scheduledFireTime : now;
+                } else {
+                    lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                }
                 LOG.tracef("%s fired, diff=%s ms", this, diff);
                 return scheduledFireTime;
             }
@@ -492,6 +713,15 @@ public Instant getNextFireTime() {
             return last.plus(Duration.ofMillis(interval)).toInstant();
         }
 
+        @Override
+        long nextCheck(long now) {
+            if (lastFireTime == null) {
+                // The first execution is due at the start time
+                return Math.max(start.toInstant().toEpochMilli(), now);
+            }
+            return super.nextCheck(now);
+        }
+
         @Override
         public boolean isOverdue() {
             ZonedDateTime now = ZonedDateTime.now();
@@ -533,6 +763,12 @@ public Instant getNextFireTime() {
             return executionTime.nextExecution(lastFireTime).map(ZonedDateTime::toInstant).orElse(null);
         }
 
+        @Override
+        long nextCheck(long now) {
+            // The trigger only fires if the current time is after the scheduled fire time
+            return super.nextCheck(now) + 1;
+        }
+
         @Override
         ZonedDateTime evaluate(ZonedDateTime now) {
             if (now.isBefore(start)) {
@@ -603,6 +839,24 @@ public Instant getScheduledFireTime() {
 
     }
 
+    static final class DueTask implements Comparable<DueTask> {
+
+        final ScheduledTask task;
+        // epoch millis
+        final long time;
+
+        DueTask(ScheduledTask task, long time) {
+            this.task = task;
+            this.time = time;
+        }
+
+        @Override
+        public int compareTo(DueTask other) {
+            return Long.compare(time, other.time);
+        }
+
+    }
+
     public class SimpleJobDefinition extends AbstractJobDefinition<SimpleJobDefinition> {
 
         private final SchedulerConfig schedulerConfig;
@@ -672,6 +926,9 @@ public boolean isBlocking() {
                 if (existing != null) {
                     throw new IllegalStateException("A job with this identity is already scheduled: " + identity);
                 }
+                if (dueTasks != null) {
+                    scheduleDueTask(scheduledTask);
+                }
                 return simpleTrigger;
             }
             return null;
@@ -0,0 +1,103 @@
+package io.quarkus.scheduler.runtime;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+import jakarta.inject.Singleton;
+
+/**
+ * Collects statistics about the trigger checks performed by the {@link SimpleScheduler}.
+ * <p>
+ * The values are exposed as metrics if a metrics extension is present and {@code quarkus.scheduler.metrics.enabled=true}.
+ */
+@Singleton
+public class TriggerEngineMetrics {
+
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder evaluatedTriggers = new LongAdder();
+    private final LongAdder firedTriggers = new LongAdder();
+    private final AtomicLong lastCheckDuration = new AtomicLong();
+    private final AtomicLong lastEvaluatedTriggers = new AtomicLong();
+    private final AtomicLong lastFireLag = new AtomicLong();
+    private final AtomicLong maxFireLag = new AtomicLong();
+    private volatile IntSupplier pendingChecks = () -> 0;
+
+    void checkFinished(int evaluated, long durationNanos) {
+        checks.increment();
+        evaluatedTriggers.add(evaluated);
+        lastEvaluatedTriggers.set(evaluated);
+        lastCheckDuration.set(durationNanos);
+    }
+
+    void pendingChecks(IntSupplier pendingChecks) {
+        this.pendingChecks = pendingChecks;
+    }
+
+    void triggerFired(long lagMillis) {
+        firedTriggers.increment();
+        if (lagMillis < 0) {
+            lagMillis = 0;
+        }
+        lastFireLag.set(lagMillis);
+        maxFireLag.accumulateAndGet(lagMillis, Math::max);
+    }
+
+    /**
+     * @return the total number of trigger checks
+     */
+    public long getChecks() {
+        return checks.sum();
+    }
+
+    /**
+     * @return the total number of trigger evaluations
+     */
+    public long getEvaluatedTriggers() {
+        return evaluatedTriggers.sum();
+    }
+
+    /**
+     * @return the number of triggers evaluated during the last check
+     */
+    public long getLastEvaluatedTriggers() {
+        return lastEvaluatedTriggers.get();
+    }
+
+    /**
+     * @return the total number of fired triggers
+     */
+    public long getFiredTriggers() {
+        return firedTriggers.sum();
+    }
+
+    /**
+     * @return the duration of the last check in milliseconds
+     */
+    public double getLastCheckDuration() {
+        return lastCheckDuration.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * @return the difference between the actual and the scheduled fire time of the last fired trigger in milliseconds
+     */
+    public long getLastFireLag() {
+        return lastFireLag.get();
+    }
+
+    /**
+     * @return the maximum difference between the actual and the scheduled fire time in milliseconds
+     */
+    public long getMaxFireLag() {
+        return maxFireLag.get();
+    }
+
+    /**
+     * @return the number of trigger checks that are currently scheduled
+     */
+    public int getPendingChecks() {
+        return pendingChecks.getAsInt();
+    }
+
+}
@@ -0,0 +1,42 @@
+package io.quarkus.scheduler.spi;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Coordinates the executions of scheduled jobs among the nodes of a cluster.
+ * <p>
+ * A node may only execute a job if it holds the lease for the job. The lease for a job is acquired for a specific scheduled
+ * fire time and is held until the next fire time of the job. Therefore, each scheduled execution is performed by at most
+ * one node, and the lease of a node that left the cluster expires without any explicit action.
+ * <p>
+ * The Simple scheduler uses this store if {@code quarkus.scheduler.cluster.enabled=true}. An application can provide
+ * exactly one CDI bean of this type. The scope must be either {@link jakarta.inject.Singleton} or
+ * {@link jakarta.enterprise.context.ApplicationScoped}. If no bean is provided, a default implementation backed by the
+ * default datasource is used.
+ */
+public interface JobLeaseStore {
+
+    /**
+     * Attempts to acquire the leases for all jobs that are due in a single batch.
+     * <p>
+     * The lease for a job is acquired if the lease currently held by any node expires before or at the
+     * {@link LeaseRequest#fireTime()}.
+     *
+     * @param nodeId The identifier of the current node
+     * @param requests The lease requests, at most one for each job
+     * @return the identities of the jobs for which the lease was acquired
+     */
+    Set<String> acquire(String nodeId, List<LeaseRequest> requests);
+
+    /**
+     * @param identity The identity of the job
+     * @param fireTime The scheduled fire time
+     * @param leaseUntil The time when the lease expires, i.e. the next fire time of the job
+     */
+    record LeaseRequest(String identity, Instant fireTime, Instant leaseUntil) {
+
+    }
+
+}
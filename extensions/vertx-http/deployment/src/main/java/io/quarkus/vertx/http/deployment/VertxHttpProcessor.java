@@ -54,6 +54,8 @@
 import io.quarkus.deployment.builditem.nativeimage.ServiceProviderBuildItem;
 import io.quarkus.deployment.logging.LogCleanupFilterBuildItem;
 import io.quarkus.deployment.logging.LoggingDecorateBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.devui.spi.buildtime.FooterLogBuildItem;
 import io.quarkus.kubernetes.spi.KubernetesPortBuildItem;
 import io.quarkus.netty.runtime.virtual.VirtualServerChannel;
@@ -408,6 +410,15 @@ BodyHandlerBuildItem bodyHandler(VertxHttpRecorder recorder) {
         return new BodyHandlerBuildItem(recorder.createBodyHandler());
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void registerAccessLogMetrics(VertxHttpRecorder recorder, Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (metricsCapability.isPresent()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerAccessLogMetrics()));
+        }
+    }
+
     @BuildStep(onlyIf = IsDevelopment.class)
     @Record(ExecutionTime.RUNTIME_INIT)
     void createDevUILog(BuildProducer<FooterLogBuildItem> footerLogProducer,
@@ -441,6 +452,7 @@ ServiceStartBuildItem finalizeRouter(Optional<LoggingDecorateBuildItem> decorate
             CoreVertxBuildItem core, // Injected to be sure that Vert.x has been produced before calling this method.
             ExecutorBuildItem executorBuildItem,
             TlsRegistryBuildItem tlsRegistryBuildItem, // Injected to be sure that the TLS registry has been produced before calling this method.
+            ShutdownContextBuildItem shutdown,
             Optional<VertxDevUILogBuildItem> vertxDevUILogBuildItem)
             throws BuildException {
 
@@ -520,6 +532,7 @@ ServiceStartBuildItem finalizeRouter(Optional<LoggingDecorateBuildItem> decorate
                 bodyHandlerBuildItem.getHandler(),
                 gracefulShutdownFilter,
                 executorBuildItem.getExecutorProxy(),
+                shutdown,
                 logBuildTimeConfig,
                 srcMainJava,
                 knowClasses,
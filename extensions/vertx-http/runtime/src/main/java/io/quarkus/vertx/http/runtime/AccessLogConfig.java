@@ -1,8 +1,11 @@
 package io.quarkus.vertx.http.runtime;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
+import io.quarkus.runtime.annotations.ConfigDocMapKey;
+import io.quarkus.runtime.annotations.ConfigGroup;
 import io.smallrye.config.WithDefault;
 
 public interface AccessLogConfig {
@@ -37,6 +40,27 @@ public interface AccessLogConfig {
     @WithDefault("common")
     String pattern();
 
+    /**
+     * The access log format.
+     * <p>
+     * - `text`: each exchange is logged as a line of text formatted with the {@link #pattern()}.
+     * - `json`: each exchange is logged as a single-line JSON object made of the {@link #fields()}.
+     * - `binary`: each exchange is logged as a length-prefixed binary record made of the {@link #fields()}. This format
+     * requires {@link #logToFile()} and {@link Async#enabled()}.
+     */
+    @WithDefault("text")
+    Format format();
+
+    /**
+     * The fields of the `json` and `binary` formats, mapped to the pattern of their value.
+     * For instance `quarkus.http.access-log.fields.status=%s`.
+     * <p>
+     * If not set, the following fields are logged: `timestamp`, `remoteHost`, `remoteUser`, `method`, `path`,
+     * `query`, `protocol`, `status` and `bytesSent`. The configured fields are logged in alphabetical order.
+     */
+    @ConfigDocMapKey("field-name")
+    Map<String, String> fields();
+
     /**
      * Set of HTTP headers whose values must be masked when the `%{ALL_REQUEST_HEADERS}` attribute
      * is enabled with the {@link #pattern()} property.
@@ -94,4 +118,41 @@ public interface AccessLogConfig {
      */
     @WithDefault("false")
     boolean consolidateReroutedRequests();
+
+    /**
+     * The high-throughput file logging settings, only used if {@link #logToFile()} is enabled.
+     */
+    Async async();
+
+    enum Format {
+        TEXT,
+        JSON,
+        BINARY
+    }
+
+    @ConfigGroup
+    interface Async {
+
+        /**
+         * If the log lines should be written by the high-throughput file writer.
+         * <p>
+         * The lines are rendered on the thread that processed the request and handed off to a writer through a bounded
+         * queue, without blocking. The writer writes the lines in large batches. If the queue is full, the lines are
+         * dropped and counted in the `http.access-log.dropped` metric.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The maximum number of log lines waiting to be written. It is rounded up to the next power of two.
+         */
+        @WithDefault("65536")
+        int queueSize();
+
+        /**
+         * If the rotated log files should be compressed with gzip.
+         */
+        @WithDefault("false")
+        boolean compressOnRotate();
+    }
 }
@@ -74,8 +74,10 @@
 import io.quarkus.runtime.ValueRegistryImpl;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.configuration.ConfigUtils;
+import io.quarkus.runtime.configuration.ConfigurationException;
 import io.quarkus.runtime.configuration.MemorySize;
 import io.quarkus.runtime.logging.LogBuildTimeConfig;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.runtime.shutdown.ShutdownConfig;
 import io.quarkus.tls.TlsConfigurationRegistry;
 import io.quarkus.tls.runtime.config.TlsConfig;
@@ -89,6 +91,7 @@
 import io.quarkus.vertx.http.HttpsServerStart;
 import io.quarkus.vertx.http.ManagementInterface;
 import io.quarkus.vertx.http.runtime.VertxHttpConfig.InsecureRequests;
+import io.quarkus.vertx.http.runtime.attribute.StructuredExchangeAttribute;
 import io.quarkus.vertx.http.runtime.cors.CORSFilter;
 import io.quarkus.vertx.http.runtime.devmode.RemoteSyncHandler;
 import io.quarkus.vertx.http.runtime.devmode.VertxHttpHotReplacementSetup;
@@ -98,6 +101,7 @@
 import io.quarkus.vertx.http.runtime.filters.QuarkusRequestWrapper;
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogHandler;
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogReceiver;
+import io.quarkus.vertx.http.runtime.filters.accesslog.AsyncFileAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.DefaultAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.JBossLoggingAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.management.ManagementConfig;
@@ -238,6 +242,8 @@ private boolean uriValid(HttpServerRequest httpServerRequest) {
     private static volatile Handler<HttpServerRequest> managementRouter;
     private static volatile Handler<HttpServerRequest> managementRouterDelegate;
 
+    private static volatile AsyncFileAccessLogReceiver asyncAccessLogReceiver;
+
     public VertxHttpRecorder(
             VertxHttpBuildTimeConfig httpBuildTimeConfig,
             ManagementInterfaceBuildTimeConfig managementBuildTimeConfig,
@@ -350,6 +356,27 @@ public RuntimeValue<io.vertx.mutiny.ext.web.Router> createMutinyRouter(final Run
         return new RuntimeValue<>(new io.vertx.mutiny.ext.web.Router(router.getValue()));
     }
 
+    public Consumer<MetricsFactory> registerAccessLogMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                AccessLogConfig accessLog = httpConfig.getValue().accessLog();
+                if (!accessLog.enabled() || !accessLog.logToFile() || !accessLog.async().enabled()) {
+                    return;
+                }
+                metricsFactory.builder("http.access-log.dropped")
+                        .description("Number of access log lines dropped because the queue of lines to write was full.")
+                        .buildCounter(new Supplier<Number>() {
+                            @Override
+                            public Number get() {
+                                AsyncFileAccessLogReceiver receiver = asyncAccessLogReceiver;
+                                return receiver != null ? receiver.getDroppedLines() : 0L;
+                            }
+                        });
+            }
+        };
+    }
+
     public RuntimeValue<SubmissionPublisher<String>> createAccessLogPublisher() {
         return new RuntimeValue<>(new SubmissionPublisher<>());
     }
@@ -409,6 +436,18 @@ public void mountFrameworkRouter(RuntimeValue<Router> mainRouter, RuntimeValue<R
         mainRouter.getValue().mountSubRouter(frameworkPath, frameworkRouter.getValue());
     }
 
+    private static void closeAsyncAccessLogReceiver() {
+        AsyncFileAccessLogReceiver receiver = asyncAccessLogReceiver;
+        asyncAccessLogReceiver = null;
+        if (receiver != null) {
+            try {
+                receiver.close();
+            } catch (IOException e) {
+                LOGGER.warn("Unable to close the access log receiver", e);
+            }
+        }
+    }
+
     public void finalizeRouter(
             Consumer<Route> defaultRouteHandler,
             List<Filter> filterList, List<Filter> managementInterfaceFilterList, Supplier<Vertx> vertx,
@@ -420,6 +459,7 @@ public void finalizeRouter(
             Handler<RoutingContext> bodyHandler,
             GracefulShutdownFilter gracefulShutdownFilter,
             Executor executor,
+            ShutdownContext shutdown,
             LogBuildTimeConfig logBuildTimeConfig,
             String srcMainJava,
             List<String> knowClasses,
@@ -514,13 +554,40 @@ public void handle(RoutingContext routingContext) {
             AccessLogReceiver receiver;
             if (accessLog.logToFile()) {
                 File outputDir = accessLog.logDirectory().isPresent() ? new File(accessLog.logDirectory().get()) : new File("");
-                receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName(), accessLog.logSuffix(),
-                        accessLog.rotate());
+                if (accessLog.async().enabled()) {
+                    // A receiver left over from a previous dev mode run is replaced
+                    closeAsyncAccessLogReceiver();
+                    receiver = asyncAccessLogReceiver = new AsyncFileAccessLogReceiver(executor, outputDir.toPath(),
+                            accessLog.baseFileName(), accessLog.logSuffix(), accessLog.rotate(),
+                            accessLog.async().compressOnRotate(), accessLog.async().queueSize(),
+                            accessLog.format() == AccessLogConfig.Format.BINARY);
+                    shutdown.addShutdownTask(VertxHttpRecorder::closeAsyncAccessLogReceiver);
+                } else {
+                    receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName(),
+                            accessLog.logSuffix(), accessLog.rotate());
+                }
             } else {
                 receiver = new JBossLoggingAccessLogReceiver(accessLog.category());
             }
-            setupAccessLogHandler(mainRouterRuntimeValue, httpRouterRuntimeValue, frameworkRouter, receiver, rootPath,
-                    nonRootPath, accessLog.pattern(), accessLog.consolidateReroutedRequests(), accessLog.excludePattern());
+            AccessLogHandler handler;
+            if (accessLog.format() == AccessLogConfig.Format.TEXT) {
+                handler = new AccessLogHandler(receiver, accessLog.pattern(), accessLog.consolidateReroutedRequests(),
+                        getClass().getClassLoader(), accessLog.excludePattern());
+            } else {
+                if (accessLog.format() == AccessLogConfig.Format.BINARY
+                        && (!accessLog.logToFile() || !accessLog.async().enabled())) {
+                    throw new ConfigurationException("The binary access log format requires both "
+                            + "quarkus.http.access-log.log-to-file and quarkus.http.access-log.async.enabled "
+                            + "to be set to true");
+                }
+                Map<String, String> fields = accessLog.fields().isEmpty() ? StructuredExchangeAttribute.DEFAULT_FIELDS
+                        : new TreeMap<>(accessLog.fields());
+                handler = new AccessLogHandler(receiver,
+                        StructuredExchangeAttribute.parse(getClass().getClassLoader(), fields),
+                        accessLog.consolidateReroutedRequests(), accessLog.excludePattern());
+            }
+            setupAccessLogHandler(mainRouterRuntimeValue, httpRouterRuntimeValue, frameworkRouter, handler, rootPath,
+                    nonRootPath);
             quarkusWrapperNeeded = true;
         }
 
@@ -535,9 +602,11 @@ public void logMessage(String message) {
                 }
             };
 
-            setupAccessLogHandler(mainRouterRuntimeValue, httpRouterRuntimeValue, frameworkRouter, receiver, rootPath,
-                    nonRootPath, accessLog.pattern(), accessLog.consolidateReroutedRequests(),
+            AccessLogHandler handler = new AccessLogHandler(receiver, accessLog.pattern(),
+                    accessLog.consolidateReroutedRequests(), getClass().getClassLoader(),
                     accessLog.excludePattern().or(() -> Optional.of("^" + nonRootPath + ".*")));
+            setupAccessLogHandler(mainRouterRuntimeValue, httpRouterRuntimeValue, frameworkRouter, handler, rootPath,
+                    nonRootPath);
             quarkusWrapperNeeded = true;
         }
 
@@ -632,17 +701,11 @@ public void handle(HttpServerRequest event) {
     private void setupAccessLogHandler(Optional<RuntimeValue<Router>> mainRouterRuntimeValue,
             RuntimeValue<Router> httpRouterRuntimeValue,
             RuntimeValue<Router> frameworkRouter,
-            AccessLogReceiver receiver,
+            AccessLogHandler handler,
             String rootPath,
-            String nonRootPath,
-            String pattern,
-            boolean consolidateReroutedRequests,
-            Optional<String> excludePattern) {
+            String nonRootPath) {
 
         Router httpRouteRouter = httpRouterRuntimeValue.getValue();
-        AccessLogHandler handler = new AccessLogHandler(receiver, pattern, consolidateReroutedRequests,
-                getClass().getClassLoader(),
-                excludePattern);
         if (rootPath.equals("/") || nonRootPath.equals("/")) {
             mainRouterRuntimeValue.orElse(httpRouterRuntimeValue).getValue().route()
                     .order(RouteConstants.ROUTE_ORDER_ACCESS_LOG_HANDLER)
@@ -18,6 +18,10 @@ public BytesSentAttribute(boolean dashIfZero) {
         this.dashIfZero = dashIfZero;
     }
 
+    boolean isDashIfZero() {
+        return dashIfZero;
+    }
+
     @Override
     public String readAttribute(final RoutingContext exchange) {
         if (dashIfZero) {
@@ -28,6 +28,13 @@ public String readAttribute(RoutingContext exchange) {
         return sb.toString();
     }
 
+    @Override
+    public void appendAttribute(RoutingContext exchange, StringBuilder builder) {
+        for (ExchangeAttribute attribute : attributes) {
+            attribute.appendAttribute(exchange, builder);
+        }
+    }
+
     @Override
     public void writeAttribute(RoutingContext exchange, String newValue) throws ReadOnlyAttributeException {
         throw new ReadOnlyAttributeException("combined", newValue);
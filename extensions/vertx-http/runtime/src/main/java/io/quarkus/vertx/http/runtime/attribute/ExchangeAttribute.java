@@ -16,6 +16,22 @@ public interface ExchangeAttribute {
      */
     String readAttribute(final RoutingContext exchange);
 
+    /**
+     * Resolve the attribute from the HTTP server exchange and append it to the given builder. Nothing is appended if the
+     * attribute is not present.
+     * <p>
+     * Attributes composed of other attributes should override this method so that no intermediate String is created.
+     *
+     * @param exchange The exchange
+     * @param builder The builder
+     */
+    default void appendAttribute(final RoutingContext exchange, final StringBuilder builder) {
+        String value = readAttribute(exchange);
+        if (value != null) {
+            builder.append(value);
+        }
+    }
+
     /**
      * Sets a new value for the attribute. Not all attributes are writable.
      *
@@ -0,0 +1,193 @@
+package io.quarkus.vertx.http.runtime.attribute;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Exchange attribute that represents a set of named attributes, rendered as a single-line JSON object.
+ * <p>
+ * The JSON object is written directly into the target builder: the values are appended by the attributes themselves and
+ * escaped in place, so no intermediate String is created for the common case of values that do not need to be escaped.
+ * The response code, the bytes sent, the response time and the local port are written as JSON numbers, the other
+ * attributes as JSON strings. Absent or empty values are written as {@code null}.
+ * <p>
+ * The individual fields are also available to receivers that use another structured encoding.
+ */
+public class StructuredExchangeAttribute implements ExchangeAttribute {
+
+    /**
+     * The fields used if no field is configured.
+     */
+    public static final Map<String, String> DEFAULT_FIELDS;
+
+    static {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("timestamp", "%{time,yyyy-MM-dd'T'HH:mm:ss.SSSXXX}");
+        fields.put("remoteHost", "%h");
+        fields.put("remoteUser", "%u");
+        fields.put("method", "%m");
+        fields.put("path", "%U");
+        fields.put("query", "%q");
+        fields.put("protocol", "%H");
+        fields.put("status", "%s");
+        fields.put("bytesSent", "%B");
+        DEFAULT_FIELDS = Collections.unmodifiableMap(fields);
+    }
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final String[] names;
+    private final String[] jsonKeys;
+    private final ExchangeAttribute[] attributes;
+    private final boolean[] numeric;
+
+    public StructuredExchangeAttribute(List<String> names, List<ExchangeAttribute> attributes) {
+        if (names.size() != attributes.size()) {
+            throw new IllegalArgumentException("The number of names and attributes must be the same");
+        }
+        int size = names.size();
+        this.names = names.toArray(new String[size]);
+        this.jsonKeys = new String[size];
+        this.attributes = attributes.toArray(new ExchangeAttribute[size]);
+        this.numeric = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            StringBuilder key = new StringBuilder().append('"');
+            appendEscaped(key, this.names[i]);
+            jsonKeys[i] = key.append("\":").toString();
+            numeric[i] = isNumeric(this.attributes[i]);
+        }
+    }
+
+    /**
+     * Creates a structured attribute from a map of field names to attribute patterns.
+     * <p>
+     * Unlike for the text access log, absent values are not substituted with {@code -}.
+     *
+     * @param classLoader the class loader used to load the attribute builders
+     * @param fields the field names mapped to the attribute patterns, in the order of the fields
+     * @return the structured attribute
+     */
+    public static StructuredExchangeAttribute parse(ClassLoader classLoader, Map<String, String> fields) {
+        ExchangeAttributeParser parser = new ExchangeAttributeParser(classLoader, Collections.emptyList());
+        List<String> names = new ArrayList<>(fields.size());
+        List<ExchangeAttribute> attributes = new ArrayList<>(fields.size());
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            names.add(field.getKey());
+            attributes.add(parser.parse(field.getValue()));
+        }
+        return new StructuredExchangeAttribute(names, attributes);
+    }
+
+    private static boolean isNumeric(ExchangeAttribute attribute) {
+        return attribute == ResponseCodeAttribute.INSTANCE
+                || attribute instanceof ResponseTimeAttribute
+                || attribute instanceof LocalPortAttribute
+                || (attribute instanceof BytesSentAttribute bytesSent && !bytesSent.isDashIfZero());
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    public String name(int index) {
+        return names[index];
+    }
+
+    /**
+     * Appends the raw value of a field to the given builder. Nothing is appended if the value is not present.
+     */
+    public void appendField(int index, RoutingContext exchange, StringBuilder builder) {
+        attributes[index].appendAttribute(exchange, builder);
+    }
+
+    @Override
+    public String readAttribute(RoutingContext exchange) {
+        StringBuilder builder = new StringBuilder();
+        appendAttribute(exchange, builder);
+        return builder.toString();
+    }
+
+    @Override
+    public void appendAttribute(RoutingContext exchange, StringBuilder builder) {
+        builder.append('{');
+        for (int i = 0; i < attributes.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(jsonKeys[i]);
+            int start = builder.length();
+            if (numeric[i]) {
+                attributes[i].appendAttribute(exchange, builder);
+                if (builder.length() == start) {
+                    builder.append("null");
+                }
+            } else {
+                builder.append('"');
+                attributes[i].appendAttribute(exchange, builder);
+                if (builder.length() == start + 1) {
+                    builder.setLength(start);
+                    builder.append("null");
+                } else {
+                    escapeInPlace(builder, start + 1);
+                    builder.append('"');
+                }
+            }
+        }
+        builder.append('}');
+    }
+
+    /**
+     * Escapes the characters of the builder starting at the given index.
+     */
+    private static void escapeInPlace(StringBuilder builder, int from) {
+        int length = builder.length();
+        for (int i = from; i < length; i++) {
+            if (needsEscaping(builder.charAt(i))) {
+                // slow path, only taken for values that actually need to be escaped
+                String raw = builder.substring(i);
+                builder.setLength(i);
+                appendEscaped(builder, raw);
+                return;
+            }
+        }
+    }
+
+    private static boolean needsEscaping(char c) {
+        return c < 0x20 || c == '"' || c == '\\';
+    }
+
+    private static void appendEscaped(StringBuilder builder, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!needsEscaping(c)) {
+                builder.append(c);
+                continue;
+            }
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                case '\b' -> builder.append("\\b");
+                case '\f' -> builder.append("\\f");
+                default -> builder.append("\\u00").append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xF]);
+            }
+        }
+    }
+
+    @Override
+    public void writeAttribute(RoutingContext exchange, String newValue) throws ReadOnlyAttributeException {
+        throw new ReadOnlyAttributeException("structured", newValue);
+    }
+
+    @Override
+    public String toString() {
+        return "StructuredExchangeAttribute" + List.of(names);
+    }
+}
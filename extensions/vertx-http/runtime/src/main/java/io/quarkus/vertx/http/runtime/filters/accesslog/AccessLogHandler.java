@@ -123,6 +123,23 @@ public AccessLogHandler(final AccessLogReceiver accessLogReceiver, String format
         this.excludePattern = null;
     }
 
+    /**
+     * Creates a handler that logs the given attribute, usually a
+     * {@link io.quarkus.vertx.http.runtime.attribute.StructuredExchangeAttribute}, instead of a format string.
+     */
+    public AccessLogHandler(final AccessLogReceiver accessLogReceiver, final ExchangeAttribute attribute,
+            boolean consolidateReroutedRequests, Optional<String> excludePattern) {
+        this.accessLogReceiver = accessLogReceiver;
+        this.formatString = attribute.toString();
+        this.consolidateReroutedRequests = consolidateReroutedRequests;
+        this.tokens = attribute;
+        if (excludePattern.isPresent()) {
+            this.excludePattern = Pattern.compile(excludePattern.get());
+        } else {
+            this.excludePattern = null;
+        }
+    }
+
     private static String handleCommonNames(String formatString) {
         switch (formatString) {
             case "common":
@@ -155,7 +172,7 @@ public void handle(RoutingContext rc) {
         QuarkusRequestWrapper.get(rc.request()).addRequestDoneHandler(new Handler<Void>() {
             @Override
             public void handle(Void event) {
-                accessLogReceiver.logMessage(tokens.readAttribute(rc));
+                accessLogReceiver.logMessage(tokens, rc);
             }
         });
         if (consolidateReroutedRequests) {
@@ -18,6 +18,9 @@
 
 package io.quarkus.vertx.http.runtime.filters.accesslog;
 
+import io.quarkus.vertx.http.runtime.attribute.ExchangeAttribute;
+import io.vertx.ext.web.RoutingContext;
+
 /**
  * Interface that is used by the access log handler to send data to the log file manager.
  *
@@ -29,4 +32,13 @@ public interface AccessLogReceiver {
 
     void logMessage(final String message);
 
+    /**
+     * Logs the message rendered by the given attribute for the given exchange.
+     * <p>
+     * Receivers may override this method to render the message without creating an intermediate String.
+     */
+    default void logMessage(final ExchangeAttribute attribute, final RoutingContext exchange) {
+        logMessage(attribute.readAttribute(exchange));
+    }
+
 }
@@ -0,0 +1,509 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.vertx.http.runtime.attribute.ExchangeAttribute;
+import io.quarkus.vertx.http.runtime.attribute.StructuredExchangeAttribute;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * High-throughput log receiver that stores logs in a directory under the specified file name, and optionally rotates them
+ * after midnight.
+ * <p/>
+ * Unlike {@link DefaultAccessLogReceiver}, the log lines are rendered directly into a reusable per-thread buffer and
+ * encoded to UTF-8 on the calling thread, then handed off to the writer through a bounded lock-free ring buffer. The
+ * writer drains the ring buffer in large batches. If the ring buffer is full, the line is dropped rather than blocking
+ * the calling thread (usually an event loop), and the number of dropped lines is available from
+ * {@link #getDroppedLines()}.
+ * <p/>
+ * The same CAS based mechanism as {@link DefaultAccessLogReceiver} is used to ensure that only one thread is writing at
+ * any given time. Rotated files can optionally be compressed with gzip.
+ * <p/>
+ * In binary mode, each exchange is written as a length-prefixed record of the fields of a
+ * {@link StructuredExchangeAttribute} instead of a line of text.
+ */
+public class AsyncFileAccessLogReceiver implements AccessLogReceiver, Runnable, Closeable {
+
+    private static final Logger log = Logger.getLogger(AsyncFileAccessLogReceiver.class);
+
+    private static final String DEFAULT_LOG_SUFFIX = "log";
+    private static final String DOT = ".";
+    private static final String GZIP_SUFFIX = ".gz";
+
+    private static final byte[] NEW_LINE = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+    private static final byte[] NO_SEPARATOR = new byte[0];
+    private static final String MESSAGE_FIELD = "message";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private static final ThreadLocal<LineRenderer> RENDERERS = new ThreadLocal<>() {
+        @Override
+        protected LineRenderer initialValue() {
+            return new LineRenderer();
+        }
+    };
+
+    private final Executor logWriteExecutor;
+    private final LineRingBuffer pendingLines;
+    private final LongAdder droppedLines = new LongAdder();
+
+    //0 = not running
+    //1 = queued
+    //2 = running
+    @SuppressWarnings("unused")
+    private volatile int state = 0;
+
+    private static final AtomicIntegerFieldUpdater<AsyncFileAccessLogReceiver> stateUpdater = AtomicIntegerFieldUpdater
+            .newUpdater(AsyncFileAccessLogReceiver.class, "state");
+
+    private long changeOverPoint;
+    private String currentDateString;
+    private volatile boolean forceLogRotation;
+
+    private final Path outputDirectory;
+    private final Path defaultLogFile;
+    private final String logBaseName;
+    private final String logNameSuffix; // always starts with a '.' character
+    private final boolean rotate;
+    private final boolean compressOnRotate;
+    private final boolean binary;
+    private final byte[] recordSeparator;
+
+    private FileChannel channel;
+    private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+
+    private volatile boolean closed = false;
+    private boolean initialRun = true;
+
+    public AsyncFileAccessLogReceiver(Executor logWriteExecutor, Path outputDirectory, String logBaseName,
+            String logNameSuffix, boolean rotate, boolean compressOnRotate, int queueSize) {
+        this(logWriteExecutor, outputDirectory, logBaseName, logNameSuffix, rotate, compressOnRotate, queueSize, false);
+    }
+
+    /**
+     * @param binary if the records should be written in a length-prefixed binary format instead of as lines of text
+     */
+    public AsyncFileAccessLogReceiver(Executor logWriteExecutor, Path outputDirectory, String logBaseName,
+            String logNameSuffix, boolean rotate, boolean compressOnRotate, int queueSize, boolean binary) {
+        this.logWriteExecutor = logWriteExecutor;
+        this.outputDirectory = outputDirectory;
+        this.logBaseName = effectiveLogBaseName(logBaseName);
+        this.logNameSuffix = effectiveLogNameSuffix(logNameSuffix);
+        this.rotate = rotate;
+        this.compressOnRotate = compressOnRotate;
+        this.binary = binary;
+        this.recordSeparator = binary ? NO_SEPARATOR : NEW_LINE;
+        this.pendingLines = new LineRingBuffer(queueSize);
+        this.defaultLogFile = outputDirectory.resolve(this.logBaseName + this.logNameSuffix);
+        calculateChangeOverPoint();
+    }
+
+    private static String effectiveLogBaseName(String logBaseName) {
+        if (logBaseName == null) {
+            return "";
+        }
+        if (!logBaseName.endsWith(DOT)) {
+            return logBaseName;
+        }
+        return logBaseName.substring(0, logBaseName.length() - 1);
+    }
+
+    private static String effectiveLogNameSuffix(String logNameSuffix) {
+        var result = (logNameSuffix != null) ? logNameSuffix : DEFAULT_LOG_SUFFIX;
+        if (result.charAt(0) != '.') {
+            return '.' + result;
+        }
+        return result;
+    }
+
+    private void calculateChangeOverPoint() {
+        Calendar calendar = Calendar.getInstance();
+        calendar.set(Calendar.SECOND, 0);
+        calendar.set(Calendar.MINUTE, 0);
+        calendar.set(Calendar.HOUR_OF_DAY, 0);
+        calendar.add(Calendar.DATE, 1);
+        SimpleDateFormat df = new SimpleDateFormat("yyyy-MM-dd", Locale.US);
+        currentDateString = df.format(new Date());
+        // if there is an existing default log file, use the date last modified instead of the current date
+        if (Files.exists(defaultLogFile)) {
+            try {
+                currentDateString = df.format(new Date(Files.getLastModifiedTime(defaultLogFile).toMillis()));
+            } catch (IOException e) {
+                // ignore. use the current date if exception happens.
+            }
+        }
+        changeOverPoint = calendar.getTimeInMillis();
+    }
+
+    @Override
+    public void logMessage(String message) {
+        if (binary) {
+            enqueue(RENDERERS.get().renderRecord(message));
+        } else {
+            enqueue(message.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Override
+    public void logMessage(ExchangeAttribute attribute, RoutingContext exchange) {
+        if (!binary) {
+            enqueue(RENDERERS.get().render(attribute, exchange));
+        } else if (attribute instanceof StructuredExchangeAttribute structured) {
+            enqueue(RENDERERS.get().renderRecord(structured, exchange));
+        } else {
+            enqueue(RENDERERS.get().renderRecord(attribute.readAttribute(exchange)));
+        }
+    }
+
+    private void enqueue(byte[] line) {
+        if (!pendingLines.offer(line)) {
+            droppedLines.increment();
+            return;
+        }
+        if (stateUpdater.get(this) == 0) {
+            if (stateUpdater.compareAndSet(this, 0, 1)) {
+                logWriteExecutor.execute(this);
+            }
+        }
+    }
+
+    /**
+     * @return the number of lines dropped because the queue of lines to write was full
+     */
+    public long getDroppedLines() {
+        return droppedLines.sum();
+    }
+
+    /**
+     * processes all queued log lines
+     */
+    @Override
+    public void run() {
+        if (!stateUpdater.compareAndSet(this, 1, 2)) {
+            return;
+        }
+        if (forceLogRotation) {
+            doRotate();
+        } else if (initialRun && Files.exists(defaultLogFile)) {
+            //if there is an existing log file check if it should be rotated
+            long lm = 0;
+            try {
+                lm = Files.getLastModifiedTime(defaultLogFile).toMillis();
+            } catch (IOException e) {
+                log.error("Error rotating access log", e);
+            }
+            Calendar c = Calendar.getInstance();
+            c.setTimeInMillis(changeOverPoint);
+            c.add(Calendar.DATE, -1);
+            if (lm <= c.getTimeInMillis()) {
+                doRotate();
+            }
+        }
+        initialRun = false;
+        try {
+            if (!pendingLines.isEmpty()) {
+                writeLines();
+            }
+        } finally {
+            stateUpdater.set(this, 0);
+            //check to see if there are still more lines
+            //if so then run this again
+            if (!pendingLines.isEmpty() || forceLogRotation) {
+                if (stateUpdater.compareAndSet(this, 0, 1)) {
+                    logWriteExecutor.execute(this);
+                }
+            } else if (closed) {
+                closeChannel();
+            }
+        }
+    }
+
+    private void writeLines() {
+        if (System.currentTimeMillis() > changeOverPoint) {
+            doRotate();
+        }
+        try {
+            if (channel == null) {
+                channel = FileChannel.open(defaultLogFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.APPEND);
+            }
+            // drain at most one lap of the ring buffer so that a rotation is not delayed forever
+            int remaining = pendingLines.capacity();
+            byte[] line;
+            while (remaining-- > 0 && (line = pendingLines.poll()) != null) {
+                if (writeBuffer.remaining() < line.length + recordSeparator.length) {
+                    flushWriteBuffer();
+                    if (writeBuffer.remaining() < line.length + recordSeparator.length) {
+                        // the line does not fit into the buffer
+                        writeFully(ByteBuffer.wrap(line));
+                        writeFully(ByteBuffer.wrap(recordSeparator));
+                        continue;
+                    }
+                }
+                writeBuffer.put(line).put(recordSeparator);
+            }
+            flushWriteBuffer();
+        } catch (IOException e) {
+            writeBuffer.clear();
+            log.error("Error writing access log", e);
+        }
+    }
+
+    private void flushWriteBuffer() throws IOException {
+        writeBuffer.flip();
+        try {
+            writeFully(writeBuffer);
+        } finally {
+            writeBuffer.clear();
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.error("Error closing access log", e);
+            }
+            channel = null;
+        }
+    }
+
+    private void doRotate() {
+        forceLogRotation = false;
+        if (!rotate) {
+            return;
+        }
+        try {
+            closeChannel();
+            if (!Files.exists(defaultLogFile)) {
+                return;
+            }
+            Path newFile = rotatedFile(0);
+            int count = 0;
+            while (Files.exists(newFile) || (compressOnRotate && Files.exists(gzipFile(newFile)))) {
+                newFile = rotatedFile(++count);
+            }
+            Files.move(defaultLogFile, newFile);
+            if (compressOnRotate) {
+                compress(newFile);
+            }
+        } catch (IOException e) {
+            log.error("Error rotating access log", e);
+        } finally {
+            calculateChangeOverPoint();
+        }
+    }
+
+    private Path rotatedFile(int count) {
+        if (count == 0) {
+            return outputDirectory.resolve(logBaseName + DOT + currentDateString + logNameSuffix);
+        }
+        return outputDirectory.resolve(logBaseName + DOT + currentDateString + "-" + count + logNameSuffix);
+    }
+
+    private static Path gzipFile(Path file) {
+        return file.resolveSibling(file.getFileName() + GZIP_SUFFIX);
+    }
+
+    private static void compress(Path file) throws IOException {
+        Path gzipFile = gzipFile(file);
+        try (InputStream in = Files.newInputStream(file);
+                OutputStream out = new GZIPOutputStream(Files.newOutputStream(gzipFile), WRITE_BUFFER_SIZE)) {
+            in.transferTo(out);
+        } catch (IOException e) {
+            Files.deleteIfExists(gzipFile);
+            throw e;
+        }
+        Files.delete(file);
+    }
+
+    /**
+     * forces a log rotation. This rotation is performed in an async manner, you cannot rely on the rotation
+     * being performed immediately after this method returns.
+     */
+    public void rotate() {
+        forceLogRotation = true;
+        if (stateUpdater.compareAndSet(this, 0, 1)) {
+            logWriteExecutor.execute(this);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        if (stateUpdater.compareAndSet(this, 0, 1)) {
+            logWriteExecutor.execute(this);
+        }
+    }
+
+    /**
+     * Renders the log lines into a reusable buffer and encodes them to UTF-8 without intermediate Strings.
+     */
+    private static final class LineRenderer {
+
+        // do not retain the buffers of exceptionally long lines, e.g. with all the request headers
+        private static final int MAX_RETAINED_SIZE = 16 * 1024;
+        private static final int INITIAL_SIZE = 512;
+        private static final int ABSENT_VALUE = -1;
+
+        private StringBuilder builder = new StringBuilder(INITIAL_SIZE);
+        private byte[] bytes = new byte[INITIAL_SIZE];
+        private int position;
+
+        byte[] render(ExchangeAttribute attribute, RoutingContext exchange) {
+            StringBuilder builder = this.builder;
+            builder.setLength(0);
+            attribute.appendAttribute(exchange, builder);
+            position = 0;
+            encode(builder);
+            return finish();
+        }
+
+        /**
+         * Renders a binary record: the length of the rest of the record (4 bytes), the number of fields (2 bytes), and
+         * for each field the length of its name (2 bytes), its name, the length of its value (4 bytes, -1 if the value is
+         * absent or empty) and its value. All the integers are big-endian and the strings are encoded in UTF-8.
+         */
+        byte[] renderRecord(StructuredExchangeAttribute attribute, RoutingContext exchange) {
+            StringBuilder builder = this.builder;
+            position = 4;
+            writeShort(attribute.size());
+            for (int i = 0; i < attribute.size(); i++) {
+                builder.setLength(0);
+                builder.append(attribute.name(i));
+                writeLengthPrefixed(builder, false);
+                builder.setLength(0);
+                attribute.appendField(i, exchange, builder);
+                writeLengthPrefixed(builder, true);
+            }
+            writeInt(0, position - 4);
+            return finish();
+        }
+
+        byte[] renderRecord(String message) {
+            StringBuilder builder = this.builder;
+            position = 4;
+            writeShort(1);
+            builder.setLength(0);
+            builder.append(MESSAGE_FIELD);
+            writeLengthPrefixed(builder, false);
+            builder.setLength(0);
+            if (message != null) {
+                builder.append(message);
+            }
+            writeLengthPrefixed(builder, true);
+            writeInt(0, position - 4);
+            return finish();
+        }
+
+        private void writeLengthPrefixed(StringBuilder builder, boolean value) {
+            if (value && builder.length() == 0) {
+                ensureCapacity(4);
+                writeInt(position, ABSENT_VALUE);
+                position += 4;
+                return;
+            }
+            int lengthPosition = position;
+            int lengthSize = value ? 4 : 2;
+            position += lengthSize;
+            encode(builder);
+            int length = position - lengthPosition - lengthSize;
+            if (value) {
+                writeInt(lengthPosition, length);
+            } else {
+                bytes[lengthPosition] = (byte) (length >> 8);
+                bytes[lengthPosition + 1] = (byte) length;
+            }
+        }
+
+        private void writeShort(int value) {
+            ensureCapacity(2);
+            bytes[position++] = (byte) (value >> 8);
+            bytes[position++] = (byte) value;
+        }
+
+        private void writeInt(int at, int value) {
+            bytes[at] = (byte) (value >> 24);
+            bytes[at + 1] = (byte) (value >> 16);
+            bytes[at + 2] = (byte) (value >> 8);
+            bytes[at + 3] = (byte) value;
+        }
+
+        private void ensureCapacity(int additional) {
+            // also reserve the room for a length prefix
+            if (bytes.length < position + additional + 4) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, position + additional + 4));
+            }
+        }
+
+        private void encode(StringBuilder builder) {
+            int length = builder.length();
+            // a char is at most 3 bytes in UTF-8, a surrogate pair is 4 bytes
+            ensureCapacity(length * 3);
+            byte[] bytes = this.bytes;
+            int position = this.position;
+            for (int i = 0; i < length; i++) {
+                char c = builder.charAt(i);
+                if (c < 0x80) {
+                    bytes[position++] = (byte) c;
+                } else if (c < 0x800) {
+                    bytes[position++] = (byte) (0xC0 | (c >> 6));
+                    bytes[position++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(builder.charAt(i + 1))) {
+                        int codePoint = Character.toCodePoint(c, builder.charAt(++i));
+                        bytes[position++] = (byte) (0xF0 | (codePoint >> 18));
+                        bytes[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                        bytes[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                        bytes[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                    } else {
+                        // malformed, same replacement as String#getBytes
+                        bytes[position++] = '?';
+                    }
+                } else {
+                    bytes[position++] = (byte) (0xE0 | (c >> 12));
+                    bytes[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    bytes[position++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+            this.position = position;
+        }
+
+        private byte[] finish() {
+            byte[] line = Arrays.copyOf(bytes, position);
+            if (bytes.length > MAX_RETAINED_SIZE) {
+                this.bytes = new byte[INITIAL_SIZE];
+            }
+            if (builder.capacity() > MAX_RETAINED_SIZE) {
+                this.builder = new StringBuilder(INITIAL_SIZE);
+            }
+            return line;
+        }
+    }
+}
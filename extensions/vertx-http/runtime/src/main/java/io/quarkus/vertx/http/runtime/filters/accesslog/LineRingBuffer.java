@@ -0,0 +1,81 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A bounded, lock-free, multiple producers and single consumer ring buffer of log lines.
+ * <p>
+ * Each slot has a sequence number that tells the producers and the consumer whether the slot is free or holds a line
+ * for the current lap, so producers only contend on the tail counter and never block.
+ */
+final class LineRingBuffer {
+
+    private final byte[][] lines;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    // only accessed by the consumer; the consumers are serialized by the receiver
+    private long head;
+
+    LineRingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be positive: " + capacity);
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.lines = new byte[size][];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * @return {@code false} if the buffer is full
+     */
+    boolean offer(byte[] line) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    lines[index] = line;
+                    // publish the line to the consumer
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                // the slot still holds a line of the previous lap
+                return false;
+            }
+            // another producer claimed the slot, retry
+        }
+    }
+
+    /**
+     * @return the next line, or {@code null} if the buffer is empty
+     */
+    byte[] poll() {
+        long position = head;
+        int index = (int) position & mask;
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        byte[] line = lines[index];
+        lines[index] = null;
+        // release the slot for the next lap
+        sequences.lazySet(index, position + lines.length);
+        head = position + 1;
+        return line;
+    }
+
+    boolean isEmpty() {
+        return sequences.get((int) head & mask) != head + 1;
+    }
+
+    int capacity() {
+        return lines.length;
+    }
+}
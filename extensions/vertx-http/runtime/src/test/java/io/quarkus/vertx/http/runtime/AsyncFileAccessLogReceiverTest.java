@@ -0,0 +1,114 @@
+package io.quarkus.vertx.http.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.vertx.http.runtime.attribute.CompositeExchangeAttribute;
+import io.quarkus.vertx.http.runtime.attribute.ConstantExchangeAttribute;
+import io.quarkus.vertx.http.runtime.attribute.ExchangeAttribute;
+import io.quarkus.vertx.http.runtime.attribute.NullAttribute;
+import io.quarkus.vertx.http.runtime.attribute.StructuredExchangeAttribute;
+import io.quarkus.vertx.http.runtime.attribute.SubstituteEmptyWrapper;
+import io.quarkus.vertx.http.runtime.filters.accesslog.AsyncFileAccessLogReceiver;
+
+class AsyncFileAccessLogReceiverTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testWriteLines() throws IOException {
+        try (AsyncFileAccessLogReceiver receiver = new AsyncFileAccessLogReceiver(Runnable::run, tempDir, "access",
+                null, false, false, 16)) {
+            receiver.logMessage("Message 1");
+            ExchangeAttribute attribute = new CompositeExchangeAttribute(new ExchangeAttribute[] {
+                    new ConstantExchangeAttribute("Message 2 "),
+                    new SubstituteEmptyWrapper.SubstituteEmptyAttribute(new ConstantExchangeAttribute(""), "-"),
+                    new ConstantExchangeAttribute(" é€😀") });
+            receiver.logMessage(attribute, null);
+            assertThat(Files.readAllLines(tempDir.resolve("access.log")))
+                    .containsExactly("Message 1", "Message 2 - é€😀");
+            assertThat(receiver.getDroppedLines()).isZero();
+        }
+    }
+
+    @Test
+    void testDropLinesWhenFull() throws IOException {
+        List<Runnable> tasks = new ArrayList<>();
+        try (AsyncFileAccessLogReceiver receiver = new AsyncFileAccessLogReceiver(tasks::add, tempDir, "access", null,
+                false, false, 4)) {
+            for (int i = 0; i < 10; i++) {
+                receiver.logMessage("Message " + i);
+            }
+            assertThat(receiver.getDroppedLines()).isEqualTo(6);
+            assertThat(tasks).hasSize(1);
+            tasks.get(0).run();
+            assertThat(Files.readAllLines(tempDir.resolve("access.log")))
+                    .containsExactly("Message 0", "Message 1", "Message 2", "Message 3");
+        }
+    }
+
+    @Test
+    void testBinaryRecords() throws IOException {
+        try (AsyncFileAccessLogReceiver receiver = new AsyncFileAccessLogReceiver(Runnable::run, tempDir, "access",
+                null, false, false, 16, true)) {
+            receiver.logMessage(new StructuredExchangeAttribute(List.of("method", "user"),
+                    List.of(new ConstantExchangeAttribute("GÉT"), NullAttribute.INSTANCE)), null);
+            receiver.logMessage("Message");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(tempDir.resolve("access.log")));
+
+        assertThat(buffer.getInt()).isEqualTo(2 + 2 + 6 + 4 + 4 + 2 + 4 + 4);
+        assertThat(buffer.getShort()).isEqualTo((short) 2);
+        assertThat(readString(buffer, buffer.getShort())).isEqualTo("method");
+        assertThat(readString(buffer, buffer.getInt())).isEqualTo("GÉT");
+        assertThat(readString(buffer, buffer.getShort())).isEqualTo("user");
+        assertThat(buffer.getInt()).isEqualTo(-1);
+
+        assertThat(buffer.getInt()).isEqualTo(2 + 2 + 7 + 4 + 7);
+        assertThat(buffer.getShort()).isEqualTo((short) 1);
+        assertThat(readString(buffer, buffer.getShort())).isEqualTo("message");
+        assertThat(readString(buffer, buffer.getInt())).isEqualTo("Message");
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    private static String readString(ByteBuffer buffer, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testCompressOnRotate() throws IOException {
+        try (AsyncFileAccessLogReceiver receiver = new AsyncFileAccessLogReceiver(Runnable::run, tempDir, "access",
+                null, true, true, 16)) {
+            receiver.logMessage("Message 1");
+            receiver.rotate();
+            receiver.logMessage("Message 2");
+
+            assertThat(Files.readAllLines(tempDir.resolve("access.log"))).containsExactly("Message 2");
+            Path rotated;
+            try (Stream<Path> files = Files.list(tempDir)) {
+                rotated = files.filter(p -> p.getFileName().toString().endsWith(".log.gz")).findFirst().orElseThrow();
+            }
+            assertThat(rotated.getFileName().toString()).matches("access\\.[0-9]{4}-[0-9]{2}-[0-9]{2}\\.log\\.gz");
+            try (InputStream in = new GZIPInputStream(Files.newInputStream(rotated))) {
+                assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8))
+                        .isEqualTo("Message 1" + System.lineSeparator());
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package io.quarkus.vertx.http.runtime.attribute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+class StructuredExchangeAttributeTest {
+
+    @Test
+    void testJson() {
+        RoutingContext exchange = mock(RoutingContext.class);
+        HttpServerResponse response = mock(HttpServerResponse.class);
+        when(exchange.response()).thenReturn(response);
+        when(response.getStatusCode()).thenReturn(404);
+        when(response.bytesWritten()).thenReturn(0L);
+
+        StructuredExchangeAttribute attribute = new StructuredExchangeAttribute(
+                List.of("message", "escaped", "missing", "status", "bytes", "bytesOrDash"),
+                List.of(new ConstantExchangeAttribute("Hello é"),
+                        new ConstantExchangeAttribute("a \"quoted\"\\ \n\u0001 value"),
+                        NullAttribute.INSTANCE,
+                        ResponseCodeAttribute.INSTANCE,
+                        new BytesSentAttribute(false),
+                        new BytesSentAttribute(true)));
+
+        StringBuilder builder = new StringBuilder("prefix ");
+        attribute.appendAttribute(exchange, builder);
+        String expected = "{\"message\":\"Hello é\",\"escaped\":\"a \\\"quoted\\\"\\\\ \\n\\u0001 value\","
+                + "\"missing\":null,\"status\":404,\"bytes\":0,\"bytesOrDash\":\"-\"}";
+        assertThat(builder.toString()).isEqualTo("prefix " + expected);
+        assertThat(attribute.readAttribute(exchange)).isEqualTo(expected);
+    }
+
+    @Test
+    void testParse() {
+        StructuredExchangeAttribute attribute = StructuredExchangeAttribute.parse(getClass().getClassLoader(),
+                StructuredExchangeAttribute.DEFAULT_FIELDS);
+        assertThat(attribute.size()).isEqualTo(StructuredExchangeAttribute.DEFAULT_FIELDS.size());
+        assertThat(attribute.name(0)).isEqualTo("timestamp");
+        StringBuilder builder = new StringBuilder();
+        attribute.appendField(0, null, builder);
+        assertThat(builder.toString()).matches("[0-9]{4}-[0-9]{2}-[0-9]{2}T[0-9:.]+(Z|[+-][0-9:]+)");
+    }
+}
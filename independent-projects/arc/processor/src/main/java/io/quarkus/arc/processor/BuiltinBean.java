@@ -2,9 +2,11 @@
 
 import static io.quarkus.arc.processor.IndexClassLookupUtils.getClassByName;
 import static io.quarkus.arc.processor.KotlinUtils.isKotlinClass;
+import static org.jboss.jandex.gizmo2.Jandex2Gizmo.classDescOf;
 
 import java.lang.constant.ClassDesc;
 import java.lang.reflect.Member;
+import java.lang.reflect.Modifier;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.function.BiPredicate;
@@ -267,13 +269,33 @@ private static void generateEventBytecode(GeneratorContext ctx) {
                 parameterizedType, parameterizedType, qualifiers, bean, annotations, javaMember,
                 Const.of(ctx.injectionPoint.getPosition()), Const.of(ctx.injectionPoint.isTransient()));
 
+        // If the event type is a final class then the observers can be resolved once for the injection point
+        ClassInfo exactEventClass = exactEventClass(ctx.beanDeployment, ctx.injectionPoint.getType());
+        Expr exactType = exactEventClass != null ? Const.of(classDescOf(exactEventClass.name()))
+                : Const.ofNull(Class.class);
         Expr eventProvider = ctx.constructor.new_(ConstructorDesc.of(EventProvider.class,
-                java.lang.reflect.Type.class, Set.class, InjectionPoint.class),
-                parameterizedType, qualifiers, injectionPoint);
+                java.lang.reflect.Type.class, Set.class, InjectionPoint.class, Class.class),
+                parameterizedType, qualifiers, injectionPoint, exactType);
         Expr eventProviderSupplier = ctx.constructor.new_(MethodDescs.FIXED_VALUE_SUPPLIER_CONSTRUCTOR, eventProvider);
         ctx.constructor.set(ctx.clazzCreator.this_().field(ctx.providerField), eventProviderSupplier);
     }
 
+    private static ClassInfo exactEventClass(BeanDeployment beanDeployment, Type injectionPointType) {
+        if (injectionPointType.kind() != Kind.PARAMETERIZED_TYPE) {
+            return null;
+        }
+        Type eventType = injectionPointType.asParameterizedType().arguments().get(0);
+        if (eventType.kind() != Kind.CLASS && eventType.kind() != Kind.PARAMETERIZED_TYPE) {
+            return null;
+        }
+        ClassInfo eventClass = getClassByName(beanDeployment.getBeanArchiveIndex(), eventType.name());
+        // The class literal must be accessible from the generated bean
+        if (eventClass == null || !Modifier.isFinal(eventClass.flags()) || !Modifier.isPublic(eventClass.flags())) {
+            return null;
+        }
+        return eventClass;
+    }
+
     private static void generateInjectionPointBytecode(GeneratorContext ctx) {
         // this.injectionPointProvider1 = () -> new InjectionPointProvider();
         Expr injectionPointProvider = ctx.constructor.new_(InjectionPointProvider.class);
@@ -1026,13 +1026,18 @@ public static ArcContainerImpl instance() {
     }
 
     <T> EventImpl<T> getEvent(Type eventType, Set<Annotation> eventQualifiers, InjectionPoint ip) {
+        return getEvent(eventType, eventQualifiers, ip, new ConcurrentHashMap<>(), null);
+    }
+
+    <T> EventImpl<T> getEvent(Type eventType, Set<Annotation> eventQualifiers, InjectionPoint ip,
+            ConcurrentMap<Class<?>, Notifier<? super T>> notifiers, Class<?> exactType) {
         if (eventMocks != null) {
             AtomicReference<Event<?>> mock = eventMocks.computeIfAbsent(
                     new TypeAndQualifiers(ip.getType(), ip.getQualifiers()),
                     ArcContainerImpl::newEventMockReference);
-            return new MockableEventImpl<>(eventType, eventQualifiers, ip, mock);
+            return new MockableEventImpl<>(eventType, eventQualifiers, ip, notifiers, exactType, mock);
         } else {
-            return new EventImpl<>(eventType, eventQualifiers, ip);
+            return new EventImpl<>(eventType, eventQualifiers, ip, notifiers, exactType);
         }
     }
 
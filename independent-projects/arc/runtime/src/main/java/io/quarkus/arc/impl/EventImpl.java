@@ -63,22 +63,36 @@
     private final ConcurrentMap<Class<?>, Notifier<? super T>> notifiers;
     private final InjectionPoint injectionPoint;
 
+    // The notifier for the only possible runtime type of the event, or null if not known
+    private final Notifier<? super T> exactNotifier;
+
     private transient volatile Notifier<? super T> lastNotifier;
 
     private static final Logger LOGGER = Logger.getLogger(EventImpl.class);
 
     EventImpl(Type eventType, Set<Annotation> qualifiers, InjectionPoint injectionPoint) {
+        this(eventType, qualifiers, injectionPoint, new ConcurrentHashMap<>(DEFAULT_CACHE_CAPACITY), null);
+    }
+
+    /**
+     * The cache of notifiers may be shared by all the instances created for the same injection point. If the only possible
+     * runtime type of the event is known then the observers are resolved eagerly.
+     */
+    EventImpl(Type eventType, Set<Annotation> qualifiers, InjectionPoint injectionPoint,
+            ConcurrentMap<Class<?>, Notifier<? super T>> notifiers, Class<?> exactType) {
         this.eventType = initEventType(eventType);
         this.injectionPointTypeHierarchy = new HierarchyDiscovery(this.eventType);
         this.qualifiers = Set.copyOf(qualifiers);
-        this.notifiers = new ConcurrentHashMap<>(DEFAULT_CACHE_CAPACITY);
+        this.notifiers = notifiers;
         this.injectionPoint = injectionPoint;
+        // The observers are resolved at most once per injection point
+        this.exactNotifier = exactType != null ? getNotifier(exactType) : null;
     }
 
     @Override
     public void fire(T event) {
         Objects.requireNonNull(event, "Event cannot be null");
-        getNotifier(event.getClass()).notify(event, ObserverExceptionHandler.IMMEDIATE_HANDLER, false);
+        getNotifier(event).notify(event, ObserverExceptionHandler.IMMEDIATE_HANDLER, false);
     }
 
     @Override
@@ -91,14 +105,14 @@ public <U extends T> CompletionStage<U> fireAsync(U event, NotificationOptions o
         Objects.requireNonNull(options);
 
         @SuppressWarnings("unchecked")
-        Notifier<U> notifier = (Notifier<U>) getNotifier(event.getClass());
+        Notifier<U> notifier = (Notifier<U>) getNotifier(event);
 
         Executor executor = options.getExecutor();
         if (executor == null) {
             executor = Arc.requireContainer().getExecutorService();
         }
 
-        if (notifier.isEmpty()) {
+        if (!notifier.hasAsyncObservers()) {
             return AsyncEventDeliveryStage.completed(event, executor);
         }
 
@@ -118,6 +132,14 @@ public U get() {
         return new AsyncEventDeliveryStage<>(completableFuture, executor);
     }
 
+    private Notifier<? super T> getNotifier(Object event) {
+        Class<?> runtimeType = event.getClass();
+        if (exactNotifier != null && exactNotifier.runtimeType == runtimeType) {
+            return exactNotifier;
+        }
+        return getNotifier(runtimeType);
+    }
+
     private Notifier<? super T> getNotifier(Class<?> runtimeType) {
         Notifier<? super T> notifier = this.lastNotifier;
         if (notifier != null && notifier.runtimeType.equals(runtimeType)) {
@@ -255,6 +277,9 @@ private void handleExceptions(ObserverExceptionHandler handler) {
 
         private final Class<?> runtimeType;
         private final List<ObserverMethod<? super T>> observerMethods;
+        // Both lists are ordered by priority
+        private final List<ObserverMethod<? super T>> syncObserverMethods;
+        private final List<ObserverMethod<? super T>> asyncObserverMethods;
         final EventMetadata eventMetadata;
         private final boolean hasTxObservers;
         private final boolean activateRequestContext;
@@ -268,13 +293,21 @@ private void handleExceptions(ObserverExceptionHandler handler) {
             this.runtimeType = runtimeType;
             this.observerMethods = observerMethods;
             this.eventMetadata = eventMetadata;
+            List<ObserverMethod<? super T>> syncObserverMethods = new ArrayList<>();
+            List<ObserverMethod<? super T>> asyncObserverMethods = new ArrayList<>();
             boolean hasTxObservers = false;
             for (var method : observerMethods) {
+                if (method.isAsync()) {
+                    asyncObserverMethods.add(method);
+                } else {
+                    syncObserverMethods.add(method);
+                }
                 if (isTxObserver(method)) {
                     hasTxObservers = true;
-                    break;
                 }
             }
+            this.syncObserverMethods = List.copyOf(syncObserverMethods);
+            this.asyncObserverMethods = List.copyOf(asyncObserverMethods);
             this.hasTxObservers = hasTxObservers;
             this.activateRequestContext = activateRequestContext;
         }
@@ -285,10 +318,11 @@ void notify(T event) {
 
         @SuppressWarnings("rawtypes")
         void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
-            if (!isEmpty()) {
+            List<ObserverMethod<? super T>> observers = async ? asyncObserverMethods : syncObserverMethods;
+            if (!observers.isEmpty()) {
 
-                Predicate<ObserverMethod<?>> predicate = async ? ObserverMethodIsAsync.INSTANCE
-                        : ObserverMethodIsNotAsync.INSTANCE;
+                // Only used to filter out the tx observers, null means that all the observers are notified
+                Predicate<ObserverMethod<?>> predicate = null;
 
                 if (!async && hasTxObservers) {
                     // Note that tx observers are never async
@@ -303,7 +337,7 @@ void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
                             List<DeferredEventNotification<?>> deferredEvents = new ArrayList<>();
                             EventContext eventContext = new EventContextImpl<>(event, eventMetadata);
 
-                            for (ObserverMethod<? super T> om : observerMethods) {
+                            for (ObserverMethod<? super T> om : syncObserverMethods) {
                                 if (isTxObserver(om)) {
                                     deferredEvents.add(new DeferredEventNotification<>(om, eventContext,
                                             Status.valueOf(om.getTransactionPhase())));
@@ -318,13 +352,13 @@ void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
                                 // See for instance discussions on https://github.com/eclipse-ee4j/cdi/issues/467
                                 txManager.getTransaction().registerSynchronization(sync);
                                 // registration succeeded, notify all non-tx observers synchronously
-                                predicate = predicate.and(ObserverMethodIsNotTxObserver.INSTANCE);
+                                predicate = ObserverMethodIsNotTxObserver.INSTANCE;
                             } catch (Exception e) {
                                 if (e.getCause() instanceof RollbackException
                                         || e.getCause() instanceof IllegalStateException
                                         || e.getCause() instanceof SystemException) {
                                     // registration failed, AFTER_SUCCESS OMs are accordingly to CDI spec left out
-                                    predicate = predicate.and(ObserverMethodIsNotAfterSuccessTxObserver.INSTANCE);
+                                    predicate = ObserverMethodIsNotAfterSuccessTxObserver.INSTANCE;
                                 }
                             }
                         }
@@ -341,27 +375,27 @@ void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
                 if (activateRequestContext) {
                     ManagedContext requestContext = Arc.requireContainer().requestContext();
                     if (requestContext.isActive()) {
-                        notifyObservers(event, exceptionHandler, predicate);
+                        notifyObservers(event, observers, exceptionHandler, predicate);
                     } else {
                         try {
                             requestContext.activate();
-                            notifyObservers(event, exceptionHandler, predicate);
+                            notifyObservers(event, observers, exceptionHandler, predicate);
                         } finally {
                             requestContext.terminate();
                         }
                     }
                 } else {
-                    notifyObservers(event, exceptionHandler, predicate);
+                    notifyObservers(event, observers, exceptionHandler, predicate);
                 }
             }
         }
 
         @SuppressWarnings({ "rawtypes", "unchecked" })
-        private void notifyObservers(T event, ObserverExceptionHandler exceptionHandler,
-                Predicate<ObserverMethod<?>> predicate) {
+        private void notifyObservers(T event, List<ObserverMethod<? super T>> observers,
+                ObserverExceptionHandler exceptionHandler, Predicate<ObserverMethod<?>> predicate) {
             EventContext eventContext = new EventContextImpl<>(event, eventMetadata);
-            for (ObserverMethod<?> observerMethod : observerMethods) {
-                if (predicate.test(observerMethod)) {
+            for (ObserverMethod<?> observerMethod : observers) {
+                if (predicate == null || predicate.test(observerMethod)) {
                     try {
                         observerMethod.notify(eventContext);
                     } catch (Throwable t) {
@@ -375,6 +409,10 @@ boolean isEmpty() {
             return observerMethods.isEmpty();
         }
 
+        boolean hasAsyncObservers() {
+            return !asyncObserverMethods.isEmpty();
+        }
+
         private static boolean isTxObserver(ObserverMethod<?> observer) {
             return !observer.getTransactionPhase().equals(TransactionPhase.IN_PROGRESS);
         }
@@ -408,26 +446,6 @@ public void afterCompletion(int i) {
         }
     }
 
-    private static class ObserverMethodIsAsync implements Predicate<ObserverMethod<?>> {
-
-        private static final Predicate<ObserverMethod<?>> INSTANCE = new ObserverMethodIsAsync();
-
-        @Override
-        public boolean test(ObserverMethod<?> observerMethod) {
-            return observerMethod.isAsync();
-        }
-    }
-
-    private static class ObserverMethodIsNotAsync implements Predicate<ObserverMethod<?>> {
-
-        private static final Predicate<ObserverMethod<?>> INSTANCE = new ObserverMethodIsNotAsync();
-
-        @Override
-        public boolean test(ObserverMethod<?> observerMethod) {
-            return !observerMethod.isAsync();
-        }
-    }
-
     private static class ObserverMethodIsNotTxObserver implements Predicate<ObserverMethod<?>> {
 
         private static final Predicate<ObserverMethod<?>> INSTANCE = new ObserverMethodIsNotTxObserver();
@@ -3,12 +3,15 @@
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import jakarta.enterprise.context.spi.CreationalContext;
 import jakarta.enterprise.event.Event;
 import jakarta.enterprise.inject.spi.InjectionPoint;
 
 import io.quarkus.arc.InjectableReferenceProvider;
+import io.quarkus.arc.impl.EventImpl.Notifier;
 
 /**
  *
@@ -19,16 +22,30 @@
     private final Type eventType;
     private final Set<Annotation> eventQualifiers;
     private final InjectionPoint injectionPoint;
+    // Resolved observers are shared by all the Event instances created for the injection point
+    private final ConcurrentMap<Class<?>, Notifier<? super T>> notifiers;
+    private final Class<?> exactType;
 
     public EventProvider(Type eventType, Set<Annotation> eventQualifiers, InjectionPoint injectionPoint) {
+        this(eventType, eventQualifiers, injectionPoint, null);
+    }
+
+    /**
+     * The {@code exactType} is the only possible runtime type of the event, i.e. a final class, or {@code null} if not known
+     * at build time.
+     */
+    public EventProvider(Type eventType, Set<Annotation> eventQualifiers, InjectionPoint injectionPoint,
+            Class<?> exactType) {
         this.eventType = eventType;
         this.eventQualifiers = eventQualifiers;
         this.injectionPoint = injectionPoint;
+        this.notifiers = new ConcurrentHashMap<>(4);
+        this.exactType = exactType;
     }
 
     @Override
     public Event<T> get(CreationalContext<Event<T>> creationalContext) {
-        return ArcContainerImpl.instance().getEvent(eventType, eventQualifiers, injectionPoint);
+        return ArcContainerImpl.instance().getEvent(eventType, eventQualifiers, injectionPoint, notifiers, exactType);
     }
 
 }
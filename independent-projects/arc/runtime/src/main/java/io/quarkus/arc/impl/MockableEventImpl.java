@@ -4,6 +4,7 @@
 import java.lang.reflect.Type;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicReference;
 
 import jakarta.enterprise.event.Event;
@@ -16,8 +17,8 @@
     private final AtomicReference<Event<?>> mock;
 
     MockableEventImpl(Type eventType, Set<Annotation> qualifiers, InjectionPoint injectionPoint,
-            AtomicReference<Event<?>> mock) {
-        super(eventType, qualifiers, injectionPoint);
+            ConcurrentMap<Class<?>, Notifier<? super T>> notifiers, Class<?> exactType, AtomicReference<Event<?>> mock) {
+        super(eventType, qualifiers, injectionPoint, notifiers, exactType);
         this.mock = mock;
     }
 
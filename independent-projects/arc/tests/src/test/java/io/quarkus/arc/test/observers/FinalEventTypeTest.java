@@ -0,0 +1,81 @@
+package io.quarkus.arc.test.observers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.ObservesAsync;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class FinalEventTypeTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Producer.class, Observers.class);
+
+    @Test
+    public void testObservers() throws InterruptedException, ExecutionException, TimeoutException {
+        Observers observers = Arc.container().instance(Observers.class).get();
+        // Each dependent instance has its own Event instance
+        Arc.container().instance(Producer.class).get().event.fire(new Ping("a"));
+        Arc.container().instance(Producer.class).get().event.fire(new Ping("b"));
+        assertEquals(List.of("first:a", "second:a", "first:b", "second:b"), observers.events);
+
+        observers.events.clear();
+        Arc.container().instance(Producer.class).get().event.fireAsync(new Ping("c")).toCompletableFuture().get(2,
+                TimeUnit.SECONDS);
+        assertEquals(List.of("async:c"), observers.events);
+    }
+
+    public static final class Ping {
+
+        final String value;
+
+        Ping(String value) {
+            this.value = value;
+        }
+
+    }
+
+    @Singleton
+    static class Observers {
+
+        final List<String> events = new CopyOnWriteArrayList<>();
+
+        void second(@Observes @Priority(20) Ping ping) {
+            events.add("second:" + ping.value);
+        }
+
+        void first(@Observes @Priority(10) Ping ping) {
+            events.add("first:" + ping.value);
+        }
+
+        void async(@ObservesAsync Ping ping) {
+            events.add("async:" + ping.value);
+        }
+
+    }
+
+    @Dependent
+    static class Producer {
+
+        @Inject
+        Event<Ping> event;
+
+    }
+
+}
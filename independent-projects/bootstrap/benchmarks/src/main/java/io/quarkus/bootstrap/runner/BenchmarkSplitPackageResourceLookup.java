@@ -0,0 +1,190 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.ProtectionDomain;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the lookup of resources located in a directory shared by all the jars of the application, i.e. a split package,
+ * with and without the exact resource index of the {@link RunnerClassLoader}.
+ * <p>
+ * The {@code probes} and {@code lookups} secondary results are the number of jars probed and the number of lookups
+ * performed, i.e. their ratio is the number of jars probed per lookup.
+ * <p>
+ * This benchmark lives in the {@code io.quarkus.bootstrap.runner} package as it needs to access package-private classes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class BenchmarkSplitPackageResourceLookup {
+
+    private static final String SHARED_DIR = "org/acme/shared";
+
+    @Param({ "50", "400" })
+    public int jars;
+
+    @Param({ "true", "false" })
+    public boolean exactIndex;
+
+    private Path appRoot;
+    private RunnerClassLoader classLoader;
+    private long probes;
+    private int next;
+
+    @Setup
+    public void setup() throws IOException {
+        appRoot = Files.createTempDirectory("quarkus-benchmark");
+        List<Path> classPath = new ArrayList<>(jars);
+        for (int i = 0; i < jars; i++) {
+            classPath.add(createJar(i));
+        }
+        ClassLoadingResource[] resources = new ClassLoadingResource[jars];
+        ExactResourceIndex index = new ExactResourceIndex(jars);
+        for (int i = 0; i < jars; i++) {
+            resources[i] = new ProbeCountingResource(new JarResource(null, classPath.get(i)));
+            index.put(resource(i), new ClassLoadingResource[] { resources[i] });
+        }
+        classLoader = new RunnerClassLoader(ClassLoader.getSystemClassLoader(), Map.of(SHARED_DIR, resources), Set.of(),
+                List.of(), Map.of(), exactIndex ? Set.of(SHARED_DIR) : Set.of(), exactIndex ? index : ExactResourceIndex.EMPTY,
+                null, Set.of(), null, Set.of());
+        // open all the jars upfront
+        for (int i = 0; i < jars; i++) {
+            classLoader.findResource(resource(i));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        classLoader.close();
+        try (var files = Files.list(appRoot)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(appRoot);
+    }
+
+    @Benchmark
+    public URL findResource(Probes counters) {
+        long before = probes;
+        URL url = classLoader.findResource(resource(next++ % jars));
+        counters.lookups++;
+        counters.probes += probes - before;
+        return url;
+    }
+
+    @Benchmark
+    public URL findMissingResource(Probes counters) {
+        long before = probes;
+        URL url = classLoader.findResource(SHARED_DIR + "/Missing.txt");
+        counters.lookups++;
+        counters.probes += probes - before;
+        return url;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Probes {
+
+        public long lookups;
+        public long probes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            lookups = 0;
+            probes = 0;
+        }
+
+    }
+
+    private static String resource(int i) {
+        return SHARED_DIR + "/Resource" + i + ".txt";
+    }
+
+    private Path createJar(int i) throws IOException {
+        Path jar = appRoot.resolve("lib-" + i + ".jar");
+        try (OutputStream os = Files.newOutputStream(jar); JarOutputStream jos = new JarOutputStream(os)) {
+            for (String entry : List.of(resource(i), "org/acme/lib" + i + "/Own.txt")) {
+                jos.putNextEntry(new ZipEntry(entry));
+                jos.write(entry.getBytes(StandardCharsets.UTF_8));
+                jos.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    private final class ProbeCountingResource implements ClassLoadingResource {
+
+        private final ClassLoadingResource delegate;
+
+        ProbeCountingResource(ClassLoadingResource delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void init() {
+            delegate.init();
+        }
+
+        @Override
+        public byte[] getResourceData(String resource) {
+            probes++;
+            return delegate.getResourceData(resource);
+        }
+
+        @Override
+        public URL getResourceURL(String resource) {
+            probes++;
+            return delegate.getResourceURL(resource);
+        }
+
+        @Override
+        public ManifestInfo getManifestInfo() {
+            return delegate.getManifestInfo();
+        }
+
+        @Override
+        public ProtectionDomain getProtectionDomain() {
+            return delegate.getProtectionDomain();
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { BenchmarkSplitPackageResourceLookup.class.getSimpleName() });
+    }
+
+}
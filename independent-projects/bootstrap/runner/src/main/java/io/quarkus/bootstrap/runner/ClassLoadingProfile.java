@@ -0,0 +1,103 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Records the names of the classes defined by the {@link RunnerClassLoader} during the startup and the first seconds of
+ * traffic of the application, so that a subsequent build can preload them and include them in the JVM startup archive.
+ * <p>
+ * The recording is enabled by setting the {@code quarkus.class-loading.profile.output} system property to the path of the
+ * profile file. The profile is written once {@code quarkus.class-loading.profile.duration} seconds (60 by default) have
+ * elapsed, or when the application is stopped if it is stopped earlier.
+ * <p>
+ * The profile lists one class name per line, in the order in which the classes were loaded.
+ */
+public final class ClassLoadingProfile {
+
+    public static final String OUTPUT = "quarkus.class-loading.profile.output";
+    public static final String DURATION = "quarkus.class-loading.profile.duration";
+
+    private static final long DEFAULT_DURATION = 60;
+
+    private static final ClassLoadingProfile INSTANCE = create();
+
+    private final Path output;
+    private final Queue<String> classes = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean written = new AtomicBoolean();
+
+    ClassLoadingProfile(Path output) {
+        this.output = output;
+    }
+
+    public static boolean isEnabled() {
+        return INSTANCE != null;
+    }
+
+    static void classDefined(String className) {
+        ClassLoadingProfile profile = INSTANCE;
+        if (profile != null) {
+            profile.record(className);
+        }
+    }
+
+    void record(String className) {
+        if (!written.get()) {
+            classes.add(className);
+        }
+    }
+
+    /**
+     * Writes the profile, the classes loaded afterwards are not recorded.
+     */
+    void write() {
+        if (!written.compareAndSet(false, true)) {
+            return;
+        }
+        StringBuilder profile = new StringBuilder("# Classes loaded by the application, in the order of loading\n");
+        for (String className : classes) {
+            profile.append(className).append('\n');
+        }
+        try {
+            Path parent = output.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.writeString(output, profile, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            Logger.getLogger(ClassLoadingProfile.class).warnf(e, "Unable to write the class loading profile to %s", output);
+        }
+    }
+
+    private static ClassLoadingProfile create() {
+        String output = System.getProperty(OUTPUT);
+        if (output == null || output.isBlank()) {
+            return null;
+        }
+        ClassLoadingProfile profile = new ClassLoadingProfile(Path.of(output));
+        long duration = Long.getLong(DURATION, DEFAULT_DURATION);
+        Thread writer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    TimeUnit.SECONDS.sleep(duration);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                profile.write();
+            }
+        }, "quarkus-class-loading-profile");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(profile::write, "quarkus-class-loading-profile-shutdown"));
+        return profile;
+    }
+}
@@ -1,6 +1,7 @@
 package io.quarkus.bootstrap.runner;
 
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.security.ProtectionDomain;
 
 public interface ClassLoadingResource {
@@ -13,6 +14,16 @@ public interface ClassLoadingResource {
 
     byte[] getResourceData(String resource);
 
+    /**
+     * Same as {@link #getResourceData(String)} but the data may be backed by memory that is not on the heap.
+     *
+     * @return the data of the resource, or {@code null} if the resource does not exist
+     */
+    default ByteBuffer getResourceDataBuffer(String resource) {
+        byte[] data = getResourceData(resource);
+        return data != null ? ByteBuffer.wrap(data) : null;
+    }
+
     URL getResourceURL(String resource);
 
     ManifestInfo getManifestInfo();
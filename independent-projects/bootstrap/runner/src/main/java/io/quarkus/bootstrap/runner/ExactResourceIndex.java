@@ -0,0 +1,65 @@
+package io.quarkus.bootstrap.runner;
+
+/**
+ * An exact index of the resources located in directories that are shared by several jars (i.e. split packages).
+ * <p>
+ * For such a directory, the directory based lookup of {@link RunnerClassLoader} would have to probe all the jars
+ * containing the directory, in classpath order, until the resource is found. This index maps each resource to the
+ * jars that actually contain it, so that a single jar is probed in the common case and no jar at all is probed if
+ * the resource does not exist.
+ * <p>
+ * In order to keep the memory footprint small, the index is an open addressing hash table backed by two arrays,
+ * i.e. no object is allocated per entry. The arrays of jars are expected to be shared among the entries that are
+ * located in the same set of jars.
+ * <p>
+ * The index is populated when the application is read and is effectively immutable afterwards.
+ */
+final class ExactResourceIndex {
+
+    static final ExactResourceIndex EMPTY = new ExactResourceIndex(0);
+
+    private final String[] keys;
+    private final ClassLoadingResource[][] values;
+    private final int mask;
+
+    ExactResourceIndex(int expectedSize) {
+        // keep the load factor at or below 0.5 so that the probe sequences stay short
+        int capacity = Integer.highestOneBit(Math.max(1, expectedSize) * 2 - 1) << 1;
+        this.keys = new String[capacity];
+        this.values = new ClassLoadingResource[capacity][];
+        this.mask = capacity - 1;
+    }
+
+    void put(String resource, ClassLoadingResource[] resources) {
+        int i = index(resource);
+        while (keys[i] != null) {
+            if (keys[i].equals(resource)) {
+                break;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = resource;
+        values[i] = resources;
+    }
+
+    /**
+     * @param resource
+     * @return the jars containing the resource in classpath order, or {@code null} if the resource is not indexed
+     */
+    ClassLoadingResource[] get(String resource) {
+        int i = index(resource);
+        String key;
+        while ((key = keys[i]) != null) {
+            if (key.equals(resource)) {
+                return values[i];
+            }
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+
+    private int index(String resource) {
+        int h = resource.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
@@ -11,6 +11,7 @@
 import java.net.URL;
 import java.net.URLConnection;
 import java.net.URLStreamHandler;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.security.CodeSource;
 import java.security.ProtectionDomain;
@@ -26,6 +27,8 @@
 
 /**
  * A jar resource
+ * <p>
+ * If memory mapping is enabled, the data of the resources is read from a {@link MappedJar} if possible.
  */
 public class JarResource implements ClassLoadingResource {
 
@@ -35,9 +38,19 @@ public class JarResource implements ClassLoadingResource {
     final Path jarPath;
     final AtomicReference<CompletableFuture<JarFileReference>> jarFileReference = new AtomicReference<>();
 
+    private final boolean memoryMapped;
+    // null if not mapped yet, NOT_MAPPABLE if the jar cannot be mapped
+    private final AtomicReference<Object> mappedJar = new AtomicReference<>();
+    private static final Object NOT_MAPPABLE = new Object();
+
     public JarResource(ManifestInfo manifestInfo, Path jarPath) {
+        this(manifestInfo, jarPath, false);
+    }
+
+    public JarResource(ManifestInfo manifestInfo, Path jarPath, boolean memoryMapped) {
         this.manifestInfo = manifestInfo;
         this.jarPath = jarPath;
+        this.memoryMapped = memoryMapped;
     }
 
     @Override
@@ -63,6 +76,38 @@ public byte[] getResourceData(String resource) {
         return JarFileReference.withJarFile(this, resource, JarResourceDataProvider.INSTANCE);
     }
 
+    @Override
+    public ByteBuffer getResourceDataBuffer(String resource) {
+        if (memoryMapped) {
+            MappedJar mapped = getMappedJar();
+            if (mapped != null) {
+                try {
+                    return mapped.getData(resource);
+                } catch (UnsupportedOperationException e) {
+                    // fall back to JarFile
+                }
+            }
+        }
+        return ClassLoadingResource.super.getResourceDataBuffer(resource);
+    }
+
+    private MappedJar getMappedJar() {
+        Object mapped = mappedJar.get();
+        if (mapped == null) {
+            // the jar may be mapped concurrently by multiple threads, the first mapping wins and the others are discarded
+            try {
+                MappedJar newMapped = MappedJar.map(jarPath);
+                mapped = newMapped != null ? newMapped : NOT_MAPPABLE;
+            } catch (IOException e) {
+                mapped = NOT_MAPPABLE;
+            }
+            if (!mappedJar.compareAndSet(null, mapped)) {
+                mapped = mappedJar.get();
+            }
+        }
+        return mapped instanceof MappedJar ? (MappedJar) mapped : null;
+    }
+
     private static class JarResourceDataProvider implements JarFileReference.JarFileConsumer<byte[]> {
         private static final JarResourceDataProvider INSTANCE = new JarResourceDataProvider();
 
@@ -172,6 +217,8 @@ public ProtectionDomain getProtectionDomain() {
 
     @Override
     public void close() {
+        // the mapping is released once the buffer is garbage collected, a jar that cannot be mapped is not retried
+        mappedJar.getAndUpdate(m -> m == NOT_MAPPABLE ? m : null);
         var futureRef = jarFileReference.get();
         if (futureRef != null) {
             // The jarfile has been already used and it's going to be removed from the cache,
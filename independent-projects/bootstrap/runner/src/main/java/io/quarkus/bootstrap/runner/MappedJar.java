@@ -0,0 +1,180 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipEntry;
+
+/**
+ * A read-only memory mapping of a jar file.
+ * <p>
+ * The central directory is parsed once when the jar is mapped. The data of a {@linkplain ZipEntry#STORED stored} entry is
+ * returned as a slice of the mapped buffer, i.e. without any copy, while the data of a {@linkplain ZipEntry#DEFLATED
+ * deflated} entry is inflated directly from the mapped buffer.
+ * <p>
+ * Only the jars that can be read without {@link java.util.jar.JarFile} are mapped: multi-release jars, ZIP64 archives and
+ * encrypted entries are not supported and {@link #map(Path)} returns {@code null} for such jars.
+ * <p>
+ * This class is thread-safe, the mapped buffer is only accessed with absolute methods.
+ */
+final class MappedJar {
+
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int END_SIGNATURE = 0x06054b50;
+    private static final int LOCAL_HEADER_SIZE = 30;
+    private static final int CENTRAL_HEADER_SIZE = 46;
+    private static final int END_SIZE = 22;
+    private static final int MAX_COMMENT_SIZE = 0xFFFF;
+
+    private final ByteBuffer buffer;
+    private final Map<String, Entry> entries;
+
+    private MappedJar(ByteBuffer buffer, Map<String, Entry> entries) {
+        this.buffer = buffer;
+        this.entries = entries;
+    }
+
+    /**
+     * @param jarPath
+     * @return the mapped jar, or {@code null} if the jar cannot be mapped
+     */
+    static MappedJar map(Path jarPath) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(jarPath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < END_SIZE || size > Integer.MAX_VALUE) {
+                return null;
+            }
+            // the mapping remains valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        int end = findEnd(buffer);
+        if (end == -1) {
+            return null;
+        }
+        int total = Short.toUnsignedInt(buffer.getShort(end + 10));
+        int offset = buffer.getInt(end + 16);
+        if (total == 0xFFFF || offset == -1) {
+            // ZIP64
+            return null;
+        }
+        Map<String, Entry> entries = new HashMap<>((int) Math.ceil(total / 0.75f));
+        int position = offset;
+        for (int i = 0; i < total; i++) {
+            if (position < 0 || position + CENTRAL_HEADER_SIZE > buffer.limit()
+                    || buffer.getInt(position) != CENTRAL_HEADER_SIGNATURE) {
+                return null;
+            }
+            int flags = Short.toUnsignedInt(buffer.getShort(position + 8));
+            int method = Short.toUnsignedInt(buffer.getShort(position + 10));
+            int compressedSize = buffer.getInt(position + 20);
+            int size = buffer.getInt(position + 24);
+            int nameLength = Short.toUnsignedInt(buffer.getShort(position + 28));
+            int extraLength = Short.toUnsignedInt(buffer.getShort(position + 30));
+            int commentLength = Short.toUnsignedInt(buffer.getShort(position + 32));
+            int localHeaderOffset = buffer.getInt(position + 42);
+            if ((flags & 1) != 0 || compressedSize < 0 || size < 0 || localHeaderOffset < 0) {
+                // encrypted entry or ZIP64
+                return null;
+            }
+            byte[] nameBytes = new byte[nameLength];
+            buffer.get(position + CENTRAL_HEADER_SIZE, nameBytes);
+            String name = new String(nameBytes, StandardCharsets.UTF_8);
+            if (name.startsWith(SerializedApplication.META_INF_VERSIONS)) {
+                // versioned entries are resolved by JarFile
+                return null;
+            }
+            if (!name.endsWith("/")) {
+                entries.put(name, new Entry(method, localHeaderOffset, compressedSize, size));
+            }
+            position += CENTRAL_HEADER_SIZE + nameLength + extraLength + commentLength;
+        }
+        return new MappedJar(buffer, entries);
+    }
+
+    private static int findEnd(ByteBuffer buffer) {
+        int min = Math.max(0, buffer.limit() - END_SIZE - MAX_COMMENT_SIZE);
+        for (int i = buffer.limit() - END_SIZE; i >= min; i--) {
+            if (buffer.getInt(i) == END_SIGNATURE) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param name
+     * @return the data of the entry, {@code null} if no such entry exists
+     * @throws UnsupportedOperationException if the compression method of the entry is not supported
+     */
+    ByteBuffer getData(String name) {
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            return null;
+        }
+        int header = entry.localHeaderOffset;
+        if (buffer.getInt(header) != LOCAL_HEADER_SIGNATURE) {
+            throw new IllegalStateException("Invalid local header of " + name);
+        }
+        // the lengths of the name and extra field may differ from the central directory
+        int start = header + LOCAL_HEADER_SIZE + Short.toUnsignedInt(buffer.getShort(header + 26))
+                + Short.toUnsignedInt(buffer.getShort(header + 28));
+        ByteBuffer data = buffer.slice(start, entry.compressedSize);
+        switch (entry.method) {
+            case ZipEntry.STORED:
+                return data;
+            case ZipEntry.DEFLATED:
+                return ByteBuffer.wrap(inflate(name, data, entry.size));
+            default:
+                throw new UnsupportedOperationException("Unsupported compression method of " + name + ": " + entry.method);
+        }
+    }
+
+    private static byte[] inflate(String name, ByteBuffer data, int size) {
+        byte[] result = new byte[size];
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(data);
+            int position = 0;
+            while (position < size) {
+                int read = inflater.inflate(result, position, size - position);
+                if (read == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                position += read;
+            }
+            if (position != size) {
+                throw new IllegalStateException("Failed to read all data for " + name);
+            }
+            return result;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Failed to inflate zip entry " + name, e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static final class Entry {
+
+        final int method;
+        final int localHeaderOffset;
+        final int compressedSize;
+        final int size;
+
+        Entry(int method, int localHeaderOffset, int compressedSize, int size) {
+            this.method = method;
+            this.localHeaderOffset = localHeaderOffset;
+            this.compressedSize = compressedSize;
+            this.size = size;
+        }
+    }
+}
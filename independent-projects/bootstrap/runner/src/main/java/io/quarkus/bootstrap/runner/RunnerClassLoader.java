@@ -4,6 +4,7 @@
 import static io.quarkus.commons.classloading.ClassLoaderHelper.isInJdkPackage;
 
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
@@ -26,6 +27,8 @@
  * jar(s) containing the requested class or resource.
  * The implementation also contains optimizations that allow the ClassLoader to keep a minimum number of jars open
  * while also preventing the lookup of the entire classpath for missing resources in known directories (like META-INF/services).
+ * Resources located in directories shared by several jars are indexed exactly, so that only the jars that actually contain
+ * the resource are probed.
  */
 public final class RunnerClassLoader extends ClassLoader {
 
@@ -44,6 +47,10 @@ public final class RunnerClassLoader extends ClassLoader {
     // normally this field would be a set, but it only contains 2 elements, so making it a list is actually better
     private final List<String> fullyIndexedDirectories;
     private final Map<String, ClassLoadingResource[]> fullyIndexedResourcesIndexMap;
+    // the following two fields go hand in hand as well - the index contains all the resources of the directories
+    // that are shared by several jars
+    private final Set<String> exactlyIndexedDirectories;
+    private final ExactResourceIndex exactResourceIndex;
 
     private final ClassLoadingResource generatedBytecodeClassLoadingResource;
     private final Set<String> generatedBytecode;
@@ -63,11 +70,24 @@ public final class RunnerClassLoader extends ClassLoader {
             List<String> fullyIndexedDirectories, Map<String, ClassLoadingResource[]> fullyIndexedResourcesIndexMap,
             ClassLoadingResource generatedBytecodeClassLoadingResource, Set<String> generatedBytecode,
             ClassLoadingResource transformedBytecodeClassLoadingResource, Set<String> transformedBytecode) {
+        this(parent, resourceDirectoryMap, parentFirstPackages, fullyIndexedDirectories, fullyIndexedResourcesIndexMap,
+                Set.of(), ExactResourceIndex.EMPTY, generatedBytecodeClassLoadingResource, generatedBytecode,
+                transformedBytecodeClassLoadingResource, transformedBytecode);
+    }
+
+    RunnerClassLoader(ClassLoader parent, Map<String, ClassLoadingResource[]> resourceDirectoryMap,
+            Set<String> parentFirstPackages,
+            List<String> fullyIndexedDirectories, Map<String, ClassLoadingResource[]> fullyIndexedResourcesIndexMap,
+            Set<String> exactlyIndexedDirectories, ExactResourceIndex exactResourceIndex,
+            ClassLoadingResource generatedBytecodeClassLoadingResource, Set<String> generatedBytecode,
+            ClassLoadingResource transformedBytecodeClassLoadingResource, Set<String> transformedBytecode) {
         super(parent);
         this.resourceDirectoryMap = resourceDirectoryMap;
         this.parentFirstPackages = parentFirstPackages;
         this.fullyIndexedDirectories = fullyIndexedDirectories;
         this.fullyIndexedResourcesIndexMap = fullyIndexedResourcesIndexMap;
+        this.exactlyIndexedDirectories = exactlyIndexedDirectories;
+        this.exactResourceIndex = exactResourceIndex;
         this.generatedBytecodeClassLoadingResource = generatedBytecodeClassLoadingResource;
         this.generatedBytecode = generatedBytecode;
         this.transformedBytecodeClassLoadingResource = transformedBytecodeClassLoadingResource;
@@ -106,15 +126,23 @@ public Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundExce
         if (loaded != null) {
             return loaded;
         }
-        final ClassLoadingResource[] resources;
+        ClassLoadingResource[] resources;
+        String dirName;
         if (packageName == null) {
-            resources = resourceDirectoryMap.get("");
+            dirName = "";
         } else {
-            String dirName = packageName.replace('.', '/');
-            resources = resourceDirectoryMap.get(dirName);
+            dirName = packageName.replace('.', '/');
         }
+        resources = resourceDirectoryMap.get(dirName);
         if (resources != null) {
             String classResource = fromClassNameToResourceName(name);
+            if (resources.length > 1 && exactlyIndexedDirectories.contains(dirName)) {
+                // only probe the jars that contain the class
+                resources = exactResourceIndex.get(classResource);
+                if (resources == null) {
+                    return getParent().loadClass(name);
+                }
+            }
             for (ClassLoadingResource resource : resources) {
                 if (resource == generatedBytecodeClassLoadingResource && !generatedBytecode.contains(classResource)) {
                     continue;
@@ -124,7 +152,7 @@ public Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundExce
                 }
 
                 accessingResource(resource);
-                byte[] data = resource.getResourceData(classResource);
+                ByteBuffer data = resource.getResourceDataBuffer(classResource);
                 if (data == null) {
                     continue;
                 }
@@ -167,13 +195,17 @@ private void definePackage(String pkgName, ClassLoadingResource[] resources) {
         }
     }
 
-    private Class<?> defineClass(String name, byte[] data, ClassLoadingResource resource) {
+    private Class<?> defineClass(String name, ByteBuffer data, ClassLoadingResource resource) {
         Class<?> loaded = findLoadedClass(name);
         if (loaded != null) {
             return loaded;
         }
         try {
-            return defineClass(name, data, 0, data.length, resource.getProtectionDomain());
+            Class<?> defined = defineClass(name, data, resource.getProtectionDomain());
+            if (ClassLoadingProfile.isEnabled()) {
+                ClassLoadingProfile.classDefined(name);
+            }
+            return defined;
         } catch (LinkageError e) {
             loaded = findLoadedClass(name);
             if (loaded != null) {
@@ -263,6 +295,14 @@ private ClassLoadingResource[] getClassLoadingResources(final String name) {
         if (resources == null) {
             // the resource could itself be a directory
             resources = resourceDirectoryMap.get(name);
+        } else if (resources.length > 1 && exactlyIndexedDirectories.contains(dirName) && !name.endsWith("/")) {
+            // only probe the jars that contain the resource
+            ClassLoadingResource[] exactResources = exactResourceIndex.get(name);
+            if (exactResources != null) {
+                return exactResources;
+            }
+            // the resource could itself be a directory
+            return resourceDirectoryMap.get(name);
         }
         return resources;
     }
@@ -35,7 +35,7 @@ public class SerializedApplication {
     private static final List<String> FULLY_INDEXED_DIRECTORIES = List.of("", "META-INF", "META-INF/services");
 
     private static final int MAGIC = 0XF0315432;
-    private static final int VERSION = 3;
+    private static final int VERSION = 5;
 
     private static final ClassLoadingResource[] EMPTY_ARRAY = new ClassLoadingResource[0];
     private static final JarResource SENTINEL = new JarResource(null, Path.of("wqxehxivam"));
@@ -58,13 +58,24 @@ public String getMainClass() {
 
     public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
             List<Path> parentFirst) throws IOException {
+        write(outputStream, mainClass, applicationRoot, classPath, parentFirst, false);
+    }
+
+    /**
+     * @param memoryMapped whether the jars should be memory mapped at runtime, see {@link JarResource}
+     */
+    public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
+            List<Path> parentFirst, boolean memoryMapped) throws IOException {
         try (DataOutputStream data = new DataOutputStream(outputStream)) {
             data.writeInt(MAGIC);
             data.writeInt(VERSION);
             data.writeUTF(mainClass);
+            data.writeBoolean(memoryMapped);
             data.writeShort(classPath.size());
 
             Map<String, List<Integer>> fullyIndexedResourcesToCPJarIndex = new LinkedHashMap<>();
+            List<List<String>> filesByCPJarIndex = new ArrayList<>(classPath.size());
+            Map<String, Integer> directoryToCPJarCount = new HashMap<>();
             for (int i = 0; i < classPath.size(); i++) {
                 Path jar = classPath.get(i);
 
@@ -106,6 +117,21 @@ public static void write(OutputStream outputStream, String mainClass, Path appli
                 for (String resource : fullyIndexedVisitor.getFullyIndexedResources()) {
                     fullyIndexedResourcesToCPJarIndex.computeIfAbsent(resource, s -> new ArrayList<>()).add(i);
                 }
+
+                filesByCPJarIndex.add(jarInspectorVisitor.getFiles());
+                // count the jars per directory the same way the runtime directory map is built, i.e. including parents
+                Set<String> jarDirectories = new HashSet<>();
+                for (String directory : jarInspectorVisitor.getDirectories()) {
+                    int j = directory.indexOf('/');
+                    while (j >= 0) {
+                        jarDirectories.add(directory.substring(0, j));
+                        j = directory.indexOf('/', j + 1);
+                    }
+                    jarDirectories.add(directory);
+                }
+                for (String directory : jarDirectories) {
+                    directoryToCPJarCount.merge(directory, 1, Integer::sum);
+                }
             }
 
             ParentFirstPackageVisitor parentFirstPackageVisitor = new ParentFirstPackageVisitor();
@@ -125,10 +151,64 @@ public static void write(OutputStream outputStream, String mainClass, Path appli
                     data.writeShort(index);
                 }
             }
+
+            writeExactResourceIndex(data, filesByCPJarIndex, directoryToCPJarCount);
             data.flush();
         }
     }
 
+    /**
+     * Writes an exact index of the resources located in directories shared by several jars.
+     * <p>
+     * The index consists of the shared directories, the distinct combinations of jars that contain a given resource, and
+     * the resources along with the combination they are located in. Resources in the fully indexed directories are skipped
+     * as they are already indexed.
+     */
+    private static void writeExactResourceIndex(DataOutputStream data, List<List<String>> filesByCPJarIndex,
+            Map<String, Integer> directoryToCPJarCount) throws IOException {
+        Set<String> sharedDirectories = new LinkedHashSet<>();
+        for (Map.Entry<String, Integer> entry : directoryToCPJarCount.entrySet()) {
+            if (entry.getValue() > 1 && !FULLY_INDEXED_DIRECTORIES.contains(entry.getKey())) {
+                sharedDirectories.add(entry.getKey());
+            }
+        }
+        Map<String, List<Integer>> resourceToCPJarIndexes = new LinkedHashMap<>();
+        for (int i = 0; i < filesByCPJarIndex.size(); i++) {
+            for (String file : filesByCPJarIndex.get(i)) {
+                int index = file.lastIndexOf('/');
+                if (index == -1 || !sharedDirectories.contains(file.substring(0, index))) {
+                    continue;
+                }
+                List<Integer> indexes = resourceToCPJarIndexes.computeIfAbsent(file, s -> new ArrayList<>(1));
+                // a multi-release jar may contain several versions of the same resource
+                if (indexes.isEmpty() || indexes.get(indexes.size() - 1) != i) {
+                    indexes.add(i);
+                }
+            }
+        }
+        Map<List<Integer>, Integer> combinations = new LinkedHashMap<>();
+        for (List<Integer> indexes : resourceToCPJarIndexes.values()) {
+            combinations.putIfAbsent(indexes, combinations.size());
+        }
+
+        data.writeInt(sharedDirectories.size());
+        for (String directory : sharedDirectories) {
+            data.writeUTF(directory);
+        }
+        data.writeInt(combinations.size());
+        for (List<Integer> indexes : combinations.keySet()) {
+            data.writeShort(indexes.size());
+            for (Integer index : indexes) {
+                data.writeShort(index);
+            }
+        }
+        data.writeInt(resourceToCPJarIndexes.size());
+        for (Map.Entry<String, List<Integer>> entry : resourceToCPJarIndexes.entrySet()) {
+            data.writeUTF(entry.getKey());
+            data.writeInt(combinations.get(entry.getValue()));
+        }
+    }
+
     public static SerializedApplication read(InputStream inputStream, Path appRoot) throws IOException {
         try (DataInputStream in = new DataInputStream(inputStream)) {
             if (in.readInt() != MAGIC) {
@@ -138,6 +218,7 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
                 throw new RuntimeException("Wrong class path version");
             }
             String mainClass = in.readUTF();
+            boolean memoryMapped = in.readBoolean();
             ResourceDirectoryTracker resourceDirectoryTracker = new ResourceDirectoryTracker();
             int numPaths = in.readUnsignedShort();
             ClassLoadingResource[] allClassLoadingResources = new ClassLoadingResource[numPaths];
@@ -153,7 +234,7 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
                     info = new ManifestInfo(readNullableString(in), readNullableString(in), readNullableString(in),
                             readNullableString(in), readNullableString(in), readNullableString(in));
                 }
-                JarResource resource = new JarResource(info, appRoot.resolve(path));
+                JarResource resource = new JarResource(info, appRoot.resolve(path), memoryMapped);
                 boolean generatedBytecodeJar = in.readBoolean();
                 boolean transformedBytecodeJar = in.readBoolean();
                 if (generatedBytecodeJar) {
@@ -205,9 +286,30 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
                 }
                 fullyIndexedResourcesIndexMap.put(resource, matchingResources);
             }
+            int sharedDirectoriesSize = in.readInt();
+            Set<String> exactlyIndexedDirectories = new HashSet<>((int) Math.ceil(sharedDirectoriesSize / 0.75f));
+            for (int i = 0; i < sharedDirectoriesSize; i++) {
+                exactlyIndexedDirectories.add(in.readUTF());
+            }
+            // resources located in the same jars share the array
+            ClassLoadingResource[][] combinations = new ClassLoadingResource[in.readInt()][];
+            for (int i = 0; i < combinations.length; i++) {
+                ClassLoadingResource[] matchingResources = new ClassLoadingResource[in.readUnsignedShort()];
+                for (int j = 0; j < matchingResources.length; j++) {
+                    matchingResources[j] = allClassLoadingResources[in.readUnsignedShort()];
+                }
+                combinations[i] = matchingResources;
+            }
+            int exactlyIndexedSize = in.readInt();
+            ExactResourceIndex exactResourceIndex = new ExactResourceIndex(exactlyIndexedSize);
+            for (int i = 0; i < exactlyIndexedSize; i++) {
+                String resource = in.readUTF();
+                exactResourceIndex.put(resource, combinations[in.readInt()]);
+            }
             RunnerClassLoader runnerClassLoader = new RunnerClassLoader(ClassLoader.getSystemClassLoader(),
                     resourceDirectoryTracker.getResult(), parentFirstPackages,
                     FULLY_INDEXED_DIRECTORIES, fullyIndexedResourcesIndexMap,
+                    exactlyIndexedDirectories, exactResourceIndex,
                     generatedBytecodeClassLoadingResource, generatedBytecode,
                     transformedBytecodeClassLoadingResource, transformedBytecode);
             for (ClassLoadingResource classLoadingResource : allClassLoadingResources) {
@@ -231,6 +333,7 @@ private static class JarInspectorVisitor implements JarVisitor {
         private boolean transformedBytecode;
         private final Set<String> directories = new LinkedHashSet<>();
         private final Set<String> allEntries = new LinkedHashSet<>();
+        private final List<String> files = new ArrayList<>();
 
         public Attributes getManifestAttributes() {
             return manifestAttributes;
@@ -256,6 +359,13 @@ public Set<String> getAllEntries() {
             return allEntries;
         }
 
+        /**
+         * @return the names of all file entries; entries of a multi release jar are also listed under the unversioned name
+         */
+        public List<String> getFiles() {
+            return files;
+        }
+
         @Override
         public void preVisit(Path jar) {
             generatedBytecode = jar.endsWith("generated-bytecode.jar");
@@ -273,6 +383,8 @@ public void visitJarFileEntry(JarFile jarFile, ZipEntry entry) {
                 allEntries.add(entry.getName());
             }
 
+            files.add(entry.getName());
+
             if (!entry.getName().contains("/")) {
                 // we add the default package
                 directories.add("");
@@ -290,6 +402,7 @@ public void visitJarFileEntry(JarFile jarFile, ZipEntry entry) {
                     String part = entry.getName().substring(META_INF_VERSIONS.length());
                     int slash = part.indexOf("/");
                     if (slash != -1) {
+                        files.add(part.substring(slash + 1));
                         final int subIndex = part.lastIndexOf('/');
                         if (subIndex != slash) {
                             directories.add(part.substring(slash + 1, subIndex));
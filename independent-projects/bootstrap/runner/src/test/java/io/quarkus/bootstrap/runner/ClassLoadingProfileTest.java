@@ -0,0 +1,31 @@
+package io.quarkus.bootstrap.runner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ClassLoadingProfileTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testClassesAreWrittenInLoadingOrder() throws IOException {
+        Path output = dir.resolve("profile").resolve("classes.txt");
+        ClassLoadingProfile profile = new ClassLoadingProfile(output);
+        profile.record("org.acme.B");
+        profile.record("org.acme.A");
+        profile.write();
+        // the classes loaded once the profile is written are ignored
+        profile.record("org.acme.C");
+        profile.write();
+
+        assertThat(Files.readAllLines(output)).filteredOn(line -> !line.startsWith("#"))
+                .containsExactly("org.acme.B", "org.acme.A");
+    }
+}
@@ -0,0 +1,105 @@
+package io.quarkus.bootstrap.runner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MappedJarTest {
+
+    @TempDir
+    Path appRoot;
+
+    @Test
+    public void testStoredAndDeflatedEntries() throws IOException {
+        Path jar = appRoot.resolve("test.jar");
+        try (OutputStream os = Files.newOutputStream(jar); JarOutputStream jos = new JarOutputStream(os)) {
+            writeEntry(jos, "org/acme/", new byte[0], ZipEntry.STORED);
+            writeEntry(jos, "org/acme/stored.txt", "stored".getBytes(StandardCharsets.UTF_8), ZipEntry.STORED);
+            writeEntry(jos, "org/acme/deflated.txt", "deflated".repeat(100).getBytes(StandardCharsets.UTF_8),
+                    ZipEntry.DEFLATED);
+        }
+
+        MappedJar mappedJar = MappedJar.map(jar);
+        assertThat(mappedJar).isNotNull();
+        ByteBuffer stored = mappedJar.getData("org/acme/stored.txt");
+        assertThat(stored.isDirect()).isTrue();
+        assertThat(toString(stored)).isEqualTo("stored");
+        assertThat(toString(mappedJar.getData("org/acme/deflated.txt"))).isEqualTo("deflated".repeat(100));
+        assertThat(mappedJar.getData("org/acme/")).isNull();
+        assertThat(mappedJar.getData("org/acme/missing.txt")).isNull();
+    }
+
+    @Test
+    public void testMultiReleaseJarIsNotMapped() throws IOException {
+        Path jar = appRoot.resolve("multi-release.jar");
+        try (OutputStream os = Files.newOutputStream(jar); JarOutputStream jos = new JarOutputStream(os)) {
+            writeEntry(jos, "org/acme/a.txt", "a".getBytes(StandardCharsets.UTF_8), ZipEntry.DEFLATED);
+            writeEntry(jos, "META-INF/versions/17/org/acme/a.txt", "a17".getBytes(StandardCharsets.UTF_8),
+                    ZipEntry.DEFLATED);
+        }
+        assertThat(MappedJar.map(jar)).isNull();
+    }
+
+    @Test
+    public void testLoadClassFromMappedJar() throws Exception {
+        String classResource = Hello.class.getName().replace('.', '/') + ".class";
+        byte[] classData;
+        try (InputStream in = Hello.class.getClassLoader().getResourceAsStream(classResource)) {
+            classData = in.readAllBytes();
+        }
+        Path jar = appRoot.resolve("app.jar");
+        try (OutputStream os = Files.newOutputStream(jar); JarOutputStream jos = new JarOutputStream(os)) {
+            writeEntry(jos, classResource, classData, ZipEntry.STORED);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SerializedApplication.write(out, "org.acme.Main", appRoot, List.of(jar), List.of(), true);
+        RunnerClassLoader runnerClassLoader = SerializedApplication
+                .read(new ByteArrayInputStream(out.toByteArray()), appRoot).getRunnerClassLoader();
+        try {
+            Class<?> hello = runnerClassLoader.loadClass(Hello.class.getName());
+            assertThat(hello.getClassLoader()).isSameAs(runnerClassLoader);
+            assertThat(hello.getPackage().getName()).isEqualTo(Hello.class.getPackageName());
+        } finally {
+            runnerClassLoader.close();
+        }
+    }
+
+    private static void writeEntry(JarOutputStream jos, String name, byte[] data, int method) throws IOException {
+        ZipEntry entry = new ZipEntry(name);
+        entry.setMethod(method);
+        if (method == ZipEntry.STORED) {
+            CRC32 crc = new CRC32();
+            crc.update(data);
+            entry.setCrc(crc.getValue());
+            entry.setSize(data.length);
+        }
+        jos.putNextEntry(entry);
+        jos.write(data);
+        jos.closeEntry();
+    }
+
+    private static String toString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public static class Hello {
+    }
+}
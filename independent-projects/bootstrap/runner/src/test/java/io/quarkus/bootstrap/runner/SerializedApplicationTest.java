@@ -0,0 +1,64 @@
+package io.quarkus.bootstrap.runner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class SerializedApplicationTest {
+
+    @TempDir
+    Path appRoot;
+
+    @Test
+    public void testSplitDirectoryResources() throws IOException {
+        Path a = createJar("a.jar", "org/split/a.txt", "org/split/common.txt");
+        Path b = createJar("b.jar", "org/split/b.txt", "org/split/common.txt");
+        Path c = createJar("c.jar", "org/other/c.txt");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SerializedApplication.write(out, "org.acme.Main", appRoot, List.of(a, b, c), List.of());
+        RunnerClassLoader runnerClassLoader = SerializedApplication
+                .read(new ByteArrayInputStream(out.toByteArray()), appRoot).getRunnerClassLoader();
+        try {
+            assertThat(runnerClassLoader.findResource("org/split/a.txt").toString()).endsWith("a.jar!/org/split/a.txt");
+            assertThat(runnerClassLoader.findResource("org/split/b.txt").toString()).endsWith("b.jar!/org/split/b.txt");
+            assertThat(runnerClassLoader.findResource("/org/split/b.txt").toString()).endsWith("b.jar!/org/split/b.txt");
+            assertThat(runnerClassLoader.findResource("org/other/c.txt").toString()).endsWith("c.jar!/org/other/c.txt");
+            assertThat(runnerClassLoader.findResource("org/split/missing.txt")).isNull();
+            assertThat(runnerClassLoader.findResource("org/missing.txt")).isNull();
+
+            List<URL> common = Collections.list(runnerClassLoader.findResources("org/split/common.txt"));
+            assertThat(common).hasSize(2);
+            assertThat(common.get(0).toString()).endsWith("a.jar!/org/split/common.txt");
+            assertThat(common.get(1).toString()).endsWith("b.jar!/org/split/common.txt");
+        } finally {
+            runnerClassLoader.close();
+        }
+    }
+
+    private Path createJar(String name, String... entries) throws IOException {
+        Path jar = appRoot.resolve(name);
+        try (OutputStream os = Files.newOutputStream(jar); JarOutputStream jos = new JarOutputStream(os)) {
+            for (String entry : entries) {
+                jos.putNextEntry(new ZipEntry(entry));
+                jos.write(entry.getBytes(StandardCharsets.UTF_8));
+                jos.closeEntry();
+            }
+        }
+        return jar;
+    }
+}
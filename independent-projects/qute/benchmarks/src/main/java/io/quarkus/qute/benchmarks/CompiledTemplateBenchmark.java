@@ -0,0 +1,181 @@
+package io.quarkus.qute.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.jboss.jandex.ParameterizedType;
+import org.jboss.jandex.Type;
+import org.jboss.jandex.Type.Kind;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.gizmo2.ClassOutput;
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.EngineBuilder;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.ValueResolver;
+import io.quarkus.qute.generator.CompiledTemplateGenerator;
+import io.quarkus.qute.generator.ValueResolverGenerator;
+
+/**
+ * Compares the interpreter that uses the generated value resolvers with a template compiled into a Java class.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompiledTemplateBenchmark {
+
+    static final String TEMPLATE = """
+            <h1>{title}</h1>
+            <ul>
+            {#for item in items}
+              <li>{item.name} - {item.price}{#if item.active} <b>active</b>{/if}</li>
+            {/for}
+            </ul>
+            """;
+
+    @Param({ "10", "100" })
+    int size;
+
+    Template interpreted;
+    Template compiled;
+    List<Item> items;
+
+    @Setup
+    public void setup() throws Exception {
+        Index index = index(Item.class);
+        GeneratedClassLoader classLoader = new GeneratedClassLoader(CompiledTemplateBenchmark.class.getClassLoader());
+
+        ValueResolverGenerator resolverGenerator = ValueResolverGenerator.builder().setIndex(index)
+                .setClassOutput(classLoader)
+                .addClass(index.getClassByName(Item.class))
+                .build();
+        resolverGenerator.generate();
+
+        Map<String, Type> parameters = new HashMap<>();
+        parameters.put("title", Type.create(DotName.createSimple(String.class), Kind.CLASS));
+        parameters.put("items", ParameterizedType.create(DotName.createSimple(List.class),
+                new Type[] { Type.create(DotName.createSimple(Item.class), Kind.CLASS) }, null));
+        CompiledTemplateGenerator templateGenerator = new CompiledTemplateGenerator(index, classLoader, name -> false);
+        String compiledClass = templateGenerator.generate("items", engineBuilder(classLoader, resolverGenerator).build()
+                .parse(TEMPLATE).getNodes(), parameters);
+        if (compiledClass == null) {
+            throw new IllegalStateException("Template not compiled");
+        }
+
+        interpreted = engineBuilder(classLoader, resolverGenerator).build().parse(TEMPLATE, null, "items");
+        compiled = engineBuilder(classLoader, resolverGenerator)
+                .addCompiledTemplate("items", (CompiledTemplate) classLoader.loadClass(compiledClass)
+                        .getDeclaredConstructor().newInstance())
+                .build().parse(TEMPLATE, null, "items");
+
+        items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(new Item("Item " + i, i * 10, i % 2 == 0));
+        }
+    }
+
+    @Benchmark
+    public String interpreted() {
+        return interpreted.data("title", "Items").data("items", items).render();
+    }
+
+    @Benchmark
+    public String compiled() {
+        return compiled.data("title", "Items").data("items", items).render();
+    }
+
+    private static EngineBuilder engineBuilder(GeneratedClassLoader classLoader, ValueResolverGenerator generator)
+            throws ReflectiveOperationException {
+        EngineBuilder builder = Engine.builder().addDefaults();
+        for (String type : generator.getGeneratedTypes()) {
+            builder.addValueResolver((ValueResolver) classLoader.loadClass(type).getDeclaredConstructor().newInstance());
+        }
+        return builder;
+    }
+
+    private static Index index(Class<?>... classes) throws IOException {
+        Indexer indexer = new Indexer();
+        for (Class<?> clazz : classes) {
+            try (InputStream stream = CompiledTemplateBenchmark.class.getClassLoader()
+                    .getResourceAsStream(clazz.getName().replace('.', '/') + ".class")) {
+                indexer.index(stream);
+            }
+        }
+        return indexer.complete();
+    }
+
+    static class GeneratedClassLoader extends ClassLoader implements ClassOutput {
+
+        private final Map<String, byte[]> classes = new HashMap<>();
+
+        GeneratedClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        public void write(String resourceName, byte[] bytes) {
+            if (resourceName.endsWith(".class")) {
+                classes.put(resourceName.substring(0, resourceName.length() - 6).replace('/', '.'), bytes);
+            }
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] bytes = classes.get(name);
+            if (bytes == null) {
+                throw new ClassNotFoundException(name);
+            }
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+
+    }
+
+    public static class Item {
+
+        private final String name;
+        private final int price;
+        private final boolean active;
+
+        public Item(String name, int price, boolean active) {
+            this.name = name;
+            this.price = price;
+            this.active = active;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getPrice() {
+            return price;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+    }
+
+}
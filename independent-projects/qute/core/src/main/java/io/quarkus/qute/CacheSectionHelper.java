@@ -1,5 +1,8 @@
 package io.quarkus.qute;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
@@ -13,11 +16,13 @@ public class CacheSectionHelper implements SectionHelper {
     private final String keyPrefix;
     private final Expression key;
     private final Cache cache;
+    private final Storage storage;
 
-    CacheSectionHelper(String keyPrefix, Expression key, Cache cache) {
+    CacheSectionHelper(String keyPrefix, Expression key, Cache cache, Storage storage) {
         this.keyPrefix = keyPrefix;
         this.key = key;
         this.cache = cache;
+        this.storage = storage;
     }
 
     @Override
@@ -36,17 +41,8 @@ private CompletionStage<ResultNode> resolveInternal(String key, SectionResolutio
             @Override
             public CompletionStage<ResultNode> apply(String key) {
                 return context.execute().thenCompose(rn -> {
-                    // Note that we cannot cache the ResultNode but the string representation instead
-                    StringBuilder sb = new StringBuilder();
-                    rn.process(sb::append);
-                    String result = sb.toString();
-                    return CompletedStage.of(new ResultNode() {
-
-                        @Override
-                        public void process(Consumer<String> resultConsumer) {
-                            resultConsumer.accept(result);
-                        }
-                    });
+                    // Note that we cannot cache the ResultNode but the string/byte representation instead
+                    return CompletedStage.of(Fragment.of(rn, storage));
                 });
             }
         });
@@ -58,9 +54,15 @@ public static class Factory implements SectionHelperFactory<CacheSectionHelper>
         static final String DEFAULT_KEY = "$default$";
 
         private final Cache cache;
+        private final Storage storage;
 
         public Factory(Cache cache) {
+            this(cache, Storage.STRING);
+        }
+
+        public Factory(Cache cache, Storage storage) {
             this.cache = cache;
+            this.storage = storage;
         }
 
         @Override
@@ -85,7 +87,7 @@ public CacheSectionHelper initialize(SectionInitContext context) {
             if (!context.getParameter(KEY).equals(DEFAULT_KEY)) {
                 key = context.getExpression(KEY);
             }
-            return new CacheSectionHelper(keyPrefix.toString(), key, cache);
+            return new CacheSectionHelper(keyPrefix.toString(), key, cache, storage);
         }
 
         @Override
@@ -118,4 +120,111 @@ public interface Cache {
 
     }
 
+    /**
+     * The way a rendered fragment is stored in the cache.
+     */
+    public enum Storage {
+
+        /**
+         * The fragment is stored as a {@link String}.
+         */
+        STRING,
+        /**
+         * The fragment is stored as a byte array encoded in UTF-8. A {@link EncodedResultConsumer} receives the bytes
+         * directly, any other consumer receives a decoded string.
+         */
+        BYTES,
+        /**
+         * The fragment is stored as a direct {@link ByteBuffer} encoded in UTF-8, i.e. outside the Java heap. A
+         * {@link EncodedResultConsumer} receives the bytes directly, any other consumer receives a decoded string.
+         */
+        DIRECT_BYTES
+
+    }
+
+    /**
+     * A rendered fragment stored in the cache.
+     */
+    public static final class Fragment extends ResultNode {
+
+        static Fragment of(ResultNode node, Storage storage) {
+            if (storage == Storage.STRING) {
+                StringBuilder sb = new StringBuilder();
+                node.process(sb::append);
+                return new Fragment(sb.toString(), null, null);
+            }
+            Utf8Collector collector = new Utf8Collector();
+            node.process(collector);
+            byte[] bytes = collector.toByteArray();
+            if (storage == Storage.BYTES) {
+                return new Fragment(null, bytes, null);
+            }
+            ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+            buffer.put(bytes).flip();
+            return new Fragment(null, null, buffer.asReadOnlyBuffer());
+        }
+
+        private final String string;
+        private final byte[] bytes;
+        private final ByteBuffer buffer;
+
+        private Fragment(String string, byte[] bytes, ByteBuffer buffer) {
+            this.string = string;
+            this.bytes = bytes;
+            this.buffer = buffer;
+        }
+
+        /**
+         *
+         * @return the approximate number of bytes occupied by the fragment
+         */
+        public int getWeight() {
+            if (string != null) {
+                return string.length() * 2;
+            }
+            return bytes != null ? bytes.length : buffer.capacity();
+        }
+
+        /**
+         *
+         * @return {@code true} if the fragment is stored outside the Java heap
+         */
+        public boolean isDirect() {
+            return buffer != null;
+        }
+
+        @Override
+        public void process(Consumer<String> resultConsumer) {
+            if (string != null) {
+                resultConsumer.accept(string);
+            } else if (resultConsumer instanceof EncodedResultConsumer encodedConsumer) {
+                if (bytes != null) {
+                    encodedConsumer.acceptEncoded(bytes);
+                } else {
+                    encodedConsumer.acceptEncoded(buffer.duplicate());
+                }
+            } else if (bytes != null) {
+                resultConsumer.accept(new String(bytes, StandardCharsets.UTF_8));
+            } else {
+                resultConsumer.accept(StandardCharsets.UTF_8.decode(buffer.duplicate()).toString());
+            }
+        }
+
+    }
+
+    // The static text is already encoded
+    private static final class Utf8Collector extends ByteArrayOutputStream implements EncodedResultConsumer {
+
+        @Override
+        public void accept(String chunk) {
+            writeBytes(chunk.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void acceptEncoded(byte[] utf8) {
+            writeBytes(utf8);
+        }
+
+    }
+
 }
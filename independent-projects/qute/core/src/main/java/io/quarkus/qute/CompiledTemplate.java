@@ -0,0 +1,273 @@
+package io.quarkus.qute;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * A template compiled into a Java class, usually at build time.
+ * <p>
+ * A compiled template renders the template synchronously with direct method calls and without creating the intermediate
+ * result tree. It is only used if the template was not modified since the class was generated, i.e. if the fingerprint
+ * of the parsed template matches the fingerprint of the compiled template.
+ * <p>
+ * If a value cannot be rendered synchronously, e.g. a {@link CompletionStage} or a {@link Uni} is found, or the data do
+ * not match the expected types then {@link #render(Mapper, Output)} returns {@code false}, the partial output is discarded
+ * and the template is rendered by the interpreter instead.
+ *
+ * @see EngineBuilder#addCompiledTemplate(String, CompiledTemplate)
+ */
+public abstract class CompiledTemplate {
+
+    private final long fingerprint;
+
+    protected CompiledTemplate(long fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     *
+     * @return the fingerprint of the template the class was generated from
+     * @see #fingerprint(List)
+     */
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Note that any method invoked during rendering may be invoked again if the template is eventually rendered by the
+     * interpreter.
+     *
+     * @param data
+     * @param output
+     * @return {@code true} if the template was rendered, {@code false} if the interpreter must be used instead
+     */
+    public abstract boolean render(Mapper data, Output output);
+
+    /**
+     *
+     * @param value
+     * @return {@code true} if the value must be resolved asynchronously
+     */
+    protected static boolean isAsync(Object value) {
+        return value instanceof CompletionStage || value instanceof Uni;
+    }
+
+    /**
+     * The fingerprint is computed from the structure of the template, i.e. the text, the expressions and the sections.
+     *
+     * @param nodes the child nodes of the root node
+     * @return the fingerprint of the template
+     * @see Template#getNodes()
+     */
+    public static long fingerprint(List<TemplateNode> nodes) {
+        Fingerprint fingerprint = new Fingerprint();
+        fingerprint.nodes(nodes);
+        return fingerprint.hash;
+    }
+
+    /**
+     * The expression nodes are collected in the order of appearance, i.e. the nodes of a section are collected block by
+     * block. The index of an expression node is used by the compiled template to output a value.
+     *
+     * @param nodes
+     * @return the list of expression nodes
+     * @see Output#append(int, Object)
+     */
+    static ExpressionNode[] expressions(List<TemplateNode> nodes) {
+        List<ExpressionNode> expressions = new ArrayList<>();
+        collect(nodes, ExpressionNode.class, expressions);
+        return expressions.toArray(new ExpressionNode[0]);
+    }
+
+    /**
+     * The text nodes are collected in the same order as the expression nodes. The index of a text node is used by the
+     * compiled template to output the text.
+     *
+     * @param nodes
+     * @return the list of text nodes
+     * @see Output#appendText(int)
+     */
+    static TextNode[] texts(List<TemplateNode> nodes) {
+        List<TextNode> texts = new ArrayList<>();
+        collect(nodes, TextNode.class, texts);
+        return texts.toArray(new TextNode[0]);
+    }
+
+    private static <T extends TemplateNode> void collect(List<TemplateNode> nodes, Class<T> type, List<T> collected) {
+        for (TemplateNode node : nodes) {
+            if (type.isInstance(node)) {
+                collected.add(type.cast(node));
+            } else if (node instanceof SectionNode section) {
+                for (SectionBlock block : section.blocks) {
+                    collect(block.nodes, type, collected);
+                }
+            }
+        }
+    }
+
+    /**
+     * The output of a compiled template.
+     * <p>
+     * If the result is consumed by an {@link EncodedResultConsumer} then the output is split in chunks: the text nodes are
+     * kept encoded in UTF-8 and only the dynamic parts are collected in strings. The chunks are only passed to the consumer
+     * once the template is rendered, so that the partial output can be discarded.
+     */
+    public static final class Output {
+
+        private final StringBuilder builder;
+        private final ExpressionNode[] expressions;
+        private final TextNode[] texts;
+        // byte[] or String; null if the output is not encoded
+        private final List<Object> chunks;
+
+        Output(StringBuilder builder, ExpressionNode[] expressions, TextNode[] texts, boolean encoded) {
+            this.builder = builder;
+            this.expressions = expressions;
+            this.texts = texts;
+            this.chunks = encoded ? new ArrayList<>() : null;
+        }
+
+        /**
+         *
+         * @param text
+         */
+        public void append(String text) {
+            builder.append(text);
+        }
+
+        /**
+         * The text node is output encoded in UTF-8 if possible.
+         *
+         * @param text the index of the text node
+         */
+        public void appendText(int text) {
+            TextNode node = texts[text];
+            if (chunks == null) {
+                builder.append(node.getValue());
+            } else {
+                flush();
+                chunks.add(node.getEncodedValue());
+            }
+        }
+
+        /**
+         * The value is processed in the same way as the result of an {@link ExpressionNode}, i.e. an {@link Optional} is
+         * unwrapped, a {@code null} value is ignored and the result mappers registered for the engine are applied.
+         *
+         * @param expression the index of the expression node
+         * @param value
+         * @return {@code false} if the value must be resolved asynchronously, {@code true} otherwise
+         */
+        public boolean append(int expression, Object value) {
+            if (isAsync(value)) {
+                return false;
+            }
+            if (value instanceof Optional) {
+                value = ((Optional<?>) value).orElse(null);
+            } else if (value instanceof OptionalInt) {
+                value = ((OptionalInt) value).orElse(0);
+            } else if (value instanceof OptionalDouble) {
+                value = ((OptionalDouble) value).orElse(0D);
+            } else if (value instanceof OptionalLong) {
+                value = ((OptionalLong) value).orElse(0L);
+            }
+            if (value != null) {
+                ExpressionNode node = expressions[expression];
+                builder.append(node.hasEngineResultMappers() ? node.mapResult(value) : value.toString());
+            }
+            return true;
+        }
+
+        void discard() {
+            builder.setLength(0);
+            if (chunks != null) {
+                chunks.clear();
+            }
+        }
+
+        void writeTo(Consumer<String> consumer) {
+            if (chunks == null) {
+                consumer.accept(builder.toString());
+                return;
+            }
+            flush();
+            EncodedResultConsumer encodedConsumer = (EncodedResultConsumer) consumer;
+            for (Object chunk : chunks) {
+                if (chunk instanceof byte[] bytes) {
+                    encodedConsumer.acceptEncoded(bytes);
+                } else {
+                    encodedConsumer.accept((String) chunk);
+                }
+            }
+        }
+
+        private void flush() {
+            if (builder.length() > 0) {
+                chunks.add(builder.toString());
+                builder.setLength(0);
+            }
+        }
+
+    }
+
+    // FNV-1a
+    private static final class Fingerprint {
+
+        private static final long PRIME = 0x100000001b3L;
+
+        long hash = 0xcbf29ce484222325L;
+
+        void nodes(List<TemplateNode> nodes) {
+            for (TemplateNode node : nodes) {
+                if (node instanceof TextNode text) {
+                    add('T').add(text.getValue());
+                } else if (node instanceof ExpressionNode expression) {
+                    add('E').add(expression.expression.toOriginalString());
+                } else if (node instanceof ParameterDeclarationNode param) {
+                    add('P').add(param.getKey()).add(param.getTypeInfo());
+                    if (param.getDefaultValue() != null) {
+                        add(param.getDefaultValue().toOriginalString());
+                    }
+                } else if (node instanceof SectionNode section) {
+                    add('S').add(section.name);
+                    for (SectionBlock block : section.blocks) {
+                        add('B').add(block.label);
+                        for (Entry<String, String> param : block.parameters.entrySet()) {
+                            add(param.getKey()).add(param.getValue());
+                        }
+                        nodes(block.nodes);
+                        add('/');
+                    }
+                    add('/');
+                }
+                // Dummy nodes are ignored
+            }
+        }
+
+        Fingerprint add(String value) {
+            if (value != null) {
+                for (int i = 0; i < value.length(); i++) {
+                    add(value.charAt(i));
+                }
+            }
+            return add('\0');
+        }
+
+        Fingerprint add(char value) {
+            hash ^= value;
+            hash *= PRIME;
+            return this;
+        }
+
+    }
+
+}
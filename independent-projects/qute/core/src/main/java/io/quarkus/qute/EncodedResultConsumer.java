@@ -0,0 +1,35 @@
+package io.quarkus.qute;
+
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * A consumer of the rendered template chunks that writes bytes encoded in UTF-8.
+ * <p>
+ * If a consumer of this type is passed to {@link TemplateInstance#consume(Consumer)} then the static text is passed to
+ * {@link #acceptEncoded(byte[])} and only the dynamic parts of the template need to be encoded. Static text nodes are
+ * encoded in UTF-8 once, the first time they are passed to a consumer of this type.
+ */
+public interface EncodedResultConsumer extends Consumer<String> {
+
+    /**
+     * Consumes a chunk of static text encoded in UTF-8.
+     *
+     * @param utf8 the encoded chunk; the array is shared and must not be modified
+     */
+    void acceptEncoded(byte[] utf8);
+
+    /**
+     * Consumes a chunk of text encoded in UTF-8, e.g. a fragment cached outside the Java heap.
+     * <p>
+     * The default implementation copies the remaining bytes into an array and calls {@link #acceptEncoded(byte[])}.
+     *
+     * @param utf8 the encoded chunk; the buffer is read-only and must not be retained
+     */
+    default void acceptEncoded(ByteBuffer utf8) {
+        byte[] bytes = new byte[utf8.remaining()];
+        utf8.get(bytes);
+        acceptEncoded(bytes);
+    }
+
+}
@@ -46,6 +46,7 @@ public final class EngineBuilder {
     final List<EngineListener> listeners;
     boolean enableTracing;
     ParserConfigurator parserConfigurator;
+    final Map<String, CompiledTemplate> compiledTemplates;
 
     EngineBuilder() {
         this.sectionHelperFactories = new HashMap<>();
@@ -61,6 +62,7 @@ public final class EngineBuilder {
         this.timeout = 10_000;
         this.useAsyncTimeout = true;
         this.listeners = new ArrayList<>();
+        this.compiledTemplates = new HashMap<>();
         this.parserConfigurator = new ParserConfigurator() {
             @Override
             public ParserConfig getConfig(String templateId, Optional<Variant> variant) {
@@ -244,6 +246,20 @@ public EngineBuilder addTemplateInstanceInitializer(TemplateInstance.Initializer
         return this;
     }
 
+    /**
+     * Register a template compiled into a Java class. The compiled template is used to render the template with the given
+     * id if the parsed template matches the compiled template.
+     *
+     * @param templateId
+     * @param compiledTemplate
+     * @return self
+     * @see CompiledTemplate
+     */
+    public EngineBuilder addCompiledTemplate(String templateId, CompiledTemplate compiledTemplate) {
+        this.compiledTemplates.put(Objects.requireNonNull(templateId), Objects.requireNonNull(compiledTemplate));
+        return this;
+    }
+
     /**
      * The function is used if no section helper registered via {@link #addSectionHelper(SectionHelperFactory)} matches a
      * section name.
@@ -40,6 +40,7 @@ class EngineImpl implements Engine {
     private final boolean useAsyncTimeout;
     final TraceManagerImpl traceManager;
     final ParserConfigurator parserConfigurator;
+    private final Map<String, CompiledTemplate> compiledTemplates;
 
     EngineImpl(EngineBuilder builder) {
         this.sectionHelperFactories = Map.copyOf(builder.sectionHelperFactories);
@@ -58,6 +59,7 @@ class EngineImpl implements Engine {
         this.useAsyncTimeout = builder.useAsyncTimeout;
         this.traceManager = builder.enableTracing ? new TraceManagerImpl() : null;
         this.parserConfigurator = builder.parserConfigurator;
+        this.compiledTemplates = Map.copyOf(builder.compiledTemplates);
     }
 
     @Override
@@ -206,9 +208,16 @@ public EngineBuilder newBuilder() {
         for (ParserHook parserHook : parserHooks) {
             builder.addParserHook(parserHook);
         }
+        for (Entry<String, CompiledTemplate> e : compiledTemplates.entrySet()) {
+            builder.addCompiledTemplate(e.getKey(), e.getValue());
+        }
         return builder;
     }
 
+    CompiledTemplate getCompiledTemplate(String templateId) {
+        return compiledTemplates.get(templateId);
+    }
+
     String generateId() {
         return "" + idGenerator.incrementAndGet();
     }
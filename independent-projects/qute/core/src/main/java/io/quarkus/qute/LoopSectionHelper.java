@@ -49,6 +49,18 @@ public String getMetadataPrefix() {
         return metadataPrefix;
     }
 
+    public String getAlias() {
+        return alias;
+    }
+
+    public Expression getIterable() {
+        return iterable;
+    }
+
+    public boolean hasElseBlock() {
+        return elseBlock != null;
+    }
+
     @Override
     public CompletionStage<ResultNode> resolve(SectionResolutionContext context) {
         return context.resolutionContext().evaluate(iterable).thenCompose(it -> {
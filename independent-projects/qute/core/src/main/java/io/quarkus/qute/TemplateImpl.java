@@ -43,6 +43,11 @@ class TemplateImpl implements Template {
     // The initial capacity of the StringBuilder used to render the template
     final Capacity capacity;
 
+    // The template compiled into a Java class; may be null
+    private final CompiledTemplate compiled;
+    private final ExpressionNode[] compiledExpressions;
+    private final TextNode[] compiledTexts;
+
     TemplateImpl(EngineImpl engine, SectionNode root, String templateId, String generatedId, Optional<Variant> variant,
             Optional<URI> source) {
         this.engine = engine;
@@ -56,6 +61,9 @@ class TemplateImpl implements Template {
         // Use a lazily initialized map to avoid unnecessary performance costs during parsing
         this.fragments = initFragments(root);
         this.capacity = new Capacity();
+        this.compiled = initCompiled(engine, root, templateId);
+        this.compiledExpressions = compiled != null ? CompiledTemplate.expressions(root.blocks.get(0).nodes) : null;
+        this.compiledTexts = compiled != null ? CompiledTemplate.texts(root.blocks.get(0).nodes) : null;
     }
 
     @Override
@@ -134,6 +142,19 @@ public Optional<URI> getSource() {
         return source;
     }
 
+    private static CompiledTemplate initCompiled(EngineImpl engine, SectionNode root, String templateId) {
+        if (!root.name.equals(Parser.ROOT_HELPER_NAME)) {
+            // Fragments are never compiled
+            return null;
+        }
+        CompiledTemplate compiled = engine.getCompiledTemplate(templateId);
+        if (compiled != null && compiled.getFingerprint() != CompiledTemplate.fingerprint(root.blocks.get(0).nodes)) {
+            LOG.debugf("Compiled template ignored - template %s does not match the compiled template", templateId);
+            return null;
+        }
+        return compiled;
+    }
+
     private LazyValue<Map<String, Fragment>> initFragments(SectionNode section) {
         if (section.name.equals(Parser.ROOT_HELPER_NAME)) {
             // Initialize the lazy map for root sections only
@@ -251,7 +272,14 @@ protected Engine engine() {
 
         private CompletionStage<String> renderAsyncNoTimeout() {
             StringBuilder builder = new StringBuilder(getCapacity());
-            return renderData(data(), builder::append).thenApply(v -> {
+            Object data = data();
+            if (compiled != null && renderCompiled(data, compiledOutput(builder, false))) {
+                String str = builder.toString();
+                capacity.update(str.length());
+                fireRendered();
+                return CompletedStage.of(str);
+            }
+            return interpret(data, builder::append).thenApply(v -> {
                 String str = builder.toString();
                 capacity.update(str.length());
                 return str;
@@ -279,6 +307,25 @@ private int getCapacityAttributeValue() {
         }
 
         private CompletionStage<Void> renderData(Object data, Consumer<String> consumer) {
+            if (compiled != null) {
+                // The text nodes are passed encoded to an EncodedResultConsumer
+                CompiledTemplate.Output output = compiledOutput(new StringBuilder(getCapacity()),
+                        consumer instanceof EncodedResultConsumer);
+                if (renderCompiled(data, output)) {
+                    try {
+                        output.writeTo(consumer);
+                        return CompletedStage.ofVoid();
+                    } catch (Throwable e) {
+                        return CompletedStage.failure(e);
+                    } finally {
+                        fireRendered();
+                    }
+                }
+            }
+            return interpret(data, consumer);
+        }
+
+        private CompletionStage<Void> interpret(Object data, Consumer<String> consumer) {
             CompletableFuture<Void> result = new CompletableFuture<>();
             ResolutionContext rootContext = new ResolutionContextImpl(data,
                     engine.getEvaluator(), null, this);
@@ -300,16 +347,7 @@ private CompletionStage<Void> renderData(Object data, Consumer<String> consumer)
                     } catch (Throwable e) {
                         result.completeExceptionally(e);
                     } finally {
-                        if (renderedActions != null) {
-                            for (Runnable action : renderedActions) {
-                                try {
-                                    action.run();
-                                } catch (Throwable e) {
-                                    LOG.error("Unable to perform an action when rendering finished", e);
-                                }
-                            }
-                        }
-
+                        fireRendered();
                     }
                 }
                 if (event != null) {
@@ -321,6 +359,48 @@ private CompletionStage<Void> renderData(Object data, Consumer<String> consumer)
             return result;
         }
 
+        /**
+         * The compiled template is only used if the data are backed by a map and tracing is disabled.
+         *
+         * @param data
+         * @param output
+         * @return {@code true} if rendered by the compiled template, {@code false} if the interpreter must be used
+         */
+        private boolean renderCompiled(Object data, CompiledTemplate.Output output) {
+            if (compiled == null || engine.traceManager != null || !(data instanceof Mapper mapper)) {
+                return false;
+            }
+            boolean rendered;
+            try {
+                rendered = compiled.render(mapper, output);
+            } catch (RuntimeException e) {
+                // The interpreter is responsible for error reporting
+                LOG.debugf(e, "Compiled template %s failed; fallback to the interpreter", templateId);
+                rendered = false;
+            }
+            if (!rendered) {
+                // Discard the partial output
+                output.discard();
+            }
+            return rendered;
+        }
+
+        private CompiledTemplate.Output compiledOutput(StringBuilder builder, boolean encoded) {
+            return new CompiledTemplate.Output(builder, compiledExpressions, compiledTexts, encoded);
+        }
+
+        private void fireRendered() {
+            if (renderedActions != null) {
+                for (Runnable action : renderedActions) {
+                    try {
+                        action.run();
+                    } catch (Throwable e) {
+                        LOG.error("Unable to perform an action when rendering finished", e);
+                    }
+                }
+            }
+        }
+
         @Override
         public Template getTemplate() {
             return TemplateImpl.this;
@@ -1,5 +1,6 @@
 package io.quarkus.qute;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
@@ -10,6 +11,9 @@ public class TextNode extends ResultNode implements TemplateNode {
 
     private final CompletedStage<ResultNode> result;
     private final String value;
+    // the value encoded in UTF-8, used by the EncodedResultConsumer; encoded lazily so that the templates that are never
+    // rendered with an EncodedResultConsumer do not hold the text twice
+    private volatile byte[] encoded;
     private final Origin origin;
 
     public TextNode(String value, Origin origin) {
@@ -42,9 +46,27 @@ public String getValue() {
         return value;
     }
 
+    /**
+     *
+     * @return the value encoded in UTF-8; the array is shared and must not be modified
+     */
+    byte[] getEncodedValue() {
+        byte[] bytes = encoded;
+        if (bytes == null) {
+            // The value may be encoded more than once concurrently, which is harmless
+            bytes = value.getBytes(StandardCharsets.UTF_8);
+            encoded = bytes;
+        }
+        return bytes;
+    }
+
     @Override
     public void process(Consumer<String> consumer) {
-        consumer.accept(value);
+        if (consumer instanceof EncodedResultConsumer encodedConsumer) {
+            encodedConsumer.acceptEncoded(getEncodedValue());
+        } else {
+            consumer.accept(value);
+        }
     }
 
     @Override
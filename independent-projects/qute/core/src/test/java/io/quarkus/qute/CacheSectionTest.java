@@ -2,7 +2,12 @@
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -12,6 +17,8 @@
 import org.junit.jupiter.api.Test;
 
 import io.quarkus.qute.CacheSectionHelper.Cache;
+import io.quarkus.qute.CacheSectionHelper.Fragment;
+import io.quarkus.qute.CacheSectionHelper.Storage;
 
 public class CacheSectionTest {
 
@@ -71,7 +78,54 @@ public void testCachedWithFailure() {
         assertEquals(1, map.size());
     }
 
+    @Test
+    public void testBytesStorage() throws Exception {
+        assertBytesStorage(Storage.BYTES);
+    }
+
+    @Test
+    public void testDirectBytesStorage() throws Exception {
+        assertBytesStorage(Storage.DIRECT_BYTES);
+    }
+
+    private void assertBytesStorage(Storage storage) throws Exception {
+        ConcurrentMap<String, CompletionStage<ResultNode>> map = new ConcurrentHashMap<>();
+        Engine engine = engineWithCache(map, storage);
+
+        Template template = engine.parse("{#cached}<p>Héllo {counter.val}</p>{/cached}!", null, "foo.html");
+        Counter counter = new Counter();
+
+        assertEquals("<p>Héllo 1</p>!", template.data("counter", counter).render());
+        assertEquals("<p>Héllo 1</p>!", template.data("counter", counter).render());
+        Fragment fragment = (Fragment) map.values().iterator().next().toCompletableFuture().get();
+        assertEquals("<p>Héllo 1</p>".getBytes(StandardCharsets.UTF_8).length, fragment.getWeight());
+        assertEquals(storage == Storage.DIRECT_BYTES, fragment.isDirect());
+
+        // The cached fragment is passed as bytes
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<String> strings = new ArrayList<>();
+        template.data("counter", counter).consume(new EncodedResultConsumer() {
+
+            @Override
+            public void accept(String chunk) {
+                strings.add(chunk);
+                out.writeBytes(chunk.getBytes(StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public void acceptEncoded(byte[] utf8) {
+                out.writeBytes(utf8);
+            }
+        }).toCompletableFuture().get();
+        assertEquals("<p>Héllo 1</p>!", out.toString(StandardCharsets.UTF_8));
+        assertTrue(strings.isEmpty());
+    }
+
     private Engine engineWithCache(ConcurrentMap<String, CompletionStage<ResultNode>> map) {
+        return engineWithCache(map, Storage.STRING);
+    }
+
+    private Engine engineWithCache(ConcurrentMap<String, CompletionStage<ResultNode>> map, Storage storage) {
         return Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver())
                 .addSectionHelper(new CacheSectionHelper.Factory(new Cache() {
                     @Override
@@ -79,7 +133,7 @@ public CompletionStage<ResultNode> getValue(String key,
                             Function<String, CompletionStage<ResultNode>> loader) {
                         return map.computeIfAbsent(key, k -> loader.apply(k));
                     }
-                })).build();
+                }, storage)).build();
     }
 
     public static class Counter {
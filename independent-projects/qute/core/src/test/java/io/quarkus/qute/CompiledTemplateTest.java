@@ -0,0 +1,134 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class CompiledTemplateTest {
+
+    static final String CONTENT = "Hello {name}!";
+
+    @Test
+    public void testCompiledTemplate() {
+        HelloTemplate compiled = new HelloTemplate(fingerprint(CONTENT));
+        Engine engine = Engine.builder().addDefaults().addCompiledTemplate("hello", compiled).build();
+        Template hello = engine.parse(CONTENT, null, "hello");
+
+        assertEquals("Hello Lu!", hello.data("name", "Lu").render());
+        assertEquals(1, compiled.rendered.get());
+
+        StringBuilder builder = new StringBuilder();
+        hello.data("name", "Lu").consume(builder::append).toCompletableFuture().join();
+        assertEquals("Hello Lu!", builder.toString());
+        assertEquals(2, compiled.rendered.get());
+    }
+
+    @Test
+    public void testConsumeEncoded() {
+        HelloTemplate compiled = new HelloTemplate(fingerprint(CONTENT));
+        Engine engine = Engine.builder().addDefaults().addCompiledTemplate("hello", compiled).build();
+        Template hello = engine.parse(CONTENT, null, "hello");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<String> strings = new ArrayList<>();
+        hello.data("name", "Lü").consume(new EncodedResultConsumer() {
+
+            @Override
+            public void accept(String chunk) {
+                strings.add(chunk);
+                out.writeBytes(chunk.getBytes(StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public void acceptEncoded(byte[] utf8) {
+                out.writeBytes(utf8);
+            }
+        }).toCompletableFuture().join();
+        assertEquals("Hello Lü!", out.toString(StandardCharsets.UTF_8));
+        // only the dynamic parts are passed as strings
+        assertEquals(List.of("Lü"), strings);
+        assertEquals(1, compiled.rendered.get());
+    }
+
+    @Test
+    public void testFallback() {
+        HelloTemplate compiled = new HelloTemplate(fingerprint(CONTENT));
+        Engine engine = Engine.builder().addDefaults().addCompiledTemplate("hello", compiled).build();
+        Template hello = engine.parse(CONTENT, null, "hello");
+
+        // The partial output must be discarded
+        assertEquals("Hello Lu!", hello.data("name", CompletableFuture.completedFuture("Lu")).render());
+        assertEquals(0, compiled.rendered.get());
+        assertEquals(1, compiled.attempts.get());
+    }
+
+    @Test
+    public void testFingerprintMismatch() {
+        HelloTemplate compiled = new HelloTemplate(fingerprint(CONTENT));
+        Engine engine = Engine.builder().addDefaults().addCompiledTemplate("hello", compiled).build();
+        Template hello = engine.parse("Hi {name}!", null, "hello");
+
+        assertEquals("Hi Lu!", hello.data("name", "Lu").render());
+        assertEquals(0, compiled.attempts.get());
+    }
+
+    @Test
+    public void testResultMappers() {
+        HelloTemplate compiled = new HelloTemplate(fingerprint(CONTENT));
+        Engine engine = Engine.builder().addDefaults().addResultMapper(new HtmlEscaper(List.of(Variant.TEXT_HTML)))
+                .addCompiledTemplate("hello", compiled).build();
+        Template hello = engine.parse(CONTENT, Variant.forContentType(Variant.TEXT_HTML), "hello");
+
+        assertEquals("Hello &lt;b&gt;!", hello.data("name", "<b>").render());
+        assertEquals(1, compiled.rendered.get());
+    }
+
+    @Test
+    public void testRenderedActions() {
+        HelloTemplate compiled = new HelloTemplate(fingerprint(CONTENT));
+        Engine engine = Engine.builder().addDefaults().addCompiledTemplate("hello", compiled).build();
+        Template hello = engine.parse(CONTENT, null, "hello");
+
+        AtomicInteger actions = new AtomicInteger();
+        assertEquals("Hello Lu!", hello.data("name", "Lu").onRendered(actions::incrementAndGet).render());
+        assertEquals(1, actions.get());
+        assertEquals(1, compiled.rendered.get());
+    }
+
+    static long fingerprint(String content) {
+        return CompiledTemplate.fingerprint(Engine.builder().addDefaults().build().parse(content).getNodes());
+    }
+
+    // This is what the generated class would look like
+    static class HelloTemplate extends CompiledTemplate {
+
+        final AtomicInteger attempts = new AtomicInteger();
+        final AtomicInteger rendered = new AtomicInteger();
+
+        HelloTemplate(long fingerprint) {
+            super(fingerprint);
+        }
+
+        @Override
+        public boolean render(Mapper data, Output output) {
+            attempts.incrementAndGet();
+            output.appendText(0);
+            Object name = data.get("name");
+            if (name == null || !output.append(0, name)) {
+                return false;
+            }
+            output.appendText(1);
+            rendered.incrementAndGet();
+            return true;
+        }
+
+    }
+
+}
@@ -4,6 +4,9 @@
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -112,6 +115,30 @@ public void testCapacity() {
         assertCapacity(engine, "{foo}", 10, Capacity.LIMIT, Map.of("foo", "b".repeat(70_000)));
     }
 
+    @Test
+    public void testConsumeEncoded() throws Exception {
+        Engine engine = Engine.builder().addDefaults().build();
+        Template hello = engine.parse("Héllo {foo}!\n{#each items}<li>{it}</li>{/each}");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<String> strings = new ArrayList<>();
+        hello.instance().data("foo", "wörld").data("items", List.of(1, 2)).consume(new EncodedResultConsumer() {
+
+            @Override
+            public void accept(String chunk) {
+                strings.add(chunk);
+                out.writeBytes(chunk.getBytes(StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public void acceptEncoded(byte[] utf8) {
+                out.writeBytes(utf8);
+            }
+        }).toCompletableFuture().get();
+        assertEquals("Héllo wörld!\n<li>1</li><li>2</li>", out.toString(StandardCharsets.UTF_8));
+        // only the dynamic parts are passed as strings
+        assertEquals(List.of("wörld", "1", "2"), strings);
+    }
+
     private void assertCapacity(Engine engine, String val, int expectedComputed, int expectedMax, Map<String, Object> data) {
         TemplateImpl template = (TemplateImpl) engine.parse(val);
         assertEquals(expectedComputed, template.capacity.computed);
@@ -0,0 +1,537 @@
+package io.quarkus.qute.generator;
+
+import static org.jboss.jandex.gizmo2.Jandex2Gizmo.classDescOf;
+import static org.jboss.jandex.gizmo2.Jandex2Gizmo.fieldDescOf;
+import static org.jboss.jandex.gizmo2.Jandex2Gizmo.methodDescOf;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
+import org.jboss.jandex.Type.Kind;
+import org.jboss.logging.Logger;
+
+import io.quarkus.gizmo2.ClassOutput;
+import io.quarkus.gizmo2.Const;
+import io.quarkus.gizmo2.Expr;
+import io.quarkus.gizmo2.LocalVar;
+import io.quarkus.gizmo2.ParamVar;
+import io.quarkus.gizmo2.creator.BlockCreator;
+import io.quarkus.gizmo2.desc.ConstructorDesc;
+import io.quarkus.gizmo2.desc.MethodDesc;
+import io.quarkus.qute.Booleans;
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.Expression;
+import io.quarkus.qute.ExpressionNode;
+import io.quarkus.qute.IfSectionHelper;
+import io.quarkus.qute.LoopSectionHelper;
+import io.quarkus.qute.Mapper;
+import io.quarkus.qute.ParameterDeclarationNode;
+import io.quarkus.qute.SectionBlock;
+import io.quarkus.qute.SectionHelperFactory;
+import io.quarkus.qute.SectionNode;
+import io.quarkus.qute.TemplateNode;
+import io.quarkus.qute.TextNode;
+
+/**
+ * Generates a {@link CompiledTemplate} for a type-safe template.
+ * <p>
+ * Only a subset of the template syntax is supported: text, expressions without namespaces and virtual methods whose
+ * properties can be resolved to public members, {@code #for}/{@code #each} sections that iterate over a collection and
+ * {@code #if} sections with a single operand and an optional {@code #else} block. Templates that contain any other construct
+ * are not compiled.
+ */
+public class CompiledTemplateGenerator extends AbstractGenerator {
+
+    private static final Logger LOGGER = Logger.getLogger(CompiledTemplateGenerator.class);
+
+    public static final String SUFFIX = "_CompiledTemplate";
+
+    static final String GENERATED_PACKAGE = "io.quarkus.qute.generated.";
+
+    // The bytecode of a single method must not exceed 64KB
+    static final int MAX_STEPS = 1000;
+
+    static final Set<DotName> ITERABLE_TYPES = Set.of(DotName.createSimple(Iterable.class),
+            DotName.createSimple(Collection.class), DotName.createSimple(List.class), DotName.createSimple(Set.class),
+            DotName.createSimple(SortedSet.class), DotName.createSimple(ArrayList.class),
+            DotName.createSimple(LinkedList.class), DotName.createSimple(HashSet.class),
+            DotName.createSimple(LinkedHashSet.class), DotName.createSimple(TreeSet.class));
+
+    // Types that are resolved by special value resolvers or asynchronously
+    static final Set<DotName> UNSUPPORTED_BASE_TYPES = Set.of(DotName.createSimple(Map.class),
+            DotName.createSimple(Map.Entry.class), DotName.createSimple(Optional.class),
+            DotName.createSimple(OptionalInt.class), DotName.createSimple(OptionalLong.class),
+            DotName.createSimple(OptionalDouble.class), DotNames.COMPLETION_STAGE,
+            DotName.createSimple("io.smallrye.mutiny.Uni"), DotName.createSimple("io.smallrye.mutiny.Multi"));
+
+    static final MethodDesc MAPPER_GET = MethodDesc.of(Mapper.class, "get", Object.class, String.class);
+    static final MethodDesc OUTPUT_APPEND_TEXT = MethodDesc.of(CompiledTemplate.Output.class, "appendText", void.class,
+            int.class);
+    static final MethodDesc OUTPUT_APPEND_VALUE = MethodDesc.of(CompiledTemplate.Output.class, "append", boolean.class,
+            int.class, Object.class);
+    static final MethodDesc IS_ASYNC = MethodDesc.of(CompiledTemplate.class, "isAsync", boolean.class, Object.class);
+    static final MethodDesc IS_FALSY = MethodDesc.of(Booleans.class, "isFalsy", boolean.class, Object.class);
+    static final MethodDesc ITERABLE_ITERATOR = MethodDesc.of(Iterable.class, "iterator", Iterator.class);
+    static final MethodDesc ITERATOR_HAS_NEXT = MethodDesc.of(Iterator.class, "hasNext", boolean.class);
+    static final MethodDesc ITERATOR_NEXT = MethodDesc.of(Iterator.class, "next", Object.class);
+
+    private final Predicate<String> extensionMethodNames;
+
+    /**
+     *
+     * @param index
+     * @param classOutput
+     * @param extensionMethodNames a predicate that matches the names handled by template extension methods
+     */
+    public CompiledTemplateGenerator(IndexView index, ClassOutput classOutput, Predicate<String> extensionMethodNames) {
+        super(index, classOutput);
+        this.extensionMethodNames = extensionMethodNames;
+    }
+
+    /**
+     *
+     * @param templateId
+     * @param nodes the child nodes of the root node
+     * @param parameters the types of template parameters
+     * @return the name of the generated class or {@code null} if the template cannot be compiled
+     */
+    public String generate(String templateId, List<TemplateNode> nodes, Map<String, Type> parameters) {
+        List<Step> steps;
+        try {
+            Analysis analysis = new Analysis(parameters);
+            steps = analysis.steps(nodes, new Scope(null, null, null, null));
+            if (analysis.count > MAX_STEPS) {
+                throw new Unsupported("too many nodes");
+            }
+        } catch (Unsupported e) {
+            LOGGER.debugf("Template %s not compiled: %s", templateId, e.getMessage());
+            return null;
+        }
+
+        String generatedClassName = GENERATED_PACKAGE + toIdentifier(templateId) + "_"
+                + ExtensionMethodGenerator.sha1(templateId).substring(0, 8) + SUFFIX;
+        generatedTypes.add(generatedClassName);
+        long fingerprint = CompiledTemplate.fingerprint(nodes);
+
+        gizmo.class_(generatedClassName, cc -> {
+            cc.extends_(CompiledTemplate.class);
+
+            cc.constructor(mc -> {
+                mc.body(bc -> {
+                    bc.invokeSpecial(ConstructorDesc.of(CompiledTemplate.class, long.class), cc.this_(),
+                            Const.of(fingerprint));
+                    bc.return_();
+                });
+            });
+
+            // CompiledTemplate#render(Mapper, Output)
+            cc.method("render", mc -> {
+                mc.returning(boolean.class);
+                ParamVar data = mc.parameter("data", Mapper.class);
+                ParamVar output = mc.parameter("output", CompiledTemplate.Output.class);
+                mc.body(bc -> {
+                    generate(bc, steps, new Context(data, output, new HashMap<>()));
+                    bc.returnTrue();
+                });
+            });
+        });
+        LOGGER.debugf("Compiled template generated for %s: %s", templateId, generatedClassName);
+        return generatedClassName;
+    }
+
+    private void generate(BlockCreator bc, List<Step> steps, Context ctx) {
+        for (Step step : steps) {
+            if (step instanceof Text text) {
+                // The text is not embedded in the class; the output uses the text node of the parsed template
+                bc.invokeVirtual(OUTPUT_APPEND_TEXT, ctx.output(), Const.of(text.index()));
+            } else if (step instanceof Value value) {
+                Expr val = resolve(bc, value.resolution(), ctx);
+                bc.ifNot(bc.invokeVirtual(OUTPUT_APPEND_VALUE, ctx.output(), Const.of(value.index()), val),
+                        BlockCreator::returnFalse);
+            } else if (step instanceof Loop loop) {
+                Expr iterable = resolve(bc, loop.iterable(), ctx);
+                // Null, arrays, maps, streams, integers, etc. are handled by the interpreter
+                bc.ifNotInstanceOf(iterable, Iterable.class, BlockCreator::returnFalse);
+                LocalVar it = bc.localVar("it", bc.invokeInterface(ITERABLE_ITERATOR, bc.cast(iterable, Iterable.class)));
+                bc.while_(cond -> cond.yield(cond.invokeInterface(ITERATOR_HAS_NEXT, it)), body -> {
+                    LocalVar element = body.localVar(loop.alias(), body.invokeInterface(ITERATOR_NEXT, it));
+                    Map<String, LocalVar> aliases = new HashMap<>(ctx.aliases());
+                    aliases.put(loop.alias(), element);
+                    generate(body, loop.body(), new Context(ctx.data(), ctx.output(), aliases));
+                });
+            } else if (step instanceof If ifStep) {
+                LocalVar condition = bc.localVar("cond", resolve(bc, ifStep.condition(), ctx));
+                bc.if_(bc.invokeStatic(IS_ASYNC, condition), BlockCreator::returnFalse);
+                List<Step> whenFalsy = ifStep.negated() ? ifStep.main() : ifStep.otherwise();
+                List<Step> whenTruthy = ifStep.negated() ? ifStep.otherwise() : ifStep.main();
+                bc.ifElse(bc.invokeStatic(IS_FALSY, condition), falsy -> {
+                    generate(falsy, whenFalsy, ctx);
+                }, truthy -> {
+                    generate(truthy, whenTruthy, ctx);
+                });
+            }
+        }
+    }
+
+    private Expr resolve(BlockCreator bc, Resolution resolution, Context ctx) {
+        LocalVar val;
+        if (resolution.alias()) {
+            val = ctx.aliases().get(resolution.root());
+        } else {
+            val = bc.localVar("val", bc.invokeInterface(MAPPER_GET, ctx.data(), Const.of(resolution.root())));
+            // A missing key or null value is handled by the interpreter
+            bc.ifNull(val, BlockCreator::returnFalse);
+        }
+        for (Member member : resolution.members()) {
+            // The instanceof check also covers null values and heap pollution
+            bc.ifNotInstanceOf(val, classDescOf(member.base()), BlockCreator::returnFalse);
+            Expr base = bc.cast(val, classDescOf(member.base()));
+            Expr ret;
+            if (member.target().kind() == AnnotationTarget.Kind.METHOD) {
+                MethodInfo method = member.target().asMethod();
+                ret = method.declaringClass().isInterface()
+                        ? bc.invokeInterface(methodDescOf(method), base)
+                        : bc.invokeVirtual(methodDescOf(method), base);
+            } else {
+                ret = base.field(fieldDescOf(member.target().asField()));
+            }
+            if (member.type().kind() == Kind.PRIMITIVE) {
+                ret = bc.box(ret);
+            }
+            val = bc.localVar("val", ret);
+        }
+        return val;
+    }
+
+    static boolean containsTypeVariable(Type type) {
+        switch (type.kind()) {
+            case TYPE_VARIABLE:
+            case UNRESOLVED_TYPE_VARIABLE:
+            case TYPE_VARIABLE_REFERENCE:
+            case WILDCARD_TYPE:
+                return true;
+            case PARAMETERIZED_TYPE:
+                for (Type argument : type.asParameterizedType().arguments()) {
+                    if (argument.kind() != Kind.WILDCARD_TYPE && containsTypeVariable(argument)) {
+                        return true;
+                    }
+                }
+                return false;
+            case ARRAY:
+                return containsTypeVariable(type.asArrayType().constituent());
+            default:
+                return false;
+        }
+    }
+
+    static String toIdentifier(String templateId) {
+        StringBuilder builder = new StringBuilder(templateId.length());
+        for (int i = 0; i < templateId.length(); i++) {
+            char c = templateId.charAt(i);
+            builder.append(Character.isLetterOrDigit(c) && c < 128 ? c : '_');
+        }
+        return builder.toString();
+    }
+
+    private class Analysis {
+
+        private final Map<String, Type> parameters;
+        private int count;
+        private int expressions;
+        private int texts;
+
+        Analysis(Map<String, Type> parameters) {
+            this.parameters = parameters;
+        }
+
+        List<Step> steps(List<TemplateNode> nodes, Scope scope) {
+            List<Step> steps = new ArrayList<>();
+            for (TemplateNode node : nodes) {
+                count++;
+                if (node instanceof TextNode) {
+                    // The index must match CompiledTemplate#texts()
+                    steps.add(new Text(texts++));
+                } else if (node instanceof ExpressionNode expression) {
+                    // The index must match CompiledTemplate#expressions()
+                    steps.add(new Value(expressions++, resolution(expression.getExpressions().get(0), scope)));
+                } else if (node instanceof ParameterDeclarationNode param) {
+                    if (param.getDefaultValue() != null) {
+                        throw new Unsupported("default value of parameter " + param.getKey());
+                    }
+                } else if (node instanceof SectionNode section) {
+                    if (section.getHelper() instanceof LoopSectionHelper loop) {
+                        steps.add(loop(section, loop, scope));
+                    } else if (section.getHelper() instanceof IfSectionHelper) {
+                        steps.add(ifStep(section, scope));
+                    } else {
+                        throw new Unsupported("section " + section.getName());
+                    }
+                }
+                // Dummy nodes are ignored
+            }
+            return steps;
+        }
+
+        private Loop loop(SectionNode section, LoopSectionHelper loop, Scope scope) {
+            if (loop.hasElseBlock() || section.getBlocks().size() != 1) {
+                throw new Unsupported("loop with an else block");
+            }
+            Resolution iterable = resolution(loop.getIterable(), scope);
+            if (iterable.type().kind() != Kind.PARAMETERIZED_TYPE || !ITERABLE_TYPES.contains(iterable.type().name())) {
+                throw new Unsupported("loop over " + iterable.type());
+            }
+            Type elementType = iterable.type().asParameterizedType().arguments().get(0);
+            if (elementType.kind() == Kind.WILDCARD_TYPE) {
+                elementType = elementType.asWildcardType().extendsBound();
+            }
+            Scope loopScope = new Scope(scope, loop.getAlias(), elementType, loop.getMetadataPrefix());
+            return new Loop(iterable, loop.getAlias(), steps(section.getBlocks().get(0).nodes, loopScope));
+        }
+
+        private If ifStep(SectionNode section, Scope scope) {
+            List<SectionBlock> blocks = section.getBlocks();
+            if (blocks.size() > 2 || (blocks.size() == 2 && !blocks.get(1).parameters.isEmpty())) {
+                throw new Unsupported("else if block");
+            }
+            SectionBlock main = blocks.get(0);
+            if (!SectionHelperFactory.MAIN_BLOCK_NAME.equals(main.label) || main.parameters.size() != 1
+                    || main.expressions.size() != 1) {
+                throw new Unsupported("if with operators");
+            }
+            String param = main.parameters.values().iterator().next();
+            boolean negated = param.startsWith("!");
+            Expression condition = main.expressions.get(negated ? param.substring(1) : param);
+            if (condition == null) {
+                throw new Unsupported("if with operators");
+            }
+            return new If(resolution(condition, scope), negated, steps(main.nodes, scope),
+                    blocks.size() == 2 ? steps(blocks.get(1).nodes, scope) : List.of());
+        }
+
+        private Resolution resolution(Expression expression, Scope scope) {
+            if (expression.isLiteral() || expression.hasNamespace()) {
+                throw new Unsupported("expression " + expression.toOriginalString());
+            }
+            List<Expression.Part> parts = expression.getParts();
+            for (Expression.Part part : parts) {
+                if (part.isVirtualMethod()) {
+                    throw new Unsupported("virtual method in " + expression.toOriginalString());
+                }
+            }
+            String root = parts.get(0).getName();
+            Type type;
+            boolean alias = false;
+            Scope aliasScope = scope.find(root);
+            if (aliasScope != null) {
+                type = aliasScope.elementType;
+                alias = true;
+            } else {
+                if (scope.hidesData(root)) {
+                    throw new Unsupported("iteration metadata " + root);
+                }
+                type = parameters.get(root);
+                if (type == null) {
+                    throw new Unsupported("unknown parameter " + root);
+                }
+            }
+            List<Member> members = new ArrayList<>(parts.size() - 1);
+            for (Expression.Part part : parts.subList(1, parts.size())) {
+                String name = part.getName();
+                if (extensionMethodNames.test(name)) {
+                    throw new Unsupported("extension method " + name);
+                }
+                Member member = member(type, name);
+                if (member == null) {
+                    throw new Unsupported("property " + name + " of " + type);
+                }
+                members.add(member);
+                type = member.type();
+            }
+            return new Resolution(root, alias, members, type);
+        }
+
+        private Member member(Type type, String name) {
+            if (type.kind() != Kind.CLASS && type.kind() != Kind.PARAMETERIZED_TYPE) {
+                return null;
+            }
+            ClassInfo clazz = index.getClassByName(type.name());
+            if (clazz == null || !isAccessible(clazz) || isUnsupportedBase(clazz)) {
+                return null;
+            }
+            // The same order as used by the generated value resolvers: method, getter, field
+            AnnotationTarget target = findMethod(clazz, m -> m.name().equals(name));
+            if (target == null) {
+                target = findMethod(clazz, m -> ValueResolverGenerator.isGetterName(m.name(), m.returnType())
+                        && ValueResolverGenerator.getPropertyName(m.name()).equals(name));
+            }
+            if (target == null) {
+                target = findField(clazz, name);
+            }
+            if (target == null) {
+                return null;
+            }
+            Type memberType = target.kind() == AnnotationTarget.Kind.METHOD ? target.asMethod().returnType()
+                    : target.asField().type();
+            if (containsTypeVariable(memberType)) {
+                return null;
+            }
+            return new Member(clazz.name(), target, memberType);
+        }
+
+        private MethodInfo findMethod(ClassInfo clazz, Predicate<MethodInfo> predicate) {
+            while (clazz != null) {
+                for (MethodInfo method : clazz.methods()) {
+                    if (method.parametersCount() == 0
+                            && !Modifier.isStatic(method.flags())
+                            && ValueResolverGenerator.defaultFilter(method)
+                            && isAccessible(method.declaringClass())
+                            && predicate.test(method)) {
+                        return method;
+                    }
+                }
+                for (DotName interfaceName : clazz.interfaceNames()) {
+                    ClassInfo interfaceClass = index.getClassByName(interfaceName);
+                    if (interfaceClass != null) {
+                        MethodInfo method = findMethod(interfaceClass, predicate);
+                        if (method != null) {
+                            return method;
+                        }
+                    }
+                }
+                clazz = clazz.superName() != null ? index.getClassByName(clazz.superName()) : null;
+            }
+            return null;
+        }
+
+        private FieldInfo findField(ClassInfo clazz, String name) {
+            while (clazz != null) {
+                FieldInfo field = clazz.field(name);
+                if (field != null && !Modifier.isStatic(field.flags()) && ValueResolverGenerator.defaultFilter(field)
+                        && isAccessible(clazz)) {
+                    return field;
+                }
+                clazz = clazz.superName() != null ? index.getClassByName(clazz.superName()) : null;
+            }
+            return null;
+        }
+
+        private boolean isUnsupportedBase(ClassInfo clazz) {
+            if (UNSUPPORTED_BASE_TYPES.contains(clazz.name())) {
+                return true;
+            }
+            for (DotName interfaceName : clazz.interfaceNames()) {
+                ClassInfo interfaceClass = index.getClassByName(interfaceName);
+                if (interfaceClass == null ? UNSUPPORTED_BASE_TYPES.contains(interfaceName)
+                        : isUnsupportedBase(interfaceClass)) {
+                    return true;
+                }
+            }
+            if (clazz.superName() != null && !clazz.superName().equals(DotNames.OBJECT)) {
+                ClassInfo superClass = index.getClassByName(clazz.superName());
+                return superClass == null || isUnsupportedBase(superClass);
+            }
+            return false;
+        }
+
+        private boolean isAccessible(ClassInfo clazz) {
+            while (clazz != null) {
+                if (!Modifier.isPublic(clazz.flags())) {
+                    return false;
+                }
+                clazz = clazz.enclosingClass() != null ? index.getClassByName(clazz.enclosingClass()) : null;
+            }
+            return true;
+        }
+
+    }
+
+    private static class Scope {
+
+        private final Scope parent;
+        private final String alias;
+        private final Type elementType;
+        private final String metadataPrefix;
+
+        Scope(Scope parent, String alias, Type elementType, String metadataPrefix) {
+            this.parent = parent;
+            this.alias = alias;
+            this.elementType = elementType;
+            this.metadataPrefix = metadataPrefix;
+        }
+
+        Scope find(String name) {
+            if (alias != null && alias.equals(name)) {
+                return this;
+            }
+            return parent != null ? parent.find(name) : null;
+        }
+
+        // Iteration metadata may hide the data
+        boolean hidesData(String name) {
+            if (alias != null && (metadataPrefix == null || name.startsWith(metadataPrefix))) {
+                return true;
+            }
+            return parent != null && parent.hidesData(name);
+        }
+
+    }
+
+    record Context(ParamVar data, ParamVar output, Map<String, LocalVar> aliases) {
+    }
+
+    sealed interface Step permits Text, Value, Loop, If {
+    }
+
+    record Text(int index) implements Step {
+    }
+
+    record Value(int index, Resolution resolution) implements Step {
+    }
+
+    record Loop(Resolution iterable, String alias, List<Step> body) implements Step {
+    }
+
+    record If(Resolution condition, boolean negated, List<Step> main, List<Step> otherwise) implements Step {
+    }
+
+    // The root is either a template parameter or a loop alias
+    record Resolution(String root, boolean alias, List<Member> members, Type type) {
+    }
+
+    record Member(DotName base, AnnotationTarget target, Type type) {
+    }
+
+    static class Unsupported extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        Unsupported(String message) {
+            super(message, null, false, false);
+        }
+
+    }
+
+}
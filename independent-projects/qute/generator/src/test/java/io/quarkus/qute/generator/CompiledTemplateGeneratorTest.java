@@ -0,0 +1,125 @@
+package io.quarkus.qute.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.ParameterizedType;
+import org.jboss.jandex.Type;
+import org.jboss.jandex.Type.Kind;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.gizmo2.ClassOutput;
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.ReflectionValueResolver;
+import io.quarkus.qute.Template;
+
+public class CompiledTemplateGeneratorTest {
+
+    static final String TEMPLATE = "{#for item in items}{item.name}:{item.price}{#if item.active} active{#else} inactive{/if}\n"
+            + "{/for}{#if !items}No items{/if}{title}";
+
+    static final Map<String, Type> PARAMS = Map.of(
+            "items", ParameterizedType.create(DotName.createSimple(List.class),
+                    new Type[] { Type.create(DotName.createSimple(Item.class), Kind.CLASS) }, null),
+            "title", Type.create(DotName.createSimple(String.class), Kind.CLASS));
+
+    static CompiledTemplateGenerator generator;
+
+    @BeforeAll
+    public static void init() throws IOException {
+        ClassOutput classOutput = ClassOutput.fileWriter(new File("target/test-classes/").toPath());
+        Index index = SimpleGeneratorTest.index(CompiledTemplateGeneratorTest.class, Item.class);
+        generator = new CompiledTemplateGenerator(index, classOutput, name -> name.equals("discounted"));
+    }
+
+    @Test
+    public void testCompiledTemplate() throws Exception {
+        CompiledTemplate compiled = compile("foo", TEMPLATE);
+        // No value resolvers are registered - the interpreter would fail
+        Engine engine = Engine.builder().addDefaultSectionHelpers().addCompiledTemplate("foo", compiled).build();
+        Template foo = engine.parse(TEMPLATE, null, "foo");
+        assertEquals("Apple:10 active\nPear:5 inactive\nFruit",
+                foo.data("items", List.of(new Item("Apple", 10, true), new Item("Pear", 5, false)))
+                        .data("title", "Fruit")
+                        .render());
+        assertEquals("No itemsEmpty", foo.data("items", List.of()).data("title", "Empty").render());
+    }
+
+    @Test
+    public void testFallback() throws Exception {
+        CompiledTemplate compiled = compile("foo", TEMPLATE);
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver())
+                .addCompiledTemplate("foo", compiled).build();
+        Template foo = engine.parse(TEMPLATE, null, "foo");
+        assertEquals("Apple:10 active\nFruit",
+                foo.data("items", List.of(new Item("Apple", 10, true)))
+                        .data("title", CompletableFuture.completedFuture("Fruit"))
+                        .render());
+    }
+
+    @Test
+    public void testUnsupported() {
+        assertNull(generator.generate("bar", parse("{#let x=1}{x}{/let}"), PARAMS));
+        assertNull(generator.generate("bar", parse("{title.or('foo')}"), PARAMS));
+        assertNull(generator.generate("bar", parse("{#for item in items}{item_index}{/for}"), PARAMS));
+        assertNull(generator.generate("bar", parse("{#for item in items}{item.name}{#else}None{/for}"), PARAMS));
+        assertNull(generator.generate("bar", parse("{#for item in items}{item.discounted}{/for}"), PARAMS));
+        assertNull(generator.generate("bar", parse("{#if title && items}{title}{/if}"), PARAMS));
+        assertNull(generator.generate("bar", parse("{unknown}"), PARAMS));
+        assertNull(generator.generate("bar", parse("{#for item in items}{item.secret}{/for}"), PARAMS));
+    }
+
+    private static CompiledTemplate compile(String id, String content) throws Exception {
+        String className = generator.generate(id, parse(content), PARAMS);
+        assertNotNull(className);
+        return (CompiledTemplate) CompiledTemplateGeneratorTest.class.getClassLoader().loadClass(className)
+                .getDeclaredConstructor().newInstance();
+    }
+
+    private static List<io.quarkus.qute.TemplateNode> parse(String content) {
+        return Engine.builder().addDefaults().build().parse(content).getNodes();
+    }
+
+    public static class Item {
+
+        public final int price;
+
+        private final String name;
+        private final boolean active;
+
+        public Item(String name, int price, boolean active) {
+            this.name = name;
+            this.price = price;
+            this.active = active;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public String getDiscounted() {
+            return name;
+        }
+
+        String getSecret() {
+            return name;
+        }
+
+    }
+
+}
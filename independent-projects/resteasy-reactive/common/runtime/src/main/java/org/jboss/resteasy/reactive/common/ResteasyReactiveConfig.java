@@ -24,6 +24,12 @@ public class ResteasyReactiveConfig {
      */
     private int outputBufferSize = 8192;
 
+    /**
+     * The number of bytes of serialized elements that are buffered before they are written to the response when a
+     * stream is encoded as a JSON array. If set to {@code 0}, each element is written as soon as it's available.
+     */
+    private int streamingJsonArrayChunkSize;
+
     /**
      * By default, we assume a default produced media type of "text/plain"
      * for String endpoint return types. If this is disabled, the default
@@ -45,9 +51,15 @@ public ResteasyReactiveConfig() {
 
     public ResteasyReactiveConfig(long inputBufferSize, int minChunkSize, int outputBufferSize, boolean singleDefaultProduces,
             boolean defaultProduces) {
+        this(inputBufferSize, minChunkSize, outputBufferSize, 0, singleDefaultProduces, defaultProduces);
+    }
+
+    public ResteasyReactiveConfig(long inputBufferSize, int minChunkSize, int outputBufferSize,
+            int streamingJsonArrayChunkSize, boolean singleDefaultProduces, boolean defaultProduces) {
         this.inputBufferSize = inputBufferSize;
         this.minChunkSize = minChunkSize;
         this.outputBufferSize = outputBufferSize;
+        this.streamingJsonArrayChunkSize = streamingJsonArrayChunkSize;
         this.singleDefaultProduces = singleDefaultProduces;
         this.defaultProduces = defaultProduces;
     }
@@ -76,6 +88,14 @@ public void setOutputBufferSize(int outputBufferSize) {
         this.outputBufferSize = outputBufferSize;
     }
 
+    public int getStreamingJsonArrayChunkSize() {
+        return streamingJsonArrayChunkSize;
+    }
+
+    public void setStreamingJsonArrayChunkSize(int streamingJsonArrayChunkSize) {
+        this.streamingJsonArrayChunkSize = streamingJsonArrayChunkSize;
+    }
+
     public boolean isSingleDefaultProduces() {
         return singleDefaultProduces;
     }
@@ -0,0 +1,95 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the matching of request paths by the {@link RouteTrie} with the {@link PathMatcher} based matching of the
+ * {@link RequestMapper}.
+ * <p>
+ * The templates mimic a large service: {@code endpoints / 4} resource classes, each of them exposing a collection, an
+ * item, a sub-collection and a sub-item endpoint. Both the class level matching (prefix templates) and the method level
+ * matching (full templates) are measured.
+ * <p>
+ * This benchmark lives in the {@code org.jboss.resteasy.reactive.server.mapping} package as it needs to access
+ * package-private constructors.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class BenchmarkRequestMapper {
+
+    @Param({ "100", "2000" })
+    public int endpoints;
+
+    @Param({ "true", "false" })
+    public boolean routeTrie;
+
+    private RequestMapper<String> classMapper;
+    private RequestMapper<String> methodMapper;
+    private String[] classPaths;
+    private String[] methodPaths;
+    private int next;
+
+    @Setup
+    public void setup() {
+        int resources = Math.max(1, endpoints / 4);
+        ArrayList<RequestMapper.RequestPath<String>> classTemplates = new ArrayList<>(resources);
+        ArrayList<RequestMapper.RequestPath<String>> methodTemplates = new ArrayList<>(endpoints);
+        classPaths = new String[resources];
+        methodPaths = new String[resources * 4];
+        for (int i = 0; i < resources; i++) {
+            String resource = "/api/v1/resource" + i;
+            classTemplates.add(requestPath(resource, true));
+            for (String template : new String[] { "", "/{id}", "/{id}/children", "/{id}/children/{childId}" }) {
+                methodTemplates.add(requestPath(resource + template, false));
+            }
+            classPaths[i] = resource + "/" + i + "/children/" + (i * 7);
+            methodPaths[i * 4] = resource;
+            methodPaths[i * 4 + 1] = resource + "/" + i;
+            methodPaths[i * 4 + 2] = resource + "/" + i + "/children";
+            methodPaths[i * 4 + 3] = resource + "/" + i + "/children/" + (i * 7);
+        }
+        classMapper = new RequestMapper<>(classTemplates, routeTrie);
+        methodMapper = new RequestMapper<>(methodTemplates, routeTrie);
+    }
+
+    @Benchmark
+    public RequestMapper.RequestMatch<String> mapClass() {
+        return classMapper.map(classPaths[next++ % classPaths.length]);
+    }
+
+    @Benchmark
+    public RequestMapper.RequestMatch<String> mapMethod() {
+        return methodMapper.map(methodPaths[next++ % methodPaths.length]);
+    }
+
+    @Benchmark
+    public RequestMapper.RequestMatch<String> mapMissing() {
+        return methodMapper.map("/api/v1/missing/" + (next++ % endpoints));
+    }
+
+    private static RequestMapper.RequestPath<String> requestPath(String template, boolean prefix) {
+        return new RequestMapper.RequestPath<>(prefix, new URITemplate(template, prefix), template);
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] { BenchmarkRequestMapper.class.getSimpleName() });
+    }
+
+}
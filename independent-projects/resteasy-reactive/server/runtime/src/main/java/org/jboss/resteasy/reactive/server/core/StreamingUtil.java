@@ -57,9 +57,38 @@ public static CompletionStage<?> send(ResteasyReactiveRequestContext context,
         return response.write(data);
     }
 
+    /**
+     * Writes the data that was already serialized, e.g. multiple elements of a stream.
+     */
+    public static CompletionStage<?> write(ResteasyReactiveRequestContext context,
+            List<PublisherResponseHandler.StreamingResponseCustomizer> customizers, byte[] data) {
+        ServerHttpResponse response = context.serverResponse();
+        if (response.closed()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        setHeaders(context, response, customizers);
+        return response.write(data);
+    }
+
     private static byte[] serialiseEntity(ResteasyReactiveRequestContext context, Object entity) throws IOException {
+        StreamingOutputStream baos = new StreamingOutputStream();
+        serialiseEntity(context, entity, findWriter(context, entity.getClass()), baos);
+        return baos.toByteArray();
+    }
+
+    public static void serialiseEntity(ResteasyReactiveRequestContext context, Object entity, MessageBodyWriter<Object> writer,
+            StreamingOutputStream out) throws IOException {
+        // FIXME: spec doesn't really say what headers we should use here
+        writer.writeTo(entity, entity.getClass(), context.getGenericReturnType(), context.getAllAnnotations(),
+                context.getResponseMediaType(), new QuarkusMultivaluedHashMap<>(), out);
+    }
+
+    /**
+     * The writer only depends on the class of the entity, the generic return type and the response media type, so the result
+     * can be reused for all elements of the same class in a stream.
+     */
+    public static MessageBodyWriter<Object> findWriter(ResteasyReactiveRequestContext context, Class<?> entityClass) {
         ServerSerialisers serialisers = context.getDeployment().getSerialisers();
-        Class<?> entityClass = entity.getClass();
         Type entityType = context.getGenericReturnType();
         MediaType mediaType = context.getResponseMediaType();
         // FIXME: this should belong somewhere else as it's generic
@@ -67,22 +96,13 @@ private static byte[] serialiseEntity(ResteasyReactiveRequestContext context, Ob
         MessageBodyWriter<Object>[] writers = (MessageBodyWriter<Object>[]) serialisers
                 .findWriters(null, entityClass, mediaType, RuntimeType.SERVER)
                 .toArray(ServerSerialisers.NO_WRITER);
-        StreamingOutputStream baos = new StreamingOutputStream();
-        boolean wrote = false;
         for (MessageBodyWriter<Object> writer : writers) {
             if (writer.isWriteable(entityClass, entityType, context.getAllAnnotations(), mediaType)) {
-                // FIXME: spec doesn't really say what headers we should use here
-                writer.writeTo(entity, entityClass, entityType, context.getAllAnnotations(), mediaType,
-                        new QuarkusMultivaluedHashMap<>(), baos);
-                wrote = true;
-                break;
+                return writer;
             }
         }
-        if (!wrote) {
-            throw new IllegalStateException(
-                    "Could not find MessageBodyWriter for " + entityClass + " / " + entityType + " as " + mediaType);
-        }
-        return baos.toByteArray();
+        throw new IllegalStateException(
+                "Could not find MessageBodyWriter for " + entityClass + " / " + entityType + " as " + mediaType);
     }
 
     public static void setHeaders(ResteasyReactiveRequestContext context, ServerHttpResponse response,
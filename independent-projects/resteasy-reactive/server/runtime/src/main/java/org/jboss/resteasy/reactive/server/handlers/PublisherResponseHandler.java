@@ -2,22 +2,26 @@
 
 import static org.jboss.resteasy.reactive.server.jaxrs.SseEventSinkImpl.EMPTY_BUFFER;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Flow.Publisher;
 import java.util.concurrent.Flow.Subscriber;
 import java.util.concurrent.Flow.Subscription;
 
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.ext.MessageBodyWriter;
 import jakarta.ws.rs.sse.OutboundSseEvent;
 
 import org.jboss.logging.Logger;
 import org.jboss.resteasy.reactive.RestMulti;
 import org.jboss.resteasy.reactive.common.util.RestMediaType;
 import org.jboss.resteasy.reactive.common.util.ServerMediaType;
+import org.jboss.resteasy.reactive.server.StreamingOutputStream;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
 import org.jboss.resteasy.reactive.server.core.SseUtil;
 import org.jboss.resteasy.reactive.server.core.StreamingUtil;
@@ -87,9 +91,16 @@ private static class StreamingMultiSubscriber extends AbstractMultiSubscriber {
         private volatile String nextJsonPrefix;
         private volatile boolean hadItem;
 
+        // Only used if the elements of a JSON array are buffered
+        private final int chunkSize;
+        private final StreamingOutputStream chunk;
+        private volatile List<StreamingResponseCustomizer> chunkCustomizers;
+        private Class<?> writerEntityClass;
+        private MessageBodyWriter<Object> writer;
+
         StreamingMultiSubscriber(ResteasyReactiveRequestContext requestContext,
                 List<StreamingResponseCustomizer> staticCustomizers, Publisher publisher,
-                boolean json, long demand, boolean encodeAsJsonArray) {
+                boolean json, long demand, boolean encodeAsJsonArray, int chunkSize) {
             super(requestContext, staticCustomizers, demand);
             this.publisher = publisher;
             this.json = json;
@@ -99,10 +110,16 @@ private static class StreamingMultiSubscriber extends AbstractMultiSubscriber {
             this.encodeAsJsonArray = encodeAsJsonArray;
             this.nextJsonPrefix = encodeAsJsonArray ? "[" : null;
             this.hadItem = false;
+            this.chunkSize = chunkSize;
+            this.chunk = json && encodeAsJsonArray && chunkSize > 0 ? new StreamingOutputStream() : null;
         }
 
         @Override
         public void onNext(Object item) {
+            if (chunk != null) {
+                bufferNext(item);
+                return;
+            }
             List<StreamingResponseCustomizer> customizers = determineCustomizers(!hadItem);
             hadItem = true;
             StreamingUtil.send(requestContext, customizers, item, messagePrefix(), messageSuffix())
@@ -125,6 +142,48 @@ public void onNext(Object item) {
                     });
         }
 
+        private void bufferNext(Object item) {
+            if (!hadItem) {
+                chunkCustomizers = determineCustomizers(true);
+                hadItem = true;
+            }
+            try {
+                chunk.write(nextJsonPrefix.getBytes(StandardCharsets.US_ASCII));
+                Class<?> entityClass = item.getClass();
+                if (entityClass != writerEntityClass) {
+                    writer = StreamingUtil.findWriter(requestContext, entityClass);
+                    writerEntityClass = entityClass;
+                }
+                StreamingUtil.serialiseEntity(requestContext, item, writer, chunk);
+            } catch (Throwable t) {
+                // need to cancel because the exception didn't come from the Multi
+                subscription.cancel();
+                handleException(requestContext, t);
+                return;
+            }
+            nextJsonPrefix = ",";
+            if (chunk.size() < chunkSize) {
+                subscription.request(demand);
+                return;
+            }
+            writeChunk().handle((v, t) -> {
+                if (t != null) {
+                    subscription.cancel();
+                    handleException(requestContext, t);
+                } else {
+                    // the chunk was written, send in the next items
+                    subscription.request(demand);
+                }
+                return null;
+            });
+        }
+
+        private CompletionStage<?> writeChunk() {
+            byte[] data = chunk.toByteArray();
+            chunk.reset();
+            return StreamingUtil.write(requestContext, chunkCustomizers, data);
+        }
+
         private List<StreamingResponseCustomizer> determineCustomizers(boolean isFirst) {
             // we only need to obtain the customizers from the Publisher if it's the first time we are sending data and the Publisher has customizable data
             // at this point no matter the type of RestMulti we can safely obtain the headers and status
@@ -150,6 +209,22 @@ private List<StreamingResponseCustomizer> determineCustomizers(boolean isFirst)
 
         @Override
         public void onComplete() {
+            if (chunk != null) {
+                if (!hadItem) {
+                    chunkCustomizers = determineCustomizers(true);
+                }
+                try {
+                    chunk.write(onCompleteText().getBytes(StandardCharsets.US_ASCII));
+                } catch (IOException e) {
+                    // cannot happen
+                    throw new IllegalStateException(e);
+                }
+                writeChunk().handle((v, t) -> {
+                    super.onComplete();
+                    return null;
+                });
+                return;
+            }
             if (!hadItem) {
                 StreamingUtil.setHeaders(requestContext, requestContext.serverResponse(), this.determineCustomizers(true));
             }
@@ -322,7 +397,7 @@ private void handleChunkedStreaming(ResteasyReactiveRequestContext requestContex
             demand = rest.getDemand();
         }
         result.subscribe(
-                new StreamingMultiSubscriber(requestContext, streamingResponseCustomizers, result, json, demand, false));
+                new StreamingMultiSubscriber(requestContext, streamingResponseCustomizers, result, json, demand, false, 0));
     }
 
     private void handleStreaming(ResteasyReactiveRequestContext requestContext, Publisher<?> result, boolean json) {
@@ -333,8 +408,9 @@ private void handleStreaming(ResteasyReactiveRequestContext requestContext, Publ
             demand = rest.getDemand();
             encodeAsJsonArray = rest.encodeAsJsonArray();
         }
+        int chunkSize = requestContext.getDeployment().getResteasyReactiveConfig().getStreamingJsonArrayChunkSize();
         result.subscribe(new StreamingMultiSubscriber(requestContext, streamingResponseCustomizers, result, json, demand,
-                encodeAsJsonArray));
+                encodeAsJsonArray, chunkSize));
     }
 
     private void handleSse(ResteasyReactiveRequestContext requestContext, Publisher<?> result) {
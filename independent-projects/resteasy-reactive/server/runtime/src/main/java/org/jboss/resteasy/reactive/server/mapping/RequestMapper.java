@@ -16,9 +16,19 @@
     private final PathMatcher<ArrayList<RequestPath<T>>> requestPaths;
     private final PathMatcher.Builder<ArrayList<RequestPath<T>>> pathMatcherBuilder;
     private final ArrayList<RequestPath<T>> templates;
+    private final boolean useRouteTrie;
+    /**
+     * Built lazily as some mappers are only created to continue matching. The trie is immutable so it is safe to publish
+     * it without synchronization, at worst it is built several times.
+     */
+    private RouteTrie<T> routeTrie;
     final int maxParams;
 
     public RequestMapper(ArrayList<RequestPath<T>> templates) {
+        this(templates, true);
+    }
+
+    RequestMapper(ArrayList<RequestPath<T>> templates, boolean useRouteTrie) {
         pathMatcherBuilder = new PathMatcher.Builder<>();
         this.templates = templates;
         int max = 0;
@@ -40,6 +50,8 @@ public void accept(String stem, ArrayList<RequestPath<T>> list) {
         });
         maxParams = max;
         requestPaths = pathMatcherBuilder.build();
+        // templates with custom regular expressions are matched by evaluating the candidate templates one by one
+        this.useRouteTrie = useRouteTrie && RouteTrie.supports(templates);
     }
 
     /**
@@ -49,6 +61,13 @@ public void accept(String stem, ArrayList<RequestPath<T>> list) {
      * @return best RequestMatch, or null if the path has no match
      */
     public RequestMatch<T> map(String path) {
+        if (useRouteTrie) {
+            RouteTrie<T> trie = routeTrie;
+            if (trie == null) {
+                routeTrie = trie = new RouteTrie<>(templates, maxParams);
+            }
+            return trie.map(path);
+        }
         List<PathMatcher.PathMatch<ArrayList<RequestPath<T>>>> matches = requestPaths.match(path);
         for (int i = 0; i < matches.size(); i++) {
             var result = mapFromPathMatcher(path, matches.get(i), 0);
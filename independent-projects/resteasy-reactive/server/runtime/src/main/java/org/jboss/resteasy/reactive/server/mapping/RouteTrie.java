@@ -0,0 +1,251 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A radix trie of the {@link URITemplate}s of a {@link RequestMapper}, that matches a path in a single walk instead of
+ * evaluating the candidate templates one by one.
+ * <p>
+ * The literal parts of the templates are stored as edges of the trie, and each path parameter is a dedicated edge that
+ * consumes a path segment. Each template is ranked according to the order in which the {@link RequestMapper} would have
+ * evaluated it (longest stem first, then the JAX-RS sort order), so the trie selects exactly the same template. Subtrees
+ * that cannot contain a template ranked better than the current best match are not visited.
+ * <p>
+ * Path parameters are tracked as offsets in the path during the walk, the parameter values are only extracted for the
+ * selected template.
+ * <p>
+ * Only templates without custom regular expressions are supported, see {@link #supports(List)}.
+ */
+@SuppressWarnings("ForLoopReplaceableByForEach")
+final class RouteTrie<T> {
+
+    private static final String[] EMPTY_STRING_ARRAY = new String[0];
+
+    private final Node<T> root;
+    private final int maxParams;
+
+    RouteTrie(List<RequestMapper.RequestPath<T>> templates, int maxParams) {
+        this.maxParams = maxParams;
+        // the order in which the templates are evaluated by the PathMatcher based matching
+        List<RequestMapper.RequestPath<T>> sorted = new ArrayList<>(templates);
+        sorted.sort(Comparator.<RequestMapper.RequestPath<T>> comparingInt(p -> -p.template.stem.length())
+                .thenComparing(Comparator.naturalOrder()));
+        BuilderNode<T> builderRoot = new BuilderNode<>();
+        for (int rank = 0; rank < sorted.size(); rank++) {
+            RequestMapper.RequestPath<T> path = sorted.get(rank);
+            BuilderNode<T> current = builderRoot;
+            for (URITemplate.TemplateComponent component : path.template.components) {
+                if (component.type == URITemplate.Type.LITERAL) {
+                    for (int i = 0; i < component.literalText.length(); i++) {
+                        current = current.literals.computeIfAbsent(component.literalText.charAt(i),
+                                c -> new BuilderNode<>());
+                    }
+                } else {
+                    if (current.param == null) {
+                        current.param = new BuilderNode<>();
+                    }
+                    current = current.param;
+                }
+            }
+            current.terminals.add(new Terminal<>(path, rank));
+        }
+        this.root = builderRoot.build("");
+    }
+
+    /**
+     * @return {@code true} if all the templates can be matched by a trie
+     */
+    static <T> boolean supports(List<RequestMapper.RequestPath<T>> templates) {
+        for (int i = 0; i < templates.size(); i++) {
+            for (URITemplate.TemplateComponent component : templates.get(i).template.components) {
+                if (component.type == URITemplate.Type.CUSTOM_REGEX) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    RequestMapper.RequestMatch<T> map(String path) {
+        MatchState<T> state = new MatchState<>(maxParams);
+        match(root, path, 0, 0, state);
+        Terminal<T> terminal = state.terminal;
+        if (terminal == null) {
+            return null;
+        }
+        String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+        for (int i = 0; i < state.paramCount; i++) {
+            params[i] = path.substring(state.bestOffsets[2 * i], state.bestOffsets[2 * i + 1]);
+        }
+        int matchPos = state.matchPos;
+        String remaining;
+        if (matchPos == path.length()) {
+            remaining = "";
+        } else if (matchPos == 1) {
+            remaining = path;
+        } else {
+            remaining = path.substring(matchPos);
+        }
+        return new RequestMapper.RequestMatch<>(terminal.path.template, terminal.path.value, params, remaining);
+    }
+
+    private void match(Node<T> node, String path, int pos, int paramCount, MatchState<T> state) {
+        if (node.minRank >= state.rank) {
+            return;
+        }
+        Terminal<T>[] terminals = node.terminals;
+        for (int i = 0; i < terminals.length; i++) {
+            Terminal<T> terminal = terminals[i];
+            if (terminal.rank >= state.rank) {
+                break;
+            }
+            if (accepts(terminal.path.prefixTemplate, path, pos)) {
+                state.select(terminal, pos, paramCount);
+                break;
+            }
+        }
+        int pathLength = path.length();
+        if (pos == pathLength) {
+            return;
+        }
+        int index = Arrays.binarySearch(node.firstChars, path.charAt(pos));
+        if (index >= 0) {
+            Node<T> child = node.children[index];
+            if (path.startsWith(child.label, pos)) {
+                match(child, path, pos + child.label.length(), paramCount, state);
+            }
+        }
+        if (node.param != null) {
+            int end = pos;
+            while (end < pathLength && path.charAt(end) != '/') {
+                end++;
+            }
+            state.offsets[2 * paramCount] = pos;
+            state.offsets[2 * paramCount + 1] = end;
+            match(node.param, path, end, paramCount + 1, state);
+        }
+    }
+
+    /**
+     * According to the spec every template ends with {@code (/.*)?}, so a template matches if it consumed the whole path,
+     * or if the remainder is a sub-path and the template allows prefix matching, or if the remainder is a trailing slash.
+     */
+    private static boolean accepts(boolean prefixAllowed, String path, int matchPos) {
+        int pathLength = path.length();
+        if (matchPos == pathLength) {
+            return true;
+        }
+        if (matchPos == 1) {
+            //matchPos == 1 corresponds to '/' as a root level match
+            return prefixAllowed || pathLength == 1;
+        }
+        return path.charAt(matchPos) == '/' && (prefixAllowed || matchPos == pathLength - 1);
+    }
+
+    private static final class Terminal<T> {
+        final RequestMapper.RequestPath<T> path;
+        final int rank;
+
+        Terminal(RequestMapper.RequestPath<T> path, int rank) {
+            this.path = path;
+            this.rank = rank;
+        }
+    }
+
+    private static final class Node<T> {
+        /**
+         * The literal text consumed to reach this node, empty for the root and the parameter nodes
+         */
+        final String label;
+        /**
+         * The first characters of the labels of the literal children, sorted
+         */
+        final char[] firstChars;
+        final Node<T>[] children;
+        final Node<T> param;
+        /**
+         * The templates ending at this node, sorted by rank
+         */
+        final Terminal<T>[] terminals;
+        /**
+         * The best rank of the templates in this subtree
+         */
+        final int minRank;
+
+        Node(String label, char[] firstChars, Node<T>[] children, Node<T> param, Terminal<T>[] terminals) {
+            this.label = label;
+            this.firstChars = firstChars;
+            this.children = children;
+            this.param = param;
+            this.terminals = terminals;
+            int min = terminals.length > 0 ? terminals[0].rank : Integer.MAX_VALUE;
+            for (Node<T> child : children) {
+                min = Math.min(min, child.minRank);
+            }
+            if (param != null) {
+                min = Math.min(min, param.minRank);
+            }
+            this.minRank = min;
+        }
+    }
+
+    private static final class BuilderNode<T> {
+        final TreeMap<Character, BuilderNode<T>> literals = new TreeMap<>();
+        BuilderNode<T> param;
+        final List<Terminal<T>> terminals = new ArrayList<>(1);
+
+        @SuppressWarnings("unchecked")
+        Node<T> build(String label) {
+            char[] firstChars = new char[literals.size()];
+            Node<T>[] children = new Node[literals.size()];
+            int i = 0;
+            for (Map.Entry<Character, BuilderNode<T>> entry : literals.entrySet()) {
+                // collapse the chains of literal nodes into a single edge
+                StringBuilder childLabel = new StringBuilder().append(entry.getKey());
+                BuilderNode<T> child = entry.getValue();
+                while (child.terminals.isEmpty() && child.param == null && child.literals.size() == 1) {
+                    Map.Entry<Character, BuilderNode<T>> next = child.literals.firstEntry();
+                    childLabel.append(next.getKey());
+                    child = next.getValue();
+                }
+                firstChars[i] = entry.getKey();
+                children[i++] = child.build(childLabel.toString());
+            }
+            return new Node<>(label, firstChars, children, param != null ? param.build("") : null,
+                    terminals.toArray(new Terminal[0]));
+        }
+    }
+
+    private static final class MatchState<T> {
+        /**
+         * The start and end offsets of the path parameters of the template being matched
+         */
+        final int[] offsets;
+        /**
+         * The start and end offsets of the path parameters of the best match
+         */
+        final int[] bestOffsets;
+        Terminal<T> terminal;
+        int rank = Integer.MAX_VALUE;
+        int matchPos;
+        int paramCount;
+
+        MatchState(int maxParams) {
+            this.offsets = new int[2 * maxParams];
+            this.bestOffsets = new int[2 * maxParams];
+        }
+
+        void select(Terminal<T> terminal, int matchPos, int paramCount) {
+            this.terminal = terminal;
+            this.rank = terminal.rank;
+            this.matchPos = matchPos;
+            this.paramCount = paramCount;
+            System.arraycopy(offsets, 0, bestOffsets, 0, 2 * paramCount);
+        }
+    }
+}
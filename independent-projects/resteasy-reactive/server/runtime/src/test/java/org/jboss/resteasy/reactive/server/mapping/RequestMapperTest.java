@@ -0,0 +1,94 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class RequestMapperTest {
+
+    private static final List<String> TEMPLATES = List.of("/", "/users", "/users/{id}", "/users/{id}/orders",
+            "/users/{id}/orders/{orderId}", "/users/me", "/users/me/", "/user{suffix}", "/{name}", "/{name}/details",
+            "/files/{name}.txt", "/files/{name}");
+
+    private static final List<String> PATHS = List.of("/", "/users", "/users/", "/users/1", "/users/1/", "/users/me",
+            "/users/me/", "/users/1/orders", "/users/1/orders/2", "/users/1/orders/2/items", "/users/1/other",
+            "/userX", "/userX/orders", "/foo", "/foo/details", "/foo/bar", "/files/a.txt", "/files/a.json", "/files/",
+            "//", "/users//orders");
+
+    @Test
+    public void testMatch() {
+        RequestMapper<String> mapper = new RequestMapper<>(requestPaths(false));
+        assertMatch(mapper.map("/users/1/orders/2"), "/users/{id}/orders/{orderId}", "", "1", "2");
+        assertMatch(mapper.map("/users/me"), "/users/me", "");
+        assertMatch(mapper.map("/users/1"), "/users/{id}", "", "1");
+        assertMatch(mapper.map("/users/1/"), "/users/{id}", "/", "1");
+        assertMatch(mapper.map("/userX"), "/user{suffix}", "", "X");
+        assertMatch(mapper.map("/foo/details"), "/{name}/details", "", "foo");
+        assertMatch(mapper.map("/files/a.txt"), "/files/{name}.txt", "", "a");
+        assertMatch(mapper.map("/files/a.json"), "/files/{name}", "", "a.json");
+        assertNull(mapper.map("/users/1/other"));
+    }
+
+    @Test
+    public void testPrefixMatch() {
+        RequestMapper<String> mapper = new RequestMapper<>(requestPaths(true));
+        assertMatch(mapper.map("/users/1/other"), "/users/{id}", "/other", "1");
+        assertMatch(mapper.map("/users/1/orders/2/items"), "/users/{id}/orders/{orderId}", "/items", "1", "2");
+        assertMatch(mapper.map("/foo/bar"), "/{name}", "/bar", "foo");
+    }
+
+    @Test
+    public void testRouteTrieMatchesSameTemplates() {
+        for (boolean prefix : new boolean[] { false, true }) {
+            ArrayList<RequestMapper.RequestPath<String>> requestPaths = requestPaths(prefix);
+            RequestMapper<String> mapper = new RequestMapper<>(requestPaths, true);
+            RequestMapper<String> linearMapper = new RequestMapper<>(requestPaths, false);
+            for (String path : PATHS) {
+                assertEquals(toString(linearMapper.map(path)), toString(mapper.map(path)), path);
+            }
+        }
+    }
+
+    @Test
+    public void testCustomRegex() {
+        ArrayList<RequestMapper.RequestPath<String>> requestPaths = new ArrayList<>();
+        requestPaths.add(requestPath("/items/{id: [0-9]+}", false));
+        requestPaths.add(requestPath("/items/{name}", false));
+        RequestMapper<String> mapper = new RequestMapper<>(requestPaths);
+        assertMatch(mapper.map("/items/42"), "/items/{id: [0-9]+}", "", "42");
+        assertMatch(mapper.map("/items/foo"), "/items/{name}", "", "foo");
+    }
+
+    private static void assertMatch(RequestMapper.RequestMatch<String> match, String template, String remaining,
+            String... params) {
+        assertEquals(template, match.value);
+        assertEquals(remaining, match.remaining);
+        assertArrayEquals(params, Arrays.copyOf(match.pathParamValues, params.length));
+        for (int i = params.length; i < match.pathParamValues.length; i++) {
+            assertNull(match.pathParamValues[i]);
+        }
+    }
+
+    private static ArrayList<RequestMapper.RequestPath<String>> requestPaths(boolean prefix) {
+        ArrayList<RequestMapper.RequestPath<String>> requestPaths = new ArrayList<>();
+        for (String template : TEMPLATES) {
+            requestPaths.add(requestPath(template, prefix));
+        }
+        return requestPaths;
+    }
+
+    private static RequestMapper.RequestPath<String> requestPath(String template, boolean prefix) {
+        return new RequestMapper.RequestPath<>(prefix, new URITemplate(template, prefix), template);
+    }
+
+    private static String toString(RequestMapper.RequestMatch<String> match) {
+        return match == null ? null
+                : match.value + " " + Arrays.toString(match.pathParamValues) + " [" + match.remaining + "]";
+    }
+}